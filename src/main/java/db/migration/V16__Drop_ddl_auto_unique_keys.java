@@ -0,0 +1,68 @@
+package db.migration;
+
+import gon.til.global.datasource.SqlDialect;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * ddl-auto 시절 엔티티의 @Column(unique = true) 로 만들어진 유니크 키를 지웁니다.
+ * - tags.name : 태그 이름은 프로젝트 안에서만 겹치지 않으면 됩니다. (uk_tags_project_name 은 그대로)
+ * - users.created_at : 같은 순간에 가입하면 충돌하던 실수로 붙은 키
+ * baseline-on-migrate 로 V1 을 건너뛴 DB 에만 남아 있고, 이름이 Hibernate 가 만든 해시라서
+ * SQL 마이그레이션으로는 지울 수 없어 INFORMATION_SCHEMA 에서 찾아 지웁니다. (없으면 아무것도 하지 않음)
+ */
+public class V16__Drop_ddl_auto_unique_keys extends BaseJavaMigration {
+
+    // 해당 컬럼 하나로만 이뤄진 UNIQUE 제약 (여러 컬럼 제약은 건드리지 않음)
+    private static final String FIND_SINGLE_COLUMN_UNIQUE_SQL =
+            "SELECT tc.CONSTRAINT_NAME FROM INFORMATION_SCHEMA.TABLE_CONSTRAINTS tc " +
+            "JOIN INFORMATION_SCHEMA.KEY_COLUMN_USAGE k ON k.CONSTRAINT_SCHEMA = tc.CONSTRAINT_SCHEMA " +
+            "AND k.CONSTRAINT_NAME = tc.CONSTRAINT_NAME AND k.TABLE_NAME = tc.TABLE_NAME " +
+            "WHERE tc.CONSTRAINT_TYPE = 'UNIQUE' AND tc.TABLE_SCHEMA = ? AND UPPER(tc.TABLE_NAME) = ? " +
+            "GROUP BY tc.CONSTRAINT_NAME " +
+            "HAVING COUNT(*) = 1 AND MAX(UPPER(k.COLUMN_NAME)) = ?";
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        SqlDialect dialect = SqlDialect.of(connection);
+        // MySQL 은 데이터베이스(catalog), H2 는 스키마가 INFORMATION_SCHEMA 의 TABLE_SCHEMA
+        String schema = connection.getSchema() != null ? connection.getSchema() : connection.getCatalog();
+
+        dropSingleColumnUniqueKeys(connection, dialect, schema, "tags", "name");
+        dropSingleColumnUniqueKeys(connection, dialect, schema, "users", "created_at");
+    }
+
+    // ===== private 헬퍼 메서드들 =====
+
+    private void dropSingleColumnUniqueKeys(Connection connection, SqlDialect dialect, String schema,
+                                            String table, String column) throws SQLException {
+        List<String> constraintNames = new ArrayList<>();
+        try (PreparedStatement select = connection.prepareStatement(FIND_SINGLE_COLUMN_UNIQUE_SQL)) {
+            select.setString(1, schema);
+            select.setString(2, table.toUpperCase());
+            select.setString(3, column.toUpperCase());
+            try (ResultSet rs = select.executeQuery()) {
+                while (rs.next()) {
+                    constraintNames.add(rs.getString(1));
+                }
+            }
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            for (String constraintName : constraintNames) {
+                // MySQL 의 UNIQUE 는 인덱스, H2 는 제약이 인덱스를 소유하므로 제약으로 지움
+                statement.execute(dialect == SqlDialect.MYSQL
+                        ? "ALTER TABLE " + table + " DROP INDEX `" + constraintName + "`"
+                        : "ALTER TABLE " + table + " DROP CONSTRAINT \"" + constraintName + "\"");
+            }
+        }
+    }
+}
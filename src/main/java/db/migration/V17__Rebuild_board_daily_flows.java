@@ -0,0 +1,194 @@
+package db.migration;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * board_daily_flows 를 card_events 와 지금의 카드 행으로 다시 만듭니다.
+ * - 카드 이벤트는 BoardFlowAggregator 와 같은 규칙으로 더합니다. (CREATED/RESTORED 들어옴, MOVED 나가고 들어옴, DELETED 나감)
+ * - 이력이 생기기 전에 만든 카드(CREATED 가 없음)는 만든 날 처음 있던 컬럼에 들어온 것으로 채웁니다.
+ *   첫 이벤트가 MOVED/DELETED 면 그 출발 컬럼, 이벤트가 없으면 지금 컬럼입니다.
+ * - 프로젝트/컬럼을 통째로 휴지통에 넣거나 복원해서 이벤트 없이 바뀐 카드는 마지막 이벤트와 지금 상태가 다르므로 맞춰 줍니다.
+ *   휴지통에 있거나 영구 삭제된 카드는 지운 시각(모르면 마지막 이벤트 날)에 나간 것으로,
+ *   다시 살아난 카드는 마지막 DELETED 날에 들어온 것으로 적습니다. (정확한 날짜가 남아 있지 않음)
+ * 카드 ID 구간마다 카드와 이벤트를 읽어 메모리에는 (보드, 컬럼, 날짜) 증분만 남깁니다.
+ */
+public class V17__Rebuild_board_daily_flows extends BaseJavaMigration {
+
+    private static final int CHUNK_SIZE = 10_000;
+
+    private static final String MAX_CARD_ID_SQL =
+            "SELECT GREATEST(COALESCE((SELECT MAX(id) FROM cards), 0), " +
+            "COALESCE((SELECT MAX(card_id) FROM card_events), 0))";
+    private static final String SELECT_CARDS_SQL =
+            "SELECT c.id, c.kanban_column_id, col.board_id, c.created_at, c.deleted_at FROM cards c " +
+            "LEFT JOIN columns col ON col.id = c.kanban_column_id WHERE c.id BETWEEN ? AND ?";
+    private static final String SELECT_EVENTS_SQL =
+            "SELECT card_id, board_id, type, from_column_id, to_column_id, occurred_at FROM card_events " +
+            "WHERE card_id BETWEEN ? AND ? AND type IN ('CREATED', 'MOVED', 'DELETED', 'RESTORED') " +
+            "ORDER BY card_id, occurred_at, id";
+    private static final String INSERT_FLOW_SQL =
+            "INSERT INTO board_daily_flows (board_id, column_id, flow_date, entered, exited) VALUES (?, ?, ?, ?, ?)";
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        long maxCardId;
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(MAX_CARD_ID_SQL)) {
+            rs.next();
+            maxCardId = rs.getLong(1);
+        }
+
+        Map<FlowKey, int[]> deltas = new HashMap<>();
+        for (long from = 1; from <= maxCardId; from += CHUNK_SIZE) {
+            long to = from + CHUNK_SIZE - 1;
+            Map<Long, CardRow> cards = loadCards(connection, from, to);
+            Map<Long, List<EventRow>> events = loadEvents(connection, from, to);
+            for (Map.Entry<Long, List<EventRow>> entry : events.entrySet()) {
+                replay(deltas, cards.remove(entry.getKey()), entry.getValue());
+            }
+            // 이벤트가 하나도 없는 카드
+            for (CardRow card : cards.values()) {
+                replay(deltas, card, List.of());
+            }
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("DELETE FROM board_daily_flows");
+        }
+        insertFlows(connection, deltas);
+    }
+
+    // ===== private 헬퍼 메서드들 =====
+
+    private void replay(Map<FlowKey, int[]> deltas, CardRow card, List<EventRow> events) {
+        // 1. 이력 전에 만든 카드는 처음 있던 컬럼에 들어온 것으로 채움
+        EventRow first = events.isEmpty() ? null : events.get(0);
+        if (first == null) {
+            if (card != null && card.deletedAt() == null && card.boardId() != null) {
+                add(deltas, card.boardId(), card.columnId(), card.createdAt(), 0);
+            }
+            return;
+        }
+        if (!first.type().equals("CREATED") && first.fromColumnId() != null) {
+            add(deltas, first.boardId(), first.fromColumnId(), card != null ? card.createdAt() : first.date(), 0);
+        }
+
+        // 2. 이벤트를 집계기와 같은 규칙으로 더하면서 마지막 위치를 따라감
+        Long boardId = null;
+        Long columnId = null;
+        for (EventRow event : events) {
+            switch (event.type()) {
+                case "CREATED", "RESTORED" -> add(deltas, event.boardId(), event.toColumnId(), event.date(), 0);
+                case "MOVED" -> {
+                    add(deltas, event.boardId(), event.fromColumnId(), event.date(), 1);
+                    add(deltas, event.boardId(), event.toColumnId(), event.date(), 0);
+                }
+                default -> add(deltas, event.boardId(), event.fromColumnId(), event.date(), 1);
+            }
+            boolean present = !event.type().equals("DELETED");
+            boardId = present ? event.boardId() : null;
+            columnId = present ? event.toColumnId() : null;
+        }
+
+        // 3. 이벤트 없이 휴지통에 들어가거나 나온 카드를 지금 상태에 맞춤
+        EventRow last = events.get(events.size() - 1);
+        boolean alive = card != null && card.deletedAt() == null;
+        if (columnId != null && !alive) {
+            add(deltas, boardId, columnId, card != null ? card.deletedAt() : last.date(), 1);
+        } else if (columnId == null && alive && card.boardId() != null) {
+            add(deltas, card.boardId(), card.columnId(), last.date(), 0);
+        }
+    }
+
+    // index 0 = entered, 1 = exited
+    private void add(Map<FlowKey, int[]> deltas, Long boardId, Long columnId, LocalDate date, int index) {
+        if (boardId == null || columnId == null || date == null) {
+            return;
+        }
+        deltas.computeIfAbsent(new FlowKey(boardId, columnId, date), key -> new int[2])[index]++;
+    }
+
+    private Map<Long, CardRow> loadCards(Connection connection, long from, long to) throws SQLException {
+        Map<Long, CardRow> cards = new HashMap<>();
+        try (PreparedStatement select = connection.prepareStatement(SELECT_CARDS_SQL)) {
+            select.setLong(1, from);
+            select.setLong(2, to);
+            try (ResultSet rs = select.executeQuery()) {
+                while (rs.next()) {
+                    cards.put(rs.getLong(1), new CardRow(
+                            rs.getObject(2, Long.class),
+                            rs.getObject(3, Long.class),
+                            toDate(rs.getTimestamp(4)),
+                            toDate(rs.getTimestamp(5))
+                    ));
+                }
+            }
+        }
+        return cards;
+    }
+
+    private Map<Long, List<EventRow>> loadEvents(Connection connection, long from, long to) throws SQLException {
+        Map<Long, List<EventRow>> events = new HashMap<>();
+        try (PreparedStatement select = connection.prepareStatement(SELECT_EVENTS_SQL)) {
+            select.setLong(1, from);
+            select.setLong(2, to);
+            try (ResultSet rs = select.executeQuery()) {
+                while (rs.next()) {
+                    events.computeIfAbsent(rs.getLong(1), id -> new ArrayList<>()).add(new EventRow(
+                            rs.getLong(2),
+                            rs.getString(3),
+                            rs.getObject(4, Long.class),
+                            rs.getObject(5, Long.class),
+                            toDate(rs.getTimestamp(6))
+                    ));
+                }
+            }
+        }
+        return events;
+    }
+
+    private void insertFlows(Connection connection, Map<FlowKey, int[]> deltas) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_FLOW_SQL)) {
+            int batched = 0;
+            for (Map.Entry<FlowKey, int[]> entry : deltas.entrySet()) {
+                insert.setLong(1, entry.getKey().boardId());
+                insert.setLong(2, entry.getKey().columnId());
+                insert.setDate(3, Date.valueOf(entry.getKey().flowDate()));
+                insert.setInt(4, entry.getValue()[0]);
+                insert.setInt(5, entry.getValue()[1]);
+                insert.addBatch();
+                if (++batched % 1000 == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+    }
+
+    private LocalDate toDate(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime().toLocalDate();
+    }
+
+    private record CardRow(Long columnId, Long boardId, LocalDate createdAt, LocalDate deletedAt) {
+    }
+
+    private record EventRow(Long boardId, String type, Long fromColumnId, Long toColumnId, LocalDate date) {
+    }
+
+    private record FlowKey(Long boardId, Long columnId, LocalDate flowDate) {
+    }
+}
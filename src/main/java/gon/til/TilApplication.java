@@ -1,11 +1,16 @@
 package gon.til;
 
+import gon.til.global.config.NativeRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableJpaAuditing
+@EnableScheduling
+@ImportRuntimeHints(NativeRuntimeHints.class)
 public class TilApplication {
     public static void main(String[] args) {
         SpringApplication.run(TilApplication.class, args);
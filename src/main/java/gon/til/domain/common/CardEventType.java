@@ -0,0 +1,13 @@
+package gon.til.domain.common;
+
+// 카드 이력(card_events)에 기록되는 이벤트 종류
+public enum CardEventType {
+    CREATED,    // 카드 생성
+    MOVED,      // 다른 컬럼으로 이동
+    RETITLED,   // 제목 변경
+    TAGGED,     // 태그 추가
+    UNTAGGED,   // 태그 삭제
+    DELETED,    // 카드 삭제
+    REVIEWED,   // 복습 완료
+    RESTORED    // 휴지통에서 복원
+}
@@ -0,0 +1,20 @@
+package gon.til.domain.common;
+
+import lombok.Getter;
+
+// 카드 필터 조회 정렬 (같은 시각이면 카드 ID 로 순서를 정해 커서가 겹치지 않도록 함)
+@Getter
+public enum CardSort {
+    CREATED_DESC("created_at", true),      // 최근 만든 카드부터 (기본값)
+    CREATED_ASC("created_at", false),
+    UPDATED_DESC("updated_at", true),      // 최근 수정한 카드부터
+    UPDATED_ASC("updated_at", false);
+
+    private final String column;
+    private final boolean descending;
+
+    CardSort(String column, boolean descending) {
+        this.column = column;
+        this.descending = descending;
+    }
+}
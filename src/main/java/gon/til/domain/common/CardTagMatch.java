@@ -0,0 +1,7 @@
+package gon.til.domain.common;
+
+// 여러 태그로 거를 때 하나라도 달린 카드(ANY)인지, 모두 달린 카드(ALL)인지
+public enum CardTagMatch {
+    ANY,
+    ALL
+}
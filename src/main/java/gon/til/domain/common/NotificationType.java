@@ -0,0 +1,8 @@
+package gon.til.domain.common;
+
+// 알림함(notifications)에 쌓이는 알림 종류
+public enum NotificationType {
+    CARD_DUE,       // 카드 알림 시각 (마감 전 알림)
+    REVIEW_DUE,     // 복습할 카드
+    BOARD_ACTIVITY  // 다른 사용자가 내 보드의 카드를 바꿈
+}
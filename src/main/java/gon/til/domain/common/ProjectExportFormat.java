@@ -0,0 +1,15 @@
+package gon.til.domain.common;
+
+/**
+ * 프로젝트 내보내기/가져오기 JSON 파일 형식
+ * - 최상위 필드 순서 : format, version, project, board, columns, tags, cards
+ * - 카드의 태그는 카드 안의 tagIds 로 함께 적어서, 가져올 때 카드 ID 매핑을 메모리에 들고 있지 않아도 됩니다.
+ */
+public final class ProjectExportFormat {
+
+    public static final String FORMAT = "til-project";
+    public static final int VERSION = 1;
+
+    private ProjectExportFormat() {
+    }
+}
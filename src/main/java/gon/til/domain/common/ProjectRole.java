@@ -0,0 +1,13 @@
+package gon.til.domain.common;
+
+// 프로젝트 멤버 역할 (뒤에 있을수록 권한이 넓음)
+public enum ProjectRole {
+    VIEWER,     // 읽기
+    EDITOR,     // 카드/컬럼/태그 편집
+    OWNER;      // 프로젝트 수정/삭제/보관, 멤버 관리
+
+    // 이 역할로 required 역할이 필요한 작업을 할 수 있는지
+    public boolean includes(ProjectRole required) {
+        return compareTo(required) >= 0;
+    }
+}
@@ -1,46 +1,64 @@
 package gon.til.domain.common;
 
-import gon.til.global.exception.GlobalErrorCode;
-import gon.til.global.exception.GlobalException;
+import java.util.Collections;
+import java.util.NavigableMap;
+import java.util.TreeMap;
 import lombok.Getter;
 
 @Getter
 public enum TagColor {
 
     // 파스텔 톤 색상 팔레트
-    PASTEL_RED("#FFADAD"),      // 연한 빨강
-    PASTEL_ORANGE("#FFD6A5"),   // 연한 주황
-    PASTEL_YELLOW("#FDFFB6"),   // 연한 노랑
-    PASTEL_GREEN("#CAFFBF"),    // 연한 초록
-    PASTEL_BLUE("#9BF6FF"),     // 연한 하늘색
-    PASTEL_NAVY("#A0C4FF"),     // 연한 네이비
-    PASTEL_PURPLE("#BDB2FF"),   // 연한 보라
-    PASTEL_PINK("#FFC6FF"),     // 연한 분홍
-    PASTEL_GRAY("#EAEAEA");     // 연한 회색
+    PASTEL_RED("RED", "#FFADAD"),           // 연한 빨강
+    PASTEL_ORANGE("ORANGE", "#FFD6A5"),     // 연한 주황
+    PASTEL_YELLOW("YELLOW", "#FDFFB6"),     // 연한 노랑
+    PASTEL_GREEN("GREEN", "#CAFFBF"),       // 연한 초록
+    PASTEL_BLUE("BLUE", "#9BF6FF"),         // 연한 하늘색
+    PASTEL_NAVY("NAVY", "#A0C4FF"),         // 연한 네이비
+    PASTEL_PURPLE("PURPLE", "#BDB2FF"),     // 연한 보라
+    PASTEL_PINK("PINK", "#FFC6FF"),         // 연한 분홍
+    PASTEL_GRAY("GRAY", "#EAEAEA");         // 연한 회색
 
+    /**
+     * 이름("PASTEL_RED"), 짧은 별칭("RED"), 헥사 코드("#FFADAD") -> 색상
+     * - 클래스 로딩 시 한 번만 만들고 이후에는 읽기만 하는 불변 맵입니다.
+     * - 대소문자 무시 비교(CASE_INSENSITIVE_ORDER)라 조회할 때 문자열을 새로 만들지 않습니다.
+     */
+    private static final NavigableMap<String, TagColor> LOOKUP;
+
+    static {
+        NavigableMap<String, TagColor> lookup = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (TagColor color : values()) {
+            lookup.put(color.name(), color);
+            lookup.put(color.alias, color);
+            lookup.put(color.hexCode, color);
+        }
+        LOOKUP = Collections.unmodifiableNavigableMap(lookup);
+    }
+
+    private final String alias;
     private final String hexCode;
 
-    TagColor(String hexCode) {
+    TagColor(String alias, String hexCode) {
+        this.alias = alias;
         this.hexCode = hexCode;
     }
 
-    // 요청된 색상 이름(문자열)이 유효한지 확인하는 정적 메소드
-    public static boolean isValidColor(String name) {
-        for (TagColor color : TagColor.values()) {
-            if (color.name().toUpperCase().contains(name.toUpperCase())) {
-                return true;
-            }
-        }
-        return false;
+    // 이름, 별칭, 헥사 코드 중 하나로 색상을 찾습니다. 없으면 null
+    public static TagColor find(String value) {
+        return value == null ? null : LOOKUP.get(value);
     }
 
-    // 요청된 색상 이름(문자열)으로 적절한 TagColor enum 상수를 찾는 정적 메소드
-    public static TagColor from(String name) {
-        for (TagColor color : values()) {
-            if (color.name().toUpperCase().contains(name.toUpperCase())) {
-                return color;
+    // "#RRGGBB" 형식의 헥사 코드인지 확인 (사용자 정의 색상용)
+    public static boolean isHexCode(String value) {
+        if (value == null || value.length() != 7 || value.charAt(0) != '#') {
+            return false;
+        }
+        for (int i = 1; i < 7; i++) {
+            if (Character.digit(value.charAt(i), 16) < 0) {
+                return false;
             }
         }
-        throw new GlobalException(GlobalErrorCode.INVALID_COLOR_NAME);
+        return true;
     }
 }
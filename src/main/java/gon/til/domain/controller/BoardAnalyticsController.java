@@ -0,0 +1,39 @@
+package gon.til.domain.controller;
+
+import gon.til.domain.dto.analytics.BoardAnalyticsResponse;
+import gon.til.domain.entity.User;
+import gon.til.domain.service.BoardAnalyticsService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "BoardAnalytics", description = "보드 통계 관련 API")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/boards")
+public class BoardAnalyticsController {
+
+    private final BoardAnalyticsService boardAnalyticsService;
+
+    // 누적 흐름도, WIP, 리드타임/사이클타임 조회
+    @GetMapping("/{boardId}/analytics")
+    public ResponseEntity<BoardAnalyticsResponse> getAnalytics(
+            @PathVariable("boardId") Long boardId,
+            @RequestParam("doneColumnId") Long doneColumnId,
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @AuthenticationPrincipal User user
+    ) {
+        BoardAnalyticsResponse analytics = boardAnalyticsService.getAnalytics(boardId, doneColumnId, from, to, user.getId());
+
+        return ResponseEntity.ok(analytics);
+    }
+}
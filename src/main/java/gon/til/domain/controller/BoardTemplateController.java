@@ -0,0 +1,106 @@
+package gon.til.domain.controller;
+
+import gon.til.domain.dto.project.ProjectCreateRequest;
+import gon.til.domain.dto.project.ProjectResponse;
+import gon.til.domain.dto.template.BoardTemplateCreateRequest;
+import gon.til.domain.dto.template.BoardTemplateFromProjectRequest;
+import gon.til.domain.dto.template.BoardTemplateResponse;
+import gon.til.domain.entity.User;
+import gon.til.domain.service.BoardTemplateService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import java.net.URI;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+@Tag(name = "BoardTemplate", description = "보드 템플릿 API")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/board-templates")
+public class BoardTemplateController {
+
+    private final BoardTemplateService boardTemplateService;
+
+    // 템플릿 생성
+    @PostMapping
+    public ResponseEntity<BoardTemplateResponse> createTemplate(
+            @AuthenticationPrincipal User user,
+            @Valid @RequestBody BoardTemplateCreateRequest request
+    ) {
+        return created(boardTemplateService.createTemplate(user.getId(), request));
+    }
+
+    // 기존 프로젝트를 템플릿으로 저장
+    @PostMapping("/projects/{projectId}")
+    public ResponseEntity<BoardTemplateResponse> createTemplateFromProject(
+            @AuthenticationPrincipal User user,
+            @PathVariable("projectId") Long projectId,
+            @Valid @RequestBody BoardTemplateFromProjectRequest request
+    ) {
+        return created(boardTemplateService.createTemplateFromProject(projectId, user.getId(), request));
+    }
+
+    // 내 템플릿 목록
+    @GetMapping
+    public ResponseEntity<List<BoardTemplateResponse>> getTemplates(
+            @AuthenticationPrincipal User user
+    ) {
+        return ResponseEntity.ok(boardTemplateService.getTemplates(user.getId()));
+    }
+
+    // 템플릿 상세 조회
+    @GetMapping("/{templateId}")
+    public ResponseEntity<BoardTemplateResponse> getTemplate(
+            @AuthenticationPrincipal User user,
+            @PathVariable("templateId") Long templateId
+    ) {
+        return ResponseEntity.ok(boardTemplateService.getTemplate(templateId, user.getId()));
+    }
+
+    // 템플릿 삭제
+    @DeleteMapping("/{templateId}")
+    public ResponseEntity<Void> deleteTemplate(
+            @AuthenticationPrincipal User user,
+            @PathVariable("templateId") Long templateId
+    ) {
+        boardTemplateService.deleteTemplate(templateId, user.getId());
+
+        return ResponseEntity.noContent().build();
+    }
+
+    // 템플릿으로 프로젝트 생성
+    @PostMapping("/{templateId}/projects")
+    public ResponseEntity<ProjectResponse> createProjectFromTemplate(
+            @AuthenticationPrincipal User user,
+            @PathVariable("templateId") Long templateId,
+            @Valid @RequestBody ProjectCreateRequest request
+    ) {
+        ProjectResponse projectResponse = boardTemplateService.createProjectFromTemplate(templateId, user.getId(), request);
+
+        URI location = ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/api/v1/projects/{id}")
+                .buildAndExpand(projectResponse.getId())
+                .toUri();
+
+        return ResponseEntity.created(location).body(projectResponse);
+    }
+
+    private ResponseEntity<BoardTemplateResponse> created(BoardTemplateResponse template) {
+        URI location = ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/api/v1/board-templates/{id}")
+                .buildAndExpand(template.getId())
+                .toUri();
+
+        return ResponseEntity.created(location).body(template);
+    }
+}
@@ -0,0 +1,164 @@
+package gon.til.domain.controller;
+
+import gon.til.domain.dto.attachment.AttachmentFile;
+import gon.til.domain.dto.attachment.AttachmentResponse;
+import gon.til.domain.entity.User;
+import gon.til.domain.service.CardAttachmentService;
+import gon.til.domain.service.ThumbnailService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+@Tag(name = "CardAttachment", description = "카드 첨부 파일 API")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1")
+public class CardAttachmentController {
+
+    // Tomcat NIO 커넥터의 sendfile 요청 속성 (DefaultServlet 과 같은 방식)
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    // 이보다 작은 파일은 그냥 복사하는 편이 빠릅니다. (Tomcat DefaultServlet 의 sendfileSize 기본값)
+    private static final long SENDFILE_MIN_SIZE = 48 * 1024;
+
+    private final CardAttachmentService cardAttachmentService;
+    private final ThumbnailService thumbnailService;
+
+    /**
+     * 파일 첨부 (요청 본문이 파일 내용, Content-Type 이 파일 형식)
+     * multipart 를 거치지 않고 본문 스트림을 그대로 저장소에 씁니다.
+     */
+    @PostMapping("/cards/{cardId}/attachments")
+    public ResponseEntity<AttachmentResponse> uploadAttachment(
+            @PathVariable("cardId") Long cardId,
+            @RequestParam("fileName") String fileName,
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+            @AuthenticationPrincipal User user,
+            InputStream body
+    ) {
+        AttachmentResponse attachment = cardAttachmentService.upload(cardId, user.getId(), fileName, contentType, body);
+
+        URI location = ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("api/v1/attachments/{id}")
+                .buildAndExpand(attachment.getId())
+                .toUri();
+
+        return ResponseEntity.created(location).body(attachment);
+    }
+
+    // 카드의 첨부 파일 목록
+    @GetMapping("/cards/{cardId}/attachments")
+    public ResponseEntity<List<AttachmentResponse>> getAttachments(
+            @PathVariable("cardId") Long cardId,
+            @AuthenticationPrincipal User user
+    ) {
+        return ResponseEntity.ok(cardAttachmentService.findAttachments(cardId, user.getId()));
+    }
+
+    /**
+     * 첨부 파일 다운로드
+     * - Range 요청이면 스프링이 Resource 의 해당 구간만 206 으로 보냅니다.
+     * - 전체 요청이고 Tomcat 이 sendfile 을 지원하면 본문을 쓰지 않고 커널이 파일을 소켓으로 바로 보냅니다.
+     * - 내용이 바뀌지 않으므로 해시를 ETag 로 써서 If-None-Match 면 304 를 돌려줍니다.
+     */
+    @GetMapping("/attachments/{attachmentId}")
+    public ResponseEntity<Resource> downloadAttachment(
+            @PathVariable("attachmentId") Long attachmentId,
+            @AuthenticationPrincipal User user,
+            HttpServletRequest request
+    ) {
+        AttachmentFile file = cardAttachmentService.getFile(attachmentId, user.getId());
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType(file.contentType()));
+        headers.setContentDisposition(contentDisposition(file));
+        headers.setETag("\"" + file.hash() + "\"");
+        headers.setCacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePrivate().immutable());
+
+        if (canSendfile(request, file)) {
+            request.setAttribute(SENDFILE_FILENAME, file.path().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, file.size());
+            headers.setContentLength(file.size());
+            headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+            return new ResponseEntity<>(headers, HttpStatus.OK);
+        }
+
+        return new ResponseEntity<>(new FileSystemResource(file.path()), headers, HttpStatus.OK);
+    }
+
+    /**
+     * 이미지 첨부 파일의 썸네일 (JPEG, size x size 안에 들어가도록 축소)
+     * - 권한 확인은 요청 스레드에서 하고, 썸네일이 없으면 작업 스레드에서 만드는 동안 요청 스레드를 돌려줍니다. (비동기 응답)
+     * - 작업 대기열이 가득 차면 503 을 돌려줍니다.
+     */
+    @GetMapping("/attachments/{attachmentId}/thumbnail")
+    public CompletableFuture<ResponseEntity<Resource>> getThumbnail(
+            @PathVariable("attachmentId") Long attachmentId,
+            @RequestParam(value = "size", defaultValue = "256") int size,
+            @AuthenticationPrincipal User user
+    ) {
+        AttachmentFile file = cardAttachmentService.getFile(attachmentId, user.getId());
+
+        return thumbnailService.thumbnail(file, size)
+                .thenApply(path -> ResponseEntity.ok()
+                        .contentType(MediaType.IMAGE_JPEG)
+                        .eTag("\"" + file.hash() + "-" + size + "\"")
+                        .cacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePrivate().immutable())
+                        .body(new FileSystemResource(path)));
+    }
+
+    // 첨부 파일 삭제
+    @DeleteMapping("/attachments/{attachmentId}")
+    public ResponseEntity<Void> deleteAttachment(
+            @PathVariable("attachmentId") Long attachmentId,
+            @AuthenticationPrincipal User user
+    ) {
+        cardAttachmentService.deleteAttachment(attachmentId, user.getId());
+
+        return ResponseEntity.noContent().build();
+    }
+
+    // 본문 전체를 보내는 GET 만 sendfile 로 (Range, 조건부 요청, HEAD 는 스프링이 처리)
+    private boolean canSendfile(HttpServletRequest request, AttachmentFile file) {
+        return Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))
+                && "GET".equals(request.getMethod())
+                && request.getHeader(HttpHeaders.RANGE) == null
+                && request.getHeader(HttpHeaders.IF_NONE_MATCH) == null
+                && file.size() >= SENDFILE_MIN_SIZE;
+    }
+
+    // 이미지만 브라우저에서 바로 열고, 나머지(HTML 등)는 내려받게 해서 업로드한 파일이 우리 출처에서 실행되지 않게 합니다.
+    private ContentDisposition contentDisposition(AttachmentFile file) {
+        ContentDisposition.Builder builder = file.contentType().startsWith("image/") && !file.contentType().startsWith("image/svg")
+                ? ContentDisposition.inline()
+                : ContentDisposition.attachment();
+        return builder.filename(file.fileName(), StandardCharsets.UTF_8).build();
+    }
+}
@@ -1,10 +1,15 @@
 package gon.til.domain.controller;
 
 import gon.til.domain.dto.card.CardCreateRequest;
+import gon.til.domain.dto.card.CardDueDateRequest;
+import gon.til.domain.dto.card.CardFilterRequest;
+import gon.til.domain.dto.card.CardFilterResponse;
 import gon.til.domain.dto.card.CardResponse;
 import gon.til.domain.dto.card.CardShiftRequest;
+import gon.til.domain.dto.card.CardSummaryResponse;
 import gon.til.domain.dto.card.CardUpdateRequest;
 import gon.til.domain.entity.User;
+import gon.til.domain.service.CardSearchService;
 import gon.til.domain.service.CardService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -15,6 +20,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -31,6 +37,7 @@ import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 public class CardController {
 
     private final CardService cardService;
+    private final CardSearchService cardSearchService;
 
     // 카드 전체 조회
     @GetMapping("/project/{projectId}")
@@ -43,6 +50,29 @@ public class CardController {
         return ResponseEntity.ok(cards);
     }
 
+    // 카드 요약 조회 (본문 제외, 보드 화면용)
+    @GetMapping("/project/{projectId}/summary")
+    public ResponseEntity<List<CardSummaryResponse>> getCardSummaries(
+            @PathVariable("projectId") Long projectId,
+            @AuthenticationPrincipal User user
+    ) {
+        List<CardSummaryResponse> cards = cardService.findAllCardSummaries(projectId, user.getId());
+
+        return ResponseEntity.ok(cards);
+    }
+
+    // 카드 필터 조회 (태그/컬럼/작성자/날짜/검색어, 키셋 페이징, 첫 페이지에 패싯 카운트)
+    @GetMapping("/project/{projectId}/filter")
+    public ResponseEntity<CardFilterResponse> filterCards(
+            @PathVariable("projectId") Long projectId,
+            @Valid @ModelAttribute CardFilterRequest request,
+            @AuthenticationPrincipal User user
+    ) {
+        CardFilterResponse cards = cardSearchService.filterCards(projectId, user.getId(), request);
+
+        return ResponseEntity.ok(cards);
+    }
+
     // 카드 상세 조회
     @GetMapping("/{cardId}")
     public ResponseEntity<CardResponse> getCardId(
@@ -94,6 +124,18 @@ public class CardController {
         return ResponseEntity.ok(card);
     }
 
+    // 마감일/알림 수정 (dueAt 이 null 이면 해제)
+    @PatchMapping("/{cardId}/due-date")
+    public ResponseEntity<CardResponse> updateDueDate(
+            @PathVariable("cardId") Long cardId,
+            @AuthenticationPrincipal User user,
+            @Valid @RequestBody CardDueDateRequest request
+    ) {
+        CardResponse card = cardService.updateDueDate(cardId, user.getId(), request);
+
+        return ResponseEntity.ok(card);
+    }
+
     @PatchMapping("/{cardId}/shift")
     public ResponseEntity<CardResponse> shiftCard(
             @PathVariable("cardId") Long cardId,
@@ -0,0 +1,66 @@
+package gon.til.domain.controller;
+
+import gon.til.domain.dto.cardevent.CardCycleTimeResponse;
+import gon.til.domain.dto.cardevent.CardEventResponse;
+import gon.til.domain.dto.cardevent.WeeklyThroughputResponse;
+import gon.til.domain.entity.User;
+import gon.til.domain.service.CardHistoryService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "CardHistory", description = "카드 이력 관련 API")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1")
+public class CardHistoryController {
+
+    private final CardHistoryService cardHistoryService;
+
+    // 카드 이력 조회
+    @GetMapping("/cards/{cardId}/history")
+    public ResponseEntity<List<CardEventResponse>> getCardHistory(
+            @PathVariable("cardId") Long cardId,
+            @AuthenticationPrincipal User user
+    ) {
+        List<CardEventResponse> history = cardHistoryService.getCardHistory(cardId, user.getId());
+
+        return ResponseEntity.ok(history);
+    }
+
+    // 카드 리드타임 / 사이클타임 조회
+    @GetMapping("/cards/{cardId}/cycle-time")
+    public ResponseEntity<CardCycleTimeResponse> getCycleTime(
+            @PathVariable("cardId") Long cardId,
+            @RequestParam("doneColumnId") Long doneColumnId,
+            @AuthenticationPrincipal User user
+    ) {
+        CardCycleTimeResponse cycleTime = cardHistoryService.getCycleTime(cardId, doneColumnId, user.getId());
+
+        return ResponseEntity.ok(cycleTime);
+    }
+
+    // 보드 주간 처리량 조회
+    @GetMapping("/boards/{boardId}/throughput")
+    public ResponseEntity<List<WeeklyThroughputResponse>> getWeeklyThroughput(
+            @PathVariable("boardId") Long boardId,
+            @RequestParam("doneColumnId") Long doneColumnId,
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @AuthenticationPrincipal User user
+    ) {
+        List<WeeklyThroughputResponse> throughput =
+                cardHistoryService.getWeeklyThroughput(boardId, doneColumnId, from, to, user.getId());
+
+        return ResponseEntity.ok(throughput);
+    }
+}
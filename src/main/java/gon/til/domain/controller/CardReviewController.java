@@ -0,0 +1,60 @@
+package gon.til.domain.controller;
+
+import gon.til.domain.dto.review.CardReviewResponse;
+import gon.til.domain.dto.review.ReviewStreakResponse;
+import gon.til.domain.dto.review.ReviewSubmitRequest;
+import gon.til.domain.entity.User;
+import gon.til.domain.service.CardReviewService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "CardReview", description = "카드 복습 관련 API")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/reviews")
+public class CardReviewController {
+
+    private final CardReviewService cardReviewService;
+
+    // 오늘 복습할 카드 목록
+    @GetMapping("/due")
+    public ResponseEntity<List<CardReviewResponse>> getDueReviews(
+            @AuthenticationPrincipal User user
+    ) {
+        List<CardReviewResponse> dueReviews = cardReviewService.getDueReviews(user.getId());
+
+        return ResponseEntity.ok(dueReviews);
+    }
+
+    // 복습 결과 제출
+    @PostMapping("/cards/{cardId}")
+    public ResponseEntity<CardReviewResponse> submitReview(
+            @PathVariable("cardId") Long cardId,
+            @Valid @RequestBody ReviewSubmitRequest request,
+            @AuthenticationPrincipal User user
+    ) {
+        CardReviewResponse review = cardReviewService.submitReview(cardId, user.getId(), request);
+
+        return ResponseEntity.ok(review);
+    }
+
+    // 연속 학습일 조회
+    @GetMapping("/streak")
+    public ResponseEntity<ReviewStreakResponse> getStreak(
+            @AuthenticationPrincipal User user
+    ) {
+        ReviewStreakResponse streak = cardReviewService.getStreak(user.getId());
+
+        return ResponseEntity.ok(streak);
+    }
+}
@@ -2,7 +2,9 @@ package gon.til.domain.controller;
 
 import gon.til.domain.dto.kanbancolumn.KanbanColumnCreateRequest;
 import gon.til.domain.dto.kanbancolumn.KanbanColumnResponse;
+import gon.til.domain.dto.kanbancolumn.KanbanColumnReviewRequest;
 import gon.til.domain.dto.kanbancolumn.KanbanColumnUpdateRequest;
+import gon.til.domain.dto.kanbancolumn.KanbanColumnWipLimitRequest;
 import gon.til.domain.entity.User;
 import gon.til.domain.service.KanbanColumnService;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -56,6 +58,24 @@ public class KanbanColumnController {
         return ResponseEntity.ok(response);
     }
 
+    @PatchMapping("/{columnId}/wip-limit")
+    public ResponseEntity<KanbanColumnResponse> updateWipLimit(
+        @PathVariable Long columnId,
+        @AuthenticationPrincipal User user,
+        @Valid @RequestBody KanbanColumnWipLimitRequest request) {
+        KanbanColumnResponse response = kanbanColumnService.updateWipLimit(columnId, user.getId(), request);
+        return ResponseEntity.ok(response);
+    }
+
+    @PatchMapping("/{columnId}/review")
+    public ResponseEntity<KanbanColumnResponse> updateReviewEnabled(
+        @PathVariable Long columnId,
+        @AuthenticationPrincipal User user,
+        @Valid @RequestBody KanbanColumnReviewRequest request) {
+        KanbanColumnResponse response = kanbanColumnService.updateReviewEnabled(columnId, user.getId(), request);
+        return ResponseEntity.ok(response);
+    }
+
     @PatchMapping("/boards/{boardId}/positions")
     public ResponseEntity<List<KanbanColumnResponse>> updateColumnPositions(
         @PathVariable Long boardId,
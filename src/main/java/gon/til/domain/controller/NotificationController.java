@@ -0,0 +1,70 @@
+package gon.til.domain.controller;
+
+import gon.til.domain.dto.notification.NotificationPageResponse;
+import gon.til.domain.dto.notification.NotificationReadRequest;
+import gon.til.domain.dto.notification.NotificationUnreadResponse;
+import gon.til.domain.entity.User;
+import gon.til.domain.service.NotificationService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Notification", description = "알림함 관련 API")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/notifications")
+public class NotificationController {
+
+    private final NotificationService notificationService;
+
+    // 알림 목록 (다음 페이지는 응답의 nextCursor 를 cursor 로)
+    @GetMapping
+    public ResponseEntity<NotificationPageResponse> getNotifications(
+            @RequestParam(value = "cursor", required = false) Long cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            @AuthenticationPrincipal User user
+    ) {
+        NotificationPageResponse page = notificationService.getNotifications(user.getId(), cursor, size);
+
+        return ResponseEntity.ok(page);
+    }
+
+    // 안 읽은 알림 수
+    @GetMapping("/unread-count")
+    public ResponseEntity<NotificationUnreadResponse> getUnreadCount(
+            @AuthenticationPrincipal User user
+    ) {
+        NotificationUnreadResponse unread = notificationService.getUnreadCount(user.getId());
+
+        return ResponseEntity.ok(unread);
+    }
+
+    // 선택한 알림 읽음 처리
+    @PostMapping("/read")
+    public ResponseEntity<NotificationUnreadResponse> markAsRead(
+            @Valid @RequestBody NotificationReadRequest request,
+            @AuthenticationPrincipal User user
+    ) {
+        NotificationUnreadResponse unread = notificationService.markAsRead(user.getId(), request.getIds());
+
+        return ResponseEntity.ok(unread);
+    }
+
+    // 모든 알림 읽음 처리
+    @PostMapping("/read-all")
+    public ResponseEntity<NotificationUnreadResponse> markAllAsRead(
+            @AuthenticationPrincipal User user
+    ) {
+        NotificationUnreadResponse unread = notificationService.markAllAsRead(user.getId());
+
+        return ResponseEntity.ok(unread);
+    }
+}
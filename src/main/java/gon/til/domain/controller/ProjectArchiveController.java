@@ -0,0 +1,63 @@
+package gon.til.domain.controller;
+
+import gon.til.domain.dto.project.ArchivedProjectResponse;
+import gon.til.domain.dto.project.ProjectResponse;
+import gon.til.domain.entity.User;
+import gon.til.domain.service.ProjectArchiveService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "ProjectArchive", description = "프로젝트 보관/복원 API")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/projects")
+public class ProjectArchiveController {
+
+    private final ProjectArchiveService projectArchiveService;
+
+    // 프로젝트 보관
+    @PostMapping("/{projectId}/archive")
+    public ResponseEntity<ArchivedProjectResponse> archiveProject(
+            @AuthenticationPrincipal User user,
+            @PathVariable("projectId") Long projectId
+    ) {
+        return ResponseEntity.ok(projectArchiveService.archiveProject(projectId, user.getId()));
+    }
+
+    // 보관한 프로젝트 목록
+    @GetMapping("/archived")
+    public ResponseEntity<List<ArchivedProjectResponse>> getArchivedProjects(
+            @AuthenticationPrincipal User user
+    ) {
+        return ResponseEntity.ok(projectArchiveService.getArchivedProjects(user.getId()));
+    }
+
+    // 보관한 프로젝트 복원
+    @PostMapping("/archived/{projectId}/restore")
+    public ResponseEntity<ProjectResponse> restoreProject(
+            @AuthenticationPrincipal User user,
+            @PathVariable("projectId") Long projectId
+    ) {
+        return ResponseEntity.ok(projectArchiveService.restoreProject(projectId, user.getId()));
+    }
+
+    // 보관한 프로젝트 영구 삭제
+    @DeleteMapping("/archived/{projectId}")
+    public ResponseEntity<Void> deleteArchivedProject(
+            @AuthenticationPrincipal User user,
+            @PathVariable("projectId") Long projectId
+    ) {
+        projectArchiveService.deleteArchivedProject(projectId, user.getId());
+
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,6 +1,7 @@
 package gon.til.domain.controller;
 
 import gon.til.domain.dto.project.ProjectCreateRequest;
+import gon.til.domain.dto.project.ProjectDuplicateRequest;
 import gon.til.domain.dto.project.ProjectResponse;
 import gon.til.domain.dto.project.ProjectUpdateRequest;
 import gon.til.domain.entity.User;
@@ -89,4 +90,21 @@ public class ProjectController {
 
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    // 프로젝트 복제
+    @PostMapping("/{projectId}/duplicate")
+    public ResponseEntity<ProjectResponse> duplicateProject(
+            @AuthenticationPrincipal User user,
+            @PathVariable("projectId") Long projectId,
+            @Valid @RequestBody ProjectDuplicateRequest request
+    ) {
+        ProjectResponse projectResponse = projectService.duplicateProject(projectId, user.getId(), request);
+
+        URI location = ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/api/v1/projects/{id}")
+                .buildAndExpand(projectResponse.getId())
+                .toUri();
+
+        return ResponseEntity.created(location).body(projectResponse);
+    }
+}
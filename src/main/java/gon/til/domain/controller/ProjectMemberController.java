@@ -0,0 +1,65 @@
+package gon.til.domain.controller;
+
+import gon.til.domain.dto.member.ProjectMemberRequest;
+import gon.til.domain.dto.member.ProjectMemberResponse;
+import gon.til.domain.dto.member.ProjectMemberRoleRequest;
+import gon.til.domain.entity.User;
+import gon.til.domain.service.ProjectMemberService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "ProjectMember", description = "프로젝트 공유(멤버, 역할) 관련 API")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/projects/{projectId}/members")
+public class ProjectMemberController {
+
+    private final ProjectMemberService projectMemberService;
+
+    @GetMapping
+    public ResponseEntity<List<ProjectMemberResponse>> getMembers(
+        @PathVariable Long projectId,
+        @AuthenticationPrincipal User user) {
+        return ResponseEntity.ok(projectMemberService.getMembers(projectId, user.getId()));
+    }
+
+    @PostMapping
+    public ResponseEntity<ProjectMemberResponse> addMember(
+        @PathVariable Long projectId,
+        @AuthenticationPrincipal User user,
+        @Valid @RequestBody ProjectMemberRequest request) {
+        ProjectMemberResponse response = projectMemberService.addMember(projectId, user.getId(), request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @PatchMapping("/{memberId}")
+    public ResponseEntity<ProjectMemberResponse> changeRole(
+        @PathVariable Long projectId,
+        @PathVariable Long memberId,
+        @AuthenticationPrincipal User user,
+        @Valid @RequestBody ProjectMemberRoleRequest request) {
+        return ResponseEntity.ok(projectMemberService.changeRole(projectId, memberId, user.getId(), request));
+    }
+
+    @DeleteMapping("/{memberId}")
+    public ResponseEntity<Void> removeMember(
+        @PathVariable Long projectId,
+        @PathVariable Long memberId,
+        @AuthenticationPrincipal User user) {
+        projectMemberService.removeMember(projectId, memberId, user.getId());
+        return ResponseEntity.noContent().build();
+    }
+}
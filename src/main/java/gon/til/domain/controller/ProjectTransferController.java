@@ -0,0 +1,89 @@
+package gon.til.domain.controller;
+
+import gon.til.domain.dto.transfer.ProjectImportResponse;
+import gon.til.domain.entity.User;
+import gon.til.domain.service.ProjectExportService;
+import gon.til.domain.service.ProjectImportService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "ProjectTransfer", description = "프로젝트 내보내기/가져오기 API")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/projects")
+public class ProjectTransferController {
+
+    private final ProjectExportService projectExportService;
+    private final ProjectImportService projectImportService;
+
+    // 프로젝트 전체를 JSON 파일로 내보내기 (응답 스트림에 바로 씀)
+    @GetMapping("/{projectId}/export")
+    public void exportProject(
+            @PathVariable("projectId") Long projectId,
+            @AuthenticationPrincipal User user,
+            HttpServletResponse response
+    ) throws IOException {
+        String fileName = projectExportService.getExportFileName(projectId, user.getId());
+
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, attachment(fileName + ".json"));
+
+        OutputStream out = new BufferedOutputStream(response.getOutputStream());
+        projectExportService.exportJson(projectId, out);
+        out.flush();
+    }
+
+    // 카드 목록을 CSV 파일로 내보내기
+    @GetMapping("/{projectId}/export/cards")
+    public void exportCardsCsv(
+            @PathVariable("projectId") Long projectId,
+            @AuthenticationPrincipal User user,
+            HttpServletResponse response
+    ) throws IOException {
+        String fileName = projectExportService.getExportFileName(projectId, user.getId());
+
+        response.setContentType("text/csv");
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, attachment(fileName + "-cards.csv"));
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8));
+        projectExportService.exportCardsCsv(projectId, writer);
+        writer.flush();
+    }
+
+    // 내보낸 JSON 파일로 새 프로젝트 만들기 (요청 본문을 스트림으로 읽음)
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ProjectImportResponse> importProject(
+            InputStream body,
+            @AuthenticationPrincipal User user
+    ) {
+        ProjectImportResponse imported = projectImportService.importJson(user.getId(), body);
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(imported);
+    }
+
+    private String attachment(String fileName) {
+        return ContentDisposition.attachment().filename(fileName, StandardCharsets.UTF_8).build().toString();
+    }
+}
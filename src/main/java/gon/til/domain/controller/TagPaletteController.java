@@ -0,0 +1,55 @@
+package gon.til.domain.controller;
+
+import gon.til.domain.dto.tagcolor.TagPaletteColorRequest;
+import gon.til.domain.dto.tagcolor.TagPaletteColorResponse;
+import gon.til.domain.entity.User;
+import gon.til.domain.service.TagPaletteService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "TagPalette", description = "프로젝트 태그 색상 팔레트 관련 API")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/tags/projects/{projectId}/palette")
+public class TagPaletteController {
+
+    private final TagPaletteService tagPaletteService;
+
+    @GetMapping
+    public ResponseEntity<List<TagPaletteColorResponse>> getPalette(
+        @PathVariable Long projectId,
+        @AuthenticationPrincipal User user) {
+        List<TagPaletteColorResponse> responses = tagPaletteService.getPalette(projectId, user.getId());
+        return ResponseEntity.ok(responses);
+    }
+
+    @PostMapping
+    public ResponseEntity<TagPaletteColorResponse> addColor(
+        @PathVariable Long projectId,
+        @AuthenticationPrincipal User user,
+        @Valid @RequestBody TagPaletteColorRequest request) {
+        TagPaletteColorResponse response = tagPaletteService.addColor(projectId, user.getId(), request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @DeleteMapping("/{colorId}")
+    public ResponseEntity<Void> deleteColor(
+        @PathVariable Long projectId,
+        @PathVariable Long colorId,
+        @AuthenticationPrincipal User user) {
+        tagPaletteService.deleteColor(projectId, colorId, user.getId());
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,78 @@
+package gon.til.domain.controller;
+
+import gon.til.domain.dto.card.CardResponse;
+import gon.til.domain.dto.kanbancolumn.KanbanColumnResponse;
+import gon.til.domain.dto.project.ProjectResponse;
+import gon.til.domain.dto.trash.ProjectTrashResponse;
+import gon.til.domain.dto.trash.TrashItemResponse;
+import gon.til.domain.entity.User;
+import gon.til.domain.service.CardService;
+import gon.til.domain.service.KanbanColumnService;
+import gon.til.domain.service.ProjectService;
+import gon.til.domain.service.TrashService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Trash", description = "휴지통 조회/복원 API")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/trash")
+public class TrashController {
+
+    private final TrashService trashService;
+    private final ProjectService projectService;
+    private final KanbanColumnService kanbanColumnService;
+    private final CardService cardService;
+
+    // 휴지통에 있는 프로젝트 목록
+    @GetMapping("/projects")
+    public ResponseEntity<List<TrashItemResponse>> getDeletedProjects(
+            @AuthenticationPrincipal User user
+    ) {
+        return ResponseEntity.ok(trashService.getDeletedProjects(user.getId()));
+    }
+
+    // 프로젝트에서 지운 컬럼/카드 목록
+    @GetMapping("/projects/{projectId}")
+    public ResponseEntity<ProjectTrashResponse> getProjectTrash(
+            @AuthenticationPrincipal User user,
+            @PathVariable("projectId") Long projectId
+    ) {
+        return ResponseEntity.ok(trashService.getProjectTrash(projectId, user.getId()));
+    }
+
+    // 프로젝트 복원
+    @PostMapping("/projects/{projectId}/restore")
+    public ResponseEntity<ProjectResponse> restoreProject(
+            @AuthenticationPrincipal User user,
+            @PathVariable("projectId") Long projectId
+    ) {
+        return ResponseEntity.ok(projectService.restoreProject(projectId, user.getId()));
+    }
+
+    // 컬럼 복원
+    @PostMapping("/columns/{columnId}/restore")
+    public ResponseEntity<KanbanColumnResponse> restoreColumn(
+            @AuthenticationPrincipal User user,
+            @PathVariable("columnId") Long columnId
+    ) {
+        return ResponseEntity.ok(kanbanColumnService.restoreColumn(columnId, user.getId()));
+    }
+
+    // 카드 복원
+    @PostMapping("/cards/{cardId}/restore")
+    public ResponseEntity<CardResponse> restoreCard(
+            @AuthenticationPrincipal User user,
+            @PathVariable("cardId") Long cardId
+    ) {
+        return ResponseEntity.ok(cardService.restoreCard(cardId, user.getId()));
+    }
+}
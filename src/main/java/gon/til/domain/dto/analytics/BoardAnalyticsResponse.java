@@ -0,0 +1,26 @@
+package gon.til.domain.dto.analytics;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class BoardAnalyticsResponse {
+
+    private final Long boardId;
+    private final LocalDate from;
+    private final LocalDate to;
+
+    // 누적 흐름도 (일 단위 컬럼별 카드 수)
+    private final List<CumulativeFlowPoint> cumulativeFlow;
+
+    // 기간 동안 컬럼별 평균 WIP
+    private final Map<Long, Double> averageWip;
+
+    // 기간 안에 완료된 카드의 리드타임 / 사이클타임
+    private final DurationPercentiles leadTime;
+    private final DurationPercentiles cycleTime;
+}
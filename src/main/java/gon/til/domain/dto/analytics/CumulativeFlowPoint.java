@@ -0,0 +1,16 @@
+package gon.til.domain.dto.analytics;
+
+import java.time.LocalDate;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CumulativeFlowPoint {
+
+    private final LocalDate date;
+
+    // 컬럼 ID -> 그날 마감 기준 컬럼에 있던 카드 수
+    private final Map<Long, Long> cardsByColumn;
+}
@@ -0,0 +1,37 @@
+package gon.til.domain.dto.analytics;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 소요 시간(분) 분포의 백분위수
+ * 표본이 없으면 백분위수 값은 null 입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class DurationPercentiles {
+
+    private final int sampleSize;
+    private final Long p50Minutes;
+    private final Long p85Minutes;
+    private final Long p95Minutes;
+
+    // 정렬된 표본으로부터 nearest-rank 방식으로 계산
+    public static DurationPercentiles of(List<Long> sortedMinutes) {
+        if (sortedMinutes.isEmpty()) {
+            return new DurationPercentiles(0, null, null, null);
+        }
+        return new DurationPercentiles(
+            sortedMinutes.size(),
+            percentile(sortedMinutes, 50),
+            percentile(sortedMinutes, 85),
+            percentile(sortedMinutes, 95)
+        );
+    }
+
+    private static Long percentile(List<Long> sorted, int percent) {
+        int rank = (int) Math.ceil(percent / 100.0 * sorted.size());
+        return sorted.get(Math.max(rank, 1) - 1);
+    }
+}
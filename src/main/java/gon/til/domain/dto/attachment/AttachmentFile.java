@@ -0,0 +1,9 @@
+package gon.til.domain.dto.attachment;
+
+import java.nio.file.Path;
+
+/**
+ * 다운로드할 첨부 파일 (디스크 경로와 응답 헤더에 쓸 정보)
+ */
+public record AttachmentFile(String fileName, String contentType, long size, String hash, Path path) {
+}
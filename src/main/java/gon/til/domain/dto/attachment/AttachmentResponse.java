@@ -0,0 +1,31 @@
+package gon.til.domain.dto.attachment;
+
+import gon.til.domain.entity.CardAttachment;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class AttachmentResponse {
+
+    private final Long id;
+    private final Long cardId;
+    private final String fileName;
+    private final String contentType;
+    private final Long size;
+    private final String hash;
+    private final LocalDateTime createdAt;
+
+    public static AttachmentResponse from(CardAttachment attachment) {
+        return new AttachmentResponse(
+                attachment.getId(),
+                attachment.getCard().getId(),
+                attachment.getFileName(),
+                attachment.getContentType(),
+                attachment.getSize(),
+                attachment.getBlobHash(),
+                attachment.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,18 @@
+package gon.til.domain.dto.card;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CardDueDateRequest {
+
+    // null 이면 마감일 해제 (알림도 함께 해제)
+    private LocalDateTime dueAt;
+
+    // null 이면 알림 없음, 마감일 이전이어야 함
+    private LocalDateTime remindAt;
+}
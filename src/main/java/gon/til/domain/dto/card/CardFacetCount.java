@@ -0,0 +1,5 @@
+package gon.til.domain.dto.card;
+
+// 필터 조건에 맞는 카드 중 컬럼/태그/작성자 하나에 속한 카드 수
+public record CardFacetCount(Long id, long count) {
+}
@@ -0,0 +1,19 @@
+package gon.til.domain.dto.card;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 필터 조건에 맞는 카드 수를 컬럼/태그/작성자별로 센 값 (많은 순)
+ * - total 은 조건에 맞는 전체 카드 수입니다. (카드는 컬럼 하나에만 속하므로 컬럼별 수의 합)
+ */
+@Getter
+@AllArgsConstructor
+public class CardFacetResponse {
+
+    private final long total;
+    private final List<CardFacetCount> columns;
+    private final List<CardFacetCount> tags;
+    private final List<CardFacetCount> authors;
+}
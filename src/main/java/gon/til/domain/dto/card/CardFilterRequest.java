@@ -0,0 +1,53 @@
+package gon.til.domain.dto.card;
+
+import gon.til.domain.common.CardSort;
+import gon.til.domain.common.CardTagMatch;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+/**
+ * 카드 필터 조회 조건 (쿼리 파라미터로 받음, 비워 둔 조건은 거르지 않음)
+ * - 날짜 범위는 from, to 를 모두 포함하는 날짜 단위입니다.
+ * - cursor 는 이전 응답의 nextCursor 를 그대로 넘깁니다. 정렬을 바꾸면 처음부터 다시 조회합니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class CardFilterRequest {
+
+    @Size(max = 50, message = "태그는 50개까지 선택할 수 있습니다.")
+    private List<Long> tagIds;
+
+    private CardTagMatch tagMatch = CardTagMatch.ANY;
+
+    @Size(max = 50, message = "컬럼은 50개까지 선택할 수 있습니다.")
+    private List<Long> columnIds;
+
+    private Long authorId;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate createdFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate createdTo;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate updatedFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate updatedTo;
+
+    @Size(max = 100, message = "검색어는 100자 이하로 입력해주세요.")
+    private String q;
+
+    private CardSort sort = CardSort.CREATED_DESC;
+
+    private String cursor;
+
+    private Integer size;
+}
@@ -0,0 +1,14 @@
+package gon.til.domain.dto.card;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CardFilterResponse {
+
+    private final List<CardSummaryResponse> cards;
+    private final String nextCursor;            // 다음 페이지 요청의 cursor (마지막 페이지면 null)
+    private final CardFacetResponse facets;     // 첫 페이지(cursor 없음)에만 채움
+}
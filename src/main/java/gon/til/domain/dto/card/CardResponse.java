@@ -5,6 +5,7 @@ import gon.til.domain.entity.Card;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -15,11 +16,14 @@ public class CardResponse {
     private final Long id;
     private final String title;
     private final String content;
+    private final String contentHtml;   // content 를 Markdown 으로 렌더링한 HTML (MarkdownRenderer)
     private final Integer position;
     private final Long columnId;
+    private final LocalDateTime dueAt;
+    private final LocalDateTime remindAt;
     private final List<TagResponse> tags;
 
-    public static CardResponse from(Card card) {
+    public static CardResponse from(Card card, String contentHtml) {
         List<TagResponse> tagResponses = card.getCardTags().stream()
                 .map(cardTag -> TagResponse.from(cardTag.getTag()))
                 .collect(Collectors.toList());
@@ -28,9 +32,17 @@ public class CardResponse {
                 card.getId(),
                 card.getTitle(),
                 card.getContent(),
+                contentHtml,
                 card.getPosition(),
                 card.getKanbanColumn().getId(),
+                card.getDueAt(),
+                card.getRemindAt(),
                 tagResponses
         );
     }
+
+    public static CardResponse of(CardRow row, String contentHtml, List<TagResponse> tags) {
+        return new CardResponse(row.id(), row.title(), row.content(), contentHtml, row.position(), row.columnId(),
+                row.dueAt(), row.remindAt(), tags);
+    }
 }
@@ -0,0 +1,11 @@
+package gon.til.domain.dto.card;
+
+import java.time.LocalDateTime;
+
+/**
+ * 카드 목록 조회용 프로젝션 (본문 포함)
+ * - 엔티티를 거치지 않고 필요한 컬럼만 SELECT 합니다. 태그는 CardTagRow 로 따로 읽습니다.
+ */
+public record CardRow(Long id, String title, String content, Integer position, Long columnId,
+                      LocalDateTime dueAt, LocalDateTime remindAt) {
+}
@@ -0,0 +1,30 @@
+package gon.til.domain.dto.card;
+
+import gon.til.domain.dto.tag.TagResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 보드 화면용 카드 요약 (본문 content 제외)
+ * - 본문은 카드 상세 조회(GET /api/v1/cards/{cardId})로 필요할 때만 받습니다.
+ * - excerpt 는 카드를 저장할 때 만들어 둔 평문 요약입니다. (최대 200자)
+ */
+@Getter
+@AllArgsConstructor
+public class CardSummaryResponse {
+
+    private final Long id;
+    private final String title;
+    private final String excerpt;
+    private final Integer position;
+    private final Long columnId;
+    private final LocalDateTime dueAt;
+    private final List<TagResponse> tags;
+
+    public static CardSummaryResponse of(CardSummaryRow row, List<TagResponse> tags) {
+        return new CardSummaryResponse(row.id(), row.title(), row.excerpt(), row.position(), row.columnId(), row.dueAt(), tags);
+    }
+}
@@ -0,0 +1,9 @@
+package gon.til.domain.dto.card;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보드 화면용 카드 요약 프로젝션 (본문 content 대신 미리 만든 요약 excerpt 만 SELECT)
+ */
+public record CardSummaryRow(Long id, String title, String excerpt, Integer position, Long columnId, LocalDateTime dueAt) {
+}
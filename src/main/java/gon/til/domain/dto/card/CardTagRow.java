@@ -0,0 +1,13 @@
+package gon.til.domain.dto.card;
+
+import gon.til.domain.dto.tag.TagResponse;
+
+/**
+ * 카드 목록 조회용 카드-태그 프로젝션 (프로젝트의 카드-태그를 한 번에 읽어 카드 ID 로 묶습니다)
+ */
+public record CardTagRow(Long cardId, Long tagId, String name, String color, Long projectId) {
+
+    public TagResponse toTagResponse() {
+        return new TagResponse(tagId, name, color, projectId);
+    }
+}
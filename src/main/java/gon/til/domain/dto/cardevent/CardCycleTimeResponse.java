@@ -0,0 +1,23 @@
+package gon.til.domain.dto.cardevent;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 카드 한 장의 리드타임 / 사이클타임
+ * - leadTime : 생성 ~ 완료 컬럼 도착
+ * - cycleTime : 첫 이동(작업 시작) ~ 완료 컬럼 도착
+ * 아직 완료되지 않은 카드는 완료 시각과 시간 값이 null 입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class CardCycleTimeResponse {
+
+    private final Long cardId;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime startedAt;
+    private final LocalDateTime completedAt;
+    private final Long leadTimeMinutes;
+    private final Long cycleTimeMinutes;
+}
@@ -0,0 +1,32 @@
+package gon.til.domain.dto.cardevent;
+
+import gon.til.domain.common.CardEventType;
+import gon.til.domain.entity.CardEvent;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CardEventResponse {
+
+    private final Long id;
+    private final CardEventType type;
+    private final Long fromColumnId;
+    private final Long toColumnId;
+    private final Long tagId;
+    private final Long userId;
+    private final LocalDateTime occurredAt;
+
+    public static CardEventResponse from(CardEvent cardEvent) {
+        return new CardEventResponse(
+            cardEvent.getId(),
+            cardEvent.getType(),
+            cardEvent.getFromColumnId(),
+            cardEvent.getToColumnId(),
+            cardEvent.getTagId(),
+            cardEvent.getUserId(),
+            cardEvent.getOccurredAt()
+        );
+    }
+}
@@ -0,0 +1,14 @@
+package gon.til.domain.dto.cardevent;
+
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class WeeklyThroughputResponse {
+
+    // 주의 시작일 (월요일)
+    private final LocalDate weekStart;
+    private final long completedCards;
+}
@@ -11,12 +11,18 @@ public class KanbanColumnResponse {
     private final Long id;
     private final String title;
     private final Integer position;
+    private final Integer wipLimit;
+    private final Integer cardCount;
+    private final boolean reviewEnabled;
 
     public static KanbanColumnResponse from(KanbanColumn kanbanColumn) {
         return new KanbanColumnResponse(
             kanbanColumn.getId(),
             kanbanColumn.getTitle(),
-            kanbanColumn.getPosition()
+            kanbanColumn.getPosition(),
+            kanbanColumn.getWipLimit(),
+            kanbanColumn.getCardCount(),
+            kanbanColumn.isReviewEnabled()
         );
     }
 }
@@ -0,0 +1,16 @@
+package gon.til.domain.dto.kanbancolumn;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class KanbanColumnReviewRequest {
+
+    // true 면 이 컬럼으로 들어온 카드를 복습 일정에 등록
+    @NotNull(message = "복습 컬럼 여부는 필수 입력 사항입니다.")
+    private Boolean reviewEnabled;
+}
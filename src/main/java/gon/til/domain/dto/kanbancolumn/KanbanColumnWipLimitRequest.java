@@ -0,0 +1,16 @@
+package gon.til.domain.dto.kanbancolumn;
+
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class KanbanColumnWipLimitRequest {
+
+    // null 이면 제한 해제
+    @Min(value = 1, message = "WIP 제한은 1 이상이어야 합니다.")
+    private Integer wipLimit;
+}
@@ -0,0 +1,22 @@
+package gon.til.domain.dto.member;
+
+import gon.til.domain.common.ProjectRole;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectMemberRequest {
+
+    @NotBlank(message = "초대할 사용자의 이메일은 필수 입력 사항입니다.")
+    @Email(message = "유효한 이메일 형식이 아닙니다.")
+    private String email;
+
+    @NotNull(message = "역할은 필수 입력 사항입니다.")
+    private ProjectRole role;
+}
@@ -0,0 +1,28 @@
+package gon.til.domain.dto.member;
+
+import gon.til.domain.common.ProjectRole;
+import gon.til.domain.entity.ProjectMember;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ProjectMemberResponse {
+
+    private final Long userId;
+    private final String displayName;
+    private final String email;
+    private final ProjectRole role;
+    private final LocalDateTime createdAt;
+
+    public static ProjectMemberResponse from(ProjectMember member) {
+        return new ProjectMemberResponse(
+            member.getUser().getId(),
+            member.getUser().getDisplayName(),
+            member.getUser().getEmail(),
+            member.getRole(),
+            member.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,16 @@
+package gon.til.domain.dto.member;
+
+import gon.til.domain.common.ProjectRole;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectMemberRoleRequest {
+
+    @NotNull(message = "역할은 필수 입력 사항입니다.")
+    private ProjectRole role;
+}
@@ -0,0 +1,14 @@
+package gon.til.domain.dto.notification;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class NotificationPageResponse {
+
+    private final List<NotificationResponse> notifications;
+    private final Long nextCursor;      // 다음 페이지 요청의 cursor (마지막 페이지면 null)
+    private final int unreadCount;
+}
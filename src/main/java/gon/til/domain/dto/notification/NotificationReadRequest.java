@@ -0,0 +1,18 @@
+package gon.til.domain.dto.notification;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationReadRequest {
+
+    @NotEmpty(message = "읽음 처리할 알림을 선택해주세요.")
+    @Size(max = 500, message = "한 번에 500개까지 읽음 처리할 수 있습니다.")
+    private List<Long> ids;
+}
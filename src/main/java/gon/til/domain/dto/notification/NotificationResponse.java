@@ -0,0 +1,34 @@
+package gon.til.domain.dto.notification;
+
+import gon.til.domain.common.NotificationType;
+import gon.til.domain.entity.Notification;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class NotificationResponse {
+
+    private final Long id;
+    private final NotificationType type;
+    private final Long cardId;
+    private final Long boardId;
+    private final Long actorId;
+    private final String message;
+    private final LocalDateTime createdAt;
+    private final boolean read;
+
+    public static NotificationResponse from(Notification notification) {
+        return new NotificationResponse(
+            notification.getId(),
+            notification.getType(),
+            notification.getCardId(),
+            notification.getBoardId(),
+            notification.getActorId(),
+            notification.getMessage(),
+            notification.getCreatedAt(),
+            notification.getReadAt() != null
+        );
+    }
+}
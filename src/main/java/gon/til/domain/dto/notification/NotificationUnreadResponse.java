@@ -0,0 +1,11 @@
+package gon.til.domain.dto.notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class NotificationUnreadResponse {
+
+    private final int unreadCount;
+}
@@ -0,0 +1,16 @@
+package gon.til.domain.dto.project;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ArchivedProjectResponse {
+
+    private final Long id;
+    private final String title;
+    private final String description;
+    private final String category;
+    private final LocalDateTime archivedAt;
+}
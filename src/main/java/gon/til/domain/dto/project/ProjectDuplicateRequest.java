@@ -0,0 +1,15 @@
+package gon.til.domain.dto.project;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectDuplicateRequest {
+
+    @NotBlank(message = "프로젝트 제목은 필수 입력 사항입니다.")
+    private String title;
+}
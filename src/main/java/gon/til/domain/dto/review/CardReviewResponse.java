@@ -0,0 +1,33 @@
+package gon.til.domain.dto.review;
+
+import gon.til.domain.entity.CardReview;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CardReviewResponse {
+
+    private final Long id;
+    private final Long cardId;
+    private final String cardTitle;
+    private final Integer repetitions;
+    private final Integer intervalDays;
+    private final Double easeFactor;
+    private final LocalDateTime nextReviewAt;
+    private final LocalDateTime lastReviewedAt;
+
+    public static CardReviewResponse from(CardReview cardReview) {
+        return new CardReviewResponse(
+            cardReview.getId(),
+            cardReview.getCard().getId(),
+            cardReview.getCard().getTitle(),
+            cardReview.getRepetitions(),
+            cardReview.getIntervalDays(),
+            cardReview.getEaseFactor(),
+            cardReview.getNextReviewAt(),
+            cardReview.getLastReviewedAt()
+        );
+    }
+}
@@ -0,0 +1,13 @@
+package gon.til.domain.dto.review;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ReviewStreakResponse {
+
+    // 오늘(또는 어제)까지 하루도 빠짐없이 복습한 날 수
+    private final int currentStreak;
+    private final boolean reviewedToday;
+}
@@ -0,0 +1,20 @@
+package gon.til.domain.dto.review;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewSubmitRequest {
+
+    // 0(전혀 기억 안 남) ~ 5(완벽하게 기억)
+    @NotNull(message = "복습 평가는 필수입니다.")
+    @Min(value = 0, message = "복습 평가는 0 이상이어야 합니다.")
+    @Max(value = 5, message = "복습 평가는 5 이하여야 합니다.")
+    private Integer quality;
+}
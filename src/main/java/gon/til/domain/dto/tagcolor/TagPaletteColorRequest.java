@@ -0,0 +1,25 @@
+package gon.til.domain.dto.tagcolor;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class TagPaletteColorRequest {
+
+    @NotBlank(message = "색상 이름은 필수 입력 사항입니다.")
+    @Size(max = 30, message = "색상 이름은 30자 이하로 입력해주세요.")
+    private String name;
+
+    @NotBlank(message = "색상 코드는 필수 입력 사항입니다.")
+    @Pattern(regexp = "^#[0-9A-Fa-f]{6}$", message = "색상 코드는 #RRGGBB 형식이어야 합니다.")
+    private String hexCode;
+
+    public TagPaletteColorRequest(String name, String hexCode) {
+        this.name = name;
+        this.hexCode = hexCode;
+    }
+}
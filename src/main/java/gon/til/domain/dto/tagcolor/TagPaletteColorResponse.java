@@ -0,0 +1,24 @@
+package gon.til.domain.dto.tagcolor;
+
+import gon.til.domain.entity.TagPaletteColor;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TagPaletteColorResponse {
+
+    private final Long id;
+    private final String name;
+    private final String hexCode;
+    private final Long projectId;
+
+    public static TagPaletteColorResponse from(TagPaletteColor color) {
+        return new TagPaletteColorResponse(
+            color.getId(),
+            color.getName(),
+            color.getHexCode(),
+            color.getProject().getId()
+        );
+    }
+}
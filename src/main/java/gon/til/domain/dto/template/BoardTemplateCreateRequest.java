@@ -0,0 +1,77 @@
+package gon.til.domain.dto.template;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardTemplateCreateRequest {
+
+    @NotBlank(message = "템플릿 이름은 필수 입력 사항입니다.")
+    @Size(max = 100, message = "템플릿 이름은 100자 이하여야 합니다.")
+    private String title;
+
+    private String description;
+
+    // 적힌 순서대로 position 1, 2, 3 ...
+    @NotEmpty(message = "템플릿에는 컬럼이 하나 이상 있어야 합니다.")
+    @Valid
+    private List<ColumnItem> columns = new ArrayList<>();
+
+    @Valid
+    private List<TagItem> tags = new ArrayList<>();
+
+    @Valid
+    private List<CardItem> cards = new ArrayList<>();
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ColumnItem {
+
+        @NotBlank(message = "컬럼 제목은 필수 입력 사항입니다.")
+        private String title;
+
+        @Min(value = 1, message = "WIP 제한은 1 이상이어야 합니다.")
+        private Integer wipLimit;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TagItem {
+
+        @NotBlank(message = "태그 이름은 필수 입력 사항입니다.")
+        private String name;
+
+        // 기본 팔레트 색상 이름/별칭 또는 "#RRGGBB"
+        @NotBlank(message = "색상 코드는 필수 입력 사항입니다.")
+        private String color;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CardItem {
+
+        // columns 에서의 순서 (1부터)
+        @NotNull(message = "카드를 넣을 컬럼 위치는 필수 입력 사항입니다.")
+        @Min(value = 1, message = "컬럼 위치는 1 이상이어야 합니다.")
+        private Integer columnPosition;
+
+        @NotBlank(message = "카드 제목은 필수 입력 사항입니다.")
+        private String title;
+
+        private String content;
+    }
+}
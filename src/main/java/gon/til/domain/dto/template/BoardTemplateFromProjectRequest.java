@@ -0,0 +1,22 @@
+package gon.til.domain.dto.template;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardTemplateFromProjectRequest {
+
+    @NotBlank(message = "템플릿 이름은 필수 입력 사항입니다.")
+    @Size(max = 100, message = "템플릿 이름은 100자 이하여야 합니다.")
+    private String title;
+
+    private String description;
+
+    // 프로젝트의 카드도 시작 카드로 담을지 여부 (기본은 컬럼과 태그만)
+    private boolean includeCards;
+}
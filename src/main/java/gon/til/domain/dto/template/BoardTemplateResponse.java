@@ -0,0 +1,34 @@
+package gon.til.domain.dto.template;
+
+import gon.til.domain.entity.BoardTemplate;
+import gon.til.domain.entity.BoardTemplateColumn;
+import gon.til.domain.entity.BoardTemplateTag;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class BoardTemplateResponse {
+
+    private final Long id;
+    private final String title;
+    private final String description;
+    private final List<String> columns;
+    private final List<String> tags;
+    private final int cardCount;
+    private final LocalDateTime createdAt;
+
+    public static BoardTemplateResponse from(BoardTemplate template) {
+        return new BoardTemplateResponse(
+            template.getId(),
+            template.getTitle(),
+            template.getDescription(),
+            template.getColumns().stream().map(BoardTemplateColumn::getTitle).toList(),
+            template.getTags().stream().map(BoardTemplateTag::getName).toList(),
+            template.getCards().size(),
+            template.getCreatedAt()
+        );
+    }
+}
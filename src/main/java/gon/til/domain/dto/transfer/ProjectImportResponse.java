@@ -0,0 +1,15 @@
+package gon.til.domain.dto.transfer;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ProjectImportResponse {
+
+    private final Long projectId;
+    private final Long boardId;
+    private final int columnCount;
+    private final int tagCount;
+    private final long cardCount;
+}
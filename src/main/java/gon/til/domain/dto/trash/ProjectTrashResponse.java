@@ -0,0 +1,13 @@
+package gon.til.domain.dto.trash;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ProjectTrashResponse {
+
+    private final List<TrashItemResponse> columns;
+    private final List<TrashItemResponse> cards;    // 휴지통에 있는 컬럼의 카드는 컬럼과 함께 복원되므로 제외
+}
@@ -0,0 +1,15 @@
+package gon.til.domain.dto.trash;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TrashItemResponse {
+
+    private final Long id;
+    private final String title;
+    private final LocalDateTime deletedAt;
+    private final LocalDateTime purgeAt;    // 이 시각 이후 TrashPurger 가 실제로 지움
+}
@@ -0,0 +1,53 @@
+package gon.til.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 보드 컬럼별 일 단위 카드 유입/유출 집계
+ * - CardEventRecorder 가 이벤트를 저장할 때 증분으로 갱신합니다.
+ * - 누적 흐름도(CFD)와 WIP 는 이 테이블만으로 계산합니다.
+ */
+@Entity
+@Getter
+@Table(name = "board_daily_flows",
+    uniqueConstraints = @UniqueConstraint(name = "uk_board_daily_flows", columnNames = {"board_id", "column_id", "flow_date"}),
+    indexes = @Index(name = "idx_board_daily_flows_board_date", columnList = "board_id, flow_date"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class BoardDailyFlow {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long boardId;
+
+    @Column(nullable = false)
+    private Long columnId;
+
+    @Column(nullable = false)
+    private LocalDate flowDate;
+
+    // 그날 컬럼에 들어온 카드 수
+    @Column(nullable = false)
+    private Integer entered;
+
+    // 그날 컬럼에서 나간 카드 수
+    @Column(nullable = false)
+    private Integer exited;
+}
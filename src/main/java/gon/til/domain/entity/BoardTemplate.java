@@ -0,0 +1,94 @@
+package gon.til.domain.entity;
+
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OrderBy;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.validation.constraints.NotBlank;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+/**
+ * 사용자가 정의한 보드 템플릿 (컬럼, 태그, 시작 카드)
+ * - 템플릿으로 프로젝트를 만들 때는 엔티티를 하나씩 저장하지 않고
+ *   BoardTemplateService 가 하위 테이블을 INSERT ... SELECT 로 한 번에 복사합니다.
+ * - 하위 항목은 템플릿에만 속하는 값이라 @ElementCollection 으로 둡니다.
+ */
+@Entity
+@Getter
+@Table(name = "board_templates", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_board_templates_user_title", columnNames = {"user_id", "title"})
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+public class BoardTemplate {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotBlank
+    @Column(nullable = false, length = 100)
+    private String title;
+
+    private String description;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @CreatedDate
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    private LocalDateTime updatedAt;
+
+    @Builder.Default
+    @ElementCollection
+    @CollectionTable(name = "board_template_columns", joinColumns = @JoinColumn(name = "template_id"))
+    @OrderBy("position")
+    private List<BoardTemplateColumn> columns = new ArrayList<>();
+
+    @Builder.Default
+    @ElementCollection
+    @CollectionTable(name = "board_template_tags", joinColumns = @JoinColumn(name = "template_id"))
+    @OrderBy("name")
+    private List<BoardTemplateTag> tags = new ArrayList<>();
+
+    @Builder.Default
+    @ElementCollection
+    @CollectionTable(name = "board_template_cards", joinColumns = @JoinColumn(name = "template_id"))
+    @OrderBy("columnPosition, position")
+    private List<BoardTemplateCard> cards = new ArrayList<>();
+
+    public BoardTemplate(String title, String description, User user) {
+        this.title = title;
+        this.description = description;
+        this.user = user;
+        this.columns = new ArrayList<>();
+        this.tags = new ArrayList<>();
+        this.cards = new ArrayList<>();
+    }
+}
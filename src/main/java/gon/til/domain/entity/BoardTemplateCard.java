@@ -0,0 +1,31 @@
+package gon.til.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 템플릿 시작 카드 (columnPosition 번째 컬럼에 position 순서로 들어감)
+@Embeddable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class BoardTemplateCard {
+
+    @Column(nullable = false)
+    private Integer columnPosition;
+
+    @Column(nullable = false)
+    private Integer position;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(columnDefinition = "TEXT")
+    private String content;
+
+    @Column(length = 200)
+    private String excerpt;
+}
@@ -0,0 +1,24 @@
+package gon.til.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 템플릿 컬럼 (position 은 1부터, 복사한 보드의 컬럼 position 과 같음)
+@Embeddable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class BoardTemplateColumn {
+
+    @Column(nullable = false)
+    private Integer position;
+
+    @Column(nullable = false)
+    private String title;
+
+    private Integer wipLimit;
+}
@@ -0,0 +1,21 @@
+package gon.til.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 템플릿 태그 (색상은 헥사 코드로 저장)
+@Embeddable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class BoardTemplateTag {
+
+    @Column(nullable = false)
+    private String name;
+
+    private String color;
+}
@@ -2,6 +2,7 @@ package gon.til.domain.entity;
 
 import gon.til.global.exception.GlobalErrorCode;
 import gon.til.global.exception.GlobalException;
+import jakarta.persistence.Basic;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -10,6 +11,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToOne;
@@ -18,23 +20,33 @@ import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotBlank;
 import java.time.LocalDateTime;
 import java.util.HashSet;
+import java.util.Objects;
 import java.util.Set;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.SQLRestriction;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
-@Table(name = "cards")
+@Table(name = "cards", indexes = {
+    @Index(name = "idx_cards_project", columnList = "project_id"),
+    @Index(name = "idx_cards_column_position", columnList = "kanban_column_id, position"),
+    @Index(name = "idx_cards_deleted", columnList = "deleted_at"),
+    @Index(name = "idx_cards_reminder", columnList = "reminded_at, remind_at"),
+    @Index(name = "idx_cards_project_created", columnList = "project_id, deleted_at, created_at, id"),
+    @Index(name = "idx_cards_project_updated", columnList = "project_id, deleted_at, updated_at, id")
+})
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
 @EntityListeners(AuditingEntityListener.class)
+@SQLRestriction("deleted_at IS NULL")
 public class Card {
 
     @Id
@@ -45,9 +57,14 @@ public class Card {
     private String title;
 
     @Lob    // 긴 텍스트를 위한 어노테이션
+    @Basic(fetch = FetchType.LAZY)  // 바이트코드 향상(build.gradle hibernate.enhancement)으로 처음 접근할 때 불러옴
     @Column(columnDefinition = "TEXT")
     private String content;
 
+    // 목록 화면용 평문 요약 (본문이 바뀔 때 MarkdownRenderer.excerpt 로 다시 만듦)
+    @Column(length = 200)
+    private String excerpt;
+
     private Integer position;
 
     @CreatedDate
@@ -57,6 +74,14 @@ public class Card {
     @LastModifiedDate
     private LocalDateTime updatedAt;
 
+    // 휴지통으로 옮긴 시각 (null 이면 사용 중)
+    private LocalDateTime deletedAt;
+
+    // 마감일과 알림 시각 (알림을 보내면 remindedAt 이 채워짐)
+    private LocalDateTime dueAt;
+    private LocalDateTime remindAt;
+    private LocalDateTime remindedAt;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
@@ -100,9 +125,39 @@ public class Card {
         if (content != null) this.content = content;
     }
 
+    // 요약 수정
+    public void updateExcerpt(String excerpt) {
+        this.excerpt = excerpt;
+    }
+
     // 포지션 수정
     public void updatePosition(KanbanColumn column, Integer position) {
         if (position != null) this.position = position;
         if (kanbanColumn != null) this.kanbanColumn = column;
     }
+
+    // 마감일/알림 수정 (알림 시각이 바뀌면 다시 보냄)
+    public void updateDueDate(LocalDateTime dueAt, LocalDateTime remindAt) {
+        if (!Objects.equals(this.remindAt, remindAt)) {
+            this.remindedAt = null;
+        }
+        this.dueAt = dueAt;
+        this.remindAt = remindAt;
+    }
+
+    // 알림을 보내야 하는지 (아직 보내지 않은 알림이 있음)
+    public boolean hasPendingReminder() {
+        return remindAt != null && remindedAt == null;
+    }
+
+    // 휴지통으로 이동
+    public void softDelete(LocalDateTime now) {
+        this.deletedAt = now;
+    }
+
+    // 휴지통에서 복원 (컬럼의 맨 끝 position 으로)
+    public void restore(Integer position) {
+        this.deletedAt = null;
+        this.position = position;
+    }
 }
@@ -0,0 +1,67 @@
+package gon.til.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+/**
+ * 카드 첨부 파일
+ * - 파일 내용은 BlobStore 에 있고, 여기에는 내용 해시(blobHash)와 올릴 때의 이름/형식만 저장합니다.
+ * - 같은 내용을 여러 번 올리면 행은 여러 개지만 blobHash 는 같습니다.
+ * - 카드가 삭제되면 DB 의 ON DELETE CASCADE 로 함께 삭제되고, 더 이상 쓰지 않는 파일은 AttachmentBlobSweeper 가 지웁니다.
+ */
+@Entity
+@Getter
+@Table(name = "card_attachments", indexes = {
+    @Index(name = "idx_card_attachments_card", columnList = "card_id"),
+    @Index(name = "idx_card_attachments_blob", columnList = "blob_hash")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+public class CardAttachment {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "card_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Card card;
+
+    @Column(nullable = false)
+    private String fileName;
+
+    @Column(nullable = false, length = 100)
+    private String contentType;
+
+    @Column(nullable = false)
+    private Long size;
+
+    @Column(nullable = false, length = 64)
+    private String blobHash;
+
+    @CreatedDate
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+}
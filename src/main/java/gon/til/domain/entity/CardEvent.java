@@ -0,0 +1,71 @@
+package gon.til.domain.entity;
+
+import gon.til.domain.common.CardEventType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * 카드 활동 이력 (append-only)
+ * - 연관관계 없이 id 값만 저장해서 카드가 삭제되어도 이력은 남습니다.
+ * - occurredDay(epoch day)를 함께 저장해서 일/주 단위 집계를 인덱스만으로 처리합니다.
+ */
+@Entity
+@Getter
+@Table(name = "card_events", indexes = {
+    @Index(name = "idx_card_events_card", columnList = "card_id, occurred_at"),
+    @Index(name = "idx_card_events_board_flow", columnList = "board_id, type, to_column_id, occurred_day"),
+    @Index(name = "idx_card_events_user_activity", columnList = "user_id, type, occurred_day")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class CardEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, updatable = false)
+    private Long cardId;
+
+    @Column(nullable = false, updatable = false)
+    private Long boardId;
+
+    @Column(updatable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)     // H2 의 네이티브 ENUM 대신 VARCHAR 로 매핑 (마이그레이션 스키마와 일치)
+    @Column(nullable = false, updatable = false, length = 16)
+    private CardEventType type;
+
+    @Column(updatable = false)
+    private Long fromColumnId;
+
+    @Column(updatable = false)
+    private Long toColumnId;
+
+    @Column(updatable = false)
+    private Long tagId;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime occurredAt;
+
+    @Column(nullable = false, updatable = false)
+    private Integer occurredDay;
+}
@@ -0,0 +1,122 @@
+package gon.til.domain.entity;
+
+import gon.til.global.exception.GlobalErrorCode;
+import gon.til.global.exception.GlobalException;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+/**
+ * 카드별 복습 일정 (SM-2)
+ * - "복습 필요" 컬럼에 들어온 카드마다 하나씩 생성됩니다.
+ * - (user_id, next_review_at) 인덱스로 사용자의 오늘 복습 목록을 범위 조회합니다.
+ * - 카드가 삭제되면 DB 의 ON DELETE CASCADE 로 함께 삭제됩니다.
+ */
+@Entity
+@Getter
+@Table(name = "card_reviews", indexes = {
+    @Index(name = "idx_card_reviews_user_due", columnList = "user_id, next_review_at"),
+    @Index(name = "idx_card_reviews_due", columnList = "next_review_at")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class CardReview {
+
+    public static final double INITIAL_EASE_FACTOR = 2.5;
+    private static final double MIN_EASE_FACTOR = 1.3;
+    private static final int PASSING_QUALITY = 3;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "card_id", nullable = false, unique = true)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Card card;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    // 연속으로 기억에 성공한 횟수
+    @Column(nullable = false)
+    private Integer repetitions;
+
+    // 다음 복습까지의 간격 (일)
+    @Column(nullable = false)
+    private Integer intervalDays;
+
+    // 난이도 계수 (클수록 간격이 빨리 늘어남)
+    @Column(nullable = false)
+    private Double easeFactor;
+
+    @Column(nullable = false)
+    private LocalDateTime nextReviewAt;
+
+    private LocalDateTime lastReviewedAt;
+
+    // 마지막으로 복습 알림을 보낸 시각 (next_review_at 보다 이르거나 비어 있으면 이번 일정 알림은 아직 안 보냄)
+    private LocalDateTime notifiedAt;
+
+    // 복습 일정 등록 (첫 복습은 하루 뒤)
+    public static CardReview enroll(Card card, User user, LocalDateTime now) {
+        return CardReview.builder()
+            .card(card)
+            .user(user)
+            .repetitions(0)
+            .intervalDays(1)
+            .easeFactor(INITIAL_EASE_FACTOR)
+            .nextReviewAt(now.plusDays(1))
+            .build();
+    }
+
+    /**
+     * 복습 결과를 반영하고 다음 복습 시각을 계산합니다. (SM-2)
+     *
+     * @param quality 0(전혀 기억 안 남) ~ 5(완벽하게 기억)
+     * @param now     복습한 시각
+     */
+    public void review(int quality, LocalDateTime now) {
+        if (quality < 0 || quality > 5) {
+            throw new GlobalException(GlobalErrorCode.INVALID_REVIEW_QUALITY);
+        }
+
+        if (quality < PASSING_QUALITY) {
+            // 기억에 실패하면 처음부터 다시
+            this.repetitions = 0;
+            this.intervalDays = 1;
+        } else {
+            this.repetitions++;
+            if (this.repetitions == 1) {
+                this.intervalDays = 1;
+            } else if (this.repetitions == 2) {
+                this.intervalDays = 6;
+            } else {
+                this.intervalDays = (int) Math.round(this.intervalDays * this.easeFactor);
+            }
+        }
+
+        int miss = 5 - quality;
+        this.easeFactor = Math.max(MIN_EASE_FACTOR, this.easeFactor + 0.1 - miss * (0.08 + miss * 0.02));
+        this.lastReviewedAt = now;
+        this.nextReviewAt = now.plusDays(this.intervalDays);
+    }
+}
@@ -7,6 +7,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -20,19 +21,29 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.SQLRestriction;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
-@Table(name = "columns")
+@Table(name = "columns", indexes = {
+    @Index(name = "idx_columns_board_position", columnList = "board_id, position"),
+    @Index(name = "idx_columns_deleted", columnList = "deleted_at")
+})
 @Entity
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
+@SQLRestriction("deleted_at IS NULL")
 public class KanbanColumn {
 
+    // 새 보드에 만드는 기본 컬럼 (position 은 1부터 이 순서대로)
+    public static final List<String> DEFAULT_TITLES = List.of("할 일", "진행 중", "완료", "복습 필요");
+    // 기본 컬럼 중 복습 일정에 등록하는 컬럼 (만들 때만 제목으로 정하고, 이후에는 reviewEnabled 로 판단)
+    public static final String DEFAULT_REVIEW_TITLE = "복습 필요";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -42,6 +53,20 @@ public class KanbanColumn {
 
     private Integer position;
 
+    // 컬럼에 둘 수 있는 최대 카드 수 (null 이면 제한 없음)
+    private Integer wipLimit;
+
+    // 컬럼에 있는 카드 수
+    // KanbanColumnRepository 의 조건부 UPDATE 로만 바꾸므로 엔티티 변경 감지로는 덮어쓰지 않습니다.
+    @Builder.Default
+    @jakarta.persistence.Column(nullable = false, updatable = false)
+    private Integer cardCount = 0;
+
+    // 이 컬럼으로 들어온 카드를 복습 일정(CardReview)에 등록할지
+    @Builder.Default
+    @jakarta.persistence.Column(nullable = false)
+    private boolean reviewEnabled = false;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "board_id")
     private Board board;
@@ -53,6 +78,9 @@ public class KanbanColumn {
     @LastModifiedDate
     private LocalDateTime updatedAt;
 
+    // 휴지통으로 옮긴 시각 (컬럼의 카드에도 같은 시각을 적음)
+    private LocalDateTime deletedAt;
+
     // Card 연관관계 (1 : N)
     @OneToMany(mappedBy = "kanbanColumn", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
@@ -67,4 +95,35 @@ public class KanbanColumn {
     public void updatePosition(Integer position) {
         if (position != null) this.position = position;
     }
+
+    // WIP 제한 수정 (null 이면 제한 해제)
+    public void updateWipLimit(Integer wipLimit) {
+        this.wipLimit = wipLimit;
+    }
+
+    // 복습 컬럼 여부 수정
+    public void updateReviewEnabled(boolean reviewEnabled) {
+        this.reviewEnabled = reviewEnabled;
+    }
+
+    // 기본 컬럼 생성 (position 은 1부터 DEFAULT_TITLES 순서대로)
+    public static KanbanColumn createDefault(Board board, String title, Integer position) {
+        return KanbanColumn.builder()
+            .board(board)
+            .title(title)
+            .position(position)
+            .reviewEnabled(DEFAULT_REVIEW_TITLE.equals(title))
+            .build();
+    }
+
+    // 휴지통으로 이동
+    public void softDelete(LocalDateTime now) {
+        this.deletedAt = now;
+    }
+
+    // 휴지통에서 복원 (보드의 마지막 위치로)
+    public void restore(Integer position) {
+        this.deletedAt = null;
+        this.position = position;
+    }
 }
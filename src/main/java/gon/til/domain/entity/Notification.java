@@ -0,0 +1,66 @@
+package gon.til.domain.entity;
+
+import gon.til.domain.common.NotificationType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * 사용자 알림 (append-only)
+ * - NotificationWriter 가 JDBC batch insert 로 넣고, 엔티티는 조회에만 씁니다.
+ * - 카드/보드는 id 값만 저장해서 카드가 지워져도 알림은 남습니다.
+ * - 읽음 처리는 read_at 만 채우고, 안 읽은 수는 notification_counters 에 따로 유지합니다.
+ */
+@Entity
+@Getter
+@Table(name = "notifications", indexes = {
+    @Index(name = "idx_notifications_user", columnList = "user_id, id")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class Notification {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, updatable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)     // H2 의 네이티브 ENUM 대신 VARCHAR 로 매핑 (마이그레이션 스키마와 일치)
+    @Column(nullable = false, updatable = false, length = 16)
+    private NotificationType type;
+
+    @Column(updatable = false)
+    private Long cardId;
+
+    @Column(updatable = false)
+    private Long boardId;
+
+    @Column(updatable = false)
+    private Long actorId;
+
+    @Column(nullable = false, updatable = false)
+    private String message;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime readAt;
+}
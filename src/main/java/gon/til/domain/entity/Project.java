@@ -17,12 +17,12 @@ import jakarta.validation.constraints.NotBlank;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Arrays;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.SQLRestriction;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -34,6 +34,7 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder
 @EntityListeners(AuditingEntityListener.class)
+@SQLRestriction("deleted_at IS NULL")
 public class Project {
 
     @Id
@@ -54,6 +55,9 @@ public class Project {
     @LastModifiedDate
     private LocalDateTime updatedAt;
 
+    // 휴지통으로 옮긴 시각 (null 이면 사용 중, TrashPurger 가 보관 기간 후 삭제)
+    private LocalDateTime deletedAt;
+
     // User와의 연관관계 (N : 1)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
@@ -78,17 +82,21 @@ public class Project {
 
     // 정적 팩토리 메서드
     public static Project createWithDefaultBoard(String title, String description, String category, User user) {
-        Project project = new Project(title, description, category, user);
-        Board board = new Board(title + " Board", project);
-
-        List<KanbanColumn> defaultColumns = Arrays.asList(
-            KanbanColumn.builder().title("To Do").position(0).board(board).build(),
-            KanbanColumn.builder().title("In Progress").position(1).board(board).build(),
-            KanbanColumn.builder().title("Done").position(2).board(board).build()
-        );
+        Project project = createWithEmptyBoard(title, description, category, user);
+        Board board = project.board;
+
+        for (int i = 0; i < KanbanColumn.DEFAULT_TITLES.size(); i++) {
+            board.getColumns().add(
+                KanbanColumn.createDefault(board, KanbanColumn.DEFAULT_TITLES.get(i), i + 1)
+            );
+        }
+        return project;
+    }
 
-        board.getColumns().addAll(defaultColumns);
-        project.board = board;
+    // 컬럼 없는 보드와 함께 생성 (템플릿에서 컬럼을 복사할 때 사용)
+    public static Project createWithEmptyBoard(String title, String description, String category, User user) {
+        Project project = new Project(title, description, category, user);
+        project.board = new Board(title + " Board", project);
         return project;
     }
 
@@ -98,4 +106,19 @@ public class Project {
         if (description != null) this.description = description;
         if (category != null) this.category = category;
     }
+
+    // 프로젝트를 만든 사용자인지 (공유받은 멤버의 역할은 ProjectAccessCache 에서 확인)
+    public boolean isOwnedBy(Long userId) {
+        return user.getId().equals(userId);
+    }
+
+    // 휴지통으로 이동
+    public void softDelete(LocalDateTime now) {
+        this.deletedAt = now;
+    }
+
+    // 휴지통에서 복원
+    public void restore() {
+        this.deletedAt = null;
+    }
 }
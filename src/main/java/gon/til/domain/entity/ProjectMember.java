@@ -0,0 +1,73 @@
+package gon.til.domain.entity;
+
+import gon.til.domain.common.ProjectRole;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+/**
+ * 프로젝트를 공유받은 사용자와 역할
+ * - 프로젝트를 만든 사용자는 여기에 없고 항상 OWNER 입니다.
+ * - 권한 검사는 이 테이블을 조인하지 않고 ProjectAccessCache 로 합니다.
+ */
+@Entity
+@Getter
+@Table(name = "project_members",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_project_members_project_user", columnNames = {"project_id", "user_id"})
+    },
+    indexes = {
+        @Index(name = "idx_project_members_user", columnList = "user_id")
+    })
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+public class ProjectMember {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "project_id", nullable = false)
+    private Project project;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)     // H2 의 네이티브 ENUM 대신 VARCHAR 로 매핑 (마이그레이션 스키마와 일치)
+    @Column(nullable = false, length = 16)
+    private ProjectRole role;
+
+    @CreatedDate
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    public void changeRole(ProjectRole role) {
+        this.role = role;
+    }
+}
@@ -1,6 +1,5 @@
 package gon.til.domain.entity;
 
-import gon.til.domain.common.TagColor;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -13,6 +12,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import jakarta.validation.constraints.NotBlank;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -27,7 +27,10 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 @Entity
 @Getter
-@Table(name = "tags")
+@Table(name = "tags", uniqueConstraints = {
+    // 태그 이름은 프로젝트 안에서만 겹치지 않으면 됨 (프로젝트별 태그 목록 조회에도 사용)
+    @UniqueConstraint(name = "uk_tags_project_name", columnNames = {"project_id", "name"})
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
@@ -39,7 +42,7 @@ public class Tag {
     private Long id;
 
     @NotBlank
-    @Column(unique = true)
+    @Column(nullable = false)
     private String name;
 
     private String color;
@@ -57,10 +60,9 @@ public class Tag {
     @OneToMany(mappedBy = "tag", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<CardTag> cardTags = new ArrayList<>();
 
-    // 프로젝트 수정
-    public void updateTag(String name, String color) {
-        TagColor tagColor = TagColor.from(color.toUpperCase());
+    // 태그 수정 (색상은 서비스에서 헥사 코드로 변환해서 전달)
+    public void updateTag(String name, String hexCode) {
         this.name = name;
-        this.color = tagColor.getHexCode();
+        this.color = hexCode;
     }
 }
@@ -0,0 +1,59 @@
+package gon.til.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+/**
+ * 프로젝트별 사용자 정의 태그 색상
+ * - 기본 TagColor 외에 프로젝트 안에서만 쓰는 색상 이름을 등록합니다.
+ * - 프로젝트가 삭제되면 DB 의 ON DELETE CASCADE 로 함께 삭제됩니다.
+ */
+@Entity
+@Getter
+@Table(name = "tag_palette_colors", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_tag_palette_colors_project_name", columnNames = {"project_id", "name"})
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+public class TagPaletteColor {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "project_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Project project;
+
+    @Column(nullable = false, length = 30)
+    private String name;
+
+    // "#RRGGBB" (대문자로 저장)
+    @Column(nullable = false, length = 7)
+    private String hexCode;
+
+    @CreatedDate
+    private LocalDateTime createdAt;
+}
@@ -52,7 +52,7 @@ public class User implements UserDetails {
     private String password;
 
     @CreatedDate
-    @Column(unique = true)
+    @Column(updatable = false)
     private LocalDateTime createdAt;
 
     @LastModifiedDate
@@ -0,0 +1,16 @@
+package gon.til.domain.event;
+
+import java.util.Set;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 카드 이력이 저장되어 보드 집계(board_daily_flows)가 바뀌었을 때 발행됩니다.
+ * 보드 통계 캐시 무효화에 사용합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class BoardFlowUpdatedEvent {
+
+    private final Set<Long> boardIds;
+}
@@ -0,0 +1,81 @@
+package gon.til.domain.event;
+
+import gon.til.domain.common.CardEventType;
+import gon.til.domain.entity.Card;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 카드 상태 변경 시 서비스에서 발행하는 도메인 이벤트입니다.
+ * 커밋 이후 CardEventRecorder 가 모아서 card_events 테이블에 일괄 저장합니다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CardActivityEvent {
+
+    private final Long cardId;
+    private final Long boardId;
+    private final Long userId;
+    private final CardEventType type;
+    private final Long fromColumnId;
+    private final Long toColumnId;
+    private final Long tagId;
+    private final LocalDateTime occurredAt;
+
+    public static CardActivityEvent created(Card card, Long userId) {
+        return of(card, userId, CardEventType.CREATED, null, card.getKanbanColumn().getId(), null);
+    }
+
+    public static CardActivityEvent moved(Card card, Long fromColumnId, Long userId) {
+        return of(card, userId, CardEventType.MOVED, fromColumnId, card.getKanbanColumn().getId(), null);
+    }
+
+    public static CardActivityEvent retitled(Card card, Long userId) {
+        return of(card, userId, CardEventType.RETITLED, null, null, null);
+    }
+
+    public static CardActivityEvent tagged(Card card, Long tagId, Long userId) {
+        return of(card, userId, CardEventType.TAGGED, null, null, tagId);
+    }
+
+    public static CardActivityEvent untagged(Card card, Long tagId, Long userId) {
+        return of(card, userId, CardEventType.UNTAGGED, null, null, tagId);
+    }
+
+    public static CardActivityEvent deleted(Card card, Long userId) {
+        return of(card, userId, CardEventType.DELETED, card.getKanbanColumn().getId(), null, null);
+    }
+
+    public static CardActivityEvent restored(Card card, Long userId) {
+        return of(card, userId, CardEventType.RESTORED, null, card.getKanbanColumn().getId(), null);
+    }
+
+    // 컬럼째 휴지통으로 옮기거나 되돌린 카드 (카드 엔티티를 읽지 않고 ID 로 만듦)
+    public static CardActivityEvent deleted(Long cardId, Long boardId, Long columnId, Long userId) {
+        return new CardActivityEvent(cardId, boardId, userId, CardEventType.DELETED, columnId, null, null, LocalDateTime.now());
+    }
+
+    public static CardActivityEvent restored(Long cardId, Long boardId, Long columnId, Long userId) {
+        return new CardActivityEvent(cardId, boardId, userId, CardEventType.RESTORED, null, columnId, null, LocalDateTime.now());
+    }
+
+    public static CardActivityEvent reviewed(Card card, Long userId) {
+        return of(card, userId, CardEventType.REVIEWED, null, null, null);
+    }
+
+    private static CardActivityEvent of(Card card, Long userId, CardEventType type,
+                                        Long fromColumnId, Long toColumnId, Long tagId) {
+        return new CardActivityEvent(
+            card.getId(),
+            card.getKanbanColumn().getBoard().getId(),
+            userId,
+            type,
+            fromColumnId,
+            toColumnId,
+            tagId,
+            LocalDateTime.now()
+        );
+    }
+}
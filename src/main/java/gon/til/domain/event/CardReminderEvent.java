@@ -0,0 +1,19 @@
+package gon.til.domain.event;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 카드의 알림 시각이 되었을 때 CardReminderScheduler 가 발행하는 이벤트입니다.
+ * NotificationWriter 가 받아서 사용자 알림함에 쌓습니다.
+ */
+@Getter
+@AllArgsConstructor
+public class CardReminderEvent {
+
+    private final Long userId;
+    private final Long cardId;
+    private final String title;
+    private final LocalDateTime dueAt;
+}
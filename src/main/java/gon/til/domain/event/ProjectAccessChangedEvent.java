@@ -0,0 +1,16 @@
+package gon.til.domain.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 프로젝트에 대한 사용자의 역할이 바뀌었을 때 발행됩니다. (멤버 추가/변경/삭제)
+ * ProjectAccessCache 무효화에 사용합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class ProjectAccessChangedEvent {
+
+    private final Long projectId;
+    private final Long userId;
+}
@@ -0,0 +1,17 @@
+package gon.til.domain.event;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 사용자의 카드 복습 시각이 되었을 때 ReviewScheduler 가 발행하는 이벤트입니다.
+ * NotificationWriter 가 받아서 사용자 알림함에 쌓습니다.
+ */
+@Getter
+@AllArgsConstructor
+public class ReviewDueEvent {
+
+    private final Long userId;
+    private final List<Long> cardIds;
+}
@@ -0,0 +1,15 @@
+package gon.til.domain.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 프로젝트의 태그 팔레트가 바뀌었을 때 발행됩니다.
+ * 팔레트 조회 캐시 무효화에 사용합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class TagPaletteChangedEvent {
+
+    private final Long projectId;
+}
@@ -0,0 +1,20 @@
+package gon.til.domain.repository;
+
+import gon.til.domain.entity.BoardDailyFlow;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface BoardDailyFlowRepository extends JpaRepository<BoardDailyFlow, Long> {
+
+    // 조회 기간 시작 전까지 컬럼별 누적 카드 수 (CFD 시작점)
+    @Query("SELECT f.columnId, SUM(f.entered - f.exited) FROM BoardDailyFlow f " +
+            "WHERE f.boardId = :boardId AND f.flowDate < :from " +
+            "GROUP BY f.columnId")
+    List<Object[]> sumNetFlowBefore(@Param("boardId") Long boardId, @Param("from") LocalDate from);
+
+    // 조회 기간 안의 일 단위 집계
+    List<BoardDailyFlow> findByBoardIdAndFlowDateBetweenOrderByFlowDate(Long boardId, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,12 @@
+package gon.til.domain.repository;
+
+import gon.til.domain.entity.BoardTemplate;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface BoardTemplateRepository extends JpaRepository<BoardTemplate, Long> {
+
+    List<BoardTemplate> findByUserIdOrderByIdAsc(Long userId);
+
+    boolean existsByUserIdAndTitle(Long userId, String title);
+}
@@ -0,0 +1,18 @@
+package gon.til.domain.repository;
+
+import gon.til.domain.entity.CardAttachment;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface CardAttachmentRepository extends JpaRepository<CardAttachment, Long> {
+
+    List<CardAttachment> findByCardIdOrderByIdAsc(Long cardId);
+
+    // 주어진 해시 중 아직 첨부 파일이 참조하는 것 (보관한 프로젝트의 첨부 파일 포함, idx_*_card_attachments_blob)
+    @Query(value = "SELECT blob_hash FROM card_attachments WHERE blob_hash IN (:hashes) " +
+        "UNION SELECT blob_hash FROM archived_card_attachments WHERE blob_hash IN (:hashes)", nativeQuery = true)
+    List<String> findReferencedHashes(@Param("hashes") Collection<String> hashes);
+}
@@ -0,0 +1,59 @@
+package gon.til.domain.repository;
+
+import gon.til.domain.common.CardEventType;
+import gon.til.domain.entity.CardEvent;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface CardEventRepository extends JpaRepository<CardEvent, Long> {
+
+    // 카드 이력 (idx_card_events_card)
+    List<CardEvent> findByCardIdOrderByOccurredAtAsc(Long cardId);
+
+    // 카드의 특정 종류 이벤트 중 가장 처음 것 (생성 시각, 작업 시작 시각)
+    Optional<CardEvent> findFirstByCardIdAndTypeOrderByOccurredAtAsc(Long cardId, CardEventType type);
+
+    // 카드가 특정 컬럼으로 마지막으로 들어간 이벤트 (완료 시각)
+    Optional<CardEvent> findFirstByCardIdAndTypeAndToColumnIdOrderByOccurredAtDesc(
+        Long cardId, CardEventType type, Long toColumnId);
+
+    // 보드에서 특정 컬럼으로 카드가 들어온 (날짜, 카드 ID) 목록 (idx_card_events_board_flow)
+    // 같은 날 다시 들어온 카드는 한 행만 나옵니다. 주 단위 중복은 호출하는 쪽에서 합칩니다.
+    @Query("SELECT DISTINCT e.occurredDay, e.cardId FROM CardEvent e " +
+            "WHERE e.boardId = :boardId AND e.type = :type AND e.toColumnId = :columnId " +
+            "AND e.occurredDay BETWEEN :fromDay AND :toDay")
+    List<Object[]> findArrivalDays(@Param("boardId") Long boardId,
+                                      @Param("type") CardEventType type,
+                                      @Param("columnId") Long columnId,
+                                      @Param("fromDay") Integer fromDay,
+                                      @Param("toDay") Integer toDay);
+
+    // 기간 안에 특정 컬럼으로 들어온 이동 이벤트 (완료된 카드 목록)
+    @Query("SELECT e FROM CardEvent e " +
+            "WHERE e.boardId = :boardId AND e.type = :type AND e.toColumnId = :columnId " +
+            "AND e.occurredDay BETWEEN :fromDay AND :toDay")
+    List<CardEvent> findArrivals(@Param("boardId") Long boardId,
+                                 @Param("type") CardEventType type,
+                                 @Param("columnId") Long columnId,
+                                 @Param("fromDay") Integer fromDay,
+                                 @Param("toDay") Integer toDay);
+
+    // 카드별 이벤트 종류별 최초 발생 시각 (idx_card_events_card)
+    @Query("SELECT e.cardId, e.type, MIN(e.occurredAt) FROM CardEvent e " +
+            "WHERE e.cardId IN :cardIds AND e.type IN :types " +
+            "GROUP BY e.cardId, e.type")
+    List<Object[]> findFirstOccurrences(@Param("cardIds") Collection<Long> cardIds,
+                                        @Param("types") Collection<CardEventType> types);
+
+    // 사용자가 특정 종류의 이벤트를 남긴 날짜 목록, 최근 날짜부터 (idx_card_events_user_activity)
+    @Query("SELECT DISTINCT e.occurredDay FROM CardEvent e " +
+            "WHERE e.userId = :userId AND e.type = :type AND e.occurredDay >= :fromDay " +
+            "ORDER BY e.occurredDay DESC")
+    List<Integer> findActiveDays(@Param("userId") Long userId,
+                                 @Param("type") CardEventType type,
+                                 @Param("fromDay") Integer fromDay);
+}
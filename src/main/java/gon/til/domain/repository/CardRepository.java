@@ -1,8 +1,14 @@
 package gon.til.domain.repository;
 
+import gon.til.domain.dto.card.CardRow;
+import gon.til.domain.dto.card.CardSummaryRow;
+import gon.til.domain.dto.card.CardTagRow;
 import gon.til.domain.entity.Card;
 import gon.til.domain.entity.KanbanColumn;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -28,13 +34,79 @@ public interface CardRepository extends JpaRepository<Card, Long> {
     @Query("UPDATE Card c SET c.position = c.position + 1 WHERE c.kanbanColumn.id = :columnId AND c.position >= :position")
     void incrementPositionsFrom(@Param("columnId") Long columnId, @Param("position") Integer position);
 
-    // 전체 카드 조회할 때 필요
-    @Query("SELECT DISTINCT c FROM Card c " +
-            "LEFT JOIN FETCH c.user " +
-            "LEFT JOIN FETCH c.kanbanColumn " +
-            "LEFT JOIN FETCH c.project " +
-            "LEFT JOIN FETCH c.cardTags ct " +
-            "WHERE c.project.id = :projectId")
-    List<Card> findAllByProjectIdWithDetails(@Param("projectId") Long projectId);
+    // 컬럼의 마지막 position (카드가 없으면 0, 휴지통에 있는 카드는 @SQLRestriction 으로 빠짐)
+    @Query("SELECT COALESCE(MAX(c.position), 0) FROM Card c WHERE c.kanbanColumn.id = :columnId")
+    int findMaxPosition(@Param("columnId") Long columnId);
 
+    // 전체 카드 조회 (본문 포함) - 엔티티 대신 필요한 컬럼만 읽음
+    @Query("SELECT new gon.til.domain.dto.card.CardRow(c.id, c.title, c.content, c.position, c.kanbanColumn.id, " +
+            "c.dueAt, c.remindAt) " +
+            "FROM Card c WHERE c.project.id = :projectId ORDER BY c.id")
+    List<CardRow> findRowsByProjectId(@Param("projectId") Long projectId);
+
+    // 카드 요약 조회 (본문 제외)
+    @Query("SELECT new gon.til.domain.dto.card.CardSummaryRow(c.id, c.title, c.excerpt, c.position, c.kanbanColumn.id, c.dueAt) " +
+            "FROM Card c WHERE c.project.id = :projectId ORDER BY c.id")
+    List<CardSummaryRow> findSummaryRowsByProjectId(@Param("projectId") Long projectId);
+
+    // 프로젝트의 카드-태그 전체 (목록 조회에서 카드 ID 로 묶어 사용)
+    @Query("SELECT new gon.til.domain.dto.card.CardTagRow(ct.card.id, t.id, t.name, t.color, t.project.id) " +
+            "FROM CardTag ct JOIN ct.tag t WHERE t.project.id = :projectId ORDER BY t.id")
+    List<CardTagRow> findTagRowsByProjectId(@Param("projectId") Long projectId);
+
+
+    // ===== 알림 (CardReminderScheduler) =====
+
+    // until 전에 보낼 알림 [cardId, userId, remindAt] (idx_cards_reminder 범위 조회, 재시작 전에 못 보낸 것 포함)
+    @Query("SELECT c.id, c.user.id, c.remindAt FROM Card c WHERE c.remindedAt IS NULL AND c.remindAt < :until")
+    List<Object[]> findPendingReminders(@Param("until") LocalDateTime until);
+
+    // 큐에서 꺼낸 알림 중 아직 보내지 않은 것만 [cardId, userId, title, dueAt]
+    @Query("SELECT c.id, c.user.id, c.title, c.dueAt FROM Card c " +
+            "WHERE c.id IN :ids AND c.remindedAt IS NULL AND c.remindAt <= :now")
+    List<Object[]> findStillPendingReminders(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    // 알림 보내기를 선점 : 아직 보내지 않은 알림에만 reminded_at 을 적고 1 을 반환
+    // 여러 인스턴스가 같은 알림을 꺼내도 조건부 UPDATE 라서 한 곳만 1 을 받습니다. (나머지는 행 잠금을 기다린 뒤 0)
+    @Modifying
+    @Query("UPDATE Card c SET c.remindedAt = :now WHERE c.id = :id AND c.remindedAt IS NULL AND c.remindAt <= :now")
+    int claimReminder(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // ===== 휴지통 (@SQLRestriction 을 거치지 않는 native 쿼리) =====
+    // 일괄 UPDATE 라서 실행 전에 flush, 실행 후에 영속성 컨텍스트를 비웁니다. (엔티티 변경은 호출 전에)
+
+    // 휴지통에 있는 카드 (복원용)
+    @Query(value = "SELECT * FROM cards WHERE id = :id AND deleted_at IS NOT NULL", nativeQuery = true)
+    Optional<Card> findDeletedById(@Param("id") Long id);
+
+    // 컬럼에 남은 카드 ID (컬럼째 휴지통으로 옮길 때 카드마다 이력을 남기기 위해)
+    @Query("SELECT c.id FROM Card c WHERE c.kanbanColumn.id = :columnId")
+    List<Long> findIdsByColumnId(@Param("columnId") Long columnId);
+
+    // 컬럼과 같은 시각에 지워진 카드 ID (컬럼을 복원할 때 함께 돌아올 카드)
+    @Query(value = "SELECT id FROM cards WHERE kanban_column_id = :columnId AND deleted_at = :deletedAt",
+            nativeQuery = true)
+    List<Long> findDeletedIdsByColumnId(@Param("columnId") Long columnId, @Param("deletedAt") LocalDateTime deletedAt);
+
+    // 컬럼/프로젝트를 지울 때 남은 카드에 같은 시각을 적음
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE cards SET deleted_at = :deletedAt WHERE kanban_column_id = :columnId AND deleted_at IS NULL",
+            nativeQuery = true)
+    int softDeleteByColumnId(@Param("columnId") Long columnId, @Param("deletedAt") LocalDateTime deletedAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE cards SET deleted_at = :deletedAt WHERE project_id = :projectId AND deleted_at IS NULL",
+            nativeQuery = true)
+    int softDeleteByProjectId(@Param("projectId") Long projectId, @Param("deletedAt") LocalDateTime deletedAt);
+
+    // 같은 시각에 함께 지워진 카드만 되돌림 (그 전에 따로 지운 카드는 휴지통에 남음)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE cards SET deleted_at = NULL WHERE kanban_column_id = :columnId AND deleted_at = :deletedAt",
+            nativeQuery = true)
+    int restoreByColumnId(@Param("columnId") Long columnId, @Param("deletedAt") LocalDateTime deletedAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE cards SET deleted_at = NULL WHERE project_id = :projectId AND deleted_at = :deletedAt",
+            nativeQuery = true)
+    int restoreByProjectId(@Param("projectId") Long projectId, @Param("deletedAt") LocalDateTime deletedAt);
 }
@@ -0,0 +1,46 @@
+package gon.til.domain.repository;
+
+import gon.til.domain.entity.CardReview;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface CardReviewRepository extends JpaRepository<CardReview, Long> {
+
+    Optional<CardReview> findByCardId(Long cardId);
+
+    boolean existsByCardId(Long cardId);
+
+    // 사용자의 복습 예정 목록 (idx_card_reviews_user_due 범위 조회)
+    @Query("SELECT r FROM CardReview r JOIN FETCH r.card " +
+            "WHERE r.user.id = :userId AND r.nextReviewAt < :until AND r.card.deletedAt IS NULL " +
+            "ORDER BY r.nextReviewAt")
+    List<CardReview> findDueByUserId(@Param("userId") Long userId, @Param("until") LocalDateTime until);
+
+    // 다음 구간에 복습 예정인 일정 [id, userId, cardId, nextReviewAt] (idx_card_reviews_due)
+    @Query("SELECT r.id, r.user.id, r.card.id, r.nextReviewAt FROM CardReview r " +
+            "WHERE r.nextReviewAt >= :from AND r.nextReviewAt < :until")
+    List<Object[]> findScheduledBetween(@Param("from") LocalDateTime from, @Param("until") LocalDateTime until);
+
+    // 기동 후 처음 채울 때 - 알림을 아직 보내지 않은 일정은 지난 것까지 모두 [id, userId, cardId, nextReviewAt]
+    @Query("SELECT r.id, r.user.id, r.card.id, r.nextReviewAt FROM CardReview r " +
+            "WHERE r.nextReviewAt < :until AND (r.notifiedAt IS NULL OR r.notifiedAt < r.nextReviewAt)")
+    List<Object[]> findUnnotifiedBefore(@Param("until") LocalDateTime until);
+
+    // 큐에서 꺼낸 일정 중 아직 복습 시각이 지났고 알림을 보내지 않은 것만 [id, userId, cardId]
+    @Query("SELECT r.id, r.user.id, r.card.id FROM CardReview r " +
+            "WHERE r.id IN :ids AND r.nextReviewAt <= :now AND r.card.deletedAt IS NULL " +
+            "AND (r.notifiedAt IS NULL OR r.notifiedAt < r.nextReviewAt)")
+    List<Object[]> findStillDue(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    // 아직 보내지 않은 알림이면 notified_at 을 적어 선점 (여러 인스턴스 중 1을 받은 곳만 발행)
+    @Modifying
+    @Query("UPDATE CardReview r SET r.notifiedAt = :now " +
+            "WHERE r.id = :id AND r.nextReviewAt <= :now AND (r.notifiedAt IS NULL OR r.notifiedAt < r.nextReviewAt)")
+    int claimNotification(@Param("id") Long id, @Param("now") LocalDateTime now);
+}
@@ -2,8 +2,13 @@ package gon.til.domain.repository;
 
 import gon.til.domain.entity.Board;
 import gon.til.domain.entity.KanbanColumn;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface KanbanColumnRepository extends JpaRepository<KanbanColumn, Long> {
 
@@ -18,4 +23,36 @@ public interface KanbanColumnRepository extends JpaRepository<KanbanColumn, Long
 
     // 전부 찾아냄
     List<KanbanColumn> findAllByIdIn(List<Long> columnId);
+
+    // WIP 제한 안에서만 카드 수를 1 증가시키는 메소드 (카드가 들어올 때)
+    // 한 번의 조건부 UPDATE 라서 동시에 들어와도 제한을 넘지 않고, 0을 반환하면 제한 초과
+    // 이미 읽어 둔 컬럼의 cardCount 가 낡지 않도록 실행 후 영속성 컨텍스트를 비웁니다. (엔티티 변경은 호출 전에, 이후엔 다시 조회)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE KanbanColumn c SET c.cardCount = c.cardCount + 1 " +
+            "WHERE c.id = :columnId AND (c.wipLimit IS NULL OR c.cardCount < c.wipLimit)")
+    int incrementCardCount(@Param("columnId") Long columnId);
+
+    // 카드 수를 1 감소시키는 메소드 (카드가 빠져나갈 때)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE KanbanColumn c SET c.cardCount = c.cardCount - 1 WHERE c.id = :columnId AND c.cardCount > 0")
+    int decrementCardCount(@Param("columnId") Long columnId);
+
+    // ===== 휴지통 (@SQLRestriction 을 거치지 않는 native 쿼리) =====
+    // 일괄 UPDATE 라서 실행 전에 flush, 실행 후에 영속성 컨텍스트를 비웁니다. (엔티티 변경은 호출 전에)
+
+    // 휴지통에 있는 컬럼 (복원용)
+    @Query(value = "SELECT * FROM columns WHERE id = :id AND deleted_at IS NOT NULL", nativeQuery = true)
+    Optional<KanbanColumn> findDeletedById(@Param("id") Long id);
+
+    // 프로젝트를 지울 때 남은 컬럼에 같은 시각을 적음
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE columns SET deleted_at = :deletedAt WHERE board_id = :boardId AND deleted_at IS NULL",
+            nativeQuery = true)
+    int softDeleteByBoardId(@Param("boardId") Long boardId, @Param("deletedAt") LocalDateTime deletedAt);
+
+    // 같은 시각에 함께 지워진 컬럼만 되돌림
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE columns SET deleted_at = NULL WHERE board_id = :boardId AND deleted_at = :deletedAt",
+            nativeQuery = true)
+    int restoreByBoardId(@Param("boardId") Long boardId, @Param("deletedAt") LocalDateTime deletedAt);
 }
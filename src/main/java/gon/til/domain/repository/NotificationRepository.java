@@ -0,0 +1,12 @@
+package gon.til.domain.repository;
+
+import gon.til.domain.entity.Notification;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface NotificationRepository extends JpaRepository<Notification, Long> {
+
+    // 커서(id)보다 오래된 알림, 최근 것부터 (idx_notifications_user)
+    List<Notification> findByUserIdAndIdLessThanOrderByIdDesc(Long userId, Long cursor, Limit limit);
+}
@@ -0,0 +1,19 @@
+package gon.til.domain.repository;
+
+import gon.til.domain.entity.ProjectMember;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ProjectMemberRepository extends JpaRepository<ProjectMember, Long> {
+
+    // 멤버 목록 (사용자 정보 함께)
+    @Query("SELECT m FROM ProjectMember m JOIN FETCH m.user WHERE m.project.id = :projectId ORDER BY m.id")
+    List<ProjectMember> findByProjectIdWithUser(@Param("projectId") Long projectId);
+
+    Optional<ProjectMember> findByProjectIdAndUserId(Long projectId, Long userId);
+
+    boolean existsByProjectIdAndUserId(Long projectId, Long userId);
+}
@@ -4,8 +4,10 @@ import gon.til.domain.entity.Project;
 import gon.til.domain.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface ProjectRepository extends JpaRepository<Project, Long> {
 
@@ -14,7 +16,18 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
     @Query("SELECT p FROM Project p WHERE p.user.id = :userId")
     List<Project> findByUserId(Long userId);
 
+    // 내가 만든 프로젝트 + 멤버로 공유받은 프로젝트 (project_members 는 idx_project_members_user 로 찾음)
+    @Query("SELECT p FROM Project p WHERE p.user.id = :userId " +
+           "OR p.id IN (SELECT m.project.id FROM ProjectMember m WHERE m.user.id = :userId) ORDER BY p.id")
+    List<Project> findAccessibleByUserId(@Param("userId") Long userId);
+
     boolean existsByTitleAndUser(String title, User user);
 
+    boolean existsByTitleAndUserId(String title, Long userId);
+
     boolean existsByTitleAndUserIdAndIdNot(String title, Long userId, Long id);
+
+    // 휴지통에 있는 프로젝트 (복원용, @SQLRestriction 을 거치지 않는 native 쿼리)
+    @Query(value = "SELECT * FROM projects WHERE id = :id AND deleted_at IS NOT NULL", nativeQuery = true)
+    Optional<Project> findDeletedById(@Param("id") Long id);
 }
@@ -0,0 +1,14 @@
+package gon.til.domain.repository;
+
+import gon.til.domain.entity.TagPaletteColor;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface TagPaletteColorRepository extends JpaRepository<TagPaletteColor, Long> {
+
+    // 프로젝트의 팔레트 색상 목록 (등록 순)
+    List<TagPaletteColor> findByProjectIdOrderByIdAsc(Long projectId);
+
+    // 색상 이름 중복 확인 (조회가 대소문자를 무시하므로 중복 검사도 대소문자 무시)
+    boolean existsByProjectIdAndNameIgnoreCase(Long projectId, String name);
+}
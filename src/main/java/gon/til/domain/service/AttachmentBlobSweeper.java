@@ -0,0 +1,90 @@
+package gon.til.domain.service;
+
+import gon.til.domain.repository.CardAttachmentRepository;
+import gon.til.global.shard.ShardExecutor;
+import gon.til.global.storage.BlobStore;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 어떤 첨부 파일도 참조하지 않는 파일 내용을 BlobStore 에서 지웁니다.
+ * - 첨부 파일 삭제, 카드 삭제(ON DELETE CASCADE), 저장 중 실패 등으로 남은 파일을 한꺼번에 정리합니다.
+ * - 파일 저장 후 행을 저장하기 전의 업로드를 지우지 않도록, 마지막 저장 후 grace 가 지난 파일만 봅니다.
+ * - 샤드마다 참조를 확인해서 어느 샤드에서도 쓰지 않을 때만 지웁니다. (BlobStore 는 샤드와 상관없이 하나)
+ * - 지우기 직전에 BlobStore 가 파일을 묘비 이름으로 옮기고 나서 수정 시각과 참조를 한 번 더 확인합니다.
+ *   확인과 삭제 사이에 같은 내용이 다시 올라와도 지워지지 않습니다.
+ */
+@Slf4j
+@Component
+public class AttachmentBlobSweeper {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final CardAttachmentRepository cardAttachmentRepository;
+    private final BlobStore blobStore;
+    private final ShardExecutor shardExecutor;
+    private final Duration grace;
+
+    public AttachmentBlobSweeper(CardAttachmentRepository cardAttachmentRepository,
+                                 BlobStore blobStore,
+                                 ShardExecutor shardExecutor,
+                                 @Value("${til.attachments.orphan-grace:1h}") Duration grace) {
+        this.cardAttachmentRepository = cardAttachmentRepository;
+        this.blobStore = blobStore;
+        this.shardExecutor = shardExecutor;
+        this.grace = grace;
+    }
+
+    @Scheduled(fixedDelayString = "${til.attachments.sweep-interval-ms:3600000}")
+    public void sweep() {
+        Instant cutoff = Instant.now().minus(grace);
+        blobStore.deleteStaleTempFiles(cutoff);
+        blobStore.restoreTombstones();
+
+        List<String> batch = new ArrayList<>(BATCH_SIZE);
+        int[] deleted = {0};
+        blobStore.forEachBlobOlderThan(cutoff, hash -> {
+            batch.add(hash);
+            if (batch.size() == BATCH_SIZE) {
+                deleted[0] += deleteUnreferenced(batch, cutoff);
+                batch.clear();
+            }
+        });
+        if (!batch.isEmpty()) {
+            deleted[0] += deleteUnreferenced(batch, cutoff);
+        }
+
+        if (deleted[0] > 0) {
+            log.info("참조 없는 첨부 파일 정리 - {}개", deleted[0]);
+        }
+    }
+
+    // ===== private 헬퍼 메서드들 =====
+
+    private int deleteUnreferenced(List<String> hashes, Instant cutoff) {
+        Set<String> referenced = findReferenced(hashes);
+
+        int deleted = 0;
+        for (String hash : hashes) {
+            if (!referenced.contains(hash)
+                && blobStore.deleteIfUnused(hash, cutoff, () -> findReferenced(List.of(hash)).isEmpty())) {
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    private Set<String> findReferenced(List<String> hashes) {
+        Set<String> referenced = new HashSet<>();
+        shardExecutor.forEachShard(() -> referenced.addAll(cardAttachmentRepository.findReferencedHashes(hashes)));
+        return referenced;
+    }
+}
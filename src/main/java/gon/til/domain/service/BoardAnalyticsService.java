@@ -0,0 +1,207 @@
+package gon.til.domain.service;
+
+import gon.til.domain.common.CardEventType;
+import gon.til.domain.common.ProjectRole;
+import gon.til.domain.dto.analytics.BoardAnalyticsResponse;
+import gon.til.domain.dto.analytics.CumulativeFlowPoint;
+import gon.til.domain.dto.analytics.DurationPercentiles;
+import gon.til.domain.entity.Board;
+import gon.til.domain.entity.BoardDailyFlow;
+import gon.til.domain.entity.CardEvent;
+import gon.til.domain.entity.KanbanColumn;
+import gon.til.domain.entity.Project;
+import gon.til.domain.event.BoardFlowUpdatedEvent;
+import gon.til.domain.repository.BoardDailyFlowRepository;
+import gon.til.domain.repository.BoardRepository;
+import gon.til.domain.repository.CardEventRepository;
+import gon.til.domain.repository.KanbanColumnRepository;
+import gon.til.global.exception.GlobalErrorCode;
+import gon.til.global.exception.GlobalException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 보드 통계 서비스
+ * - 누적 흐름도(CFD), 컬럼별 평균 WIP : board_daily_flows 일 단위 집계로 계산
+ * - 리드타임/사이클타임 백분위수 : 기간 안에 완료된 카드의 이벤트만 인덱스로 조회
+ * - 결과는 보드 단위로 캐시하고, 그 보드의 카드 이력이 저장될 때만 무효화합니다.
+ *   조회 시작 전에 보드 버전을 읽어 두고, 계산이 끝났을 때 버전이 그대로일 때만 캐시합니다.
+ *   (읽기 트랜잭션의 스냅샷은 무효화 전에 잡혔을 수 있어서, 그 사이에 무효화된 결과는 오래된 값일 수 있음)
+ * - 조회는 CardEventRecorder 의 버퍼를 비우지 않습니다. 방금 바꾼 카드는 다음 주기 저장 뒤에 통계에 반영됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class BoardAnalyticsService {
+
+    private static final int MAX_RANGE_DAYS = 366;
+    private static final int MAX_CACHED_QUERIES_PER_BOARD = 32;
+    private static final int IN_CLAUSE_CHUNK_SIZE = 1000;
+
+    private final BoardRepository boardRepository;
+    private final KanbanColumnRepository kanbanColumnRepository;
+    private final BoardDailyFlowRepository boardDailyFlowRepository;
+    private final CardEventRepository cardEventRepository;
+    private final ProjectAccessCache projectAccessCache;
+
+    // 보드 ID -> (조회 조건 -> 통계 결과)
+    private final Map<Long, Map<String, BoardAnalyticsResponse>> cache = new ConcurrentHashMap<>();
+    // 보드 ID -> 무효화 횟수
+    private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+
+    public BoardAnalyticsResponse getAnalytics(Long boardId, Long doneColumnId,
+                                               LocalDate from, LocalDate to, Long userId) {
+        long version = versions.getOrDefault(boardId, 0L);
+        Board board = getBoardById(boardId);
+        validateBoardAccess(board, userId, ProjectRole.VIEWER);
+        validateDateRange(from, to);
+
+        Map<String, BoardAnalyticsResponse> boardCache = cache.computeIfAbsent(boardId, id -> new ConcurrentHashMap<>());
+        String key = doneColumnId + ":" + from + ":" + to;
+
+        BoardAnalyticsResponse cached = boardCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        BoardAnalyticsResponse computed = compute(boardId, doneColumnId, from, to);
+        // 조회를 시작한 뒤 무효화되었으면 오래된 결과일 수 있으므로 캐시하지 않습니다.
+        if (versions.getOrDefault(boardId, 0L) == version) {
+            if (boardCache.size() >= MAX_CACHED_QUERIES_PER_BOARD) {
+                boardCache.clear();
+            }
+            boardCache.put(key, computed);
+        }
+        return computed;
+    }
+
+    /**
+     * 카드 이력이 저장되어 보드 집계가 바뀌면 해당 보드의 캐시만 비웁니다.
+     */
+    @EventListener
+    public void onBoardFlowUpdated(BoardFlowUpdatedEvent event) {
+        event.getBoardIds().forEach(boardId -> {
+            versions.merge(boardId, 1L, Long::sum);
+            cache.remove(boardId);
+        });
+    }
+
+    // ===== private 헬퍼 메서드들 =====
+
+    private BoardAnalyticsResponse compute(Long boardId, Long doneColumnId, LocalDate from, LocalDate to) {
+        List<KanbanColumn> columns = kanbanColumnRepository.findByBoardIdOrderByPosition(boardId);
+
+        // 1. 기간 시작 전까지의 누적값을 시작점으로 잡습니다. (현재 보드에 남아있는 컬럼만)
+        Map<Long, Long> running = new LinkedHashMap<>();
+        columns.forEach(column -> running.put(column.getId(), 0L));
+        for (Object[] row : boardDailyFlowRepository.sumNetFlowBefore(boardId, from)) {
+            addIfPresent(running, (Long) row[0], ((Number) row[1]).longValue());
+        }
+
+        // 2. 기간 안의 일 단위 증분을 더해가며 CFD 와 WIP 합계를 만듭니다.
+        Map<LocalDate, List<BoardDailyFlow>> flowsByDate = boardDailyFlowRepository
+                .findByBoardIdAndFlowDateBetweenOrderByFlowDate(boardId, from, to).stream()
+                .collect(Collectors.groupingBy(BoardDailyFlow::getFlowDate));
+
+        List<CumulativeFlowPoint> cumulativeFlow = new ArrayList<>();
+        Map<Long, Long> wipSum = new LinkedHashMap<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            for (BoardDailyFlow flow : flowsByDate.getOrDefault(date, Collections.emptyList())) {
+                addIfPresent(running, flow.getColumnId(), flow.getEntered() - flow.getExited());
+            }
+            cumulativeFlow.add(new CumulativeFlowPoint(date, new LinkedHashMap<>(running)));
+            running.forEach((columnId, count) -> wipSum.merge(columnId, count, Long::sum));
+        }
+
+        Map<Long, Double> averageWip = new LinkedHashMap<>();
+        int days = cumulativeFlow.size();
+        wipSum.forEach((columnId, sum) -> averageWip.put(columnId, (double) sum / days));
+
+        // 3. 기간 안에 완료 컬럼에 도착한 카드의 리드타임 / 사이클타임
+        List<Long> leadTimes = new ArrayList<>();
+        List<Long> cycleTimes = new ArrayList<>();
+        collectDurations(boardId, doneColumnId, from, to, leadTimes, cycleTimes);
+
+        return new BoardAnalyticsResponse(
+                boardId,
+                from,
+                to,
+                cumulativeFlow,
+                averageWip,
+                DurationPercentiles.of(leadTimes),
+                DurationPercentiles.of(cycleTimes)
+        );
+    }
+
+    private void collectDurations(Long boardId, Long doneColumnId, LocalDate from, LocalDate to,
+                                  List<Long> leadTimes, List<Long> cycleTimes) {
+        Map<Long, LocalDateTime> completedAt = new HashMap<>();
+        for (CardEvent arrival : cardEventRepository.findArrivals(boardId, CardEventType.MOVED, doneColumnId,
+                (int) from.toEpochDay(), (int) to.toEpochDay())) {
+            completedAt.merge(arrival.getCardId(), arrival.getOccurredAt(),
+                    (a, b) -> a.isAfter(b) ? a : b);
+        }
+        if (completedAt.isEmpty()) {
+            return;
+        }
+
+        Map<Long, LocalDateTime> createdAt = new HashMap<>();
+        Map<Long, LocalDateTime> startedAt = new HashMap<>();
+        List<Long> cardIds = new ArrayList<>(completedAt.keySet());
+        for (int i = 0; i < cardIds.size(); i += IN_CLAUSE_CHUNK_SIZE) {
+            List<Long> chunk = cardIds.subList(i, Math.min(i + IN_CLAUSE_CHUNK_SIZE, cardIds.size()));
+            for (Object[] row : cardEventRepository.findFirstOccurrences(chunk,
+                    List.of(CardEventType.CREATED, CardEventType.MOVED))) {
+                Map<Long, LocalDateTime> target = row[1] == CardEventType.CREATED ? createdAt : startedAt;
+                target.put((Long) row[0], (LocalDateTime) row[2]);
+            }
+        }
+
+        completedAt.forEach((cardId, completed) -> {
+            LocalDateTime created = createdAt.get(cardId);
+            if (created != null) {
+                leadTimes.add(Duration.between(created, completed).toMinutes());
+            }
+            LocalDateTime started = startedAt.get(cardId);
+            if (started != null) {
+                cycleTimes.add(Duration.between(started, completed).toMinutes());
+            }
+        });
+        Collections.sort(leadTimes);
+        Collections.sort(cycleTimes);
+    }
+
+    private void addIfPresent(Map<Long, Long> running, Long columnId, long delta) {
+        running.computeIfPresent(columnId, (id, count) -> count + delta);
+    }
+
+    private void validateDateRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new GlobalException(GlobalErrorCode.INVALID_DATE_RANGE);
+        }
+    }
+
+    private Board getBoardById(Long boardId) {
+        return boardRepository.findById(boardId)
+                .orElseThrow(() -> new GlobalException(GlobalErrorCode.NOT_FOUND_BOARD));
+    }
+
+    private void validateBoardAccess(Board board, Long userId, ProjectRole role) {
+        Project project = board.getProject();
+        projectAccessCache.check(project, userId, role, GlobalErrorCode.ACCESS_DENIED_BOARD);
+    }
+}
@@ -0,0 +1,129 @@
+package gon.til.domain.service;
+
+import gon.til.domain.event.CardActivityEvent;
+import gon.til.global.datasource.SqlDialect;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 카드 이벤트 묶음을 보드/컬럼/일 단위 증분으로 합쳐 board_daily_flows 에 반영합니다.
+ * CardEventRecorder 의 저장 트랜잭션 안에서 호출됩니다.
+ * - 카드 이벤트 없이 프로젝트의 카드를 한꺼번에 넣고 빼는 작업(프로젝트 휴지통/복원, 복제, 가져오기, 템플릿)은
+ *   enterProjectCards / exitProjectCards 로 그 작업의 트랜잭션 안에서 컬럼별 카드 수를 한 번에 더합니다.
+ * - 행이 없으면 만들고 있으면 더하는 업서트 한 문장으로 반영해서,
+ *   여러 인스턴스가 같은 날짜 행을 동시에 처음 만들어도 중복 키로 배치 전체가 실패하지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BoardFlowAggregator {
+
+    private static final String MYSQL_UPSERT_SQL =
+        "INSERT INTO board_daily_flows (board_id, column_id, flow_date, entered, exited) VALUES (?, ?, ?, ?, ?) " +
+        "ON DUPLICATE KEY UPDATE entered = entered + VALUES(entered), exited = exited + VALUES(exited)";
+
+    private static final String MERGE_SQL =
+        "MERGE INTO board_daily_flows f " +
+        "USING (VALUES (CAST(? AS BIGINT), CAST(? AS BIGINT), CAST(? AS DATE), CAST(? AS INT), CAST(? AS INT))) " +
+        "AS d (board_id, column_id, flow_date, entered, exited) " +
+        "ON f.board_id = d.board_id AND f.column_id = d.column_id AND f.flow_date = d.flow_date " +
+        "WHEN MATCHED THEN UPDATE SET entered = f.entered + d.entered, exited = f.exited + d.exited " +
+        "WHEN NOT MATCHED THEN INSERT (board_id, column_id, flow_date, entered, exited) " +
+        "VALUES (d.board_id, d.column_id, d.flow_date, d.entered, d.exited)";
+
+    // 프로젝트의 휴지통에 없는 카드를 (보드, 컬럼) 별로 셈
+    private static final String COUNT_PROJECT_CARDS_SQL =
+        "SELECT col.board_id, c.kanban_column_id, COUNT(*) FROM cards c " +
+        "JOIN columns col ON col.id = c.kanban_column_id " +
+        "WHERE c.project_id = ? AND c.deleted_at IS NULL " +
+        "GROUP BY col.board_id, c.kanban_column_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    // 처음 반영할 때 DB 종류를 보고 정합니다. (기동 시점에 커넥션을 열지 않도록)
+    private volatile String upsertSql;
+
+    public void apply(List<CardActivityEvent> events) {
+        // 1. 이벤트를 (보드, 컬럼, 날짜) 단위 증분으로 합칩니다.
+        Map<FlowKey, int[]> deltas = new HashMap<>();
+        for (CardActivityEvent event : events) {
+            LocalDate date = event.getOccurredAt().toLocalDate();
+            switch (event.getType()) {
+                case CREATED, RESTORED -> enter(deltas, event.getBoardId(), event.getToColumnId(), date);
+                case MOVED -> {
+                    exit(deltas, event.getBoardId(), event.getFromColumnId(), date);
+                    enter(deltas, event.getBoardId(), event.getToColumnId(), date);
+                }
+                case DELETED -> exit(deltas, event.getBoardId(), event.getFromColumnId(), date);
+                default -> { }
+            }
+        }
+
+        // 2. 합쳐진 증분을 업서트로 한 번에 반영
+        upsert(deltas);
+    }
+
+    // 프로젝트의 카드가 한꺼번에 들어왔을 때 (복원, 복제, 가져오기, 템플릿) - 반영한 뒤에 호출
+    public void enterProjectCards(Long projectId) {
+        applyProjectCards(projectId, 0);
+    }
+
+    // 프로젝트의 카드가 한꺼번에 나갈 때 (휴지통) - 카드를 지우기 전에 호출
+    public void exitProjectCards(Long projectId) {
+        applyProjectCards(projectId, 1);
+    }
+
+    // ===== private 헬퍼 메서드들 =====
+
+    // index 0 = entered, 1 = exited
+    private void applyProjectCards(Long projectId, int index) {
+        LocalDate today = LocalDate.now();
+        Map<FlowKey, int[]> deltas = new HashMap<>();
+        jdbcTemplate.query(COUNT_PROJECT_CARDS_SQL, rs -> {
+            deltas.computeIfAbsent(new FlowKey(rs.getLong(1), rs.getLong(2), today), key -> new int[2])[index] += rs.getInt(3);
+        }, projectId);
+        upsert(deltas);
+    }
+
+    private void upsert(Map<FlowKey, int[]> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<FlowKey, int[]>> rows = new ArrayList<>(deltas.entrySet());
+        jdbcTemplate.batchUpdate(upsertSql(), rows, rows.size(), (ps, row) -> {
+            ps.setLong(1, row.getKey().boardId());
+            ps.setLong(2, row.getKey().columnId());
+            ps.setDate(3, Date.valueOf(row.getKey().date()));
+            ps.setInt(4, row.getValue()[0]);
+            ps.setInt(5, row.getValue()[1]);
+        });
+    }
+
+    private String upsertSql() {
+        if (upsertSql == null) {
+            upsertSql = SqlDialect.of(jdbcTemplate.getDataSource()) == SqlDialect.MYSQL ? MYSQL_UPSERT_SQL : MERGE_SQL;
+        }
+        return upsertSql;
+    }
+
+    private void enter(Map<FlowKey, int[]> deltas, Long boardId, Long columnId, LocalDate date) {
+        if (columnId != null) {
+            deltas.computeIfAbsent(new FlowKey(boardId, columnId, date), key -> new int[2])[0]++;
+        }
+    }
+
+    private void exit(Map<FlowKey, int[]> deltas, Long boardId, Long columnId, LocalDate date) {
+        if (columnId != null) {
+            deltas.computeIfAbsent(new FlowKey(boardId, columnId, date), key -> new int[2])[1]++;
+        }
+    }
+
+    private record FlowKey(Long boardId, Long columnId, LocalDate date) {
+    }
+}
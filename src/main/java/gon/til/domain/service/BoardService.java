@@ -1,5 +1,6 @@
 package gon.til.domain.service;
 
+import gon.til.domain.common.ProjectRole;
 import gon.til.domain.dto.board.BoardCreateRequest;
 import gon.til.domain.dto.board.BoardResponse;
 import gon.til.domain.dto.board.BoardUpdateRequest;
@@ -23,6 +24,7 @@ public class BoardService {
     private final BoardRepository boardRepository;
     private final ProjectRepository projectRepository;
     private final KanbanColumnService kanbanColumnService;
+    private final ProjectAccessCache projectAccessCache;
 
     /**
      * 프로젝트에 대한 보드 생성
@@ -36,7 +38,7 @@ public class BoardService {
         // 1. 프로젝트가 있는지 확인 및 조회
         Project project = getProjectById(projectId);
 
-        validateProjectOwnership(projectId, userId);
+        validateProjectAccess(projectId, userId, ProjectRole.EDITOR);
 
         // 2. 중복 보드 확인
         validateDuplicateBoard(projectId);
@@ -60,7 +62,7 @@ public class BoardService {
 
         Board board = getBoardById(boardId);
 
-        validateBoardOwnership(board, userId);
+        validateBoardAccess(board, userId, ProjectRole.VIEWER);
 
         if (!board.getProject().getId().equals(projectId)) {
             throw new GlobalException(GlobalErrorCode.NOT_FOUND_BOARD);
@@ -92,8 +94,8 @@ public class BoardService {
         // 1. 보드 존재 확인
         Board board = getBoardById(boardId);
 
-        // 2. 보드 소유권 확인 (보드 → 프로젝트 → 사용자)
-        validateBoardOwnership(board, userId);
+        // 2. 보드 권한 확인 (보드 → 프로젝트, 편집자 이상)
+        validateBoardAccess(board, userId, ProjectRole.EDITOR);
 
         if (boardRepository.existsByTitleAndUserIdAndIdNot(request.getTitle(), userId, boardId)) {
             throw new GlobalException(GlobalErrorCode.DUPLICATE_BOARD_TITLE);
@@ -117,8 +119,8 @@ public class BoardService {
         // 1. 보드 존재 확인
         Board board = getBoardById(boardId);
 
-        // 2. 보드 소유권 확인
-        validateBoardOwnership(board, userId);
+        // 2. 보드 권한 확인 (보드를 지우면 딸린 컬럼/카드가 모두 지워지므로 소유자만)
+        validateBoardAccess(board, userId, ProjectRole.OWNER);
 
         // 3. 보드 삭제 (연관된 컬럼, 카드도 cascade로 자동 삭제)
         boardRepository.delete(board);
@@ -143,25 +145,20 @@ public class BoardService {
                 .orElseThrow(() -> new GlobalException(GlobalErrorCode.NOT_FOUND_BOARD));
     }
 
-    private void validateProjectOwnership(Long projectId, Long userId) {
+    private void validateProjectAccess(Long projectId, Long userId, ProjectRole role) {
         Project project = getProjectById(projectId);
 
-        if (!project.getUser().getId().equals(userId)) {
-            throw new GlobalException(GlobalErrorCode.ACCESS_DENIED_PROJECT);
-        }
+        projectAccessCache.check(project, userId, role, GlobalErrorCode.ACCESS_DENIED_PROJECT);
     }
 
     /**
-     * 보드 소유권 확인
-     * - 보드의 프로젝트 소유자와 userId 비교
+     * 보드 권한 확인
+     * - 보드의 프로젝트를 만든 사용자이거나, 프로젝트 멤버 역할이 role 이상인지 확인
      */
-    private void validateBoardOwnership(Board board, Long userId) {
-        // Board -> Project -> User 연관 관계
-        Long projectOwnerId = board.getProject().getUser().getId();
+    private void validateBoardAccess(Board board, Long userId, ProjectRole role) {
+        Project project = board.getProject();
 
-        if (!projectOwnerId.equals(userId)) {
-            throw new GlobalException(GlobalErrorCode.ACCESS_DENIED_BOARD);
-        }
+        projectAccessCache.check(project, userId, role, GlobalErrorCode.ACCESS_DENIED_BOARD);
     }
 
     /**
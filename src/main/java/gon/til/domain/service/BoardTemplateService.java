@@ -0,0 +1,333 @@
+package gon.til.domain.service;
+
+import gon.til.domain.common.ProjectRole;
+import gon.til.domain.common.TagColor;
+import gon.til.domain.dto.project.ProjectCreateRequest;
+import gon.til.domain.dto.project.ProjectResponse;
+import gon.til.domain.dto.template.BoardTemplateCreateRequest;
+import gon.til.domain.dto.template.BoardTemplateCreateRequest.CardItem;
+import gon.til.domain.dto.template.BoardTemplateCreateRequest.ColumnItem;
+import gon.til.domain.dto.template.BoardTemplateCreateRequest.TagItem;
+import gon.til.domain.dto.template.BoardTemplateFromProjectRequest;
+import gon.til.domain.dto.template.BoardTemplateResponse;
+import gon.til.domain.entity.BoardTemplate;
+import gon.til.domain.entity.BoardTemplateCard;
+import gon.til.domain.entity.BoardTemplateColumn;
+import gon.til.domain.entity.BoardTemplateTag;
+import gon.til.domain.entity.Project;
+import gon.til.domain.entity.User;
+import gon.til.domain.repository.BoardTemplateRepository;
+import gon.til.domain.repository.ProjectRepository;
+import gon.til.domain.repository.UserRepository;
+import gon.til.global.exception.GlobalErrorCode;
+import gon.til.global.exception.GlobalException;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 보드 템플릿 서비스
+ * - 템플릿 정의(컬럼, 태그, 시작 카드)는 사용자별로 저장합니다.
+ * - 템플릿으로 프로젝트를 만들 때는 프로젝트/보드만 엔티티로 저장하고, 컬럼/태그/카드는
+ *   테이블마다 INSERT ... SELECT 한 번으로 복사합니다. 컬럼이 50개여도 테이블당 왕복 한 번입니다.
+ * - 기존 프로젝트를 템플릿으로 저장할 때도 같은 방식으로 복사합니다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class BoardTemplateService {
+
+    private static final String INSERT_TEMPLATE_SQL =
+        "INSERT INTO board_templates (title, description, user_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?)";
+
+    // ===== 템플릿 -> 프로젝트 =====
+
+    // 시작 카드가 WIP 제한보다 많은 컬럼 수 (card_count 가 제한을 넘은 채로 만들어지지 않게)
+    private static final String COUNT_OVER_WIP_COLUMNS_SQL =
+        "SELECT COUNT(*) FROM board_template_columns tc WHERE tc.template_id = ? AND tc.wip_limit IS NOT NULL " +
+        "AND tc.wip_limit < (SELECT COUNT(*) FROM board_template_cards c " +
+        "WHERE c.template_id = tc.template_id AND c.column_position = tc.position)";
+
+    // 컬럼별 시작 카드 수를 card_count 로 같이 넣어서, 카드를 넣은 뒤 컬럼을 다시 갱신하지 않습니다.
+    private static final String CLONE_COLUMNS_SQL =
+        "INSERT INTO columns (title, position, wip_limit, card_count, board_id, created_at, updated_at) " +
+        "SELECT tc.title, tc.position, tc.wip_limit, " +
+        "(SELECT COUNT(*) FROM board_template_cards c WHERE c.template_id = tc.template_id AND c.column_position = tc.position), " +
+        "?, ?, ? FROM board_template_columns tc WHERE tc.template_id = ?";
+    private static final String CLONE_TAGS_SQL =
+        "INSERT INTO tags (name, color, project_id, created_at) " +
+        "SELECT name, color, ?, ? FROM board_template_tags WHERE template_id = ?";
+    // 방금 복사한 컬럼을 (board_id, position) 인덱스로 찾아 연결합니다.
+    private static final String CLONE_CARDS_SQL =
+        "INSERT INTO cards (title, content, excerpt, position, user_id, kanban_column_id, project_id, created_at, updated_at) " +
+        "SELECT tc.title, tc.content, tc.excerpt, tc.position, ?, col.id, ?, ?, ? " +
+        "FROM board_template_cards tc JOIN columns col ON col.board_id = ? AND col.position = tc.column_position " +
+        "WHERE tc.template_id = ?";
+
+    // ===== 프로젝트 -> 템플릿 =====
+
+    // position 에 빈 번호가 있을 수 있어서 1부터 다시 매깁니다. 휴지통에 있는 컬럼/카드는 담지 않습니다.
+    private static final String SNAPSHOT_COLUMNS_SQL =
+        "INSERT INTO board_template_columns (template_id, position, title, wip_limit) " +
+        "SELECT ?, ROW_NUMBER() OVER (ORDER BY position, id), title, wip_limit FROM columns " +
+        "WHERE board_id = ? AND deleted_at IS NULL";
+    private static final String SNAPSHOT_TAGS_SQL =
+        "INSERT INTO board_template_tags (template_id, name, color) " +
+        "SELECT ?, name, color FROM tags WHERE project_id = ?";
+    private static final String SNAPSHOT_CARDS_SQL =
+        "INSERT INTO board_template_cards (template_id, column_position, position, title, content, excerpt) " +
+        "SELECT ?, col.rn, ROW_NUMBER() OVER (PARTITION BY c.kanban_column_id ORDER BY c.position, c.id), " +
+        "c.title, c.content, c.excerpt " +
+        "FROM cards c JOIN (SELECT id, ROW_NUMBER() OVER (ORDER BY position, id) AS rn FROM columns " +
+        "WHERE board_id = ? AND deleted_at IS NULL) col ON col.id = c.kanban_column_id " +
+        "WHERE c.deleted_at IS NULL";
+
+    private final BoardTemplateRepository boardTemplateRepository;
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final MarkdownRenderer markdownRenderer;
+    private final ProjectAccessCache projectAccessCache;
+    private final BoardFlowAggregator boardFlowAggregator;
+    private final JdbcTemplate jdbcTemplate;
+
+    public BoardTemplateService(BoardTemplateRepository boardTemplateRepository,
+                                ProjectRepository projectRepository,
+                                UserRepository userRepository,
+                                MarkdownRenderer markdownRenderer,
+                                ProjectAccessCache projectAccessCache,
+                                BoardFlowAggregator boardFlowAggregator,
+                                DataSource dataSource) {
+        this.boardTemplateRepository = boardTemplateRepository;
+        this.projectRepository = projectRepository;
+        this.userRepository = userRepository;
+        this.markdownRenderer = markdownRenderer;
+        this.projectAccessCache = projectAccessCache;
+        this.boardFlowAggregator = boardFlowAggregator;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    // 템플릿 생성
+    @Transactional
+    public BoardTemplateResponse createTemplate(Long userId, BoardTemplateCreateRequest request) {
+        User user = userRepository.findById(userId)
+            .orElseThrow(() -> new GlobalException(GlobalErrorCode.NOT_FOUND_USER));
+        validateDuplicateTitle(userId, request.getTitle());
+
+        BoardTemplate template = new BoardTemplate(request.getTitle(), request.getDescription(), user);
+        template.getColumns().addAll(toColumns(request.getColumns()));
+        template.getTags().addAll(toTags(request.getTags()));
+        template.getCards().addAll(toCards(request.getCards(), request.getColumns()));
+
+        return BoardTemplateResponse.from(boardTemplateRepository.save(template));
+    }
+
+    /**
+     * 기존 프로젝트의 컬럼, 태그(선택하면 카드까지)를 템플릿으로 저장합니다.
+     * 템플릿 행도 JDBC 로 넣고 다시 조회해서, 영속성 컨텍스트에 빈 컬렉션이 남지 않게 합니다.
+     */
+    @Transactional
+    public BoardTemplateResponse createTemplateFromProject(Long projectId, Long userId, BoardTemplateFromProjectRequest request) {
+        Project project = validateProjectAccess(projectId, userId);
+        validateDuplicateTitle(userId, request.getTitle());
+        if (project.getBoard() == null) {
+            throw new GlobalException(GlobalErrorCode.NOT_FOUND_BOARD);
+        }
+        Long boardId = project.getBoard().getId();
+
+        Long templateId = insertTemplate(request.getTitle(), request.getDescription(), userId);
+        jdbcTemplate.update(SNAPSHOT_COLUMNS_SQL, templateId, boardId);
+        jdbcTemplate.update(SNAPSHOT_TAGS_SQL, templateId, projectId);
+        if (request.isIncludeCards()) {
+            jdbcTemplate.update(SNAPSHOT_CARDS_SQL, templateId, boardId);
+            validateWipLimits(templateId);
+        }
+
+        BoardTemplate template = boardTemplateRepository.findById(templateId)
+            .orElseThrow(() -> new GlobalException(GlobalErrorCode.NOT_FOUND_TEMPLATE));
+        return BoardTemplateResponse.from(template);
+    }
+
+    // 내 템플릿 목록
+    public List<BoardTemplateResponse> getTemplates(Long userId) {
+        return boardTemplateRepository.findByUserIdOrderByIdAsc(userId).stream()
+            .map(BoardTemplateResponse::from)
+            .collect(Collectors.toList());
+    }
+
+    // 템플릿 상세 조회
+    public BoardTemplateResponse getTemplate(Long templateId, Long userId) {
+        return BoardTemplateResponse.from(validateTemplateOwnership(templateId, userId));
+    }
+
+    // 템플릿 삭제 (하위 항목은 ON DELETE CASCADE, 이미 만든 프로젝트에는 영향 없음)
+    @Transactional
+    public void deleteTemplate(Long templateId, Long userId) {
+        boardTemplateRepository.delete(validateTemplateOwnership(templateId, userId));
+    }
+
+    /**
+     * 템플릿으로 프로젝트 생성
+     * 1. 프로젝트와 빈 보드를 저장 (IDENTITY 라 바로 INSERT 되어 ID 를 알 수 있음)
+     * 2. 컬럼 -> 태그 -> 카드 순서로 테이블마다 INSERT ... SELECT 한 번
+     */
+    @Transactional
+    public ProjectResponse createProjectFromTemplate(Long templateId, Long userId, ProjectCreateRequest request) {
+        BoardTemplate template = validateTemplateOwnership(templateId, userId);
+        if (projectRepository.existsByTitleAndUserId(request.getTitle(), userId)) {
+            throw new GlobalException(GlobalErrorCode.DUPLICATE_PROJECT_TITLE);
+        }
+        validateWipLimits(templateId);
+
+        Project project = projectRepository.save(Project.createWithEmptyBoard(
+            request.getTitle(),
+            request.getDescription(),
+            request.getCategory(),
+            userRepository.getReferenceById(userId)
+        ));
+        Long projectId = project.getId();
+        Long boardId = project.getBoard().getId();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        int columns = jdbcTemplate.update(CLONE_COLUMNS_SQL, boardId, now, now, templateId);
+        int tags = jdbcTemplate.update(CLONE_TAGS_SQL, projectId, now, templateId);
+        int cards = jdbcTemplate.update(CLONE_CARDS_SQL, userId, projectId, now, now, boardId, templateId);
+        boardFlowAggregator.enterProjectCards(projectId);
+
+        log.info("템플릿으로 프로젝트 생성 - templateId: {}, projectId: {}, 컬럼 {}개, 태그 {}개, 카드 {}장",
+            templateId, projectId, columns, tags, cards);
+        return ProjectResponse.from(project);
+    }
+
+    // ===== private 헬퍼 메서드들 =====
+
+    private List<BoardTemplateColumn> toColumns(List<ColumnItem> items) {
+        Set<String> titles = new HashSet<>();
+        for (ColumnItem item : items) {
+            if (!titles.add(item.getTitle())) {
+                throw new GlobalException(GlobalErrorCode.DUPLICATE_COLUMN_TITLE);
+            }
+        }
+
+        return IntStream.range(0, items.size())
+            .mapToObj(i -> new BoardTemplateColumn(i + 1, items.get(i).getTitle(), items.get(i).getWipLimit()))
+            .toList();
+    }
+
+    private List<BoardTemplateTag> toTags(List<TagItem> items) {
+        if (items == null) {
+            return List.of();
+        }
+        Set<String> names = new HashSet<>();
+        for (TagItem item : items) {
+            if (!names.add(item.getName())) {
+                throw new GlobalException(GlobalErrorCode.DUPLICATE_TAG_NAME);
+            }
+        }
+        return items.stream()
+            .map(item -> new BoardTemplateTag(item.getName(), resolveColor(item.getColor())))
+            .toList();
+    }
+
+    // 컬럼마다 적힌 순서대로 position 1, 2, 3 ... (컬럼의 WIP 제한보다 많이 담을 수 없음)
+    private List<BoardTemplateCard> toCards(List<CardItem> items, List<ColumnItem> columns) {
+        if (items == null) {
+            return List.of();
+        }
+        Map<Integer, Integer> nextPosition = new HashMap<>();
+        return items.stream()
+            .map(item -> {
+                if (item.getColumnPosition() > columns.size()) {
+                    throw new GlobalException(GlobalErrorCode.INVALID_TEMPLATE);
+                }
+                int position = nextPosition.merge(item.getColumnPosition(), 1, Integer::sum);
+                Integer wipLimit = columns.get(item.getColumnPosition() - 1).getWipLimit();
+                if (wipLimit != null && position > wipLimit) {
+                    throw new GlobalException(GlobalErrorCode.INVALID_TEMPLATE);
+                }
+                return new BoardTemplateCard(
+                    item.getColumnPosition(),
+                    position,
+                    item.getTitle(),
+                    item.getContent(),
+                    markdownRenderer.excerpt(item.getContent())
+                );
+            })
+            .toList();
+    }
+
+    // 기본 색상은 이름/별칭/헥사 코드 모두 받고, 그 밖의 색상은 헥사 코드만 받습니다.
+    private String resolveColor(String color) {
+        TagColor tagColor = TagColor.find(color);
+        if (tagColor != null) {
+            return tagColor.getHexCode();
+        }
+        if (TagColor.isHexCode(color)) {
+            return color.toUpperCase(Locale.ROOT);
+        }
+        throw new GlobalException(GlobalErrorCode.INVALID_COLOR_NAME);
+    }
+
+    private Long insertTemplate(String title, String description, Long userId) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT_TEMPLATE_SQL, Statement.RETURN_GENERATED_KEYS);
+            ps.setString(1, title);
+            ps.setString(2, description);
+            ps.setLong(3, userId);
+            ps.setTimestamp(4, now);
+            ps.setTimestamp(5, now);
+            return ps;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+
+    // WIP 제한을 줄인 뒤 만든 스냅샷처럼, 제한보다 카드가 많은 컬럼이 있으면 INVALID_TEMPLATE
+    private void validateWipLimits(Long templateId) {
+        Integer overLimit = jdbcTemplate.queryForObject(COUNT_OVER_WIP_COLUMNS_SQL, Integer.class, templateId);
+        if (overLimit != null && overLimit > 0) {
+            throw new GlobalException(GlobalErrorCode.INVALID_TEMPLATE);
+        }
+    }
+
+    private void validateDuplicateTitle(Long userId, String title) {
+        if (boardTemplateRepository.existsByUserIdAndTitle(userId, title)) {
+            throw new GlobalException(GlobalErrorCode.DUPLICATE_TEMPLATE_TITLE);
+        }
+    }
+
+    private BoardTemplate validateTemplateOwnership(Long templateId, Long userId) {
+        BoardTemplate template = boardTemplateRepository.findById(templateId)
+            .orElseThrow(() -> new GlobalException(GlobalErrorCode.NOT_FOUND_TEMPLATE));
+
+        if (!template.getUser().getId().equals(userId)) {
+            throw new GlobalException(GlobalErrorCode.ACCESS_DENIED_TEMPLATE);
+        }
+        return template;
+    }
+
+    // 템플릿은 사용자 것이라 공유받은 프로젝트도 읽을 수만 있으면 템플릿으로 저장할 수 있습니다.
+    private Project validateProjectAccess(Long projectId, Long userId) {
+        Project project = projectRepository.findById(projectId)
+            .orElseThrow(() -> new GlobalException(GlobalErrorCode.NOT_FOUND_PROJECT));
+
+        projectAccessCache.check(project, userId, ProjectRole.VIEWER, GlobalErrorCode.ACCESS_DENIED_PROJECT);
+        return project;
+    }
+}
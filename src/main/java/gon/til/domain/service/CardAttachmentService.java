@@ -0,0 +1,167 @@
+package gon.til.domain.service;
+
+import gon.til.domain.common.ProjectRole;
+import gon.til.domain.dto.attachment.AttachmentFile;
+import gon.til.domain.dto.attachment.AttachmentResponse;
+import gon.til.domain.entity.Card;
+import gon.til.domain.entity.CardAttachment;
+import gon.til.domain.entity.Project;
+import gon.til.domain.repository.CardAttachmentRepository;
+import gon.til.domain.repository.CardRepository;
+import gon.til.global.exception.GlobalErrorCode;
+import gon.til.global.exception.GlobalException;
+import gon.til.global.storage.BlobStore;
+import gon.til.global.storage.BlobStore.StoredBlob;
+import java.io.InputStream;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 카드 첨부 파일 서비스
+ * - 업로드는 요청 본문을 BlobStore 로 바로 흘려보내고, 다 받은 뒤에 짧은 트랜잭션으로 행만 저장합니다.
+ *   파일을 받는 동안에는 DB 커넥션을 잡고 있지 않습니다.
+ * - 첨부 파일을 지워도 파일 내용은 바로 지우지 않습니다. 다른 첨부 파일이 같은 내용을 쓰고 있을 수 있어서
+ *   AttachmentBlobSweeper 가 어느 샤드에서도 참조하지 않는 것을 확인한 뒤 지웁니다.
+ */
+@Service
+@Transactional(readOnly = true)
+public class CardAttachmentService {
+
+    private static final int MAX_FILE_NAME_LENGTH = 255;
+    private static final int MAX_CONTENT_TYPE_LENGTH = 100;
+
+    private final CardRepository cardRepository;
+    private final CardAttachmentRepository cardAttachmentRepository;
+    private final BlobStore blobStore;
+    private final ProjectAccessCache projectAccessCache;
+    private final TransactionTemplate transactionTemplate;
+
+    public CardAttachmentService(CardRepository cardRepository,
+                                 CardAttachmentRepository cardAttachmentRepository,
+                                 BlobStore blobStore,
+                                 ProjectAccessCache projectAccessCache,
+                                 PlatformTransactionManager transactionManager) {
+        this.cardRepository = cardRepository;
+        this.cardAttachmentRepository = cardAttachmentRepository;
+        this.blobStore = blobStore;
+        this.projectAccessCache = projectAccessCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 카드에 파일을 첨부합니다. in 은 닫지 않습니다.
+     * 권한 확인 -> 파일 저장 -> 행 저장 순서라, 권한이 없으면 본문을 읽지 않습니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public AttachmentResponse upload(Long cardId, Long userId, String fileName, String contentType, InputStream in) {
+        String name = normalizeFileName(fileName);
+        String type = normalizeContentType(contentType);
+
+        transactionTemplate.executeWithoutResult(status -> validateCardAccess(getCardById(cardId), userId, ProjectRole.EDITOR));
+
+        StoredBlob blob = blobStore.store(in);
+
+        return transactionTemplate.execute(status -> {
+            CardAttachment attachment = cardAttachmentRepository.save(CardAttachment.builder()
+                .card(getCardById(cardId))
+                .fileName(name)
+                .contentType(type)
+                .size(blob.size())
+                .blobHash(blob.hash())
+                .build());
+            return AttachmentResponse.from(attachment);
+        });
+    }
+
+    // 카드의 첨부 파일 목록
+    public List<AttachmentResponse> findAttachments(Long cardId, Long userId) {
+        validateCardAccess(getCardById(cardId), userId, ProjectRole.VIEWER);
+
+        return cardAttachmentRepository.findByCardIdOrderByIdAsc(cardId).stream()
+            .map(AttachmentResponse::from)
+            .collect(Collectors.toList());
+    }
+
+    // 다운로드할 파일 (권한 확인 후 디스크 경로를 반환)
+    public AttachmentFile getFile(Long attachmentId, Long userId) {
+        CardAttachment attachment = getAttachmentById(attachmentId);
+        validateAttachmentAccess(attachment, userId, ProjectRole.VIEWER);
+
+        return new AttachmentFile(
+            attachment.getFileName(),
+            attachment.getContentType(),
+            attachment.getSize(),
+            attachment.getBlobHash(),
+            blobStore.locate(attachment.getBlobHash())
+        );
+    }
+
+    // 첨부 파일 삭제 (파일 내용은 AttachmentBlobSweeper 가 정리)
+    @Transactional
+    public void deleteAttachment(Long attachmentId, Long userId) {
+        CardAttachment attachment = getAttachmentById(attachmentId);
+        validateAttachmentAccess(attachment, userId, ProjectRole.EDITOR);
+
+        cardAttachmentRepository.delete(attachment);
+    }
+
+    // ===== private 헬퍼 메서드들 =====
+
+    private Card getCardById(Long cardId) {
+        return cardRepository.findById(cardId)
+            .orElseThrow(() -> new GlobalException(GlobalErrorCode.NOT_FOUND_CARD));
+    }
+
+    private CardAttachment getAttachmentById(Long attachmentId) {
+        return cardAttachmentRepository.findById(attachmentId)
+            .orElseThrow(() -> new GlobalException(GlobalErrorCode.NOT_FOUND_ATTACHMENT));
+    }
+
+    // 경로가 붙어 오면 마지막 이름만 씁니다. (C:\Users\...\a.png, ../a.png 등)
+    private String normalizeFileName(String fileName) {
+        if (fileName == null) {
+            throw new GlobalException(GlobalErrorCode.INVALID_ATTACHMENT);
+        }
+        String name = fileName.substring(Math.max(fileName.lastIndexOf('/'), fileName.lastIndexOf('\\')) + 1).strip();
+        if (name.isEmpty() || name.equals(".") || name.equals("..") || name.length() > MAX_FILE_NAME_LENGTH) {
+            throw new GlobalException(GlobalErrorCode.INVALID_ATTACHMENT);
+        }
+        return name;
+    }
+
+    private String normalizeContentType(String contentType) {
+        if (contentType == null || contentType.isBlank()) {
+            return MediaType.APPLICATION_OCTET_STREAM_VALUE;
+        }
+        try {
+            String type = MediaType.parseMediaType(contentType).toString();
+            if (type.length() > MAX_CONTENT_TYPE_LENGTH) {
+                throw new GlobalException(GlobalErrorCode.INVALID_ATTACHMENT);
+            }
+            return type;
+        } catch (InvalidMediaTypeException e) {
+            throw new GlobalException(GlobalErrorCode.INVALID_ATTACHMENT);
+        }
+    }
+
+    /**
+     * 사용자가 카드의 프로젝트에서 role 이상의 권한이 있는지 확인합니다.
+     * 카드 -> 컬럼 -> 보드 -> 프로젝트 순으로 찾아서, 소유자가 아니면 ProjectAccessCache 에서 역할을 봅니다.
+     */
+    private void validateCardAccess(Card card, Long userId, ProjectRole role) {
+        Project project = card.getKanbanColumn().getBoard().getProject();
+        projectAccessCache.check(project, userId, role, GlobalErrorCode.ACCESS_DENIED_CARD);
+    }
+
+    private void validateAttachmentAccess(CardAttachment attachment, Long userId, ProjectRole role) {
+        Project project = attachment.getCard().getKanbanColumn().getBoard().getProject();
+        projectAccessCache.check(project, userId, role, GlobalErrorCode.ACCESS_DENIED_ATTACHMENT);
+    }
+}
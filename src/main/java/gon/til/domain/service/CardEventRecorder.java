@@ -0,0 +1,184 @@
+package gon.til.domain.service;
+
+import gon.til.domain.event.BoardFlowUpdatedEvent;
+import gon.til.domain.event.CardActivityEvent;
+import gon.til.global.shard.ShardContext;
+import gon.til.global.shard.ShardMap;
+import jakarta.annotation.PreDestroy;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 카드 활동 이벤트를 모아서 card_events 테이블에 일괄 저장합니다.
+ * - 요청 트랜잭션이 커밋된 이벤트만 버퍼에 쌓습니다. (롤백된 변경은 기록하지 않음)
+ * - 주기적으로 JDBC batch insert 로 저장해서 요청마다 INSERT 가 발생하지 않도록 합니다.
+ * - 같은 트랜잭션에서 보드 일 단위 집계(board_daily_flows)도 증분 갱신합니다.
+ * - 샤딩을 켜면 이벤트가 발생한 샤드별로 버퍼를 나누고, 저장도 그 샤드에서 합니다.
+ * - 저장에 실패한 배치는 버리지 않고 샤드별 재시도 큐에 두었다가 다음 flush 에서 먼저 다시 저장합니다.
+ *   (프로세스가 강제 종료되면 마지막 flush 이후 버퍼에 있던 이벤트는 남지 않음)
+ */
+@Slf4j
+@Component
+public class CardEventRecorder {
+
+    private static final int BATCH_SIZE = 500;
+    // 샤드마다 재시도를 기다릴 수 있는 배치 수 (넘으면 가장 오래된 배치부터 버림)
+    private static final int MAX_PENDING_BATCHES = 100;
+
+    private static final String INSERT_SQL =
+        "INSERT INTO card_events (card_id, board_id, user_id, type, from_column_id, to_column_id, tag_id, occurred_at, occurred_day) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BoardFlowAggregator boardFlowAggregator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<Integer, Queue<CardActivityEvent>> buffers = new ConcurrentHashMap<>();
+    // flush() 가 synchronized 라서 재시도 큐는 한 스레드에서만 다룹니다.
+    private final Map<Integer, Deque<List<CardActivityEvent>>> pendingBatches = new HashMap<>();
+
+    public CardEventRecorder(JdbcTemplate jdbcTemplate,
+                             BoardFlowAggregator boardFlowAggregator,
+                             ApplicationEventPublisher eventPublisher,
+                             PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.boardFlowAggregator = boardFlowAggregator;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // 조회 트랜잭션(readOnly) 안에서 호출되어도 별도 쓰기 트랜잭션으로 저장
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCardActivity(CardActivityEvent event) {
+        Integer shardId = ShardContext.current();
+        buffers.computeIfAbsent(shardId != null ? shardId : ShardMap.DEFAULT_SHARD, id -> new ConcurrentLinkedQueue<>())
+            .offer(event);
+    }
+
+    /**
+     * 버퍼에 쌓인 이벤트를 BATCH_SIZE 단위로 저장합니다.
+     * 스케줄과 샤드 재배치 전에만 호출합니다. 조회는 기다리지 않으므로 방금 커밋된 변경은 다음 flush 뒤에 보입니다.
+     * 요청 스레드에서 호출하면 그 요청의 샤드 버퍼만, 그 밖에서는 모든 샤드의 버퍼를 저장합니다.
+     */
+    @Scheduled(fixedDelayString = "${til.card-events.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        Integer current = ShardContext.current();
+        if (current != null) {
+            flush(current);
+            return;
+        }
+        Set<Integer> shardIds = new HashSet<>(buffers.keySet());
+        shardIds.addAll(pendingBatches.keySet());
+        for (Integer shardId : shardIds) {
+            ShardContext.run(shardId, () -> flush(shardId));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private void flush(int shardId) {
+        // 실패했던 배치부터 순서대로 - 또 실패하면 DB 가 아직 복구되지 않은 것이므로 이번 flush 는 멈춤
+        Deque<List<CardActivityEvent>> pending = pendingBatches.get(shardId);
+        while (pending != null && !pending.isEmpty()) {
+            if (!write(pending.peekFirst())) {
+                return;
+            }
+            pending.pollFirst();
+        }
+
+        Queue<CardActivityEvent> buffer = buffers.get(shardId);
+        if (buffer == null) {
+            return;
+        }
+
+        List<CardActivityEvent> batch = new ArrayList<>(BATCH_SIZE);
+        CardActivityEvent event;
+        while ((event = buffer.poll()) != null) {
+            batch.add(event);
+            if (batch.size() == BATCH_SIZE) {
+                if (!write(batch)) {
+                    retryLater(shardId, batch);
+                    return;
+                }
+                batch = new ArrayList<>(BATCH_SIZE);
+            }
+        }
+        if (!batch.isEmpty() && !write(batch)) {
+            retryLater(shardId, batch);
+        }
+    }
+
+    private void retryLater(int shardId, List<CardActivityEvent> batch) {
+        Deque<List<CardActivityEvent>> pending = pendingBatches.computeIfAbsent(shardId, id -> new ArrayDeque<>());
+        pending.addLast(batch);
+        if (pending.size() > MAX_PENDING_BATCHES) {
+            List<CardActivityEvent> dropped = pending.pollFirst();
+            log.error("카드 이력 재시도 대기가 {}배치를 넘어 가장 오래된 {}건을 버림 (shard {})",
+                MAX_PENDING_BATCHES, dropped.size(), shardId);
+        }
+    }
+
+    private boolean write(List<CardActivityEvent> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, e) -> {
+                    ps.setLong(1, e.getCardId());
+                    ps.setLong(2, e.getBoardId());
+                    setNullableLong(ps, 3, e.getUserId());
+                    ps.setString(4, e.getType().name());
+                    setNullableLong(ps, 5, e.getFromColumnId());
+                    setNullableLong(ps, 6, e.getToColumnId());
+                    setNullableLong(ps, 7, e.getTagId());
+                    ps.setTimestamp(8, Timestamp.valueOf(e.getOccurredAt()));
+                    ps.setInt(9, (int) e.getOccurredAt().toLocalDate().toEpochDay());
+                });
+                boardFlowAggregator.apply(batch);
+            });
+        } catch (RuntimeException ex) {
+            log.warn("카드 이력 {}건 저장 실패 - 다음 flush 에서 다시 저장", batch.size(), ex);
+            return false;
+        }
+
+        Set<Long> boardIds = batch.stream()
+            .map(CardActivityEvent::getBoardId)
+            .collect(Collectors.toSet());
+        eventPublisher.publishEvent(new BoardFlowUpdatedEvent(boardIds));
+        return true;
+    }
+
+    private static void setNullableLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.BIGINT);
+        } else {
+            ps.setLong(index, value);
+        }
+    }
+}
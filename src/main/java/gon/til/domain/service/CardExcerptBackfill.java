@@ -0,0 +1,63 @@
+package gon.til.domain.service;
+
+import gon.til.global.shard.ShardExecutor;
+import java.util.List;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요약(excerpt) 컬럼이 생기기 전에 만들어진 카드의 요약을 기동 후 채웁니다.
+ * - excerpt 가 NULL 인 카드만 배치 크기만큼 읽어 채우므로, 다 채운 뒤에는 조회 한 번으로 끝납니다.
+ * - 본문이 없는 카드는 빈 문자열로 채워서 다음 기동 때 다시 읽지 않습니다.
+ */
+@Slf4j
+@Component
+public class CardExcerptBackfill {
+
+    private static final String SELECT_SQL =
+        "SELECT id, content FROM cards WHERE excerpt IS NULL ORDER BY id LIMIT ?";
+    private static final String UPDATE_SQL =
+        "UPDATE cards SET excerpt = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MarkdownRenderer markdownRenderer;
+    private final ShardExecutor shardExecutor;
+    private final int batchSize;
+
+    public CardExcerptBackfill(DataSource dataSource,
+                               MarkdownRenderer markdownRenderer,
+                               ShardExecutor shardExecutor,
+                               @Value("${til.markdown.backfill-batch-size:500}") int batchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.markdownRenderer = markdownRenderer;
+        this.shardExecutor = shardExecutor;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        shardExecutor.forEachShard(shardId -> {
+            int filled = 0;
+            int read;
+            do {
+                List<Object[]> updates = jdbcTemplate.query(SELECT_SQL,
+                    (rs, rowNum) -> new Object[]{markdownRenderer.excerpt(rs.getString("content")), rs.getLong("id")},
+                    batchSize);
+                read = updates.size();
+                if (read > 0) {
+                    jdbcTemplate.batchUpdate(UPDATE_SQL, updates);
+                    filled += read;
+                }
+            } while (read == batchSize);
+
+            if (filled > 0) {
+                log.info("카드 요약 채움 - 샤드 {}, {}건", shardId, filled);
+            }
+        });
+    }
+}
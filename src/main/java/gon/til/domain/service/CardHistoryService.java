@@ -0,0 +1,142 @@
+package gon.til.domain.service;
+
+import gon.til.domain.common.CardEventType;
+import gon.til.domain.common.ProjectRole;
+import gon.til.domain.dto.cardevent.CardCycleTimeResponse;
+import gon.til.domain.dto.cardevent.CardEventResponse;
+import gon.til.domain.dto.cardevent.WeeklyThroughputResponse;
+import gon.til.domain.entity.Board;
+import gon.til.domain.entity.Card;
+import gon.til.domain.entity.CardEvent;
+import gon.til.domain.entity.Project;
+import gon.til.domain.repository.BoardRepository;
+import gon.til.domain.repository.CardEventRepository;
+import gon.til.domain.repository.CardRepository;
+import gon.til.global.exception.GlobalErrorCode;
+import gon.til.global.exception.GlobalException;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 카드 활동 이력 조회 서비스
+ * - 카드별 이력, 리드타임/사이클타임, 보드의 주간 처리량을 제공합니다.
+ * - 모든 조회는 card_events 인덱스를 타며 전체 이벤트를 스캔하지 않습니다.
+ * - 조회는 CardEventRecorder 의 버퍼를 비우지 않습니다. (이력은 주기적으로 저장되므로 방금 한 변경은 다음 저장 뒤에 보임)
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CardHistoryService {
+
+    private final CardEventRepository cardEventRepository;
+    private final CardRepository cardRepository;
+    private final BoardRepository boardRepository;
+    private final ProjectAccessCache projectAccessCache;
+
+    // 카드 이력 조회
+    public List<CardEventResponse> getCardHistory(Long cardId, Long userId) {
+        Card card = getCardById(cardId);
+        validateCardAccess(card, userId, ProjectRole.VIEWER);
+
+        return cardEventRepository.findByCardIdOrderByOccurredAtAsc(cardId).stream()
+                .map(CardEventResponse::from)
+                .collect(Collectors.toList());
+    }
+
+    // 카드 리드타임 / 사이클타임 조회
+    public CardCycleTimeResponse getCycleTime(Long cardId, Long doneColumnId, Long userId) {
+        Card card = getCardById(cardId);
+        validateCardAccess(card, userId, ProjectRole.VIEWER);
+
+        LocalDateTime createdAt = cardEventRepository
+                .findFirstByCardIdAndTypeOrderByOccurredAtAsc(cardId, CardEventType.CREATED)
+                .map(CardEvent::getOccurredAt)
+                .orElse(card.getCreatedAt());
+        LocalDateTime startedAt = cardEventRepository
+                .findFirstByCardIdAndTypeOrderByOccurredAtAsc(cardId, CardEventType.MOVED)
+                .map(CardEvent::getOccurredAt)
+                .orElse(null);
+        LocalDateTime completedAt = cardEventRepository
+                .findFirstByCardIdAndTypeAndToColumnIdOrderByOccurredAtDesc(cardId, CardEventType.MOVED, doneColumnId)
+                .map(CardEvent::getOccurredAt)
+                .orElse(null);
+
+        return new CardCycleTimeResponse(
+                cardId,
+                createdAt,
+                startedAt,
+                completedAt,
+                minutesBetween(createdAt, completedAt),
+                minutesBetween(startedAt, completedAt)
+        );
+    }
+
+    // 보드의 주간 처리량 (완료 컬럼에 도착한 카드 수)
+    public List<WeeklyThroughputResponse> getWeeklyThroughput(Long boardId, Long doneColumnId,
+                                                              LocalDate from, LocalDate to, Long userId) {
+        Board board = getBoardById(boardId);
+        validateBoardAccess(board, userId, ProjectRole.VIEWER);
+
+        if (from.isAfter(to)) {
+            throw new GlobalException(GlobalErrorCode.INVALID_DATE_RANGE);
+        }
+
+        List<Object[]> arrivals = cardEventRepository.findArrivalDays(
+                boardId, CardEventType.MOVED, doneColumnId,
+                (int) from.toEpochDay(), (int) to.toEpochDay());
+
+        // 주(월요일 시작)마다 카드 ID 로 중복을 없앰 - 한 주에 완료 컬럼에 두 번 들어온 카드도 한 번만 셈
+        Map<LocalDate, Set<Long>> weekly = new TreeMap<>();
+        for (LocalDate weekStart = from.with(DayOfWeek.MONDAY); !weekStart.isAfter(to); weekStart = weekStart.plusWeeks(1)) {
+            weekly.put(weekStart, new HashSet<>());
+        }
+        for (Object[] row : arrivals) {
+            LocalDate day = LocalDate.ofEpochDay(((Number) row[0]).longValue());
+            weekly.get(day.with(DayOfWeek.MONDAY)).add((Long) row[1]);
+        }
+
+        return weekly.entrySet().stream()
+                .map(entry -> new WeeklyThroughputResponse(entry.getKey(), (long) entry.getValue().size()))
+                .collect(Collectors.toList());
+    }
+
+    // ===== private 헬퍼 메서드들 =====
+
+    private Card getCardById(Long cardId) {
+        return cardRepository.findById(cardId)
+                .orElseThrow(() -> new GlobalException(GlobalErrorCode.NOT_FOUND_CARD));
+    }
+
+    private Board getBoardById(Long boardId) {
+        return boardRepository.findById(boardId)
+                .orElseThrow(() -> new GlobalException(GlobalErrorCode.NOT_FOUND_BOARD));
+    }
+
+    private void validateCardAccess(Card card, Long userId, ProjectRole role) {
+        Project project = card.getKanbanColumn().getBoard().getProject();
+        projectAccessCache.check(project, userId, role, GlobalErrorCode.ACCESS_DENIED_CARD);
+    }
+
+    private void validateBoardAccess(Board board, Long userId, ProjectRole role) {
+        Project project = board.getProject();
+        projectAccessCache.check(project, userId, role, GlobalErrorCode.ACCESS_DENIED_BOARD);
+    }
+
+    private Long minutesBetween(LocalDateTime start, LocalDateTime end) {
+        if (start == null || end == null) {
+            return null;
+        }
+        return Duration.between(start, end).toMinutes();
+    }
+}
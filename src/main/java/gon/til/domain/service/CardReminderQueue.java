@@ -0,0 +1,67 @@
+package gon.til.domain.service;
+
+import gon.til.global.timer.HierarchicalTimerWheel;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/**
+ * 곧 보낼 카드 알림만 들고 있는 메모리 큐 (HierarchicalTimerWheel : tick 1초, 60칸, 3단)
+ * - 알림 시각에 1초 단위로 꺼내고, 예약/취소는 알림 수와 관계없이 O(1) 입니다.
+ * - loadedUntil 이전 알림만 보관합니다. 그 이후 알림은 CardReminderScheduler 가 구간을 넓힐 때 DB 에서 읽어옵니다.
+ * - 처음 읽어오기 전(loadedUntil == null)에는 offer 를 무시합니다. 첫 refill 이 못 보낸 알림까지 모두 읽어옵니다.
+ */
+@Component
+public class CardReminderQueue {
+
+    private final HierarchicalTimerWheel<Long, DueReminder> wheel =
+        new HierarchicalTimerWheel<>(1000, 60, 3, epochMillis(LocalDateTime.now()));
+
+    private LocalDateTime loadedUntil;
+
+    public record DueReminder(Long cardId, Long userId) {
+    }
+
+    /**
+     * 알림을 큐에 넣거나 새 시각으로 옮깁니다.
+     * remindAt 이 null 이거나 보관 구간 밖이면 큐에서 빼기만 합니다.
+     */
+    public synchronized void offer(Long cardId, Long userId, LocalDateTime remindAt) {
+        if (remindAt == null || loadedUntil == null || !remindAt.isBefore(loadedUntil)) {
+            wheel.cancel(cardId);
+            return;
+        }
+        wheel.schedule(cardId, epochMillis(remindAt), new DueReminder(cardId, userId));
+    }
+
+    public void cancel(Long cardId) {
+        wheel.cancel(cardId);
+    }
+
+    /**
+     * 시각이 된 알림을 모두 꺼냅니다.
+     */
+    public List<DueReminder> drainDue(LocalDateTime now) {
+        return wheel.advance(epochMillis(now));
+    }
+
+    // 보관 구간 끝을 늘립니다. 늘어난 구간의 알림은 호출한 쪽에서 offer 로 채웁니다.
+    public synchronized void extendUntil(LocalDateTime until) {
+        if (loadedUntil == null || until.isAfter(loadedUntil)) {
+            loadedUntil = until;
+        }
+    }
+
+    public synchronized LocalDateTime getLoadedUntil() {
+        return loadedUntil;
+    }
+
+    public int size() {
+        return wheel.size();
+    }
+
+    private static long epochMillis(LocalDateTime time) {
+        return time.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}
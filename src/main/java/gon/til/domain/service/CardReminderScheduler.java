@@ -0,0 +1,91 @@
+package gon.til.domain.service;
+
+import gon.til.domain.event.CardReminderEvent;
+import gon.til.domain.repository.CardRepository;
+import gon.til.domain.service.CardReminderQueue.DueReminder;
+import gon.til.global.shard.ShardExecutor;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 카드 알림 스케줄러
+ * - refill : 다음 한 시간 안에 보낼 알림을 idx_cards_reminder 로 읽어 CardReminderQueue 에 채웁니다.
+ *            아직 보내지 않은 지난 알림도 함께 읽으므로, 서버가 내려가 있던 동안의 알림은 다시 띄운 뒤 바로 나갑니다.
+ * - drain  : 1초마다 타이머 휠을 넘겨 시각이 된 알림을 꺼내고, 그 사이 바뀌거나 지워지지 않은 것만
+ *            카드마다 조건부 UPDATE 로 reminded_at 을 적어 선점합니다. 여러 인스턴스가 같은 알림을 꺼내도
+ *            선점에 성공한 곳만 CardReminderEvent 를 발행합니다.
+ *            발행은 선점 트랜잭션이 커밋된 뒤 트랜잭션 밖에서 하므로, NotificationWriter 의
+ *            @TransactionalEventListener 는 fallbackExecution 으로 바로 실행됩니다.
+ * - 샤딩을 켜면 두 작업 모두 샤드마다 실행합니다.
+ */
+@Slf4j
+@Component
+public class CardReminderScheduler {
+
+    private static final Duration HORIZON = Duration.ofHours(1);
+
+    private final CardRepository cardRepository;
+    private final CardReminderQueue cardReminderQueue;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ShardExecutor shardExecutor;
+    private final TransactionTemplate transactionTemplate;
+
+    public CardReminderScheduler(CardRepository cardRepository,
+                                 CardReminderQueue cardReminderQueue,
+                                 ApplicationEventPublisher eventPublisher,
+                                 ShardExecutor shardExecutor,
+                                 PlatformTransactionManager transactionManager) {
+        this.cardRepository = cardRepository;
+        this.cardReminderQueue = cardReminderQueue;
+        this.eventPublisher = eventPublisher;
+        this.shardExecutor = shardExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${til.reminders.refill-interval-ms:600000}")
+    public void refill() {
+        LocalDateTime until = LocalDateTime.now().plus(HORIZON);
+
+        // 구간을 먼저 넓혀서, 읽는 동안 새로 잡힌 알림도 offer 로 들어오게 합니다.
+        cardReminderQueue.extendUntil(until);
+        shardExecutor.forEachShard(() -> {
+            for (Object[] row : cardRepository.findPendingReminders(until)) {
+                cardReminderQueue.offer((Long) row[0], (Long) row[1], (LocalDateTime) row[2]);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${til.reminders.drain-interval-ms:1000}")
+    public void drain() {
+        LocalDateTime now = LocalDateTime.now();
+        List<DueReminder> drained = cardReminderQueue.drainDue(now);
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        // 큐에 들어간 뒤 알림 시각이 바뀌었거나 카드가 지워진 것은 제외합니다. (다른 샤드의 카드는 조회되지 않음)
+        List<Long> cardIds = drained.stream().map(DueReminder::cardId).toList();
+        shardExecutor.forEachShard(() -> {
+            List<Object[]> sent = transactionTemplate.execute(status ->
+                cardRepository.findStillPendingReminders(cardIds, now).stream()
+                    .filter(row -> cardRepository.claimReminder((Long) row[0], now) == 1)
+                    .toList());
+            if (sent == null || sent.isEmpty()) {
+                return;
+            }
+
+            for (Object[] row : sent) {
+                eventPublisher.publishEvent(
+                    new CardReminderEvent((Long) row[1], (Long) row[0], (String) row[2], (LocalDateTime) row[3]));
+            }
+            log.debug("카드 알림 발행 - {}건", sent.size());
+        });
+    }
+}
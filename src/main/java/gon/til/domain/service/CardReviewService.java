@@ -0,0 +1,138 @@
+package gon.til.domain.service;
+
+import gon.til.domain.common.CardEventType;
+import gon.til.domain.dto.review.CardReviewResponse;
+import gon.til.domain.dto.review.ReviewStreakResponse;
+import gon.til.domain.dto.review.ReviewSubmitRequest;
+import gon.til.domain.entity.Card;
+import gon.til.domain.entity.CardReview;
+import gon.til.domain.entity.KanbanColumn;
+import gon.til.domain.entity.User;
+import gon.til.domain.event.CardActivityEvent;
+import gon.til.domain.repository.CardEventRepository;
+import gon.til.domain.repository.CardRepository;
+import gon.til.domain.repository.CardReviewRepository;
+import gon.til.domain.repository.KanbanColumnRepository;
+import gon.til.domain.repository.UserRepository;
+import gon.til.global.exception.GlobalErrorCode;
+import gon.til.global.exception.GlobalException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 카드 복습(간격 반복) 서비스
+ * - 복습 컬럼(reviewEnabled)으로 들어온 카드를 카드 작성자의 복습 일정에 자동 등록합니다.
+ * - 오늘 복습할 카드는 (user_id, next_review_at) 인덱스 범위 조회로 가져옵니다.
+ * - 복습 기록은 카드 이력(REVIEWED)으로 남기고, 연속 학습일(스트릭)은 그 이력으로 계산합니다.
+ *   이력은 CardEventRecorder 가 주기적으로 저장하므로, 방금 한 복습은 다음 저장 뒤에 스트릭에 반영됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CardReviewService {
+
+    private static final int MAX_STREAK_DAYS = 365;
+
+    private final CardReviewRepository cardReviewRepository;
+    private final CardRepository cardRepository;
+    private final UserRepository userRepository;
+    private final KanbanColumnRepository kanbanColumnRepository;
+    private final CardEventRepository cardEventRepository;
+    private final ReviewDueQueue reviewDueQueue;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 오늘 안에 복습할 카드 목록 (이미 지난 것 포함)
+    public List<CardReviewResponse> getDueReviews(Long userId) {
+        LocalDateTime endOfToday = LocalDate.now().plusDays(1).atStartOfDay();
+
+        return cardReviewRepository.findDueByUserId(userId, endOfToday).stream()
+            .map(CardReviewResponse::from)
+            .collect(Collectors.toList());
+    }
+
+    // 복습 결과 반영
+    @Transactional
+    public CardReviewResponse submitReview(Long cardId, Long userId, ReviewSubmitRequest request) {
+        CardReview cardReview = getReviewByCardId(cardId);
+        validateReviewOwnership(cardReview, userId);
+
+        cardReview.review(request.getQuality(), LocalDateTime.now());
+
+        reviewDueQueue.offer(cardReview.getId(), userId, cardId, cardReview.getNextReviewAt());
+        eventPublisher.publishEvent(CardActivityEvent.reviewed(cardReview.getCard(), userId));
+
+        return CardReviewResponse.from(cardReview);
+    }
+
+    // 연속 학습일 조회 (최근 1년까지)
+    public ReviewStreakResponse getStreak(Long userId) {
+        long today = LocalDate.now().toEpochDay();
+        List<Integer> activeDays = cardEventRepository.findActiveDays(
+            userId, CardEventType.REVIEWED, (int) (today - MAX_STREAK_DAYS));
+
+        boolean reviewedToday = !activeDays.isEmpty() && activeDays.get(0) == today;
+
+        // 오늘 아직 복습하지 않았다면 어제까지 이어진 날을 셉니다.
+        long expected = reviewedToday ? today : today - 1;
+        int streak = 0;
+        for (Integer day : activeDays) {
+            if (day == expected) {
+                streak++;
+                expected--;
+            } else if (day < expected) {
+                break;
+            }
+        }
+
+        return new ReviewStreakResponse(streak, reviewedToday);
+    }
+
+    /**
+     * 카드가 복습 컬럼에 생성되거나 이동해 오면 복습 일정에 등록합니다.
+     * 일정은 카드를 옮긴 사용자가 아니라 카드 작성자의 것입니다. (공유 프로젝트에서 편집자가 옮겨도 작성자가 복습)
+     * 카드 서비스의 트랜잭션 안에서 동기로 실행됩니다.
+     */
+    @EventListener
+    @Transactional
+    public void onCardActivity(CardActivityEvent event) {
+        if (event.getType() != CardEventType.CREATED && event.getType() != CardEventType.MOVED) {
+            return;
+        }
+
+        boolean reviewColumn = kanbanColumnRepository.findById(event.getToColumnId())
+            .map(KanbanColumn::isReviewEnabled)
+            .orElse(false);
+        if (!reviewColumn || cardReviewRepository.existsByCardId(event.getCardId())) {
+            return;
+        }
+
+        Card card = cardRepository.findById(event.getCardId()).orElse(null);
+        if (card == null) {
+            return;
+        }
+        User owner = card.getUser() != null ? card.getUser() : userRepository.getReferenceById(event.getUserId());
+
+        CardReview cardReview = cardReviewRepository.save(CardReview.enroll(card, owner, event.getOccurredAt()));
+        reviewDueQueue.offer(cardReview.getId(), owner.getId(), card.getId(), cardReview.getNextReviewAt());
+    }
+
+    // ===== private 헬퍼 메서드들 =====
+
+    private CardReview getReviewByCardId(Long cardId) {
+        return cardReviewRepository.findByCardId(cardId)
+            .orElseThrow(() -> new GlobalException(GlobalErrorCode.NOT_FOUND_REVIEW));
+    }
+
+    private void validateReviewOwnership(CardReview cardReview, Long userId) {
+        if (!cardReview.getUser().getId().equals(userId)) {
+            throw new GlobalException(GlobalErrorCode.ACCESS_DENIED_REVIEW);
+        }
+    }
+}
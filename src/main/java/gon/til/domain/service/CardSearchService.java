@@ -0,0 +1,272 @@
+package gon.til.domain.service;
+
+import gon.til.domain.common.CardSort;
+import gon.til.domain.common.CardTagMatch;
+import gon.til.domain.common.ProjectRole;
+import gon.til.domain.dto.card.CardFacetCount;
+import gon.til.domain.dto.card.CardFacetResponse;
+import gon.til.domain.dto.card.CardFilterRequest;
+import gon.til.domain.dto.card.CardFilterResponse;
+import gon.til.domain.dto.card.CardSummaryResponse;
+import gon.til.domain.dto.card.CardSummaryRow;
+import gon.til.domain.dto.card.CardTagRow;
+import gon.til.domain.dto.tag.TagResponse;
+import gon.til.domain.entity.Project;
+import gon.til.domain.repository.ProjectRepository;
+import gon.til.global.exception.GlobalErrorCode;
+import gon.til.global.exception.GlobalException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 카드 필터/패싯 조회
+ * - 조건(태그 ANY/ALL, 컬럼, 작성자, 만든/수정한 날짜 범위, 검색어)을 WHERE 절 하나로 만들고,
+ *   목록과 패싯 카운트가 같은 WHERE 절을 씁니다.
+ * - 태그 조건은 card_tags 를 조인해서 카드가 중복되지 않도록 IN (서브쿼리) 세미 조인으로 겁니다.
+ *   서브쿼리는 idx_card_tags_tag 로 태그의 카드만 읽고, ALL 은 카드별로 맞은 태그 수를 셉니다.
+ * - 목록은 (정렬 시각, id) 키셋으로 넘깁니다. idx_cards_project_created/updated 순서대로 읽어서 OFFSET 없이 size + 1 행만 읽습니다.
+ * - 패싯(컬럼/태그/작성자별 카드 수)은 조건에 맞는 카드를 CTE 로 한 번 정의하고 UNION ALL 로 묶은 집계 쿼리 한 번으로 셉니다.
+ *   첫 페이지에서만 셉니다.
+ * - SQL 은 H2 와 MySQL 8 에서 그대로 돌도록 행 값 비교((a, b) < (?, ?)) 대신 OR 로 풀어 씁니다.
+ */
+@Service
+@Transactional(readOnly = true)
+public class CardSearchService {
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final char LIKE_ESCAPE = '!';
+
+    private static final String PAGE_SQL =
+        "SELECT c.id, c.title, c.excerpt, c.position, c.kanban_column_id, c.due_at, c.%1$s AS sort_value " +
+        "FROM cards c WHERE %2$s ORDER BY c.%1$s %3$s, c.id %3$s LIMIT ?";
+    private static final String FACETS_SQL =
+        "WITH filtered AS (SELECT c.id, c.kanban_column_id, c.user_id FROM cards c WHERE %s) " +
+        "SELECT 'COLUMN' AS facet, kanban_column_id AS value_id, COUNT(*) AS cnt FROM filtered GROUP BY kanban_column_id " +
+        "UNION ALL " +
+        "SELECT 'TAG', ct.tag_id, COUNT(*) FROM filtered f JOIN card_tags ct ON ct.card_id = f.id GROUP BY ct.tag_id " +
+        "UNION ALL " +
+        "SELECT 'AUTHOR', user_id, COUNT(*) FROM filtered GROUP BY user_id";
+    private static final String CARD_TAGS_SQL =
+        "SELECT ct.card_id, t.id, t.name, t.color, t.project_id FROM card_tags ct JOIN tags t ON t.id = ct.tag_id " +
+        "WHERE ct.card_id IN (%s) ORDER BY t.id";
+
+    private final ProjectRepository projectRepository;
+    private final ProjectAccessCache projectAccessCache;
+    private final JdbcTemplate jdbcTemplate;
+
+    public CardSearchService(ProjectRepository projectRepository,
+                             ProjectAccessCache projectAccessCache,
+                             DataSource dataSource) {
+        this.projectRepository = projectRepository;
+        this.projectAccessCache = projectAccessCache;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    public CardFilterResponse filterCards(Long projectId, Long userId, CardFilterRequest request) {
+        validateProjectAccess(projectId, userId);
+        validateDateRange(request.getCreatedFrom(), request.getCreatedTo());
+        validateDateRange(request.getUpdatedFrom(), request.getUpdatedTo());
+
+        CardSort sort = request.getSort() != null ? request.getSort() : CardSort.CREATED_DESC;
+        int pageSize = request.getSize() == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(request.getSize(), 1), MAX_PAGE_SIZE);
+
+        List<Object> args = new ArrayList<>();
+        String where = buildWhere(projectId, request, args);
+        CardFacetResponse facets = request.getCursor() == null ? countFacets(where, args) : null;
+
+        List<Object> pageArgs = new ArrayList<>(args);
+        String pageWhere = where;
+        if (request.getCursor() != null) {
+            Cursor cursor = Cursor.decode(request.getCursor(), sort);
+            String op = sort.isDescending() ? "<" : ">";
+            pageWhere += " AND (c." + sort.getColumn() + " " + op + " ? OR (c." + sort.getColumn() + " = ? AND c.id " + op + " ?))";
+            pageArgs.add(Timestamp.valueOf(cursor.sortValue()));
+            pageArgs.add(Timestamp.valueOf(cursor.sortValue()));
+            pageArgs.add(cursor.id());
+        }
+        pageArgs.add(pageSize + 1);
+
+        List<Cursor> keys = new ArrayList<>();
+        List<CardSummaryRow> rows = jdbcTemplate.query(
+            String.format(PAGE_SQL, sort.getColumn(), pageWhere, sort.isDescending() ? "DESC" : "ASC"),
+            (rs, rowNum) -> {
+                keys.add(new Cursor(rs.getLong("id"), rs.getTimestamp("sort_value").toLocalDateTime()));
+                Timestamp dueAt = rs.getTimestamp("due_at");
+                return new CardSummaryRow(rs.getLong("id"), rs.getString("title"), rs.getString("excerpt"),
+                    rs.getObject("position", Integer.class), rs.getLong("kanban_column_id"),
+                    dueAt != null ? dueAt.toLocalDateTime() : null);
+            },
+            pageArgs.toArray());
+
+        boolean hasNext = rows.size() > pageSize;
+        List<CardSummaryRow> page = hasNext ? rows.subList(0, pageSize) : rows;
+        Map<Long, List<TagResponse>> tags = findTags(page.stream().map(CardSummaryRow::id).toList());
+        List<CardSummaryResponse> cards = page.stream()
+            .map(row -> CardSummaryResponse.of(row, tags.getOrDefault(row.id(), List.of())))
+            .toList();
+        String nextCursor = hasNext ? keys.get(pageSize - 1).encode(sort) : null;
+
+        return new CardFilterResponse(cards, nextCursor, facets);
+    }
+
+    // ===== private 헬퍼 메서드들 =====
+
+    private void validateProjectAccess(Long projectId, Long userId) {
+        Project project = projectRepository.findById(projectId)
+            .orElseThrow(() -> new GlobalException(GlobalErrorCode.NOT_FOUND_PROJECT));
+
+        projectAccessCache.check(project, userId, ProjectRole.VIEWER, GlobalErrorCode.ACCESS_DENIED_PROJECT);
+    }
+
+    private void validateDateRange(LocalDate from, LocalDate to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new GlobalException(GlobalErrorCode.INVALID_DATE_RANGE);
+        }
+    }
+
+    // 목록과 패싯이 함께 쓰는 조건 (args 에 자리표시자 값을 순서대로 넣음)
+    private String buildWhere(Long projectId, CardFilterRequest request, List<Object> args) {
+        StringBuilder where = new StringBuilder("c.project_id = ? AND c.deleted_at IS NULL");
+        args.add(projectId);
+
+        if (request.getColumnIds() != null && !request.getColumnIds().isEmpty()) {
+            Set<Long> columnIds = new LinkedHashSet<>(request.getColumnIds());
+            where.append(" AND c.kanban_column_id IN (").append(placeholders(columnIds.size())).append(")");
+            args.addAll(columnIds);
+        }
+        if (request.getAuthorId() != null) {
+            where.append(" AND c.user_id = ?");
+            args.add(request.getAuthorId());
+        }
+        appendDateRange(where, args, "created_at", request.getCreatedFrom(), request.getCreatedTo());
+        appendDateRange(where, args, "updated_at", request.getUpdatedFrom(), request.getUpdatedTo());
+
+        if (request.getQ() != null && !request.getQ().isBlank()) {
+            String pattern = "%" + escapeLike(request.getQ().strip().toLowerCase(Locale.ROOT)) + "%";
+            where.append(" AND (LOWER(c.title) LIKE ? ESCAPE '").append(LIKE_ESCAPE)
+                .append("' OR LOWER(c.content) LIKE ? ESCAPE '").append(LIKE_ESCAPE).append("')");
+            args.add(pattern);
+            args.add(pattern);
+        }
+
+        if (request.getTagIds() != null && !request.getTagIds().isEmpty()) {
+            Set<Long> tagIds = new LinkedHashSet<>(request.getTagIds());
+            where.append(" AND c.id IN (SELECT ct.card_id FROM card_tags ct WHERE ct.tag_id IN (")
+                .append(placeholders(tagIds.size())).append(")");
+            args.addAll(tagIds);
+            if (request.getTagMatch() == CardTagMatch.ALL && tagIds.size() > 1) {
+                // 카드에 (card_id, tag_id) 는 한 번씩만 있으므로, 고른 태그가 모두 달린 카드는 맞은 행 수가 태그 수와 같음
+                where.append(" GROUP BY ct.card_id HAVING COUNT(*) = ?");
+                args.add(tagIds.size());
+            }
+            where.append(")");
+        }
+        return where.toString();
+    }
+
+    // 날짜 단위 범위 [from 00:00, to 다음 날 00:00)
+    private void appendDateRange(StringBuilder where, List<Object> args, String column, LocalDate from, LocalDate to) {
+        if (from != null) {
+            where.append(" AND c.").append(column).append(" >= ?");
+            args.add(Timestamp.valueOf(from.atStartOfDay()));
+        }
+        if (to != null) {
+            where.append(" AND c.").append(column).append(" < ?");
+            args.add(Timestamp.valueOf(to.plusDays(1).atStartOfDay()));
+        }
+    }
+
+    private CardFacetResponse countFacets(String where, List<Object> args) {
+        Map<String, List<CardFacetCount>> facets = new HashMap<>();
+        jdbcTemplate.query(String.format(FACETS_SQL, where), rs -> {
+            Long id = rs.getObject("value_id", Long.class);
+            if (id != null) {
+                facets.computeIfAbsent(rs.getString("facet"), f -> new ArrayList<>())
+                    .add(new CardFacetCount(id, rs.getLong("cnt")));
+            }
+        }, args.toArray());
+
+        List<CardFacetCount> columns = sorted(facets.get("COLUMN"));
+        long total = columns.stream().mapToLong(CardFacetCount::count).sum();
+        return new CardFacetResponse(total, columns, sorted(facets.get("TAG")), sorted(facets.get("AUTHOR")));
+    }
+
+    private Map<Long, List<TagResponse>> findTags(Collection<Long> cardIds) {
+        if (cardIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, List<TagResponse>> tags = new HashMap<>();
+        jdbcTemplate.query(String.format(CARD_TAGS_SQL, placeholders(cardIds.size())), rs -> {
+            CardTagRow row = new CardTagRow(rs.getLong(1), rs.getLong(2), rs.getString(3), rs.getString(4), rs.getLong(5));
+            tags.computeIfAbsent(row.cardId(), id -> new ArrayList<>()).add(row.toTagResponse());
+        }, cardIds.toArray());
+        return tags;
+    }
+
+    // 많은 순, 같으면 ID 순
+    private static List<CardFacetCount> sorted(List<CardFacetCount> counts) {
+        if (counts == null) {
+            return List.of();
+        }
+        counts.sort(Comparator.comparingLong(CardFacetCount::count).reversed().thenComparing(CardFacetCount::id));
+        return counts;
+    }
+
+    private static String escapeLike(String keyword) {
+        StringBuilder escaped = new StringBuilder(keyword.length());
+        for (char ch : keyword.toCharArray()) {
+            if (ch == '%' || ch == '_' || ch == LIKE_ESCAPE) {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(ch);
+        }
+        return escaped.toString();
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    /**
+     * 키셋 커서 : 마지막 카드의 (정렬 시각, id)
+     * 정렬 이름을 함께 넣어서, 다른 정렬에서 받은 커서를 쓰면 거부합니다.
+     */
+    private record Cursor(Long id, LocalDateTime sortValue) {
+
+        String encode(CardSort sort) {
+            String raw = sort.name() + "|" + sortValue + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String value, CardSort sort) {
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8).split("\\|");
+                if (parts.length != 3 || !parts[0].equals(sort.name())) {
+                    throw new GlobalException(GlobalErrorCode.INVALID_CARD_CURSOR);
+                }
+                return new Cursor(Long.parseLong(parts[2]), LocalDateTime.parse(parts[1]));
+            } catch (IllegalArgumentException | DateTimeParseException ex) {
+                throw new GlobalException(GlobalErrorCode.INVALID_CARD_CURSOR);
+            }
+        }
+    }
+}
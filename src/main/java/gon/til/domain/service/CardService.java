@@ -1,22 +1,31 @@
 package gon.til.domain.service;
 
+import gon.til.domain.common.ProjectRole;
 import gon.til.domain.dto.card.CardCreateRequest;
+import gon.til.domain.dto.card.CardDueDateRequest;
 import gon.til.domain.dto.card.CardResponse;
 import gon.til.domain.dto.card.CardShiftRequest;
+import gon.til.domain.dto.card.CardSummaryResponse;
+import gon.til.domain.dto.card.CardTagRow;
 import gon.til.domain.dto.card.CardUpdateRequest;
+import gon.til.domain.dto.tag.TagResponse;
 import gon.til.domain.entity.Card;
 import gon.til.domain.entity.KanbanColumn;
 import gon.til.domain.entity.Project;
 import gon.til.domain.entity.User;
+import gon.til.domain.event.CardActivityEvent;
 import gon.til.domain.repository.CardRepository;
 import gon.til.domain.repository.KanbanColumnRepository;
 import gon.til.domain.repository.ProjectRepository;
 import gon.til.domain.repository.UserRepository;
 import gon.til.global.exception.GlobalErrorCode;
 import gon.til.global.exception.GlobalException;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,15 +38,21 @@ public class CardService {
     private final KanbanColumnRepository kanbanColumnRepository;
     private final UserRepository userRepository;
     private final ProjectRepository projectRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MarkdownRenderer markdownRenderer;
+    private final CardReminderQueue cardReminderQueue;
+    private final ProjectAccessCache projectAccessCache;
 
     // 카드 생성
     @Transactional
     public CardResponse createCard(Long columnId, Long userId, CardCreateRequest request) {
         KanbanColumn column = getColumnById(columnId);
-        User user = getUserById(userId);
-
-        validateColumnOwnership(column, userId);
+        validateColumnAccess(column, userId, ProjectRole.EDITOR);
+        occupyColumn(columnId);
 
+        // 카드 수 UPDATE 가 영속성 컨텍스트를 비우므로 컬럼은 다시 읽고, 사용자는 그 뒤에 읽음
+        column = getColumnById(columnId);
+        User user = getUserById(userId);
         Project project = column.getBoard().getProject();
 
         Card card = Card.builder()
@@ -45,48 +60,88 @@ public class CardService {
                 .user(user)
                 .title(request.getTitle())
                 .content(request.getContent())
+                .excerpt(markdownRenderer.excerpt(request.getContent()))
                 .project(project)
                 .build();
 
         Card savedCard = cardRepository.save(card);
-        return CardResponse.from(savedCard);
+        eventPublisher.publishEvent(CardActivityEvent.created(savedCard, userId));
+
+        return toResponse(savedCard);
     }
 
     // 카드 상세 정보 조회
     public CardResponse getCard(Long cardId, Long userId) {
         Card card = getCardById(cardId);
 
-        validateCardOwnership(card, userId);
-        return CardResponse.from(card);
+        validateCardAccess(card, userId, ProjectRole.VIEWER);
+        return toResponse(card);
     }
 
     // 카드 전체 조회
     public List<CardResponse> findAllCards(Long projectId, Long userId) {
 
         // 프로젝트 소유자인지 검증
-        validateProjectOwnership(projectId, userId);
+        validateProjectAccess(projectId, userId, ProjectRole.VIEWER);
 
-        // 카드 전체 조회
-        List<Card> cards = cardRepository.findAllByProjectIdWithDetails(projectId);
-
-        // Card 엔티티 리스트를 DTO로 변환
+        // 카드 전체 조회 (엔티티 대신 프로젝션으로 읽고, 태그는 한 번에 읽어 카드별로 묶음)
         // 데이터가 없으면 비어있는 리스트가 반환
-        return cards.stream()
-                .map(CardResponse::from)
+        Map<Long, List<TagResponse>> tagsByCard = findTagsByCard(projectId);
+        return cardRepository.findRowsByProjectId(projectId).stream()
+                .map(row -> CardResponse.of(row, markdownRenderer.renderHtml(row.content()),
+                        tagsByCard.getOrDefault(row.id(), List.of())))
                 .collect(Collectors.toList());
 
     }
 
-    // 카드 수정 (내용, 마감일 등)
+    // 카드 요약 조회 (보드 화면용, 본문은 SELECT 하지 않음)
+    public List<CardSummaryResponse> findAllCardSummaries(Long projectId, Long userId) {
+        validateProjectAccess(projectId, userId, ProjectRole.VIEWER);
+
+        Map<Long, List<TagResponse>> tagsByCard = findTagsByCard(projectId);
+        return cardRepository.findSummaryRowsByProjectId(projectId).stream()
+                .map(row -> CardSummaryResponse.of(row, tagsByCard.getOrDefault(row.id(), List.of())))
+                .collect(Collectors.toList());
+    }
+
+    // 카드 수정 (제목, 내용)
     @Transactional
     public CardResponse updateCard(Long cardId, Long userId, CardUpdateRequest request) {
         Card card = getCardById(cardId);
 
-        validateCardOwnership(card, userId);
+        validateCardAccess(card, userId, ProjectRole.EDITOR);
 
+        boolean retitled = request.getTitle() != null && !request.getTitle().equals(card.getTitle());
+        boolean rewritten = request.getContent() != null && !request.getContent().equals(card.getContent());
         card.updateCard(request.getTitle(), request.getContent());
 
-        return CardResponse.from(card);
+        // 본문이 바뀐 경우에만 요약을 다시 만듦 (제목만 바꾸면 Markdown 을 다시 파싱하지 않음)
+        if (rewritten) {
+            card.updateExcerpt(markdownRenderer.excerpt(card.getContent()));
+        }
+
+        if (retitled) {
+            eventPublisher.publishEvent(CardActivityEvent.retitled(card, userId));
+        }
+
+        return toResponse(card);
+    }
+
+    // 마감일/알림 수정
+    @Transactional
+    public CardResponse updateDueDate(Long cardId, Long userId, CardDueDateRequest request) {
+        Card card = getCardById(cardId);
+        validateCardAccess(card, userId, ProjectRole.EDITOR);
+
+        LocalDateTime dueAt = request.getDueAt();
+        LocalDateTime remindAt = dueAt == null ? null : request.getRemindAt();
+        if (remindAt != null && remindAt.isAfter(dueAt)) {
+            throw new GlobalException(GlobalErrorCode.INVALID_CARD_REMINDER);
+        }
+
+        card.updateDueDate(dueAt, remindAt);
+        scheduleReminder(card);
+        return toResponse(card);
     }
 
     // 카드 이동 (다른 컬럼으로)
@@ -94,7 +149,7 @@ public class CardService {
     public CardResponse shiftCard(Long cardId, Long userId, CardShiftRequest request) {
         // 1. 이동 대상 카드와 원래 위치 정보 가져오기
         Card cardToMove = getCardById(cardId);
-        validateCardOwnership(cardToMove, userId);
+        validateCardAccess(cardToMove, userId, ProjectRole.EDITOR);
 
         Long oldColumnId = cardToMove.getKanbanColumn().getId();
         Integer oldPosition = cardToMove.getPosition();
@@ -103,31 +158,96 @@ public class CardService {
         Integer newPosition = request.getNewPosition();
 
         if (oldColumnId.equals(newColumnId) && oldPosition.equals(newPosition)) {
-            return CardResponse.from(cardToMove);
+            return toResponse(cardToMove);
         }
 
-        // 2. 카드가 원래 있던 컬럼에서 position 재정렬
+        KanbanColumn newKanbanColumn = getColumnById(newColumnId);
+        // 권한은 카드의 프로젝트로만 확인했으므로, 다른 보드(프로젝트)의 컬럼은 카드 수를 바꾸기 전에 거절
+        if (!newKanbanColumn.getBoard().getId().equals(cardToMove.getKanbanColumn().getBoard().getId())) {
+            throw new GlobalException(GlobalErrorCode.INVALID_CARD_SHIFT);
+        }
+
+        // 2. 다른 컬럼으로 옮길 때는 새 컬럼의 WIP 제한을 먼저 확인
+        if (!oldColumnId.equals(newColumnId)) {
+            occupyColumn(newColumnId);
+            kanbanColumnRepository.decrementCardCount(oldColumnId);
+
+            // 카드 수 UPDATE 가 영속성 컨텍스트를 비우므로 카드와 새 컬럼을 다시 읽음
+            cardToMove = getCardById(cardId);
+            newKanbanColumn = getColumnById(newColumnId);
+        }
+
+        // 3. 카드가 원래 있던 컬럼에서 position 재정렬
         cardRepository.decrementPositionsAfter(oldColumnId, oldPosition);
 
         cardRepository.incrementPositionsFrom(newColumnId, newPosition);
 
-        KanbanColumn newKanbanColumn = getColumnById(newColumnId);
-
         cardToMove.updatePosition(newKanbanColumn, newPosition);
 
-        return CardResponse.from(cardToMove);
+        if (!oldColumnId.equals(newColumnId)) {
+            eventPublisher.publishEvent(CardActivityEvent.moved(cardToMove, oldColumnId, userId));
+        }
+
+        return toResponse(cardToMove);
     }
 
     // 카드 삭제
     @Transactional
     public void deleteCard(Long cardId, Long userId) {
         Card card = getCardById(cardId);
-        validateCardOwnership(card, userId);
+        validateCardAccess(card, userId, ProjectRole.EDITOR);
+
+        // 휴지통으로 옮기기만 하고, 실제 삭제는 TrashPurger 가 보관 기간 후 배치로 처리
+        eventPublisher.publishEvent(CardActivityEvent.deleted(card, userId));
+        card.softDelete(LocalDateTime.now());
+        // softDelete 는 카드 수 UPDATE 직전에 flush 됨 (그 뒤로 card 는 준영속)
+        kanbanColumnRepository.decrementCardCount(card.getKanbanColumn().getId());
+        cardReminderQueue.cancel(cardId);
+    }
+
+    // 휴지통에서 카드 복원 (원래 컬럼의 맨 끝으로, WIP 제한 안에서)
+    @Transactional
+    public CardResponse restoreCard(Long cardId, Long userId) {
+        Card card = cardRepository.findDeletedById(cardId)
+                .orElseThrow(() -> new GlobalException(GlobalErrorCode.NOT_FOUND_CARD));
 
-        cardRepository.delete(card);
+        // 컬럼도 휴지통에 있으면 조회되지 않아 NOT_FOUND_COLUMN (컬럼을 먼저 복원해야 함)
+        KanbanColumn column = getColumnById(card.getKanbanColumn().getId());
+        validateColumnAccess(column, userId, ProjectRole.EDITOR);
+        occupyColumn(column.getId());
+
+        // 카드 수 UPDATE 가 영속성 컨텍스트를 비우므로 카드를 다시 읽음
+        card = cardRepository.findDeletedById(cardId)
+                .orElseThrow(() -> new GlobalException(GlobalErrorCode.NOT_FOUND_CARD));
+        // 지운 뒤에 남은 카드들이 자리를 옮겼을 수 있으므로 원래 position 대신 맨 끝에 둠
+        card.restore(cardRepository.findMaxPosition(column.getId()) + 1);
+        scheduleReminder(card);
+        eventPublisher.publishEvent(CardActivityEvent.restored(card, userId));
+        return toResponse(card);
     }
 
     // 헬퍼 메소드
+
+    /**
+     * 컬럼의 카드 수를 WIP 제한 안에서 1 증가시킵니다.
+     * COUNT 없이 조건부 UPDATE 한 번으로 확인하므로 동시에 이동해도 제한을 넘지 않습니다.
+     * UPDATE 뒤에는 영속성 컨텍스트가 비워지므로, 이후에 바꿀 엔티티는 다시 조회해야 합니다.
+     */
+    private void occupyColumn(Long columnId) {
+        if (kanbanColumnRepository.incrementCardCount(columnId) == 0) {
+            throw new GlobalException(GlobalErrorCode.WIP_LIMIT_EXCEEDED);
+        }
+    }
+
+    // 보내지 않은 알림이 있으면 큐에 넣고, 없으면 뺍니다. (보관 구간 밖이면 CardReminderScheduler 가 나중에 읽어옴)
+    private void scheduleReminder(Card card) {
+        if (card.hasPendingReminder()) {
+            cardReminderQueue.offer(card.getId(), card.getUser().getId(), card.getRemindAt());
+        } else {
+            cardReminderQueue.cancel(card.getId());
+        }
+    }
+
     private KanbanColumn getColumnById(Long columnId) {
         return kanbanColumnRepository.findById(columnId)
                 .orElseThrow(() -> new GlobalException(GlobalErrorCode.NOT_FOUND_COLUMN));
@@ -144,33 +264,38 @@ public class CardService {
     }
 
     /**
-     * 사용자가 특정 컬럼에 대한 소유권(수정/삭제 권한)이 있는지 확인합니다.
-     * 컬럼 -> 보드 -> 프로젝트 -> 사용자 순으로 소유 관계를 확인합니다.
+     * 사용자가 특정 컬럼의 프로젝트에서 role 이상의 권한이 있는지 확인합니다.
+     * 컬럼 -> 보드 -> 프로젝트 순으로 찾아서, 소유자가 아니면 ProjectAccessCache 에서 역할을 봅니다.
      */
-    private void validateColumnOwnership(KanbanColumn column, Long userId) {
-        Long boardOwnerId = column.getBoard().getProject().getUser().getId();
-        if (!boardOwnerId.equals(userId)) {
-            throw new GlobalException(GlobalErrorCode.ACCESS_DENIED_COLUMN);
-        }
+    private void validateColumnAccess(KanbanColumn column, Long userId, ProjectRole role) {
+        Project project = column.getBoard().getProject();
+        projectAccessCache.check(project, userId, role, GlobalErrorCode.ACCESS_DENIED_COLUMN);
     }
 
     /**
-     * 사용자가 특정 카드에 대한 소유권(수정/삭제 권한)이 있는지 확인합니다.
-     * 카드 -> 컬럼 -> 보드 -> 프로젝트 -> 사용자 순으로 소유 관계를 확인합니다.
+     * 사용자가 특정 카드의 프로젝트에서 role 이상의 권한이 있는지 확인합니다.
+     * 카드 -> 컬럼 -> 보드 -> 프로젝트 순으로 찾아서, 소유자가 아니면 ProjectAccessCache 에서 역할을 봅니다.
      */
-    private void validateCardOwnership(Card card, Long userId) {
-        Long cardOwnerId = card.getKanbanColumn().getBoard().getProject().getUser().getId();
-        if (!cardOwnerId.equals(userId)) {
-            throw new GlobalException(GlobalErrorCode.ACCESS_DENIED_CARD);
-        }
+    private void validateCardAccess(Card card, Long userId, ProjectRole role) {
+        Project project = card.getKanbanColumn().getBoard().getProject();
+        projectAccessCache.check(project, userId, role, GlobalErrorCode.ACCESS_DENIED_CARD);
+    }
+
+    // 본문 HTML 은 MarkdownRenderer 캐시에서 꺼내므로 같은 본문은 한 번만 파싱됨
+    private CardResponse toResponse(Card card) {
+        return CardResponse.from(card, markdownRenderer.renderHtml(card.getContent()));
     }
 
-    private void validateProjectOwnership(Long projectId, Long userId) {
+    private Map<Long, List<TagResponse>> findTagsByCard(Long projectId) {
+        return cardRepository.findTagRowsByProjectId(projectId).stream()
+                .collect(Collectors.groupingBy(CardTagRow::cardId,
+                        Collectors.mapping(CardTagRow::toTagResponse, Collectors.toList())));
+    }
+
+    private void validateProjectAccess(Long projectId, Long userId, ProjectRole role) {
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new GlobalException(GlobalErrorCode.NOT_FOUND_PROJECT));
 
-        if (!project.getUser().getId().equals(userId)) {
-            throw new GlobalException(GlobalErrorCode.ACCESS_DENIED_PROJECT);
-        }
+        projectAccessCache.check(project, userId, role, GlobalErrorCode.ACCESS_DENIED_PROJECT);
     }
 }
@@ -1,13 +1,17 @@
 package gon.til.domain.service;
 
+import gon.til.domain.common.ProjectRole;
 import gon.til.domain.dto.card.CardResponse;
 import gon.til.domain.entity.Card;
+import gon.til.domain.entity.Project;
 import gon.til.domain.entity.Tag;
+import gon.til.domain.event.CardActivityEvent;
 import gon.til.domain.repository.CardRepository;
 import gon.til.domain.repository.TagRepository;
 import gon.til.global.exception.GlobalErrorCode;
 import gon.til.global.exception.GlobalException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,15 +22,18 @@ public class CardTagService {
 
     private final CardRepository cardRepository;
     private final TagRepository tagRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MarkdownRenderer markdownRenderer;
+    private final ProjectAccessCache projectAccessCache;
 
     // 카드에 태그 추가
     @Transactional
     public CardResponse addTagToCard(Long cardId, Long tagId, Long userId) {
         Card card = getCardById(cardId);
-        validateCardOwnership(card, userId);
+        validateCardAccess(card, userId, ProjectRole.EDITOR);
 
         Tag tag = getTagById(tagId);
-        validateTagOwnership(tag, userId);
+        validateTagAccess(tag, userId, ProjectRole.EDITOR);
 
         // 태그가 카드의 프로젝트와 동일한 프로젝트에 속하는지 확인
         if (!card.getKanbanColumn().getBoard().getProject().getId().equals(tag.getProject().getId())) {
@@ -34,20 +41,22 @@ public class CardTagService {
         }
 
         card.addTag(tag);
+        eventPublisher.publishEvent(CardActivityEvent.tagged(card, tagId, userId));
 
-        return CardResponse.from(card);
+        return CardResponse.from(card, markdownRenderer.renderHtml(card.getContent()));
     }
 
     // 카드에 태그 삭제
     @Transactional
     public void removeTagFromCard(Long cardId, Long tagId, Long userId) {
         Card card = getCardById(cardId);
-        validateCardOwnership(card, userId);
+        validateCardAccess(card, userId, ProjectRole.EDITOR);
 
         Tag tag = getTagById(tagId);
-        validateTagOwnership(tag, userId);
+        validateTagAccess(tag, userId, ProjectRole.EDITOR);
 
         card.removeTag(tagId);
+        eventPublisher.publishEvent(CardActivityEvent.untagged(card, tagId, userId));
     }
 
     // 헬퍼 메소드
@@ -62,24 +71,20 @@ public class CardTagService {
     }
 
     /**
-     * 사용자가 특정 카드에 대한 소유권(수정/삭제 권한)이 있는지 확인합니다.
-     * 카드 -> 컬럼 -> 보드 -> 프로젝트 -> 사용자 순으로 소유 관계를 확인합니다.
+     * 사용자가 특정 카드의 프로젝트에서 role 이상의 권한이 있는지 확인합니다.
+     * 카드 -> 컬럼 -> 보드 -> 프로젝트 순으로 찾아서, 소유자가 아니면 ProjectAccessCache 에서 역할을 봅니다.
      */
-    private void validateCardOwnership(Card card, Long userId) {
-        Long cardOwnerId = card.getKanbanColumn().getBoard().getProject().getUser().getId();
-        if (!cardOwnerId.equals(userId)) {
-            throw new GlobalException(GlobalErrorCode.ACCESS_DENIED_CARD);
-        }
+    private void validateCardAccess(Card card, Long userId, ProjectRole role) {
+        Project project = card.getKanbanColumn().getBoard().getProject();
+        projectAccessCache.check(project, userId, role, GlobalErrorCode.ACCESS_DENIED_CARD);
     }
 
     /**
-     * 사용자가 특정 태그에 대한 소유권(수정/삭제 권한)이 있는지 확인합니다.
-     * 태그 -> 프로젝트 -> 사용자 순으로 소유 관계를 확인합니다.
+     * 사용자가 특정 태그의 프로젝트에서 role 이상의 권한이 있는지 확인합니다.
+     * 태그 -> 프로젝트 순으로 찾아서, 소유자가 아니면 ProjectAccessCache 에서 역할을 봅니다.
      */
-    private void validateTagOwnership(Tag tag, Long userId) {
-        Long tagOwnerId = tag.getProject().getUser().getId();
-        if (!tagOwnerId.equals(userId)) {
-            throw new GlobalException(GlobalErrorCode.ACCESS_DENIED_TAG);
-        }
+    private void validateTagAccess(Tag tag, Long userId, ProjectRole role) {
+        Project project = tag.getProject();
+        projectAccessCache.check(project, userId, role, GlobalErrorCode.ACCESS_DENIED_TAG);
     }
 }
@@ -1,19 +1,29 @@
 package gon.til.domain.service;
 
+import gon.til.domain.common.ProjectRole;
 import gon.til.domain.dto.kanbancolumn.KanbanColumnResponse;
 import gon.til.domain.dto.kanbancolumn.KanbanColumnCreateRequest;
 import gon.til.domain.dto.kanbancolumn.KanbanColumnUpdateRequest;
+import gon.til.domain.dto.kanbancolumn.KanbanColumnReviewRequest;
+import gon.til.domain.dto.kanbancolumn.KanbanColumnWipLimitRequest;
 import gon.til.domain.entity.Board;
 import gon.til.domain.entity.KanbanColumn;
+import gon.til.domain.entity.Project;
+import gon.til.domain.event.CardActivityEvent;
 import gon.til.domain.repository.BoardRepository;
+import gon.til.domain.repository.CardRepository;
 import gon.til.domain.repository.KanbanColumnRepository;
+import gon.til.domain.repository.ProjectRepository;
 import gon.til.global.exception.GlobalErrorCode;
 import gon.til.global.exception.GlobalException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,6 +38,10 @@ public class KanbanColumnService {
 
     private final KanbanColumnRepository kanbanColumnRepository;
     private final BoardRepository boardRepository;
+    private final CardRepository cardRepository;
+    private final ProjectRepository projectRepository;
+    private final ProjectAccessCache projectAccessCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 특정 보드에 새로운 컬럼을 생성합니다.
@@ -45,7 +59,7 @@ public class KanbanColumnService {
         Board board = getBoardById(boardId);
 
         // 2. 사용자가 해당 보드를 소유하고 있는지 권한을 확인하고, 컬럼명이 중복되지 않는지 검증합니다.
-        validateBoardOwnership(board, userId);
+        validateBoardAccess(board, userId, ProjectRole.EDITOR);
 
         validateDuplicateColumnTitle(board.getId(), request.getTitle());
 
@@ -64,7 +78,7 @@ public class KanbanColumnService {
     public List<KanbanColumnResponse> getColumnsByBoard(Long boardId, Long userId) {
         // 1. ID를 사용하여 보드 엔티티를 조회하고, 사용자의 보드 소유 권한을 확인합니다.
         Board board = getBoardById(boardId);
-        validateBoardOwnership(board, userId);
+        validateBoardAccess(board, userId, ProjectRole.VIEWER);
 
         // 2. 해당 보드에 속한 모든 컬럼을 position 순으로 정렬하여 데이터베이스에서 조회 후 반환합니다.
         return kanbanColumnRepository.findByBoardIdOrderByPosition(boardId).stream()
@@ -86,7 +100,7 @@ public class KanbanColumnService {
         KanbanColumn column = getColumnById(columnId);
 
         // 2. 사용자가 해당 컬럼을 수정할 권한이 있는지 확인합니다.
-        validateColumnOwnership(column, userId);
+        validateColumnAccess(column, userId, ProjectRole.EDITOR);
 
         // 3. 새로운 제목이 해당 보드 내에서 다른 컬럼과 중복되지 않는지 확인합니다. (자기 자신은 제외)
         validateDuplicateColumnTitle(column.getBoard().getId(), request.getTitle(), columnId);
@@ -96,6 +110,44 @@ public class KanbanColumnService {
         return KanbanColumnResponse.from(column);
     }
 
+    /**
+     * 컬럼의 WIP 제한을 변경합니다.
+     * 이미 제한보다 많은 카드가 있어도 변경은 되고, 이후 새로 들어오는 카드만 막습니다.
+     *
+     * @param columnId 수정할 컬럼의 ID
+     * @param userId   요청을 보낸 사용자의 ID (권한 확인용)
+     * @param request  새로운 WIP 제한 (null 이면 제한 해제)
+     * @return 수정된 컬럼 정보
+     */
+    @Transactional
+    public KanbanColumnResponse updateWipLimit(Long columnId, Long userId, KanbanColumnWipLimitRequest request) {
+        // 1. 컬럼을 조회하고 사용자의 수정 권한을 확인합니다.
+        KanbanColumn column = getColumnById(columnId);
+        validateColumnAccess(column, userId, ProjectRole.EDITOR);
+
+        // 2. WIP 제한을 변경하고, 변경된 내용을 반환합니다.
+        column.updateWipLimit(request.getWipLimit());
+        return KanbanColumnResponse.from(column);
+    }
+
+    /**
+     * 컬럼을 복습 컬럼으로 지정하거나 해제합니다.
+     * 지정하면 이후 이 컬럼으로 들어오는 카드가 복습 일정에 등록됩니다. (이미 있는 카드는 그대로)
+     *
+     * @param columnId 수정할 컬럼의 ID
+     * @param userId   요청을 보낸 사용자의 ID (권한 확인용)
+     * @param request  복습 컬럼 여부
+     * @return 수정된 컬럼 정보
+     */
+    @Transactional
+    public KanbanColumnResponse updateReviewEnabled(Long columnId, Long userId, KanbanColumnReviewRequest request) {
+        KanbanColumn column = getColumnById(columnId);
+        validateColumnAccess(column, userId, ProjectRole.EDITOR);
+
+        column.updateReviewEnabled(request.getReviewEnabled());
+        return KanbanColumnResponse.from(column);
+    }
+
     /**
      * 컬럼의 순서를 변경합니다. (예: 드래그 앤 드롭 기능)
      * 요청받은 순서대로 모든 관련 컬럼의 위치(position) 값을 업데이트합니다.
@@ -109,7 +161,7 @@ public class KanbanColumnService {
     public List<KanbanColumnResponse> updateColumnPositions(Long boardId, Long userId, List<Long> columnIds) {
         // 1. 보드 존재 여부 및 사용자 권한을 확인합니다.
         Board board = getBoardById(boardId);
-        validateBoardOwnership(board, userId);
+        validateBoardAccess(board, userId, ProjectRole.EDITOR);
 
         // 2. 요청된 ID 목록으로 모든 컬럼을 한 번에 조회합니다.
         List<KanbanColumn> columns = kanbanColumnRepository.findAllByIdIn(columnIds);
@@ -148,41 +200,82 @@ public class KanbanColumnService {
     }
 
     /**
-     * 특정 컬럼을 삭제합니다.
-     * JPA의 Cascade 설정에 따라 이 컬럼에 속한 모든 카드(Card)도 함께 삭제됩니다.
+     * 특정 컬럼을 휴지통으로 옮깁니다.
+     * 컬럼에 남은 카드에도 같은 삭제 시각을 적어서, 복원할 때 함께 돌아오게 합니다.
+     * 카드마다 DELETED 이벤트를 발행해서 카드 이력, 보드 흐름 집계, 보드 활동 알림에도 남깁니다.
+     * 실제 삭제는 TrashPurger 가 보관 기간이 지난 뒤 배치로 처리합니다.
      * 삭제 후, 남아있는 컬럼들의 순서를 재정렬합니다.
      *
      * @param columnId 삭제할 컬럼의 ID
      * @param userId   요청을 보낸 사용자의 ID (권한 확인용)
      */
+    @Transactional
     public void deleteColumn(Long columnId, Long userId) {
         // 1. 삭제할 컬럼을 조회하고, 해당 컬럼이 속한 보드 정보를 가져옵니다.
         KanbanColumn column = getColumnById(columnId);
         Board board = column.getBoard();
 
         // 2. 사용자가 해당 컬럼을 삭제할 권한이 있는지 확인합니다.
-        validateColumnOwnership(column, userId);
+        validateColumnAccess(column, userId, ProjectRole.EDITOR);
 
-        // 3. 컬럼을 데이터베이스에서 삭제합니다. (연관된 카드들도 함께 삭제됨)
-        kanbanColumnRepository.delete(column);
+        // 3. 컬럼과 남은 카드를 같은 시각으로 휴지통에 옮깁니다. (카드는 UPDATE 한 번)
+        //    복원할 때 deleted_at 을 그대로 비교하므로 DB 정밀도(마이크로초)에 맞춥니다.
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        List<Long> cardIds = cardRepository.findIdsByColumnId(columnId);
+        column.softDelete(now);
+        cardRepository.softDeleteByColumnId(columnId, now);
+        cardIds.forEach(cardId ->
+            eventPublisher.publishEvent(CardActivityEvent.deleted(cardId, board.getId(), columnId, userId)));
 
         // 4. 컬럼이 삭제되었으므로, 남아있는 컬럼들의 position 값을 순서대로 재정렬합니다.
         reorderPositions(board.getId());
     }
 
+    /**
+     * 휴지통에 있는 컬럼을 보드의 마지막 위치로 복원합니다.
+     * 컬럼과 함께 휴지통에 들어간 카드도 함께 돌아옵니다. (그 전에 따로 지운 카드는 남음)
+     * 돌아온 카드마다 RESTORED 이벤트를 발행합니다.
+     *
+     * @param columnId 복원할 컬럼의 ID
+     * @param userId   요청을 보낸 사용자의 ID (권한 확인용)
+     */
+    @Transactional
+    public KanbanColumnResponse restoreColumn(Long columnId, Long userId) {
+        // 1. 휴지통에서 컬럼을 찾습니다. 프로젝트째 지운 컬럼은 프로젝트를 복원해야 합니다.
+        KanbanColumn column = kanbanColumnRepository.findDeletedById(columnId)
+            .orElseThrow(() -> new GlobalException(GlobalErrorCode.NOT_FOUND_COLUMN));
+        if (!projectRepository.existsById(column.getBoard().getProject().getId())) {
+            throw new GlobalException(GlobalErrorCode.NOT_FOUND_PROJECT);
+        }
+        validateColumnAccess(column, userId, ProjectRole.EDITOR);
+
+        // 2. 그 사이 같은 이름의 컬럼이 생겼으면 복원할 수 없습니다.
+        Long boardId = column.getBoard().getId();
+        validateDuplicateColumnTitle(boardId, column.getTitle());
+
+        // 3. 컬럼과 함께 지워진 카드를 되돌립니다.
+        LocalDateTime deletedAt = column.getDeletedAt();
+        List<Long> cardIds = cardRepository.findDeletedIdsByColumnId(columnId, deletedAt);
+        column.restore(getNextPosition(boardId));
+        cardRepository.restoreByColumnId(columnId, deletedAt);
+        cardIds.forEach(cardId ->
+            eventPublisher.publishEvent(CardActivityEvent.restored(cardId, boardId, columnId, userId)));
+
+        return KanbanColumnResponse.from(column);
+    }
+
     /**
      * 새로운 보드가 생성될 때 호출되어 기본 컬럼들을 생성합니다.
-     * ("할 일", "진행 중", "완료", "복습 필요")
+     * (KanbanColumn.DEFAULT_TITLES : "할 일", "진행 중", "완료", "복습 필요")
      *
      * @param board 기본 컬럼을 생성할 보드 엔티티
      */
     @Transactional
     public void createDefaultColumns(Board board) {
-        // createColumn 메서드를 재사용하여 4개의 기본 컬럼을 생성합니다.
-        createAndSaveColumn(board, "할 일");
-        createAndSaveColumn(board, "진행 중");
-        createAndSaveColumn(board, "완료");
-        createAndSaveColumn(board, "복습 필요");
+        // 프로젝트 생성(Project.createWithDefaultBoard)과 같은 목록을 사용합니다.
+        for (String title : KanbanColumn.DEFAULT_TITLES) {
+            kanbanColumnRepository.save(KanbanColumn.createDefault(board, title, getNextPosition(board.getId())));
+        }
     }
 
     // ===== private 헬퍼 메서드들 =====
@@ -204,25 +297,20 @@ public class KanbanColumnService {
     }
 
     /**
-     * 사용자가 특정 컬럼에 대한 소유권(수정/삭제 권한)이 있는지 확인합니다.
-     * 컬럼 -> 보드 -> 프로젝트 -> 사용자 순으로 소유 관계를 확인합니다.
+     * 사용자가 컬럼의 프로젝트에서 role 이상의 권한이 있는지 확인합니다.
+     * 컬럼 -> 보드 -> 프로젝트 순으로 찾아서, 소유자가 아니면 ProjectAccessCache 에서 역할을 봅니다.
      */
-    private void validateColumnOwnership(KanbanColumn column, Long userId) {
-        Long boardOwnerId = column.getBoard().getProject().getUser().getId();
-        if (!boardOwnerId.equals(userId)) {
-            throw new GlobalException(GlobalErrorCode.ACCESS_DENIED_COLUMN);
-        }
+    private void validateColumnAccess(KanbanColumn column, Long userId, ProjectRole role) {
+        Project project = column.getBoard().getProject();
+        projectAccessCache.check(project, userId, role, GlobalErrorCode.ACCESS_DENIED_COLUMN);
     }
 
     /**
-     * 사용자가 특정 보드에 대한 소유권(수정/삭제 권한)이 있는지 확인합니다.
-     * 보드 -> 프로젝트 -> 사용자 순으로 소유 관계를 확인합니다.
+     * 사용자가 보드의 프로젝트에서 role 이상의 권한이 있는지 확인합니다.
      */
-    private void validateBoardOwnership(Board board, Long userId) {
-        Long projectOwnerId = board.getProject().getUser().getId();
-        if (!projectOwnerId.equals(userId)) {
-            throw new GlobalException(GlobalErrorCode.ACCESS_DENIED_BOARD);
-        }
+    private void validateBoardAccess(Board board, Long userId, ProjectRole role) {
+        Project project = board.getProject();
+        projectAccessCache.check(project, userId, role, GlobalErrorCode.ACCESS_DENIED_BOARD);
     }
 
     /**
@@ -0,0 +1,199 @@
+package gon.til.domain.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.commonmark.Extension;
+import org.commonmark.ext.autolink.AutolinkExtension;
+import org.commonmark.ext.gfm.strikethrough.StrikethroughExtension;
+import org.commonmark.ext.gfm.tables.TableCell;
+import org.commonmark.ext.gfm.tables.TablesExtension;
+import org.commonmark.node.AbstractVisitor;
+import org.commonmark.node.Code;
+import org.commonmark.node.CustomNode;
+import org.commonmark.node.FencedCodeBlock;
+import org.commonmark.node.HardLineBreak;
+import org.commonmark.node.Heading;
+import org.commonmark.node.HtmlBlock;
+import org.commonmark.node.HtmlInline;
+import org.commonmark.node.Image;
+import org.commonmark.node.IndentedCodeBlock;
+import org.commonmark.node.Paragraph;
+import org.commonmark.node.SoftLineBreak;
+import org.commonmark.node.Text;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 카드 본문(Markdown)을 HTML 과 목록용 요약으로 바꾸는 렌더러
+ * - 본문에 쓴 HTML 태그는 그대로 내보내지 않고 글자로 이스케이프하고, javascript: 같은 링크 주소는 비웁니다.
+ * - 렌더링 결과는 (렌더러 버전, 본문 SHA-256) 키로 LRU 캐시에 둡니다. 본문이 그대로면 다시 파싱하지 않습니다.
+ * - Parser / HtmlRenderer 는 만든 뒤에는 상태가 없어서 여러 스레드가 같이 써도 됩니다.
+ */
+@Component
+public class MarkdownRenderer {
+
+    // 확장이나 렌더링 옵션을 바꾸면 올려서 이전 결과를 캐시에서 쓰지 않게 합니다.
+    static final int VERSION = 1;
+
+    public static final int EXCERPT_LENGTH = 200;
+
+    private final Parser parser;
+    private final HtmlRenderer htmlRenderer;
+
+    // "버전:본문 해시" -> HTML (접근 순서 LinkedHashMap, 가장 오래 안 쓴 항목부터 버림)
+    private final Map<String, String> htmlCache;
+
+    public MarkdownRenderer(@Value("${til.markdown.cache-size:2048}") int cacheSize) {
+        List<Extension> extensions = List.of(
+            TablesExtension.create(),
+            StrikethroughExtension.create(),
+            AutolinkExtension.create()
+        );
+        this.parser = Parser.builder().extensions(extensions).build();
+        this.htmlRenderer = HtmlRenderer.builder()
+            .extensions(extensions)
+            .escapeHtml(true)
+            .sanitizeUrls(true)
+            .build();
+        this.htmlCache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * 본문을 HTML 로 바꿉니다. 본문이 없으면 null 을 반환합니다.
+     */
+    public String renderHtml(String markdown) {
+        if (markdown == null) {
+            return null;
+        }
+
+        String key = VERSION + ":" + sha256(markdown);
+        synchronized (htmlCache) {
+            String cached = htmlCache.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        // 파싱은 락 밖에서 합니다. 같은 본문을 동시에 렌더링해도 결과가 같으므로 나중 것이 덮어써도 됩니다.
+        String html = htmlRenderer.render(parser.parse(markdown));
+        synchronized (htmlCache) {
+            htmlCache.put(key, html);
+        }
+        return html;
+    }
+
+    /**
+     * 목록 화면에 보여줄 평문 요약을 만듭니다. (Markdown 기호 제거, 공백 정리, 최대 EXCERPT_LENGTH 자)
+     * 글자만 모으므로 링크 주소, 이미지, HTML 태그는 요약에 들어가지 않습니다.
+     */
+    public String excerpt(String markdown) {
+        if (markdown == null || markdown.isBlank()) {
+            return "";
+        }
+
+        PlainTextCollector collector = new PlainTextCollector();
+        parser.parse(markdown).accept(collector);
+        String text = collector.text.toString().replaceAll("\\s+", " ").strip();
+        if (text.length() <= EXCERPT_LENGTH) {
+            return text;
+        }
+
+        int end = EXCERPT_LENGTH - 1;
+        // 서로게이트 쌍(이모지 등) 가운데에서 자르지 않음
+        if (Character.isHighSurrogate(text.charAt(end - 1))) {
+            end--;
+        }
+        return text.substring(0, end) + "…";
+    }
+
+    // ===== private 헬퍼 메서드들 =====
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    // 문서 트리에서 글자만 모으고, 문단/제목/줄바꿈/표 칸 사이에는 공백을 넣습니다.
+    private static final class PlainTextCollector extends AbstractVisitor {
+
+        private final StringBuilder text = new StringBuilder();
+
+        @Override
+        public void visit(Text node) {
+            text.append(node.getLiteral());
+        }
+
+        @Override
+        public void visit(Code node) {
+            text.append(node.getLiteral());
+        }
+
+        @Override
+        public void visit(FencedCodeBlock node) {
+            text.append(node.getLiteral()).append(' ');
+        }
+
+        @Override
+        public void visit(IndentedCodeBlock node) {
+            text.append(node.getLiteral()).append(' ');
+        }
+
+        @Override
+        public void visit(Paragraph node) {
+            visitChildren(node);
+            text.append(' ');
+        }
+
+        @Override
+        public void visit(Heading node) {
+            visitChildren(node);
+            text.append(' ');
+        }
+
+        @Override
+        public void visit(SoftLineBreak node) {
+            text.append(' ');
+        }
+
+        @Override
+        public void visit(HardLineBreak node) {
+            text.append(' ');
+        }
+
+        @Override
+        public void visit(CustomNode node) {
+            visitChildren(node);
+            if (node instanceof TableCell) {
+                text.append(' ');
+            }
+        }
+
+        @Override
+        public void visit(Image node) {
+        }
+
+        @Override
+        public void visit(HtmlInline node) {
+        }
+
+        @Override
+        public void visit(HtmlBlock node) {
+        }
+    }
+}
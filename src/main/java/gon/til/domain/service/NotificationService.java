@@ -0,0 +1,111 @@
+package gon.til.domain.service;
+
+import gon.til.domain.dto.notification.NotificationPageResponse;
+import gon.til.domain.dto.notification.NotificationResponse;
+import gon.til.domain.dto.notification.NotificationUnreadResponse;
+import gon.til.domain.entity.Notification;
+import gon.til.domain.repository.NotificationRepository;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 알림함 조회/읽음 처리 서비스
+ * - 목록은 id 커서로 최근 것부터 넘깁니다. (idx_notifications_user, OFFSET 없이 페이지마다 size + 1 행만 읽음)
+ * - 안 읽은 수는 알림을 세지 않고 notification_counters 한 행만 읽습니다.
+ * - 조회는 NotificationWriter 의 버퍼를 비우지 않습니다. (방금 생긴 알림은 다음 주기 저장 뒤에 보임, 모두 읽음만 먼저 저장)
+ * - 읽음 처리는 아직 안 읽은 행만 바꾸고, 바뀐 행 수만큼 안 읽은 수를 줄입니다. (같은 알림을 두 번 읽어도 한 번만 줄어듦)
+ */
+@Service
+@Transactional(readOnly = true)
+public class NotificationService {
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private static final String UNREAD_COUNT_SQL = "SELECT unread_count FROM notification_counters WHERE user_id = ?";
+    private static final String DECREMENT_SQL =
+        "UPDATE notification_counters SET unread_count = GREATEST(unread_count - ?, 0) WHERE user_id = ?";
+    private static final String MARK_READ_SQL =
+        "UPDATE notifications SET read_at = ? WHERE user_id = ? AND read_at IS NULL AND id IN (%s)";
+    private static final String MARK_ALL_READ_SQL =
+        "UPDATE notifications SET read_at = ? WHERE user_id = ? AND read_at IS NULL";
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationWriter notificationWriter;
+    private final JdbcTemplate jdbcTemplate;
+
+    public NotificationService(NotificationRepository notificationRepository,
+                               NotificationWriter notificationWriter,
+                               DataSource dataSource) {
+        this.notificationRepository = notificationRepository;
+        this.notificationWriter = notificationWriter;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    // 알림 목록 (cursor 보다 오래된 알림, 최근 것부터)
+    public NotificationPageResponse getNotifications(Long userId, Long cursor, Integer size) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        List<Notification> rows = notificationRepository.findByUserIdAndIdLessThanOrderByIdDesc(
+            userId, cursor == null ? Long.MAX_VALUE : cursor, Limit.of(pageSize + 1));
+
+        boolean hasNext = rows.size() > pageSize;
+        List<NotificationResponse> notifications = rows.stream()
+            .limit(pageSize)
+            .map(NotificationResponse::from)
+            .toList();
+        Long nextCursor = hasNext ? notifications.get(notifications.size() - 1).getId() : null;
+
+        return new NotificationPageResponse(notifications, nextCursor, unreadCount(userId));
+    }
+
+    // 안 읽은 알림 수
+    public NotificationUnreadResponse getUnreadCount(Long userId) {
+        return new NotificationUnreadResponse(unreadCount(userId));
+    }
+
+    // 선택한 알림 읽음 처리 (다른 사용자의 알림 id 는 무시)
+    @Transactional
+    public NotificationUnreadResponse markAsRead(Long userId, List<Long> ids) {
+        Object[] args = new Object[ids.size() + 2];
+        args[0] = Timestamp.valueOf(LocalDateTime.now());
+        args[1] = userId;
+        System.arraycopy(ids.toArray(), 0, args, 2, ids.size());
+
+        int read = jdbcTemplate.update(String.format(MARK_READ_SQL, placeholders(ids.size())), args);
+        return new NotificationUnreadResponse(decrement(userId, read));
+    }
+
+    // 모든 알림 읽음 처리
+    @Transactional
+    public NotificationUnreadResponse markAllAsRead(Long userId) {
+        notificationWriter.flush();
+
+        int read = jdbcTemplate.update(MARK_ALL_READ_SQL, Timestamp.valueOf(LocalDateTime.now()), userId);
+        return new NotificationUnreadResponse(decrement(userId, read));
+    }
+
+    // ===== private 헬퍼 메서드들 =====
+
+    private int decrement(Long userId, int read) {
+        if (read > 0) {
+            jdbcTemplate.update(DECREMENT_SQL, read, userId);
+        }
+        return unreadCount(userId);
+    }
+
+    private int unreadCount(Long userId) {
+        List<Integer> counts = jdbcTemplate.queryForList(UNREAD_COUNT_SQL, Integer.class, userId);
+        return counts.isEmpty() ? 0 : counts.get(0);
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
@@ -0,0 +1,310 @@
+package gon.til.domain.service;
+
+import gon.til.domain.common.CardEventType;
+import gon.til.domain.common.NotificationType;
+import gon.til.domain.event.CardActivityEvent;
+import gon.til.domain.event.CardReminderEvent;
+import gon.til.domain.event.ReviewDueEvent;
+import gon.til.global.datasource.SqlDialect;
+import gon.til.global.shard.ShardContext;
+import gon.til.global.shard.ShardMap;
+import jakarta.annotation.PreDestroy;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 알림을 모아서 notifications 테이블에 일괄 저장합니다.
+ * - 이벤트 리스너는 버퍼에 넣기만 하므로, 알림을 만드는 요청/스케줄러는 INSERT 를 기다리지 않습니다.
+ * - 주기적으로 JDBC batch insert 로 저장하고, 같은 트랜잭션에서 사용자별 안 읽은 수(notification_counters)를 늘립니다.
+ *   (안 읽은 수는 upsert 한 문장으로 늘려서, 여러 인스턴스가 같은 사용자의 첫 알림을 동시에 저장해도 충돌하지 않음)
+ * - 저장에 실패한 배치는 CardEventRecorder 처럼 샤드별 재시도 큐에 두었다가 다음 flush 에서 먼저 다시 저장합니다.
+ * - 보드 활동 알림은 받을 사람(프로젝트 소유자와 멤버)을 저장할 때 보드 단위로 한 번에 찾습니다. (활동한 본인은 제외)
+ * - 샤딩을 켜면 CardEventRecorder 처럼 이벤트가 발생한 샤드별로 버퍼를 나누고, 저장도 그 샤드에서 합니다.
+ */
+@Slf4j
+@Component
+public class NotificationWriter {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_PENDING_BATCHES = 100;
+    private static final int MESSAGE_LENGTH = 255;
+    private static final DateTimeFormatter DUE_FORMAT = DateTimeFormatter.ofPattern("M/d HH:mm");
+
+    private static final String INSERT_SQL =
+        "INSERT INTO notifications (user_id, type, card_id, board_id, actor_id, message, created_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String MYSQL_UPSERT_COUNTER_SQL =
+        "INSERT INTO notification_counters (user_id, unread_count) VALUES (?, ?) " +
+        "ON DUPLICATE KEY UPDATE unread_count = unread_count + VALUES(unread_count)";
+    private static final String MERGE_COUNTER_SQL =
+        "MERGE INTO notification_counters n " +
+        "USING (VALUES (CAST(? AS BIGINT), CAST(? AS INT))) AS d (user_id, unread_count) " +
+        "ON n.user_id = d.user_id " +
+        "WHEN MATCHED THEN UPDATE SET unread_count = n.unread_count + d.unread_count " +
+        "WHEN NOT MATCHED THEN INSERT (user_id, unread_count) VALUES (d.user_id, d.unread_count)";
+    // 프로젝트를 만든 사용자 + 공유받은 멤버 (IN 목록이 두 번 들어감)
+    private static final String BOARD_RECIPIENTS_SQL =
+        "SELECT b.id, p.user_id FROM boards b JOIN projects p ON p.id = b.project_id WHERE b.id IN (%1$s) " +
+        "UNION ALL " +
+        "SELECT b.id, m.user_id FROM boards b JOIN project_members m ON m.project_id = b.project_id WHERE b.id IN (%1$s)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<Integer, Queue<PendingNotification>> buffers = new ConcurrentHashMap<>();
+    // flush() 가 synchronized 라서 재시도 큐는 한 스레드에서만 다룹니다.
+    private final Map<Integer, Deque<List<PendingNotification>>> pendingBatches = new HashMap<>();
+    // 처음 저장할 때 DB 종류를 보고 정합니다. (기동 시점에 커넥션을 열지 않도록)
+    private volatile String upsertCounterSql;
+
+    public NotificationWriter(DataSource dataSource, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // 조회 트랜잭션(readOnly) 안에서 호출되어도 별도 쓰기 트랜잭션으로 저장
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCardReminder(CardReminderEvent event) {
+        String due = event.getDueAt() != null ? " (마감 " + event.getDueAt().format(DUE_FORMAT) + ")" : "";
+        enqueue(new PendingNotification(event.getUserId(), NotificationType.CARD_DUE, event.getCardId(), null, null,
+            "'" + event.getTitle() + "' 카드의 마감이 다가옵니다." + due, LocalDateTime.now()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReviewDue(ReviewDueEvent event) {
+        List<Long> cardIds = event.getCardIds();
+        Long cardId = cardIds.size() == 1 ? cardIds.get(0) : null;
+        enqueue(new PendingNotification(event.getUserId(), NotificationType.REVIEW_DUE, cardId, null, null,
+            "복습할 카드가 " + cardIds.size() + "개 있습니다.", LocalDateTime.now()));
+    }
+
+    // 받을 사람(userId)은 저장할 때 보드의 프로젝트 소유자와 멤버로 채웁니다.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCardActivity(CardActivityEvent event) {
+        String message = activityMessage(event.getType());
+        if (message == null || event.getUserId() == null) {
+            return;
+        }
+        enqueue(new PendingNotification(null, NotificationType.BOARD_ACTIVITY, event.getCardId(), event.getBoardId(),
+            event.getUserId(), message, event.getOccurredAt()));
+    }
+
+    /**
+     * 버퍼에 쌓인 알림을 BATCH_SIZE 단위로 저장합니다.
+     * 스케줄과 쓰기 경로(모두 읽음)에서만 호출합니다. 조회는 기다리지 않으므로 방금 생긴 알림은 다음 flush 뒤에 보입니다.
+     * 요청 스레드에서 호출하면 그 요청의 샤드 버퍼만, 그 밖에서는 모든 샤드의 버퍼를 저장합니다.
+     */
+    @Scheduled(fixedDelayString = "${til.notifications.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        Integer current = ShardContext.current();
+        if (current != null) {
+            flush(current);
+            return;
+        }
+        Set<Integer> shardIds = new HashSet<>(buffers.keySet());
+        shardIds.addAll(pendingBatches.keySet());
+        for (Integer shardId : shardIds) {
+            ShardContext.run(shardId, () -> flush(shardId));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    // ===== private 헬퍼 메서드들 =====
+
+    private void enqueue(PendingNotification notification) {
+        Integer shardId = ShardContext.current();
+        buffers.computeIfAbsent(shardId != null ? shardId : ShardMap.DEFAULT_SHARD, id -> new ConcurrentLinkedQueue<>())
+            .offer(notification);
+    }
+
+    private void flush(int shardId) {
+        // 실패했던 배치부터 순서대로 - 또 실패하면 DB 가 아직 복구되지 않은 것이므로 이번 flush 는 멈춤
+        Deque<List<PendingNotification>> pending = pendingBatches.get(shardId);
+        while (pending != null && !pending.isEmpty()) {
+            if (!write(pending.peekFirst())) {
+                return;
+            }
+            pending.pollFirst();
+        }
+
+        Queue<PendingNotification> buffer = buffers.get(shardId);
+        if (buffer == null) {
+            return;
+        }
+
+        List<PendingNotification> batch = new ArrayList<>(BATCH_SIZE);
+        PendingNotification notification;
+        while ((notification = buffer.poll()) != null) {
+            batch.add(notification);
+            if (batch.size() == BATCH_SIZE) {
+                if (!write(batch)) {
+                    retryLater(shardId, batch);
+                    return;
+                }
+                batch = new ArrayList<>(BATCH_SIZE);
+            }
+        }
+        if (!batch.isEmpty() && !write(batch)) {
+            retryLater(shardId, batch);
+        }
+    }
+
+    private void retryLater(int shardId, List<PendingNotification> batch) {
+        Deque<List<PendingNotification>> pending = pendingBatches.computeIfAbsent(shardId, id -> new ArrayDeque<>());
+        pending.addLast(batch);
+        if (pending.size() > MAX_PENDING_BATCHES) {
+            List<PendingNotification> dropped = pending.pollFirst();
+            log.error("알림 재시도 대기가 {}배치를 넘어 가장 오래된 {}건을 버림 (shard {})",
+                MAX_PENDING_BATCHES, dropped.size(), shardId);
+        }
+    }
+
+    private boolean write(List<PendingNotification> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<PendingNotification> rows = resolveRecipients(batch);
+                if (rows.isEmpty()) {
+                    return;
+                }
+                jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), (ps, n) -> {
+                    ps.setLong(1, n.userId());
+                    ps.setString(2, n.type().name());
+                    setNullableLong(ps, 3, n.cardId());
+                    setNullableLong(ps, 4, n.boardId());
+                    setNullableLong(ps, 5, n.actorId());
+                    ps.setString(6, truncate(n.message()));
+                    ps.setTimestamp(7, Timestamp.valueOf(n.createdAt()));
+                });
+                incrementCounters(rows);
+            });
+        } catch (RuntimeException ex) {
+            log.warn("알림 {}건 저장 실패 - 다음 flush 에서 다시 저장", batch.size(), ex);
+            return false;
+        }
+        return true;
+    }
+
+    // 보드 활동 알림을 프로젝트 소유자와 멤버에게 펼칩니다. 활동한 본인에게는 보내지 않습니다.
+    private List<PendingNotification> resolveRecipients(List<PendingNotification> batch) {
+        Set<Long> boardIds = batch.stream()
+            .filter(n -> n.userId() == null)
+            .map(PendingNotification::boardId)
+            .collect(Collectors.toSet());
+        Map<Long, List<Long>> recipients = boardRecipients(boardIds);
+
+        List<PendingNotification> rows = new ArrayList<>(batch.size());
+        for (PendingNotification n : batch) {
+            if (n.userId() != null) {
+                rows.add(n);
+                continue;
+            }
+            for (Long userId : recipients.getOrDefault(n.boardId(), List.of())) {
+                if (!userId.equals(n.actorId())) {
+                    rows.add(n.withUserId(userId));
+                }
+            }
+        }
+        return rows;
+    }
+
+    private Map<Long, List<Long>> boardRecipients(Set<Long> boardIds) {
+        if (boardIds.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> params = new ArrayList<>(boardIds);
+        params.addAll(boardIds);
+        Map<Long, List<Long>> recipients = new HashMap<>();
+        jdbcTemplate.query(String.format(BOARD_RECIPIENTS_SQL, placeholders(boardIds.size())), rs -> {
+            recipients.computeIfAbsent(rs.getLong(1), id -> new ArrayList<>()).add(rs.getLong(2));
+        }, params.toArray());
+        return recipients;
+    }
+
+    // 사용자별로 합쳐서 upsert 한 번씩 (행이 없으면 넣고, 있으면 더함)
+    private void incrementCounters(List<PendingNotification> rows) {
+        Map<Long, Integer> counts = new LinkedHashMap<>();
+        rows.forEach(n -> counts.merge(n.userId(), 1, Integer::sum));
+
+        List<Map.Entry<Long, Integer>> entries = new ArrayList<>(counts.entrySet());
+        jdbcTemplate.batchUpdate(upsertCounterSql(), entries, entries.size(), (ps, entry) -> {
+            ps.setLong(1, entry.getKey());
+            ps.setInt(2, entry.getValue());
+        });
+    }
+
+    private String upsertCounterSql() {
+        if (upsertCounterSql == null) {
+            upsertCounterSql = SqlDialect.of(jdbcTemplate.getDataSource()) == SqlDialect.MYSQL
+                ? MYSQL_UPSERT_COUNTER_SQL : MERGE_COUNTER_SQL;
+        }
+        return upsertCounterSql;
+    }
+
+    private static String activityMessage(CardEventType type) {
+        return switch (type) {
+            case CREATED -> "보드에 새 카드가 추가되었습니다.";
+            case MOVED -> "보드의 카드가 이동되었습니다.";
+            case RETITLED -> "보드의 카드 제목이 바뀌었습니다.";
+            case TAGGED, UNTAGGED -> "보드의 카드 태그가 바뀌었습니다.";
+            case DELETED -> "보드의 카드가 삭제되었습니다.";
+            case RESTORED -> "보드의 카드가 복원되었습니다.";
+            case REVIEWED -> null;      // 복습은 개인 기록이라 알리지 않음
+        };
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= MESSAGE_LENGTH ? message : message.substring(0, MESSAGE_LENGTH - 1) + "…";
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private static void setNullableLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.BIGINT);
+        } else {
+            ps.setLong(index, value);
+        }
+    }
+
+    private record PendingNotification(Long userId, NotificationType type, Long cardId, Long boardId, Long actorId,
+                                       String message, LocalDateTime createdAt) {
+
+        PendingNotification withUserId(Long recipientId) {
+            return new PendingNotification(recipientId, type, cardId, boardId, actorId, message, createdAt);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package gon.til.domain.service;
+
+import gon.til.domain.common.ProjectRole;
+import gon.til.domain.entity.Project;
+import gon.til.domain.event.ProjectAccessChangedEvent;
+import gon.til.global.exception.GlobalErrorCode;
+import gon.til.global.exception.GlobalException;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 사용자별, 프로젝트별 역할 캐시 (ACL)
+ * - 프로젝트 소유자는 서비스에서 이미 읽은 Project 로 바로 확인하고, 공유받은 사용자만 여기서 찾습니다.
+ * - 처음 물어볼 때만 project_members 유니크 인덱스로 한 행을 읽고(조인 없음), 이후에는 해시 조회만 합니다.
+ *   권한이 없다는 결과도 캐시합니다.
+ * - 역할을 바꾼 트랜잭션이 커밋되면 ProjectAccessChangedEvent 로 이 인스턴스의 그 항목을 바로 버립니다.
+ *   다른 인스턴스는 항목마다 cacheTtl 이 지나면 다시 읽으므로, 길어도 그 시간 안에 새 역할(회수 포함)이 반영됩니다.
+ * - 읽는 도중에 버려진 항목은 캐시하지 않습니다. (항목마다 무효화 횟수를 두고, 읽기 전과 같을 때만 넣음)
+ *   그렇지 않으면 회수 전에 읽은 역할이 무효화 뒤에 다시 들어가 cacheTtl 동안 남습니다.
+ * - 복제본이 늦어 이전 역할이 다시 캐시되지 않도록 역할은 프라이머리에서 읽습니다. (복제본 라우팅을 켰을 때)
+ * - 전역 잠금 없이 ConcurrentHashMap 에 두고, cacheSize 를 넘으면 만료된 항목부터,
+ *   그래도 넘으면 가장 먼저 읽은 항목부터 cacheSize 의 90% 까지 한 번에 버립니다. (한 스레드만 정리)
+ */
+@Component
+public class ProjectAccessCache {
+
+    private static final String ROLE_SQL = "SELECT role FROM project_members WHERE project_id = ? AND user_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long cacheTtlNanos;
+
+    private final int cacheSize;
+
+    // (사용자 ID, 프로젝트 ID) -> 역할 (권한이 없으면 empty)
+    private final Map<AccessKey, CachedRole> roles = new ConcurrentHashMap<>();
+    // (사용자 ID, 프로젝트 ID) -> 무효화 횟수 (역할이 바뀐 적 있는 항목만)
+    private final Map<AccessKey, Long> versions = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    public ProjectAccessCache(DataSource dataSource,
+                              @Qualifier("primaryDataSource") ObjectProvider<DataSource> primaryDataSource,
+                              @Value("${til.project-access.cache-ttl:10s}") Duration cacheTtl,
+                              @Value("${til.project-access.cache-size:100000}") int cacheSize) {
+        // 복제본 라우팅을 켜지 않았으면 primaryDataSource 빈이 없으므로 기본 DataSource(샤딩 시 샤드 라우팅)를 씁니다.
+        this.jdbcTemplate = new JdbcTemplate(primaryDataSource.getIfAvailable(() -> dataSource));
+        this.cacheTtlNanos = cacheTtl.toNanos();
+        this.cacheSize = cacheSize;
+    }
+
+    // 소유자가 아니고 공유받은 역할도 required 보다 낮으면 deniedCode 로 거부 (서비스마다 리소스에 맞는 에러 코드를 넘김)
+    public void check(Project project, Long userId, ProjectRole required, GlobalErrorCode deniedCode) {
+        if (!project.isOwnedBy(userId) && !allows(project.getId(), userId, required)) {
+            throw new GlobalException(deniedCode);
+        }
+    }
+
+    // 공유받은 사용자의 역할이 required 이상인지
+    public boolean allows(Long projectId, Long userId, ProjectRole required) {
+        return roleOf(projectId, userId)
+            .map(role -> role.includes(required))
+            .orElse(false);
+    }
+
+    // 공유받은 사용자의 역할 (소유자는 멤버 행이 없으므로 empty)
+    public Optional<ProjectRole> roleOf(Long projectId, Long userId) {
+        AccessKey key = new AccessKey(userId, projectId);
+        CachedRole cached = roles.get(key);
+        if (cached != null && !isExpired(cached, System.nanoTime())) {
+            return cached.role();
+        }
+
+        Long version = versions.get(key);
+        CachedRole loaded = new CachedRole(loadRole(projectId, userId), System.nanoTime());
+        // 무효화와 같은 키 잠금(compute) 안에서 비교하고 넣어서, 비교와 넣기 사이에 무효화가 끼어들지 못하게 합니다.
+        versions.compute(key, (k, current) -> {
+            if (Objects.equals(current, version)) {
+                roles.put(k, loaded);
+            }
+            return current;
+        });
+        if (roles.size() > cacheSize) {
+            evictOverflow();
+        }
+        return loaded.role();
+    }
+
+    // 역할을 바꾼 트랜잭션이 커밋된 뒤에 버립니다. (커밋 전에 버리면 이전 역할이 다시 캐시될 수 있음)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAccessChanged(ProjectAccessChangedEvent event) {
+        versions.compute(new AccessKey(event.getUserId(), event.getProjectId()), (key, current) -> {
+            roles.remove(key);
+            return current == null ? 1L : current + 1;
+        });
+    }
+
+    // ===== private 헬퍼 메서드들 =====
+
+    private boolean isExpired(CachedRole cached, long now) {
+        return now - cached.loadedAt() >= cacheTtlNanos;
+    }
+
+    // 다른 스레드가 정리 중이면 그냥 돌아갑니다. (잠깐 cacheSize 를 넘어도 됨)
+    private void evictOverflow() {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            long now = System.nanoTime();
+            roles.values().removeIf(cached -> isExpired(cached, now));
+
+            int overflow = roles.size() - cacheSize * 9 / 10;
+            if (overflow > 0) {
+                roles.entrySet().stream()
+                    .sorted(Comparator.comparingLong(entry -> entry.getValue().loadedAt()))
+                    .limit(overflow)
+                    .map(Map.Entry::getKey)
+                    .toList()
+                    .forEach(roles::remove);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private Optional<ProjectRole> loadRole(Long projectId, Long userId) {
+        List<String> found = jdbcTemplate.queryForList(ROLE_SQL, String.class, projectId, userId);
+        return found.isEmpty() ? Optional.empty() : Optional.of(ProjectRole.valueOf(found.get(0)));
+    }
+
+    private record AccessKey(Long userId, Long projectId) {
+    }
+
+    private record CachedRole(Optional<ProjectRole> role, long loadedAt) {
+    }
+}
@@ -0,0 +1,120 @@
+package gon.til.domain.service;
+
+import gon.til.domain.dto.project.ArchivedProjectResponse;
+import gon.til.domain.dto.project.ProjectResponse;
+import gon.til.domain.entity.Project;
+import gon.til.domain.event.TagPaletteChangedEvent;
+import gon.til.domain.repository.ProjectRepository;
+import gon.til.global.exception.GlobalErrorCode;
+import gon.til.global.exception.GlobalException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 프로젝트 보관/복원
+ * - 보관한 프로젝트는 archived_* 테이블로 옮겨서, 평소 조회하는 테이블과 인덱스를 작게 유지합니다.
+ * - 보관 중인 프로젝트는 목록/카드 조회에 나오지 않고, 제목도 다시 쓸 수 있습니다. 복원할 때 제목이 겹치면 409 입니다.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ProjectArchiveService {
+
+    private static final String FIND_ARCHIVED_SQL =
+        "SELECT id, title, description, category, archived_at FROM archived_projects " +
+        "WHERE user_id = ? ORDER BY archived_at DESC, id DESC";
+    private static final String FIND_ARCHIVED_BY_ID_SQL =
+        "SELECT id, title, description, category, archived_at FROM archived_projects WHERE id = ?";
+    private static final String FIND_ARCHIVED_OWNER_SQL = "SELECT user_id FROM archived_projects WHERE id = ?";
+
+    private final ProjectRepository projectRepository;
+    private final ProjectBulkOperations projectBulkOperations;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
+
+    public ProjectArchiveService(ProjectRepository projectRepository,
+                                 ProjectBulkOperations projectBulkOperations,
+                                 ApplicationEventPublisher eventPublisher,
+                                 DataSource dataSource) {
+        this.projectRepository = projectRepository;
+        this.projectBulkOperations = projectBulkOperations;
+        this.eventPublisher = eventPublisher;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    // 프로젝트 보관
+    @Transactional
+    public ArchivedProjectResponse archiveProject(Long projectId, Long userId) {
+        Project project = projectRepository.findById(projectId)
+            .orElseThrow(() -> new GlobalException(GlobalErrorCode.NOT_FOUND_PROJECT));
+        if (!project.isOwnedBy(userId)) {
+            throw new GlobalException(GlobalErrorCode.ACCESS_DENIED_PROJECT);
+        }
+
+        projectBulkOperations.archive(projectId);
+        eventPublisher.publishEvent(new TagPaletteChangedEvent(projectId));
+
+        return findArchived(projectId);
+    }
+
+    // 보관한 프로젝트 목록 (최근 보관 순)
+    public List<ArchivedProjectResponse> getArchivedProjects(Long userId) {
+        return jdbcTemplate.query(FIND_ARCHIVED_SQL, (rs, rowNum) -> toResponse(rs), userId);
+    }
+
+    // 보관한 프로젝트 복원 (같은 ID 로 돌아옴)
+    @Transactional
+    public ProjectResponse restoreProject(Long projectId, Long userId) {
+        ArchivedProjectResponse archived = validateArchivedOwnership(projectId, userId);
+        if (projectRepository.existsByTitleAndUserId(archived.getTitle(), userId)) {
+            throw new GlobalException(GlobalErrorCode.DUPLICATE_PROJECT_TITLE);
+        }
+
+        projectBulkOperations.restore(projectId);
+
+        Project project = projectRepository.findById(projectId)
+            .orElseThrow(() -> new GlobalException(GlobalErrorCode.NOT_FOUND_PROJECT));
+        return ProjectResponse.from(project);
+    }
+
+    // 보관한 프로젝트 영구 삭제
+    @Transactional
+    public void deleteArchivedProject(Long projectId, Long userId) {
+        validateArchivedOwnership(projectId, userId);
+        projectBulkOperations.deleteArchived(projectId);
+    }
+
+    // ===== private 헬퍼 메서드들 =====
+
+    private ArchivedProjectResponse validateArchivedOwnership(Long projectId, Long userId) {
+        List<Long> owners = jdbcTemplate.queryForList(FIND_ARCHIVED_OWNER_SQL, Long.class, projectId);
+        if (owners.isEmpty()) {
+            throw new GlobalException(GlobalErrorCode.NOT_FOUND_ARCHIVED_PROJECT);
+        }
+        if (!userId.equals(owners.get(0))) {
+            throw new GlobalException(GlobalErrorCode.ACCESS_DENIED_PROJECT);
+        }
+        return findArchived(projectId);
+    }
+
+    private ArchivedProjectResponse findArchived(Long projectId) {
+        return jdbcTemplate.query(FIND_ARCHIVED_BY_ID_SQL, (rs, rowNum) -> toResponse(rs), projectId).stream()
+            .findFirst()
+            .orElseThrow(() -> new GlobalException(GlobalErrorCode.NOT_FOUND_ARCHIVED_PROJECT));
+    }
+
+    private static ArchivedProjectResponse toResponse(ResultSet rs) throws SQLException {
+        return new ArchivedProjectResponse(
+            rs.getLong("id"),
+            rs.getString("title"),
+            rs.getString("description"),
+            rs.getString("category"),
+            rs.getTimestamp("archived_at").toLocalDateTime()
+        );
+    }
+}
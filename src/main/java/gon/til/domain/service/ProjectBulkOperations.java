@@ -0,0 +1,187 @@
+package gon.til.domain.service;
+
+import jakarta.persistence.EntityManager;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 프로젝트 단위 일괄 삭제/보관/복원/복제
+ * - 엔티티를 하나씩 읽어 cascade 로 지우지 않고, 테이블마다 SQL 한 번으로 처리합니다.
+ *   카드가 5만 개여도 테이블당 왕복 한 번이라 프로젝트 크기와 관계없이 문장 수가 같습니다.
+ * - 외래 키 순서(TABLES)대로 넣고, 역순으로 지웁니다.
+ * - 보관은 archived_* 테이블로 같은 ID 그대로 옮기므로, 복원하면 카드/태그 ID 가 바뀌지 않습니다.
+ * - card_events, board_daily_flows 는 이력이라 지우지 않습니다. (보관 중에도 통계에 남음)
+ * - 복제할 때 멤버(project_members)는 복사하지 않습니다. 새 프로젝트는 복제한 사용자만 봅니다.
+ * - 권한 검사는 호출하는 서비스에서 합니다. 호출하는 쪽 트랜잭션 안에서 실행해야 합니다.
+ * - JPA 를 거치지 않으므로, 실행 전에 flush 하고 실행 후에 영속성 컨텍스트를 비웁니다.
+ *   (같은 트랜잭션에서 지운 엔티티를 다시 읽거나, 반영 안 된 card_count 를 복사하지 않도록)
+ */
+@Slf4j
+@Component
+public class ProjectBulkOperations {
+
+    private static final String ARCHIVED = "archived_";
+
+    private static final String BOARD_SCOPE = "board_id IN (SELECT id FROM %sboards WHERE project_id = ?)";
+    private static final String CARD_SCOPE = "card_id IN (SELECT id FROM %scards WHERE project_id = ?)";
+
+    // 외래 키 순서 (삭제는 역순). 컬럼 목록은 원본 테이블과 archived_* 테이블에 모두 있어야 합니다.
+    private static final List<BulkTable> TABLES = List.of(
+        new BulkTable("projects", "id, title, description, category, user_id, created_at, updated_at, deleted_at", "id = ?"),
+        new BulkTable("project_members", "id, project_id, user_id, role, created_at", "project_id = ?"),
+        new BulkTable("boards", "id, title, project_id, created_at, updated_at", "project_id = ?"),
+        new BulkTable("columns",
+            "id, title, position, wip_limit, card_count, board_id, created_at, updated_at, origin_id, deleted_at, review_enabled",
+            BOARD_SCOPE),
+        new BulkTable("tags", "id, name, color, project_id, created_at, origin_id", "project_id = ?"),
+        new BulkTable("tag_palette_colors", "id, project_id, name, hex_code, created_at", "project_id = ?"),
+        new BulkTable("cards",
+            "id, title, content, position, user_id, kanban_column_id, project_id, created_at, updated_at, excerpt, origin_id, deleted_at, " +
+            "due_at, remind_at, reminded_at",
+            "project_id = ?"),
+        new BulkTable("card_tags", "card_id, tag_id", CARD_SCOPE),
+        new BulkTable("card_attachments", "id, card_id, file_name, content_type, size, blob_hash, created_at", CARD_SCOPE),
+        new BulkTable("card_reviews",
+            "id, card_id, user_id, repetitions, interval_days, ease_factor, next_review_at, last_reviewed_at, notified_at",
+            CARD_SCOPE)
+    );
+
+    // ===== 복제 =====
+    // 새 컬럼/태그/카드에 원본 ID 를 origin_id 로 남겨 두고, 다음 테이블은 origin_id 로 새 ID 를 찾아 이어 붙입니다.
+
+    // 휴지통에 있는 컬럼/카드는 복사하지 않습니다. 카드를 지울 때 card_count 를 줄여 두므로 그대로 씁니다.
+    private static final String COPY_COLUMNS_SQL =
+        "INSERT INTO columns (title, position, wip_limit, card_count, board_id, created_at, updated_at, origin_id, review_enabled) " +
+        "SELECT title, position, wip_limit, card_count, ?, ?, ?, id, review_enabled FROM columns WHERE board_id = ? AND deleted_at IS NULL";
+    private static final String COPY_TAGS_SQL =
+        "INSERT INTO tags (name, color, project_id, created_at, origin_id) " +
+        "SELECT name, color, ?, ?, id FROM tags WHERE project_id = ?";
+    private static final String COPY_PALETTE_SQL =
+        "INSERT INTO tag_palette_colors (project_id, name, hex_code, created_at) " +
+        "SELECT ?, name, hex_code, ? FROM tag_palette_colors WHERE project_id = ?";
+    // 마감일은 복사하고 알림은 복사하지 않습니다. (같은 알림이 두 번 오지 않도록)
+    private static final String COPY_CARDS_SQL =
+        "INSERT INTO cards (title, content, excerpt, position, user_id, kanban_column_id, project_id, created_at, updated_at, " +
+        "origin_id, due_at) " +
+        "SELECT c.title, c.content, c.excerpt, c.position, ?, col.id, ?, ?, ?, c.id, c.due_at " +
+        "FROM cards c JOIN columns col ON col.board_id = ? AND col.origin_id = c.kanban_column_id " +
+        "WHERE c.project_id = ? AND c.deleted_at IS NULL";
+    private static final String COPY_CARD_TAGS_SQL =
+        "INSERT INTO card_tags (card_id, tag_id) " +
+        "SELECT c.id, t.id FROM card_tags ct " +
+        "JOIN cards c ON c.project_id = ? AND c.origin_id = ct.card_id " +
+        "JOIN tags t ON t.project_id = ? AND t.origin_id = ct.tag_id";
+    // 파일 내용은 BlobStore 에서 해시로 공유하므로 행만 복사합니다.
+    private static final String COPY_ATTACHMENTS_SQL =
+        "INSERT INTO card_attachments (card_id, file_name, content_type, size, blob_hash, created_at) " +
+        "SELECT c.id, a.file_name, a.content_type, a.size, a.blob_hash, ? " +
+        "FROM card_attachments a JOIN cards c ON c.project_id = ? AND c.origin_id = a.card_id";
+
+    private static final String RESTORED_REVIEWS_SQL =
+        "SELECT id, user_id, card_id, next_review_at FROM card_reviews " +
+        "WHERE card_id IN (SELECT id FROM cards WHERE project_id = ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final ReviewDueQueue reviewDueQueue;
+
+    public ProjectBulkOperations(DataSource dataSource, EntityManager entityManager, ReviewDueQueue reviewDueQueue) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.entityManager = entityManager;
+        this.reviewDueQueue = reviewDueQueue;
+    }
+
+    // 프로젝트와 딸린 행을 모두 지우고, 지운 행 수를 반환합니다.
+    public int delete(Long projectId) {
+        entityManager.flush();
+        int deleted = deleteAll("", projectId);
+        entityManager.clear();
+        return deleted;
+    }
+
+    // 원본 테이블에서 archived_* 테이블로 옮깁니다.
+    public int archive(Long projectId) {
+        entityManager.flush();
+        int moved = moveAll("", ARCHIVED, projectId);
+        deleteAll("", projectId);
+        entityManager.clear();
+        return moved;
+    }
+
+    // archived_* 테이블에서 원본 테이블로 되돌리고, 돌아온 복습 일정을 큐에 다시 넣습니다.
+    public int restore(Long projectId) {
+        entityManager.flush();
+        int moved = moveAll(ARCHIVED, "", projectId);
+        deleteAll(ARCHIVED, projectId);
+        entityManager.clear();
+
+        // 보관 중에 복습 시각이 지난 일정도 ReviewScheduler 가 바로 꺼내도록 큐에 넣습니다.
+        jdbcTemplate.query(RESTORED_REVIEWS_SQL, rs -> {
+            reviewDueQueue.offer(rs.getLong("id"), rs.getLong("user_id"), rs.getLong("card_id"),
+                rs.getTimestamp("next_review_at").toLocalDateTime());
+        }, projectId);
+        return moved;
+    }
+
+    // 보관한 프로젝트를 완전히 지웁니다.
+    public int deleteArchived(Long projectId) {
+        return deleteAll(ARCHIVED, projectId);
+    }
+
+    /**
+     * 원본 프로젝트의 컬럼, 태그, 팔레트, 카드, 카드-태그 연결, 첨부 파일을 대상 프로젝트로 복사합니다.
+     * 대상 프로젝트와 보드는 호출하는 쪽에서 미리 저장해 둡니다. 복습 일정은 복사하지 않습니다.
+     */
+    public int copyContents(Long sourceProjectId, Long sourceBoardId, Long targetProjectId, Long targetBoardId, Long userId) {
+        entityManager.flush();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        int rows = jdbcTemplate.update(COPY_COLUMNS_SQL, targetBoardId, now, now, sourceBoardId);
+        rows += jdbcTemplate.update(COPY_TAGS_SQL, targetProjectId, now, sourceProjectId);
+        rows += jdbcTemplate.update(COPY_PALETTE_SQL, targetProjectId, now, sourceProjectId);
+        rows += jdbcTemplate.update(COPY_CARDS_SQL, userId, targetProjectId, now, now, targetBoardId, sourceProjectId);
+        rows += jdbcTemplate.update(COPY_CARD_TAGS_SQL, targetProjectId, targetProjectId);
+        rows += jdbcTemplate.update(COPY_ATTACHMENTS_SQL, now, targetProjectId);
+        entityManager.clear();
+        return rows;
+    }
+
+    // ===== private 헬퍼 메서드들 =====
+
+    private int moveAll(String fromPrefix, String toPrefix, Long projectId) {
+        int rows = 0;
+        for (BulkTable table : TABLES) {
+            rows += jdbcTemplate.update(
+                "INSERT INTO " + toPrefix + table.name() + " (" + table.columns() + ") " +
+                "SELECT " + table.columns() + " FROM " + fromPrefix + table.name() + " WHERE " + table.where(fromPrefix),
+                projectId);
+        }
+        return rows;
+    }
+
+    private int deleteAll(String prefix, Long projectId) {
+        List<BulkTable> reversed = new ArrayList<>(TABLES);
+        Collections.reverse(reversed);
+
+        int rows = 0;
+        for (BulkTable table : reversed) {
+            rows += jdbcTemplate.update("DELETE FROM " + prefix + table.name() + " WHERE " + table.where(prefix), projectId);
+        }
+        log.debug("프로젝트 일괄 삭제 - projectId: {}, {}행 ({})", projectId, rows, prefix.isEmpty() ? "live" : prefix);
+        return rows;
+    }
+
+    private record BulkTable(String name, String columns, String where) {
+
+        String where(String prefix) {
+            return String.format(where, prefix);
+        }
+    }
+}
@@ -0,0 +1,300 @@
+package gon.til.domain.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gon.til.domain.common.ProjectExportFormat;
+import gon.til.domain.common.ProjectRole;
+import gon.til.domain.entity.Project;
+import gon.til.domain.repository.ProjectRepository;
+import gon.til.global.exception.GlobalErrorCode;
+import gon.til.global.exception.GlobalException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 프로젝트 내보내기 서비스
+ * - 엔티티를 불러오지 않고 JDBC 커서로 한 행씩 읽어 바로 JsonGenerator / CSV 로 씁니다.
+ * - 카드가 아무리 많아도 메모리에는 지금 쓰고 있는 카드 한 장만 올라갑니다.
+ * - 읽기 전용 트랜잭션 하나 안에서 읽어서 파일 전체가 같은 시점의 데이터가 됩니다.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ProjectExportService {
+
+    // MySQL 에서 행 단위로 받으려면 JDBC URL 에 useCursorFetch=true 가 필요합니다.
+    private static final int FETCH_SIZE = 500;
+
+    private static final String CARDS_SQL =
+        "SELECT c.id, c.kanban_column_id, c.title, c.content, c.position, c.created_at, ct.tag_id " +
+        "FROM cards c LEFT JOIN card_tags ct ON ct.card_id = c.id " +
+        "WHERE c.project_id = ? AND c.deleted_at IS NULL ORDER BY c.id";
+
+    private static final String CARDS_CSV_SQL =
+        "SELECT c.id, col.title AS column_title, c.title, c.content, c.position, c.created_at, t.name AS tag_name " +
+        "FROM cards c JOIN columns col ON col.id = c.kanban_column_id " +
+        "LEFT JOIN card_tags ct ON ct.card_id = c.id LEFT JOIN tags t ON t.id = ct.tag_id " +
+        "WHERE c.project_id = ? AND c.deleted_at IS NULL ORDER BY c.id";
+
+    private final ProjectRepository projectRepository;
+    private final ProjectAccessCache projectAccessCache;
+    private final JdbcTemplate jdbcTemplate;
+    private final JsonFactory jsonFactory;
+
+    public ProjectExportService(ProjectRepository projectRepository, ProjectAccessCache projectAccessCache,
+                                DataSource dataSource, ObjectMapper objectMapper) {
+        this.projectRepository = projectRepository;
+        this.projectAccessCache = projectAccessCache;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    // 내보내기 권한을 확인하고 파일 이름(확장자 제외)을 반환
+    public String getExportFileName(Long projectId, Long userId) {
+        Project project = projectRepository.findById(projectId)
+            .orElseThrow(() -> new GlobalException(GlobalErrorCode.NOT_FOUND_PROJECT));
+
+        projectAccessCache.check(project, userId, ProjectRole.VIEWER, GlobalErrorCode.ACCESS_DENIED_PROJECT);
+        return "project-" + project.getId();
+    }
+
+    /**
+     * 프로젝트 전체(보드, 컬럼, 태그, 카드, 카드-태그)를 JSON 으로 씁니다.
+     * 권한 확인은 getExportFileName 에서 먼저 합니다. out 은 닫지 않습니다.
+     */
+    public void exportJson(Long projectId, OutputStream out) throws IOException {
+        try (JsonGenerator generator = jsonFactory.createGenerator(out, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+            generator.writeStartObject();
+            generator.writeStringField("format", ProjectExportFormat.FORMAT);
+            generator.writeNumberField("version", ProjectExportFormat.VERSION);
+
+            writeProject(generator, projectId);
+            Long boardId = writeBoard(generator, projectId);
+            writeColumns(generator, boardId);
+            writeTags(generator, projectId);
+            writeCards(generator, projectId);
+
+            generator.writeEndObject();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * 카드 목록을 CSV 로 씁니다. (id, column, title, content, position, tags, created_at)
+     * 태그는 세미콜론으로 이어 붙입니다. writer 는 닫지 않습니다.
+     */
+    public void exportCardsCsv(Long projectId, Writer writer) throws IOException {
+        writer.write("id,column,title,content,position,tags,created_at\r\n");
+
+        CsvCardRow current = new CsvCardRow();
+        try {
+            stream(CARDS_CSV_SQL, rs -> {
+                long cardId = rs.getLong("id");
+                if (current.id != null && current.id != cardId) {
+                    current.writeTo(writer);
+                }
+                if (current.id == null || current.id != cardId) {
+                    current.reset(rs);
+                }
+                String tagName = rs.getString("tag_name");
+                if (tagName != null) {
+                    current.tags.add(tagName);
+                }
+            }, projectId);
+            if (current.id != null) {
+                current.writeTo(writer);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    // ===== private 헬퍼 메서드들 =====
+
+    private void writeProject(JsonGenerator generator, Long projectId) {
+        stream("SELECT id, title, description, category FROM projects WHERE id = ?", rs -> {
+            generator.writeObjectFieldStart("project");
+            generator.writeNumberField("id", rs.getLong("id"));
+            generator.writeStringField("title", rs.getString("title"));
+            generator.writeStringField("description", rs.getString("description"));
+            generator.writeStringField("category", rs.getString("category"));
+            generator.writeEndObject();
+        }, projectId);
+    }
+
+    private Long writeBoard(JsonGenerator generator, Long projectId) {
+        Long[] boardId = new Long[1];
+        stream("SELECT id, title FROM boards WHERE project_id = ?", rs -> {
+            boardId[0] = rs.getLong("id");
+            generator.writeObjectFieldStart("board");
+            generator.writeNumberField("id", boardId[0]);
+            generator.writeStringField("title", rs.getString("title"));
+            generator.writeEndObject();
+        }, projectId);
+        return boardId[0];
+    }
+
+    private void writeColumns(JsonGenerator generator, Long boardId) throws IOException {
+        generator.writeArrayFieldStart("columns");
+        if (boardId != null) {
+            stream("SELECT id, title, position, wip_limit, review_enabled FROM columns WHERE board_id = ? AND deleted_at IS NULL ORDER BY position", rs -> {
+                generator.writeStartObject();
+                generator.writeNumberField("id", rs.getLong("id"));
+                generator.writeStringField("title", rs.getString("title"));
+                writeNullableInt(generator, "position", rs, "position");
+                writeNullableInt(generator, "wipLimit", rs, "wip_limit");
+                generator.writeBooleanField("reviewEnabled", rs.getBoolean("review_enabled"));
+                generator.writeEndObject();
+            }, boardId);
+        }
+        generator.writeEndArray();
+    }
+
+    private void writeTags(JsonGenerator generator, Long projectId) throws IOException {
+        generator.writeArrayFieldStart("tags");
+        stream("SELECT id, name, color FROM tags WHERE project_id = ? ORDER BY id", rs -> {
+            generator.writeStartObject();
+            generator.writeNumberField("id", rs.getLong("id"));
+            generator.writeStringField("name", rs.getString("name"));
+            generator.writeStringField("color", rs.getString("color"));
+            generator.writeEndObject();
+        }, projectId);
+        generator.writeEndArray();
+    }
+
+    // 카드-태그 LEFT JOIN 결과는 카드 ID 순이므로, 카드가 바뀔 때마다 이전 카드 객체를 닫습니다.
+    private void writeCards(JsonGenerator generator, Long projectId) throws IOException {
+        generator.writeArrayFieldStart("cards");
+
+        long[] currentCardId = {0L};
+        stream(CARDS_SQL, rs -> {
+            long cardId = rs.getLong("id");
+            if (cardId != currentCardId[0]) {
+                if (currentCardId[0] != 0L) {
+                    generator.writeEndArray();
+                    generator.writeEndObject();
+                }
+                currentCardId[0] = cardId;
+
+                generator.writeStartObject();
+                generator.writeNumberField("id", cardId);
+                generator.writeNumberField("columnId", rs.getLong("kanban_column_id"));
+                generator.writeStringField("title", rs.getString("title"));
+                generator.writeStringField("content", rs.getString("content"));
+                writeNullableInt(generator, "position", rs, "position");
+                Timestamp createdAt = rs.getTimestamp("created_at");
+                generator.writeStringField("createdAt", createdAt == null ? null : createdAt.toLocalDateTime().toString());
+                generator.writeArrayFieldStart("tagIds");
+            }
+
+            long tagId = rs.getLong("tag_id");
+            if (!rs.wasNull()) {
+                generator.writeNumber(tagId);
+            }
+        }, projectId);
+
+        if (currentCardId[0] != 0L) {
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+    }
+
+    private void writeNullableInt(JsonGenerator generator, String field, ResultSet rs, String column)
+        throws IOException, SQLException {
+        int value = rs.getInt(column);
+        if (rs.wasNull()) {
+            generator.writeNullField(field);
+        } else {
+            generator.writeNumberField(field, value);
+        }
+    }
+
+    private void stream(String sql, RowWriter rowWriter, Object... args) {
+        jdbcTemplate.query(sql, rs -> {
+            try {
+                rowWriter.write(rs);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, args);
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(ResultSet rs) throws IOException, SQLException;
+    }
+
+    // CSV 로 쓰기 전까지 카드 한 장의 값과 태그 이름을 모아두는 버퍼
+    private static class CsvCardRow {
+
+        private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+        private Long id;
+        private String column;
+        private String title;
+        private String content;
+        private String position;
+        private String createdAt;
+        private final List<String> tags = new ArrayList<>();
+
+        private void reset(ResultSet rs) throws SQLException {
+            id = rs.getLong("id");
+            column = rs.getString("column_title");
+            title = rs.getString("title");
+            content = rs.getString("content");
+            position = rs.getString("position");
+            Timestamp created = rs.getTimestamp("created_at");
+            createdAt = created == null ? null : created.toLocalDateTime().toString();
+            tags.clear();
+        }
+
+        private void writeTo(Writer writer) throws IOException {
+            writer.write(String.valueOf(id));
+            writer.write(',');
+            writer.write(escape(column));
+            writer.write(',');
+            writer.write(escape(title));
+            writer.write(',');
+            writer.write(escape(content));
+            writer.write(',');
+            writer.write(escape(position));
+            writer.write(',');
+            writer.write(escape(String.join(";", tags)));
+            writer.write(',');
+            writer.write(escape(createdAt));
+            writer.write("\r\n");
+        }
+
+        // RFC 4180 : 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고 안의 따옴표는 두 번 씁니다.
+        // 스프레드시트가 수식으로 실행하지 않도록 =, +, -, @, 탭, CR 로 시작하는 값은 앞에 ' 를 붙입니다. (CSV 인젝션)
+        private static String escape(String value) {
+            if (value == null) {
+                return "";
+            }
+            if (!value.isEmpty() && FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0) {
+                value = "'" + value;
+            }
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+    }
+}
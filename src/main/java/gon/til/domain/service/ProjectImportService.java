@@ -0,0 +1,502 @@
+package gon.til.domain.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gon.til.domain.common.ProjectExportFormat;
+import gon.til.domain.common.TagColor;
+import gon.til.domain.dto.transfer.ProjectImportResponse;
+import gon.til.domain.entity.User;
+import gon.til.domain.repository.ProjectRepository;
+import gon.til.domain.repository.UserRepository;
+import gon.til.global.exception.GlobalErrorCode;
+import gon.til.global.exception.GlobalException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 프로젝트 가져오기 서비스
+ * - JsonParser 로 파일을 앞에서부터 읽으며, 카드는 CHUNK_SIZE 장씩 모아 JDBC 배치로 저장합니다.
+ * - 청크마다 트랜잭션을 따로 커밋하므로 카드 수와 상관없이 메모리와 트랜잭션 크기가 일정합니다.
+ * - 파일의 ID 는 새 ID 로 다시 매깁니다. (컬럼/태그 ID 매핑만 메모리에 둡니다)
+ * - 중간에 실패하면 그때까지 저장한 프로젝트를 지웁니다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class ProjectImportService {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private static final String INSERT_PROJECT_SQL =
+        "INSERT INTO projects (title, description, category, user_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_BOARD_SQL =
+        "INSERT INTO boards (title, project_id, created_at, updated_at) VALUES (?, ?, ?, ?)";
+    private static final String INSERT_COLUMN_SQL =
+        "INSERT INTO columns (title, position, wip_limit, card_count, board_id, created_at, updated_at, review_enabled) " +
+        "VALUES (?, ?, ?, 0, ?, ?, ?, ?)";
+    private static final String INSERT_TAG_SQL =
+        "INSERT INTO tags (name, color, project_id, created_at) VALUES (?, ?, ?, ?)";
+    private static final String INSERT_CARD_SQL =
+        "INSERT INTO cards (title, content, position, user_id, kanban_column_id, project_id, created_at, updated_at, excerpt) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_CARD_TAG_SQL =
+        "INSERT INTO card_tags (card_id, tag_id) VALUES (?, ?)";
+    private static final String UPDATE_CARD_COUNTS_SQL =
+        "UPDATE columns SET card_count = (SELECT COUNT(*) FROM cards c WHERE c.kanban_column_id = columns.id) " +
+        "WHERE board_id = ?";
+
+    private final UserRepository userRepository;
+    private final ProjectRepository projectRepository;
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MarkdownRenderer markdownRenderer;
+    private final BoardFlowAggregator boardFlowAggregator;
+
+    public ProjectImportService(UserRepository userRepository,
+                                ProjectRepository projectRepository,
+                                ObjectMapper objectMapper,
+                                DataSource dataSource,
+                                PlatformTransactionManager transactionManager,
+                                MarkdownRenderer markdownRenderer,
+                                BoardFlowAggregator boardFlowAggregator) {
+        this.userRepository = userRepository;
+        this.projectRepository = projectRepository;
+        this.objectMapper = objectMapper;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.markdownRenderer = markdownRenderer;
+        this.boardFlowAggregator = boardFlowAggregator;
+    }
+
+    /**
+     * 내보내기 형식(ProjectExportFormat)의 JSON 을 읽어 새 프로젝트로 저장합니다.
+     * 청크 단위로 직접 커밋하므로 바깥 트랜잭션에 참여하지 않습니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ProjectImportResponse importJson(Long userId, InputStream in) {
+        User user = userRepository.findById(userId)
+            .orElseThrow(() -> new GlobalException(GlobalErrorCode.NOT_FOUND_USER));
+
+        ImportContext context = new ImportContext(user);
+        try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            readDocument(parser, context);
+        } catch (IOException e) {
+            discard(context);
+            throw new GlobalException(GlobalErrorCode.INVALID_IMPORT_FILE);
+        } catch (RuntimeException e) {
+            discard(context);
+            throw e;
+        }
+
+        log.info("프로젝트 가져오기 완료 - projectId: {}, 카드 {}장", context.projectId, context.cardCount);
+        return new ProjectImportResponse(
+            context.projectId,
+            context.boardId,
+            context.columnIds.size(),
+            context.tagIds.size(),
+            context.cardCount
+        );
+    }
+
+    // ===== private 헬퍼 메서드들 =====
+
+    private void readDocument(JsonParser parser, ImportContext context) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw invalidFile();
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+
+            switch (field) {
+                case "format" -> {
+                    if (!ProjectExportFormat.FORMAT.equals(parser.getValueAsString())) {
+                        throw invalidFile();
+                    }
+                }
+                case "version" -> {
+                    if (parser.getValueAsInt() != ProjectExportFormat.VERSION) {
+                        throw invalidFile();
+                    }
+                }
+                case "project" -> {
+                    ensureBeforeCards(context);
+                    context.project = objectMapper.readTree(parser);
+                }
+                case "board" -> {
+                    ensureBeforeCards(context);
+                    context.board = objectMapper.readTree(parser);
+                }
+                case "columns" -> {
+                    ensureBeforeCards(context);
+                    readArray(parser, context.columns);
+                }
+                case "tags" -> {
+                    ensureBeforeCards(context);
+                    readArray(parser, context.tags);
+                }
+                case "cards" -> {
+                    saveStructure(context);
+                    readCards(parser, context);
+                }
+                default -> parser.skipChildren();
+            }
+        }
+
+        // 카드가 없는 파일
+        if (context.projectId == null) {
+            saveStructure(context);
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update(UPDATE_CARD_COUNTS_SQL, context.boardId);
+            boardFlowAggregator.enterProjectCards(context.projectId);
+        });
+    }
+
+    // 프로젝트 구조는 카드보다 앞에 있어야 합니다. (카드를 읽기 전에 먼저 저장하므로)
+    private void ensureBeforeCards(ImportContext context) {
+        if (context.projectId != null) {
+            throw invalidFile();
+        }
+    }
+
+    // 컬럼, 태그처럼 작은 배열은 통째로 읽습니다.
+    private void readArray(JsonParser parser, List<JsonNode> target) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            throw invalidFile();
+        }
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            target.add(objectMapper.readTree(parser));
+        }
+    }
+
+    // 카드는 한 장씩 읽어 CHUNK_SIZE 마다 저장합니다.
+    private void readCards(JsonParser parser, ImportContext context) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            throw invalidFile();
+        }
+
+        List<ImportedCard> chunk = new ArrayList<>(CHUNK_SIZE);
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            chunk.add(toImportedCard(objectMapper.readTree(parser), context));
+            if (chunk.size() == CHUNK_SIZE) {
+                saveCards(chunk, context);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            saveCards(chunk, context);
+        }
+    }
+
+    // 프로젝트, 보드, 컬럼, 태그를 한 트랜잭션으로 저장하고 ID 매핑을 만듭니다.
+    private void saveStructure(ImportContext context) {
+        ensureBeforeCards(context);
+        String projectTitle = requireText(context.project, "title");
+        if (projectRepository.existsByTitleAndUser(projectTitle, context.user)) {
+            throw new GlobalException(GlobalErrorCode.DUPLICATE_PROJECT_TITLE);
+        }
+        List<ImportedTag> tags = toImportedTags(context.tags);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+            context.projectId = insert(INSERT_PROJECT_SQL, ps -> {
+                ps.setString(1, projectTitle);
+                ps.setString(2, optionalText(context.project, "description"));
+                ps.setString(3, optionalText(context.project, "category"));
+                ps.setLong(4, context.user.getId());
+                ps.setTimestamp(5, now);
+                ps.setTimestamp(6, now);
+            });
+
+            String boardTitle = context.board == null ? projectTitle + " Board" : requireText(context.board, "title");
+            context.boardId = insert(INSERT_BOARD_SQL, ps -> {
+                ps.setString(1, boardTitle);
+                ps.setLong(2, context.projectId);
+                ps.setTimestamp(3, now);
+                ps.setTimestamp(4, now);
+            });
+
+            for (JsonNode column : context.columns) {
+                String title = requireText(column, "title");
+                Long newId = insert(INSERT_COLUMN_SQL, ps -> {
+                    ps.setString(1, title);
+                    setNullableInt(ps, 2, column.get("position"));
+                    setNullableInt(ps, 3, column.get("wipLimit"));
+                    ps.setLong(4, context.boardId);
+                    ps.setTimestamp(5, now);
+                    ps.setTimestamp(6, now);
+                    // 이 값이 없던 예전 내보내기 파일은 복습 컬럼이 아닌 것으로 가져옵니다.
+                    ps.setBoolean(7, column.path("reviewEnabled").asBoolean(false));
+                });
+                context.columnIds.put(requireLong(column, "id"), newId);
+            }
+
+            for (ImportedTag tag : tags) {
+                Long newId = insert(INSERT_TAG_SQL, ps -> {
+                    ps.setString(1, tag.name());
+                    ps.setString(2, tag.color());
+                    ps.setLong(3, context.projectId);
+                    ps.setTimestamp(4, now);
+                });
+                context.tagIds.put(tag.id(), newId);
+            }
+        });
+
+        // 구조는 저장했으니 더 이상 필요 없음
+        context.columns.clear();
+        context.tags.clear();
+    }
+
+    // 태그 색상을 검증하고, 파일 안에서 태그 이름이 겹치지 않는지 확인합니다. (새 프로젝트라 DB 와 겹칠 일은 없음)
+    private List<ImportedTag> toImportedTags(List<JsonNode> tagNodes) {
+        List<ImportedTag> tags = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+        for (JsonNode tag : tagNodes) {
+            String name = requireText(tag, "name");
+            if (!names.add(name)) {
+                throw new GlobalException(GlobalErrorCode.DUPLICATE_TAG_NAME);
+            }
+            tags.add(new ImportedTag(requireLong(tag, "id"), name, resolveColor(optionalText(tag, "color"))));
+        }
+        return tags;
+    }
+
+    // 기본 색상은 이름/별칭/헥사 코드 모두 받고, 원본 프로젝트 팔레트의 색상은 헥사 코드 그대로 받습니다.
+    private String resolveColor(String color) {
+        if (color == null) {
+            return null;
+        }
+        TagColor tagColor = TagColor.find(color);
+        if (tagColor != null) {
+            return tagColor.getHexCode();
+        }
+        if (TagColor.isHexCode(color)) {
+            return color.toUpperCase(Locale.ROOT);
+        }
+        throw new GlobalException(GlobalErrorCode.INVALID_COLOR_NAME);
+    }
+
+    private ImportedCard toImportedCard(JsonNode card, ImportContext context) {
+        if (context.projectId == null) {
+            throw invalidFile();
+        }
+
+        Long columnId = context.columnIds.get(requireLong(card, "columnId"));
+        if (columnId == null) {
+            throw invalidFile();
+        }
+
+        Set<Long> tagIds = new LinkedHashSet<>();
+        JsonNode tagIdNodes = card.get("tagIds");
+        if (tagIdNodes != null && tagIdNodes.isArray()) {
+            for (JsonNode tagIdNode : tagIdNodes) {
+                Long tagId = context.tagIds.get(tagIdNode.asLong());
+                if (tagId == null) {
+                    throw invalidFile();
+                }
+                tagIds.add(tagId);
+            }
+        }
+
+        LocalDateTime createdAt;
+        try {
+            String createdAtText = optionalText(card, "createdAt");
+            createdAt = createdAtText == null ? LocalDateTime.now() : LocalDateTime.parse(createdAtText);
+        } catch (DateTimeParseException e) {
+            throw invalidFile();
+        }
+
+        JsonNode position = card.get("position");
+        return new ImportedCard(
+            columnId,
+            requireText(card, "title"),
+            optionalText(card, "content"),
+            position == null || position.isNull() ? null : position.asInt(),
+            createdAt,
+            tagIds
+        );
+    }
+
+    // 카드 한 청크를 배치로 저장하고, 생성된 카드 ID 로 카드-태그를 저장합니다.
+    private void saveCards(List<ImportedCard> chunk, ImportContext context) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+
+            jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_CARD_SQL, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        ImportedCard card = chunk.get(i);
+                        ps.setString(1, card.title());
+                        ps.setString(2, card.content());
+                        if (card.position() == null) {
+                            ps.setNull(3, Types.INTEGER);
+                        } else {
+                            ps.setInt(3, card.position());
+                        }
+                        ps.setLong(4, context.user.getId());
+                        ps.setLong(5, card.columnId());
+                        ps.setLong(6, context.projectId);
+                        ps.setTimestamp(7, Timestamp.valueOf(card.createdAt()));
+                        ps.setTimestamp(8, now);
+                        ps.setString(9, markdownRenderer.excerpt(card.content()));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return chunk.size();
+                    }
+                },
+                keyHolder
+            );
+
+            List<Map<String, Object>> keys = keyHolder.getKeyList();
+            if (keys.size() != chunk.size()) {
+                throw new IllegalStateException("생성된 카드 ID 수가 맞지 않습니다.");
+            }
+
+            List<long[]> cardTags = new ArrayList<>();
+            for (int i = 0; i < chunk.size(); i++) {
+                long cardId = ((Number) keys.get(i).values().iterator().next()).longValue();
+                for (Long tagId : chunk.get(i).tagIds()) {
+                    cardTags.add(new long[]{cardId, tagId});
+                }
+            }
+            jdbcTemplate.batchUpdate(INSERT_CARD_TAG_SQL, cardTags, CHUNK_SIZE, (ps, cardTag) -> {
+                ps.setLong(1, cardTag[0]);
+                ps.setLong(2, cardTag[1]);
+            });
+        });
+        context.cardCount += chunk.size();
+    }
+
+    // 실패하면 지금까지 커밋한 청크를 지웁니다.
+    private void discard(ImportContext context) {
+        if (context.projectId == null) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.update("DELETE FROM card_tags WHERE card_id IN (SELECT id FROM cards WHERE project_id = ?)", context.projectId);
+                jdbcTemplate.update("DELETE FROM cards WHERE project_id = ?", context.projectId);
+                jdbcTemplate.update("DELETE FROM tags WHERE project_id = ?", context.projectId);
+                jdbcTemplate.update("DELETE FROM columns WHERE board_id = ?", context.boardId);
+                jdbcTemplate.update("DELETE FROM boards WHERE id = ?", context.boardId);
+                jdbcTemplate.update("DELETE FROM projects WHERE id = ?", context.projectId);
+            });
+        } catch (RuntimeException e) {
+            log.error("가져오기 실패한 프로젝트 정리 실패 - projectId: {}", context.projectId, e);
+        }
+    }
+
+    private Long insert(String sql, StatementSetter setter) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(sql, new String[]{"id"});
+            setter.setValues(ps);
+            return ps;
+        }, keyHolder);
+        return ((Number) keyHolder.getKeyList().get(0).values().iterator().next()).longValue();
+    }
+
+    private void setNullableInt(PreparedStatement ps, int index, JsonNode value) throws SQLException {
+        if (value == null || value.isNull()) {
+            ps.setNull(index, Types.INTEGER);
+        } else {
+            ps.setInt(index, value.asInt());
+        }
+    }
+
+    private String requireText(JsonNode node, String field) {
+        String value = optionalText(node, field);
+        if (value == null || value.isBlank()) {
+            throw invalidFile();
+        }
+        return value;
+    }
+
+    private String optionalText(JsonNode node, String field) {
+        if (node == null) {
+            return null;
+        }
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    private Long requireLong(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        if (value == null || !value.canConvertToLong()) {
+            throw invalidFile();
+        }
+        return value.asLong();
+    }
+
+    private GlobalException invalidFile() {
+        return new GlobalException(GlobalErrorCode.INVALID_IMPORT_FILE);
+    }
+
+    @FunctionalInterface
+    private interface StatementSetter {
+        void setValues(PreparedStatement ps) throws SQLException;
+    }
+
+    private record ImportedTag(Long id, String name, String color) {
+    }
+
+    private record ImportedCard(Long columnId, String title, String content, Integer position,
+                                LocalDateTime createdAt, Set<Long> tagIds) {
+    }
+
+    // 가져오기 한 번의 진행 상태 (컬럼/태그 ID 매핑만 들고 있음)
+    private static class ImportContext {
+
+        private final User user;
+        private JsonNode project;
+        private JsonNode board;
+        private final List<JsonNode> columns = new ArrayList<>();
+        private final List<JsonNode> tags = new ArrayList<>();
+
+        private Long projectId;
+        private Long boardId;
+        private final Map<Long, Long> columnIds = new HashMap<>();
+        private final Map<Long, Long> tagIds = new HashMap<>();
+        private long cardCount;
+
+        private ImportContext(User user) {
+            this.user = user;
+        }
+    }
+}
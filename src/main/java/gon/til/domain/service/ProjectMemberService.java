@@ -0,0 +1,124 @@
+package gon.til.domain.service;
+
+import gon.til.domain.common.ProjectRole;
+import gon.til.domain.dto.member.ProjectMemberRequest;
+import gon.til.domain.dto.member.ProjectMemberResponse;
+import gon.til.domain.dto.member.ProjectMemberRoleRequest;
+import gon.til.domain.entity.Project;
+import gon.til.domain.entity.ProjectMember;
+import gon.til.domain.entity.User;
+import gon.til.domain.event.ProjectAccessChangedEvent;
+import gon.til.domain.repository.ProjectMemberRepository;
+import gon.til.domain.repository.ProjectRepository;
+import gon.til.domain.repository.UserRepository;
+import gon.til.global.exception.GlobalErrorCode;
+import gon.til.global.exception.GlobalException;
+import gon.til.global.shard.ShardContext;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 프로젝트 공유(멤버와 역할) 관리
+ * - 목록은 VIEWER 이상, 추가/역할 변경/삭제는 OWNER 이상이 할 수 있습니다. 멤버 본인은 스스로 나갈 수 있습니다.
+ * - 프로젝트를 만든 사용자는 멤버 행이 없고 항상 OWNER 라서 추가/변경/삭제 대상이 아닙니다.
+ * - 바꿀 때마다 ProjectAccessChangedEvent 를 발행해 커밋 후 ProjectAccessCache 의 해당 항목을 버립니다.
+ * - 샤딩을 켜면 멤버 추가는 거절합니다. (PROJECT_SHARING_UNAVAILABLE)
+ *   요청은 로그인 사용자의 샤드에서만 처리되므로, 다른 샤드의 사용자를 찾을 수도 없고 그 사용자가 프로젝트를 열 수도 없습니다.
+ *   이미 있는 멤버의 역할 변경/삭제는 소유자의 샤드 안에서 끝나므로 그대로 허용합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ProjectMemberService {
+
+    private final ProjectMemberRepository projectMemberRepository;
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final ProjectAccessCache projectAccessCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 멤버 목록
+    public List<ProjectMemberResponse> getMembers(Long projectId, Long userId) {
+        validateProjectAccess(getProjectById(projectId), userId, ProjectRole.VIEWER);
+
+        return projectMemberRepository.findByProjectIdWithUser(projectId).stream()
+            .map(ProjectMemberResponse::from)
+            .toList();
+    }
+
+    // 이메일로 사용자를 찾아 멤버로 추가
+    @Transactional
+    public ProjectMemberResponse addMember(Long projectId, Long userId, ProjectMemberRequest request) {
+        Project project = getProjectById(projectId);
+        validateProjectAccess(project, userId, ProjectRole.OWNER);
+        // 요청 스레드에 샤드가 정해져 있으면 샤딩을 켠 상태 (ShardRoutingFilter)
+        if (ShardContext.current() != null) {
+            throw new GlobalException(GlobalErrorCode.PROJECT_SHARING_UNAVAILABLE);
+        }
+
+        User member = userRepository.findByEmail(request.getEmail())
+            .orElseThrow(() -> new GlobalException(GlobalErrorCode.NOT_FOUND_USER_EMAIL));
+        if (project.isOwnedBy(member.getId())) {
+            throw new GlobalException(GlobalErrorCode.INVALID_PROJECT_MEMBER);
+        }
+        if (projectMemberRepository.existsByProjectIdAndUserId(projectId, member.getId())) {
+            throw new GlobalException(GlobalErrorCode.DUPLICATE_PROJECT_MEMBER);
+        }
+
+        ProjectMember saved = projectMemberRepository.save(ProjectMember.builder()
+            .project(project)
+            .user(member)
+            .role(request.getRole())
+            .build());
+        eventPublisher.publishEvent(new ProjectAccessChangedEvent(projectId, member.getId()));
+
+        return ProjectMemberResponse.from(saved);
+    }
+
+    // 멤버 역할 변경
+    @Transactional
+    public ProjectMemberResponse changeRole(Long projectId, Long memberId, Long userId, ProjectMemberRoleRequest request) {
+        Project project = getProjectById(projectId);
+        validateProjectAccess(project, userId, ProjectRole.OWNER);
+        if (project.isOwnedBy(memberId)) {
+            throw new GlobalException(GlobalErrorCode.INVALID_PROJECT_MEMBER);
+        }
+
+        ProjectMember member = getMember(projectId, memberId);
+        member.changeRole(request.getRole());
+        eventPublisher.publishEvent(new ProjectAccessChangedEvent(projectId, memberId));
+
+        return ProjectMemberResponse.from(member);
+    }
+
+    // 멤버 삭제 (OWNER 이상이거나 본인이 나가는 경우)
+    @Transactional
+    public void removeMember(Long projectId, Long memberId, Long userId) {
+        Project project = getProjectById(projectId);
+        if (!memberId.equals(userId)) {
+            validateProjectAccess(project, userId, ProjectRole.OWNER);
+        }
+
+        projectMemberRepository.delete(getMember(projectId, memberId));
+        eventPublisher.publishEvent(new ProjectAccessChangedEvent(projectId, memberId));
+    }
+
+    // ===== private 헬퍼 메서드들 =====
+
+    private Project getProjectById(Long projectId) {
+        return projectRepository.findById(projectId)
+            .orElseThrow(() -> new GlobalException(GlobalErrorCode.NOT_FOUND_PROJECT));
+    }
+
+    private ProjectMember getMember(Long projectId, Long memberId) {
+        return projectMemberRepository.findByProjectIdAndUserId(projectId, memberId)
+            .orElseThrow(() -> new GlobalException(GlobalErrorCode.NOT_FOUND_PROJECT_MEMBER));
+    }
+
+    private void validateProjectAccess(Project project, Long userId, ProjectRole role) {
+        projectAccessCache.check(project, userId, role, GlobalErrorCode.ACCESS_DENIED_PROJECT);
+    }
+}
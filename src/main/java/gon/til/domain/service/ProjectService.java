@@ -1,17 +1,25 @@
 package gon.til.domain.service;
 
+import gon.til.domain.common.ProjectRole;
 import gon.til.domain.dto.project.ProjectCreateRequest;
+import gon.til.domain.dto.project.ProjectDuplicateRequest;
 import gon.til.domain.dto.project.ProjectResponse;
 import gon.til.domain.dto.project.ProjectUpdateRequest;
 import gon.til.domain.entity.Project;
 import gon.til.domain.entity.User;
+import gon.til.domain.event.TagPaletteChangedEvent;
+import gon.til.domain.repository.CardRepository;
+import gon.til.domain.repository.KanbanColumnRepository;
 import gon.til.domain.repository.ProjectRepository;
 import gon.til.domain.repository.UserRepository;
 import gon.til.global.exception.GlobalErrorCode;
 import gon.til.global.exception.GlobalException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +30,12 @@ public class ProjectService {
 
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
+    private final KanbanColumnRepository kanbanColumnRepository;
+    private final CardRepository cardRepository;
+    private final ProjectBulkOperations projectBulkOperations;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProjectAccessCache projectAccessCache;
+    private final BoardFlowAggregator boardFlowAggregator;
 
     // 프로젝트 생성
     @Transactional
@@ -54,8 +68,8 @@ public class ProjectService {
             throw new GlobalException(GlobalErrorCode.NOT_FOUND_USER);
         }
 
-        // 2. 최적화된 메서드를 사용하여 Project 리스트 조회
-        List<Project> projects = projectRepository.findByUserId(userId);
+        // 2. 내가 만든 프로젝트와 멤버로 공유받은 프로젝트를 함께 조회
+        List<Project> projects = projectRepository.findAccessibleByUserId(userId);
 
         // 3. Project 리스트 반환
         return projects.stream()
@@ -65,25 +79,83 @@ public class ProjectService {
 
     // 프로젝트 상세 조회
     public ProjectResponse getProjectById(Long userId, Long projectId) {
-        Project project = validateProjectOwnership(projectId, userId);
+        Project project = validateProjectAccess(projectId, userId, ProjectRole.VIEWER);
         return ProjectResponse.from(project);
     }
 
-    // 프로젝트 삭제
+    // 프로젝트 삭제 (휴지통으로 이동, 실제 삭제는 TrashPurger 가 보관 기간 후 ProjectBulkOperations 로 처리)
     @Transactional
     public void deleteProject(Long projectId, Long userId) {
-        Project project = validateProjectOwnership(projectId, userId);
-        projectRepository.delete(project);
+        Project project = validateProjectAccess(projectId, userId, ProjectRole.OWNER);
+
+        // 컬럼/카드에도 같은 시각을 적어서 복원할 때 함께 돌아오게 합니다. (테이블마다 UPDATE 한 번)
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        project.softDelete(now);
+        if (project.getBoard() != null) {
+            kanbanColumnRepository.softDeleteByBoardId(project.getBoard().getId(), now);
+        }
+        // 카드 이벤트 없이 한꺼번에 빠지므로 누적 흐름에는 지우기 전에 빠진 수로 적어 둡니다.
+        boardFlowAggregator.exitProjectCards(projectId);
+        cardRepository.softDeleteByProjectId(projectId, now);
+
+        eventPublisher.publishEvent(new TagPaletteChangedEvent(projectId));
+    }
+
+    // 휴지통에서 프로젝트 복원 (함께 지워진 컬럼/카드도 복원, 휴지통은 만든 사용자의 것이라 만든 사용자만)
+    @Transactional
+    public ProjectResponse restoreProject(Long projectId, Long userId) {
+        Project project = projectRepository.findDeletedById(projectId)
+                .orElseThrow(() -> new GlobalException(GlobalErrorCode.NOT_FOUND_PROJECT));
+        if (!project.isOwnedBy(userId)) {
+            throw new GlobalException(GlobalErrorCode.ACCESS_DENIED_PROJECT);
+        }
+        if (projectRepository.existsByTitleAndUserId(project.getTitle(), userId)) {
+            throw new GlobalException(GlobalErrorCode.DUPLICATE_PROJECT_TITLE);
+        }
+
+        LocalDateTime deletedAt = project.getDeletedAt();
+        project.restore();
+        if (project.getBoard() != null) {
+            kanbanColumnRepository.restoreByBoardId(project.getBoard().getId(), deletedAt);
+        }
+        cardRepository.restoreByProjectId(projectId, deletedAt);
+        boardFlowAggregator.enterProjectCards(projectId);
+
+        return ProjectResponse.from(project);
+    }
+
+    // 프로젝트 복제 (컬럼, 태그, 카드, 첨부 파일까지 INSERT ... SELECT 로 복사)
+    @Transactional
+    public ProjectResponse duplicateProject(Long projectId, Long userId, ProjectDuplicateRequest request) {
+        Project source = validateProjectAccess(projectId, userId, ProjectRole.VIEWER);
+        if (source.getBoard() == null) {
+            throw new GlobalException(GlobalErrorCode.NOT_FOUND_BOARD);
+        }
+        if (projectRepository.existsByTitleAndUserId(request.getTitle(), userId)) {
+            throw new GlobalException(GlobalErrorCode.DUPLICATE_PROJECT_TITLE);
+        }
+
+        Project copy = projectRepository.save(Project.createWithEmptyBoard(
+            request.getTitle(),
+            source.getDescription(),
+            source.getCategory(),
+            userRepository.getReferenceById(userId)
+        ));
+        projectBulkOperations.copyContents(
+            source.getId(), source.getBoard().getId(), copy.getId(), copy.getBoard().getId(), userId);
+        boardFlowAggregator.enterProjectCards(copy.getId());
+
+        return ProjectResponse.from(copy);
     }
 
     // 프로젝트 수정
     @Transactional
     public ProjectResponse updateProject(Long projectId, Long userId, ProjectUpdateRequest request) {
 
-        Project project = validateProjectOwnership(projectId, userId);
+        Project project = validateProjectAccess(projectId, userId, ProjectRole.OWNER);
 
-        // 업데이트 전 중복 검사
-        if (projectRepository.existsByTitleAndUserIdAndIdNot(request.getTitle(), userId, projectId)) {
+        // 업데이트 전 중복 검사 (제목은 만든 사용자의 프로젝트끼리 겹치지 않아야 하므로, OWNER 멤버가 수정해도 만든 사용자 기준)
+        if (projectRepository.existsByTitleAndUserIdAndIdNot(request.getTitle(), project.getUser().getId(), projectId)) {
             throw new GlobalException(GlobalErrorCode.DUPLICATE_PROJECT_TITLE);
         }
 
@@ -103,13 +175,12 @@ public class ProjectService {
         }
     }
 
-    private Project validateProjectOwnership(Long projectId, Long userId) {
+    // 프로젝트를 만든 사용자이거나, 멤버 역할이 role 이상인지 확인 (멤버 역할은 ProjectAccessCache 에서 조회)
+    private Project validateProjectAccess(Long projectId, Long userId, ProjectRole role) {
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new GlobalException(GlobalErrorCode.NOT_FOUND_PROJECT));
 
-        if (!project.getUser().getId().equals(userId)) {
-            throw new GlobalException(GlobalErrorCode.ACCESS_DENIED_PROJECT);
-        }
+        projectAccessCache.check(project, userId, role, GlobalErrorCode.ACCESS_DENIED_PROJECT);
         return project;
     }
 }
\ No newline at end of file
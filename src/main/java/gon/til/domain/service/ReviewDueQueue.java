@@ -0,0 +1,99 @@
+package gon.til.domain.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * 곧 복습 시각이 되는 일정만 들고 있는 메모리 큐
+ * - 복습 시각을 분 단위 버킷으로 묶어 TreeMap 에 보관하므로, 시각이 지난 버킷은 앞에서부터 꺼내면 됩니다.
+ * - loadedUntil 이전에 예정된 일정만 보관합니다. 그 이후 일정은 ReviewScheduler 가 구간을 넓힐 때 DB 에서 읽어옵니다.
+ * - 기동 직후에는 loadedUntil 이 비어 있습니다. 첫 refill 이 알림을 보내지 않은 지난 일정까지 모두 읽고 나서부터 offer 를 받습니다.
+ */
+@Component
+public class ReviewDueQueue {
+
+    private static final long BUCKET_SECONDS = 60;
+
+    // 버킷(분 단위 epoch) -> (일정 ID -> 복습 대상)
+    private final TreeMap<Long, Map<Long, DueReview>> buckets = new TreeMap<>();
+    // 일정 ID -> 버킷 (재예약/취소 시 이전 위치를 찾기 위함)
+    private final Map<Long, Long> bucketByReview = new HashMap<>();
+
+    // 아직 한 번도 채우지 않았으면 null
+    private LocalDateTime loadedUntil;
+
+    public record DueReview(Long reviewId, Long userId, Long cardId) {
+    }
+
+    /**
+     * 일정을 큐에 넣거나 새 시각으로 옮깁니다.
+     * 보관 구간 밖의 시각이면 큐에서 빼기만 합니다.
+     */
+    public synchronized void offer(Long reviewId, Long userId, Long cardId, LocalDateTime dueAt) {
+        remove(reviewId);
+        if (loadedUntil == null || !dueAt.isBefore(loadedUntil)) {
+            return;
+        }
+
+        long bucket = bucketOf(dueAt);
+        buckets.computeIfAbsent(bucket, b -> new LinkedHashMap<>())
+            .put(reviewId, new DueReview(reviewId, userId, cardId));
+        bucketByReview.put(reviewId, bucket);
+    }
+
+    /**
+     * 시각이 지난 버킷을 모두 꺼냅니다.
+     */
+    public synchronized List<DueReview> drainDue(LocalDateTime now) {
+        NavigableMap<Long, Map<Long, DueReview>> due = buckets.headMap(bucketOf(now), true);
+        List<DueReview> drained = new ArrayList<>();
+        for (Map<Long, DueReview> bucket : due.values()) {
+            for (DueReview review : bucket.values()) {
+                drained.add(review);
+                bucketByReview.remove(review.reviewId());
+            }
+        }
+        due.clear();
+        return drained;
+    }
+
+    // 보관 구간 끝을 늘립니다. 늘어난 구간의 일정은 호출한 쪽에서 offer 로 채웁니다.
+    public synchronized void extendUntil(LocalDateTime until) {
+        if (loadedUntil == null || until.isAfter(loadedUntil)) {
+            loadedUntil = until;
+        }
+    }
+
+    // 아직 한 번도 채우지 않았으면 null
+    public synchronized LocalDateTime getLoadedUntil() {
+        return loadedUntil;
+    }
+
+    public synchronized int size() {
+        return bucketByReview.size();
+    }
+
+    private void remove(Long reviewId) {
+        Long bucket = bucketByReview.remove(reviewId);
+        if (bucket == null) {
+            return;
+        }
+        Map<Long, DueReview> reviews = buckets.get(bucket);
+        reviews.remove(reviewId);
+        if (reviews.isEmpty()) {
+            buckets.remove(bucket);
+        }
+    }
+
+    private long bucketOf(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) / BUCKET_SECONDS;
+    }
+}
@@ -0,0 +1,101 @@
+package gon.til.domain.service;
+
+import gon.til.domain.event.ReviewDueEvent;
+import gon.til.domain.repository.CardReviewRepository;
+import gon.til.domain.service.ReviewDueQueue.DueReview;
+import gon.til.global.shard.ShardExecutor;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 복습 알림 스케줄러
+ * - refill : 다음 한 시간 동안 예정된 일정만 인덱스로 읽어 ReviewDueQueue 에 채웁니다.
+ *            기동 후 처음에는 알림을 보내지 않은 지난 일정도 함께 읽으므로, 서버가 내려가 있던 동안의 알림은 바로 나갑니다.
+ * - drain  : 시각이 지난 버킷을 꺼내, 그 사이 복습되지 않았고 알림을 보내지 않은 것만
+ *            일정마다 조건부 UPDATE 로 notified_at 을 적어 선점한 뒤 사용자별로 ReviewDueEvent 로 발행합니다.
+ *            여러 인스턴스가 같은 일정을 꺼내도 선점에 성공한 곳만 발행합니다. (CardReminderScheduler 와 같은 방식)
+ * - 샤딩을 켜면 두 작업 모두 샤드마다 실행합니다. (ReviewDueEvent 도 해당 샤드에서 발행)
+ */
+@Slf4j
+@Component
+public class ReviewScheduler {
+
+    private static final Duration HORIZON = Duration.ofHours(1);
+
+    private final CardReviewRepository cardReviewRepository;
+    private final ReviewDueQueue reviewDueQueue;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ShardExecutor shardExecutor;
+    private final TransactionTemplate transactionTemplate;
+
+    public ReviewScheduler(CardReviewRepository cardReviewRepository,
+                           ReviewDueQueue reviewDueQueue,
+                           ApplicationEventPublisher eventPublisher,
+                           ShardExecutor shardExecutor,
+                           PlatformTransactionManager transactionManager) {
+        this.cardReviewRepository = cardReviewRepository;
+        this.reviewDueQueue = reviewDueQueue;
+        this.eventPublisher = eventPublisher;
+        this.shardExecutor = shardExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${til.reviews.refill-interval-ms:600000}")
+    public void refill() {
+        LocalDateTime from = reviewDueQueue.getLoadedUntil();
+        LocalDateTime until = LocalDateTime.now().plus(HORIZON);
+        if (from != null && !until.isAfter(from)) {
+            return;
+        }
+
+        // 구간을 먼저 넓혀서, 읽는 동안 새로 잡힌 일정도 offer 로 들어오게 합니다.
+        reviewDueQueue.extendUntil(until);
+        shardExecutor.forEachShard(() -> {
+            List<Object[]> rows = from == null
+                ? cardReviewRepository.findUnnotifiedBefore(until)
+                : cardReviewRepository.findScheduledBetween(from, until);
+            for (Object[] row : rows) {
+                reviewDueQueue.offer((Long) row[0], (Long) row[1], (Long) row[2], (LocalDateTime) row[3]);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${til.reviews.drain-interval-ms:60000}")
+    public void drain() {
+        LocalDateTime now = LocalDateTime.now();
+        List<DueReview> drained = reviewDueQueue.drainDue(now);
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        // 큐에 들어간 뒤 이미 복습했거나 삭제된 일정은 제외합니다. (다른 샤드의 일정은 조회되지 않음)
+        List<Long> reviewIds = drained.stream().map(DueReview::reviewId).toList();
+        shardExecutor.forEachShard(() -> {
+            List<Object[]> sent = transactionTemplate.execute(status ->
+                cardReviewRepository.findStillDue(reviewIds, now).stream()
+                    .filter(row -> cardReviewRepository.claimNotification((Long) row[0], now) == 1)
+                    .toList());
+            if (sent == null || sent.isEmpty()) {
+                return;
+            }
+
+            Map<Long, List<Long>> cardIdsByUser = new LinkedHashMap<>();
+            for (Object[] row : sent) {
+                cardIdsByUser.computeIfAbsent((Long) row[1], userId -> new ArrayList<>()).add((Long) row[2]);
+            }
+
+            cardIdsByUser.forEach((userId, cardIds) -> eventPublisher.publishEvent(new ReviewDueEvent(userId, cardIds)));
+            log.debug("복습 알림 발행 - 사용자 {}명", cardIdsByUser.size());
+        });
+    }
+}
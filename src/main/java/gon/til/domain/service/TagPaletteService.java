@@ -0,0 +1,156 @@
+package gon.til.domain.service;
+
+import gon.til.domain.common.ProjectRole;
+import gon.til.domain.common.TagColor;
+import gon.til.domain.dto.tagcolor.TagPaletteColorRequest;
+import gon.til.domain.dto.tagcolor.TagPaletteColorResponse;
+import gon.til.domain.entity.Project;
+import gon.til.domain.entity.TagPaletteColor;
+import gon.til.domain.event.TagPaletteChangedEvent;
+import gon.til.domain.repository.ProjectRepository;
+import gon.til.domain.repository.TagPaletteColorRepository;
+import gon.til.global.exception.GlobalErrorCode;
+import gon.til.global.exception.GlobalException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 태그 색상 팔레트 서비스
+ * - 색상 문자열을 헥사 코드로 바꿉니다. 기본 TagColor(이름/별칭/헥사 코드)를 먼저 보고, 없으면 프로젝트 팔레트를 봅니다.
+ * - 프로젝트 팔레트는 대소문자 무시 불변 맵으로 캐시하고, 팔레트가 바뀐 트랜잭션이 커밋되면 통째로 다시 만듭니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TagPaletteService {
+
+    private static final int MAX_CACHED_PROJECTS = 1024;
+
+    private final TagPaletteColorRepository tagPaletteColorRepository;
+    private final ProjectRepository projectRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProjectAccessCache projectAccessCache;
+
+    // 프로젝트 ID -> (색상 이름 또는 헥사 코드 -> 헥사 코드)
+    private final Map<Long, NavigableMap<String, String>> palettes = new ConcurrentHashMap<>();
+
+    public List<TagPaletteColorResponse> getPalette(Long projectId, Long userId) {
+        Project project = getProjectById(projectId);
+        validateProjectAccess(project, userId, ProjectRole.VIEWER);
+        return tagPaletteColorRepository.findByProjectIdOrderByIdAsc(projectId).stream()
+            .map(TagPaletteColorResponse::from)
+            .collect(Collectors.toList());
+    }
+
+    @Transactional
+    public TagPaletteColorResponse addColor(Long projectId, Long userId, TagPaletteColorRequest request) {
+        Project project = getProjectById(projectId);
+        validateProjectAccess(project, userId, ProjectRole.EDITOR);
+        validateColorName(projectId, request.getName());
+
+        TagPaletteColor color = TagPaletteColor.builder()
+            .project(project)
+            .name(request.getName())
+            .hexCode(request.getHexCode().toUpperCase(Locale.ROOT))
+            .build();
+
+        TagPaletteColor savedColor = tagPaletteColorRepository.save(color);
+        eventPublisher.publishEvent(new TagPaletteChangedEvent(projectId));
+        return TagPaletteColorResponse.from(savedColor);
+    }
+
+    @Transactional
+    public void deleteColor(Long projectId, Long colorId, Long userId) {
+        TagPaletteColor color = tagPaletteColorRepository.findById(colorId)
+            .filter(found -> found.getProject().getId().equals(projectId))
+            .orElseThrow(() -> new GlobalException(GlobalErrorCode.NOT_FOUND_TAG_PALETTE_COLOR));
+        validateProjectAccess(color.getProject(), userId, ProjectRole.EDITOR);
+
+        tagPaletteColorRepository.delete(color);
+        eventPublisher.publishEvent(new TagPaletteChangedEvent(projectId));
+    }
+
+    /**
+     * 색상 문자열(기본 색상 이름/별칭/헥사 코드, 또는 프로젝트 팔레트의 이름/헥사 코드)을 헥사 코드로 바꿉니다.
+     * 기본 색상은 DB 를 보지 않고, 팔레트는 캐시가 없을 때만 한 번 읽습니다.
+     */
+    public String resolveHexCode(Long projectId, String color) {
+        TagColor tagColor = TagColor.find(color);
+        if (tagColor != null) {
+            return tagColor.getHexCode();
+        }
+
+        String hexCode = color == null ? null : getCachedPalette(projectId).get(color);
+        if (hexCode == null) {
+            throw new GlobalException(GlobalErrorCode.INVALID_COLOR_NAME);
+        }
+        return hexCode;
+    }
+
+    // 팔레트를 바꾼 트랜잭션이 커밋된 뒤에 캐시를 버립니다. (커밋 전에 버리면 이전 팔레트가 다시 캐시될 수 있음)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPaletteChanged(TagPaletteChangedEvent event) {
+        palettes.remove(event.getProjectId());
+    }
+
+    // ===== private 헬퍼 메서드들 =====
+
+    private NavigableMap<String, String> getCachedPalette(Long projectId) {
+        NavigableMap<String, String> palette = palettes.get(projectId);
+        if (palette != null) {
+            return palette;
+        }
+
+        palette = loadPalette(projectId);
+        if (palettes.size() >= MAX_CACHED_PROJECTS) {
+            palettes.clear();
+        }
+        palettes.put(projectId, palette);
+        return palette;
+    }
+
+    private NavigableMap<String, String> loadPalette(Long projectId) {
+        List<TagPaletteColor> colors = tagPaletteColorRepository.findByProjectIdOrderByIdAsc(projectId);
+        if (colors.isEmpty()) {
+            return Collections.emptyNavigableMap();
+        }
+
+        NavigableMap<String, String> palette = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (TagPaletteColor color : colors) {
+            palette.put(color.getName(), color.getHexCode());
+            palette.putIfAbsent(color.getHexCode(), color.getHexCode());
+        }
+        return Collections.unmodifiableNavigableMap(palette);
+    }
+
+    private Project getProjectById(Long projectId) {
+        return projectRepository.findById(projectId)
+            .orElseThrow(() -> new GlobalException(GlobalErrorCode.NOT_FOUND_PROJECT));
+    }
+
+    private void validateProjectAccess(Project project, Long userId, ProjectRole role) {
+        projectAccessCache.check(project, userId, role, GlobalErrorCode.ACCESS_DENIED_PROJECT);
+    }
+
+    // 기본 색상 이름/별칭과 겹치거나 헥사 코드처럼 생긴 이름은 조회 결과가 모호해지므로 막습니다.
+    private void validateColorName(Long projectId, String name) {
+        if (TagColor.isHexCode(name)) {
+            throw new GlobalException(GlobalErrorCode.INVALID_COLOR_NAME);
+        }
+        if (TagColor.find(name) != null || tagPaletteColorRepository.existsByProjectIdAndNameIgnoreCase(projectId, name)) {
+            throw new GlobalException(GlobalErrorCode.DUPLICATE_TAG_PALETTE_COLOR);
+        }
+    }
+}
@@ -1,6 +1,6 @@
 package gon.til.domain.service;
 
-import gon.til.domain.common.TagColor;
+import gon.til.domain.common.ProjectRole;
 import gon.til.domain.dto.tag.TagCreateRequest;
 import gon.til.domain.dto.tag.TagResponse;
 import gon.til.domain.dto.tag.TagUpdateRequest;
@@ -23,23 +23,21 @@ public class TagService {
 
     private final TagRepository tagRepository;
     private final ProjectRepository projectRepository;
+    private final TagPaletteService tagPaletteService;
+    private final ProjectAccessCache projectAccessCache;
 
     @Transactional
     public TagResponse createTag(Long projectId, Long userId, TagCreateRequest request) {
         Project project = getProjectById(projectId);
-        validateProjectOwnership(project, userId);
+        validateProjectAccess(project, userId, ProjectRole.EDITOR);
         validateDuplicateTagName(projectId, request.getName());
 
-        if (!TagColor.isValidColor(request.getColor())) {
-            throw new GlobalException(GlobalErrorCode.INVALID_COLOR_NAME);
-        }
-
-        TagColor tagColor = TagColor.from(request.getColor().toUpperCase());
+        String hexCode = tagPaletteService.resolveHexCode(projectId, request.getColor());
 
         Tag tag = Tag.builder()
                 .project(project) // 프로젝트 연관관계 설정
                 .name(request.getName())
-                .color(tagColor.getHexCode())
+                .color(hexCode)
                 .build();
 
         Tag savedTag = tagRepository.save(tag);
@@ -48,7 +46,7 @@ public class TagService {
 
     public List<TagResponse> getTagsByProject(Long projectId, Long userId) {
         Project project = getProjectById(projectId);
-        validateProjectOwnership(project, userId);
+        validateProjectAccess(project, userId, ProjectRole.VIEWER);
         return tagRepository.findByProjectId(projectId).stream()
             .map(TagResponse::from)
             .collect(Collectors.toList());
@@ -57,21 +55,19 @@ public class TagService {
     @Transactional
     public void deleteTag(Long tagId, Long userId) {
         Tag tag = getTagById(tagId);
-        validateTagOwnership(tag, userId);
+        validateTagAccess(tag, userId, ProjectRole.EDITOR);
         tagRepository.delete(tag);
     }
 
     @Transactional
     public TagResponse updateTag(Long tagId, Long userId, TagUpdateRequest request) {
         Tag tag = getTagById(tagId);
-        validateTagOwnership(tag, userId);
+        validateTagAccess(tag, userId, ProjectRole.EDITOR);
         validateDuplicateTagName(tag.getProject().getId(), request.getName(), tagId);
 
-        if (!TagColor.isValidColor(request.getColor())) {
-            throw new GlobalException(GlobalErrorCode.INVALID_COLOR_NAME);
-        }
+        String hexCode = tagPaletteService.resolveHexCode(tag.getProject().getId(), request.getColor());
 
-        tag.updateTag(request.getName(), request.getColor());
+        tag.updateTag(request.getName(), hexCode);
         return TagResponse.from(tag);
     }
 
@@ -87,16 +83,13 @@ public class TagService {
                 .orElseThrow(() -> new GlobalException(GlobalErrorCode.NOT_FOUND_PROJECT));
     }
 
-    private void validateProjectOwnership(Project project, Long userId) {
-        if (!project.getUser().getId().equals(userId)) {
-            throw new GlobalException(GlobalErrorCode.ACCESS_DENIED_PROJECT);
-        }
+    private void validateProjectAccess(Project project, Long userId, ProjectRole role) {
+        projectAccessCache.check(project, userId, role, GlobalErrorCode.ACCESS_DENIED_PROJECT);
     }
 
-    private void validateTagOwnership(Tag tag, Long userId) {
-        if (!tag.getProject().getUser().getId().equals(userId)) {
-            throw new GlobalException(GlobalErrorCode.ACCESS_DENIED_TAG);
-        }
+    private void validateTagAccess(Tag tag, Long userId, ProjectRole role) {
+        Project project = tag.getProject();
+        projectAccessCache.check(project, userId, role, GlobalErrorCode.ACCESS_DENIED_TAG);
     }
 
     private void validateDuplicateTagName(Long projectId, String name) {
@@ -0,0 +1,143 @@
+package gon.til.domain.service;
+
+import gon.til.domain.dto.attachment.AttachmentFile;
+import gon.til.global.exception.GlobalErrorCode;
+import gon.til.global.exception.GlobalException;
+import gon.til.global.storage.BlobStore;
+import gon.til.global.storage.ThumbnailRenderer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이미지 첨부 파일의 썸네일
+ * - 썸네일은 (원본 해시, 크기) 이름으로 BlobStore 옆에 저장해 두고, 없을 때만 만듭니다.
+ *   같은 이미지를 여러 카드에 올려도 크기별로 한 번만 만듭니다.
+ * - 만드는 작업은 고정 크기 스레드 풀에서 돌고, 대기열(queue-capacity)이 가득 차면 바로 SERVER_BUSY(503)로 거절합니다.
+ *   요청 스레드는 기다리지 않고 CompletableFuture 를 돌려받습니다.
+ * - 같은 썸네일을 동시에 요청하면 한 번만 만들고 결과를 같이 씁니다.
+ * - 메트릭 : til.thumbnails.queue_depth, til.thumbnails.active, til.thumbnails.render, til.thumbnails.requests{result}
+ */
+@Slf4j
+@Component
+public class ThumbnailService {
+
+    private final BlobStore blobStore;
+    private final Set<Integer> sizes;
+    private final long maxPixels;
+    private final ThreadPoolExecutor executor;
+
+    // "해시:크기" -> 만드는 중인 썸네일
+    private final Map<String, CompletableFuture<Path>> inFlight = new ConcurrentHashMap<>();
+
+    private final Timer renderTimer;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter rejected;
+
+    public ThumbnailService(BlobStore blobStore,
+                            MeterRegistry meterRegistry,
+                            @Value("${til.thumbnails.sizes:128,256,512}") List<Integer> sizes,
+                            @Value("${til.thumbnails.workers:2}") int workers,
+                            @Value("${til.thumbnails.queue-capacity:32}") int queueCapacity,
+                            @Value("${til.thumbnails.max-pixels:40000000}") long maxPixels) {
+        this.blobStore = blobStore;
+        this.sizes = Set.copyOf(sizes);
+        this.maxPixels = maxPixels;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "thumbnail-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+
+        this.renderTimer = Timer.builder("til.thumbnails.render").register(meterRegistry);
+        this.hits = Counter.builder("til.thumbnails.requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("til.thumbnails.requests").tag("result", "miss").register(meterRegistry);
+        this.rejected = Counter.builder("til.thumbnails.requests").tag("result", "rejected").register(meterRegistry);
+        Gauge.builder("til.thumbnails.queue_depth", executor, e -> e.getQueue().size()).register(meterRegistry);
+        Gauge.builder("til.thumbnails.active", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+    }
+
+    /**
+     * 첨부 파일의 size 썸네일 경로를 돌려줍니다. 캐시에 있으면 바로 완료된 future 를 돌려줍니다.
+     * 크기/형식이 맞지 않거나 대기열이 가득 차면 바로 예외를 던집니다.
+     */
+    public CompletableFuture<Path> thumbnail(AttachmentFile file, int size) {
+        if (!sizes.contains(size)) {
+            throw new GlobalException(GlobalErrorCode.UNSUPPORTED_THUMBNAIL_SIZE);
+        }
+        if (!file.contentType().startsWith("image/")) {
+            throw new GlobalException(GlobalErrorCode.NOT_AN_IMAGE);
+        }
+
+        Path target = blobStore.thumbnailPath(file.hash(), size);
+        if (Files.isRegularFile(target)) {
+            hits.increment();
+            return CompletableFuture.completedFuture(target);
+        }
+
+        String key = file.hash() + ":" + size;
+        CompletableFuture<Path> created = new CompletableFuture<>();
+        CompletableFuture<Path> running = inFlight.putIfAbsent(key, created);
+        if (running != null) {
+            return running;
+        }
+
+        try {
+            executor.execute(() -> render(key, file.path(), target, size, created));
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            GlobalException busy = new GlobalException(GlobalErrorCode.SERVER_BUSY);
+            inFlight.remove(key, created);
+            created.completeExceptionally(busy);
+            throw busy;
+        }
+        misses.increment();
+        return created;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // ===== private 헬퍼 메서드들 =====
+
+    private void render(String key, Path source, Path target, int size, CompletableFuture<Path> result) {
+        try {
+            boolean rendered = renderTimer.recordCallable(() -> ThumbnailRenderer.render(source, target, size, maxPixels));
+            if (rendered) {
+                result.complete(target);
+            } else {
+                result.completeExceptionally(new GlobalException(GlobalErrorCode.NOT_AN_IMAGE));
+            }
+        } catch (Exception e) {
+            log.error("썸네일 생성 실패 - {}", key, e);
+            result.completeExceptionally(e);
+        } finally {
+            inFlight.remove(key, result);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package gon.til.domain.service;
+
+import gon.til.global.shard.ShardExecutor;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 보관 기간(retention)이 지난 휴지통 항목을 실제로 지웁니다.
+ * - 사용량이 적은 시간대(purge-cron)에만 돌고, batch-size 개씩 짧은 트랜잭션으로 나눠 지워서 락을 오래 잡지 않습니다.
+ * - 프로젝트는 ProjectBulkOperations 로 테이블마다 DELETE 한 번, 카드는 ID 묶음 단위로 지웁니다.
+ * - 컬럼은 카드가 모두 지워진 뒤에 지웁니다. (컬럼을 지울 때 카드에도 같은 시각을 적으므로 카드가 먼저 만료됨)
+ * - card_events, board_daily_flows 는 이력이라 남겨 둡니다. 첨부 파일 내용은 AttachmentBlobSweeper 가 정리합니다.
+ */
+@Slf4j
+@Component
+public class TrashPurger {
+
+    private static final String EXPIRED_PROJECTS_SQL =
+        "SELECT id FROM projects WHERE deleted_at < ? ORDER BY deleted_at LIMIT ?";
+    private static final String EXPIRED_CARDS_SQL =
+        "SELECT id FROM cards WHERE deleted_at < ? ORDER BY deleted_at LIMIT ?";
+    private static final String EXPIRED_COLUMNS_SQL =
+        "SELECT id FROM columns col WHERE col.deleted_at < ? " +
+        "AND NOT EXISTS (SELECT 1 FROM cards c WHERE c.kanban_column_id = col.id) ORDER BY col.deleted_at LIMIT ?";
+
+    // 카드보다 먼저 지우는 테이블 (card_id 로 찾음)
+    private static final List<String> CARD_CHILD_TABLES = List.of("card_tags", "card_attachments", "card_reviews");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ProjectBulkOperations projectBulkOperations;
+    private final ShardExecutor shardExecutor;
+    private final Duration retention;
+    private final int batchSize;
+
+    public TrashPurger(DataSource dataSource,
+                       PlatformTransactionManager transactionManager,
+                       ProjectBulkOperations projectBulkOperations,
+                       ShardExecutor shardExecutor,
+                       @Value("${til.trash.retention:30d}") Duration retention,
+                       @Value("${til.trash.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.projectBulkOperations = projectBulkOperations;
+        this.shardExecutor = shardExecutor;
+        this.retention = retention;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${til.trash.purge-cron:0 */10 3-5 * * *}")
+    public void purge() {
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minus(retention));
+
+        shardExecutor.forEachShard(shardId -> {
+            int projects = purgeProjects(cutoff);
+            int cards = purgeInBatches(EXPIRED_CARDS_SQL, cutoff, this::deleteCards);
+            int columns = purgeInBatches(EXPIRED_COLUMNS_SQL, cutoff, this::deleteColumns);
+
+            if (projects + cards + columns > 0) {
+                log.info("휴지통 정리 - 샤드 {}, 프로젝트 {}개, 카드 {}개, 컬럼 {}개", shardId, projects, cards, columns);
+            }
+        });
+    }
+
+    // ===== private 헬퍼 메서드들 =====
+
+    // 프로젝트는 하나씩 각자의 트랜잭션에서 (딸린 행은 테이블마다 DELETE 한 번)
+    private int purgeProjects(Timestamp cutoff) {
+        int purged = 0;
+        List<Long> ids;
+        do {
+            ids = jdbcTemplate.queryForList(EXPIRED_PROJECTS_SQL, Long.class, cutoff, batchSize);
+            for (Long id : ids) {
+                transactionTemplate.executeWithoutResult(status -> projectBulkOperations.delete(id));
+            }
+            purged += ids.size();
+        } while (ids.size() == batchSize);
+        return purged;
+    }
+
+    // 만료된 ID 를 batchSize 개씩 읽어, 묶음마다 트랜잭션 하나로 지웁니다.
+    private int purgeInBatches(String selectSql, Timestamp cutoff, Consumer<List<Long>> delete) {
+        int purged = 0;
+        int deleted;
+        do {
+            Integer count = transactionTemplate.execute(status -> {
+                List<Long> ids = jdbcTemplate.queryForList(selectSql, Long.class, cutoff, batchSize);
+                if (!ids.isEmpty()) {
+                    delete.accept(ids);
+                }
+                return ids.size();
+            });
+            deleted = count == null ? 0 : count;
+            purged += deleted;
+        } while (deleted == batchSize);
+        return purged;
+    }
+
+    private void deleteCards(List<Long> cardIds) {
+        String in = placeholders(cardIds.size());
+        Object[] args = cardIds.toArray();
+        for (String table : CARD_CHILD_TABLES) {
+            jdbcTemplate.update("DELETE FROM " + table + " WHERE card_id IN (" + in + ")", args);
+        }
+        jdbcTemplate.update("DELETE FROM cards WHERE id IN (" + in + ")", args);
+    }
+
+    private void deleteColumns(List<Long> columnIds) {
+        jdbcTemplate.update("DELETE FROM columns WHERE id IN (" + placeholders(columnIds.size()) + ")", columnIds.toArray());
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
@@ -0,0 +1,77 @@
+package gon.til.domain.service;
+
+import gon.til.domain.dto.trash.ProjectTrashResponse;
+import gon.til.domain.dto.trash.TrashItemResponse;
+import gon.til.domain.entity.Project;
+import gon.til.domain.repository.ProjectRepository;
+import gon.til.global.exception.GlobalErrorCode;
+import gon.til.global.exception.GlobalException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 휴지통 목록
+ * - 지운 행은 엔티티 조회에서 빠지므로(@SQLRestriction) 목록은 JDBC 로 읽습니다.
+ * - 복원은 각 도메인 서비스(ProjectService, KanbanColumnService, CardService)가 처리합니다.
+ */
+@Service
+@Transactional(readOnly = true)
+public class TrashService {
+
+    private static final String DELETED_PROJECTS_SQL =
+        "SELECT id, title, deleted_at FROM projects WHERE user_id = ? AND deleted_at IS NOT NULL " +
+        "ORDER BY deleted_at DESC, id DESC";
+    private static final String DELETED_COLUMNS_SQL =
+        "SELECT col.id, col.title, col.deleted_at FROM columns col JOIN boards b ON b.id = col.board_id " +
+        "WHERE b.project_id = ? AND col.deleted_at IS NOT NULL ORDER BY col.deleted_at DESC, col.id DESC";
+    private static final String DELETED_CARDS_SQL =
+        "SELECT c.id, c.title, c.deleted_at FROM cards c JOIN columns col ON col.id = c.kanban_column_id " +
+        "WHERE c.project_id = ? AND c.deleted_at IS NOT NULL AND col.deleted_at IS NULL " +
+        "ORDER BY c.deleted_at DESC, c.id DESC";
+
+    private final ProjectRepository projectRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration retention;
+
+    public TrashService(ProjectRepository projectRepository,
+                        DataSource dataSource,
+                        @Value("${til.trash.retention:30d}") Duration retention) {
+        this.projectRepository = projectRepository;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.retention = retention;
+    }
+
+    // 휴지통에 있는 프로젝트 (최근 삭제 순)
+    public List<TrashItemResponse> getDeletedProjects(Long userId) {
+        return jdbcTemplate.query(DELETED_PROJECTS_SQL, (rs, rowNum) -> toItem(rs), userId);
+    }
+
+    // 사용 중인 프로젝트에서 지운 컬럼과 카드
+    public ProjectTrashResponse getProjectTrash(Long projectId, Long userId) {
+        Project project = projectRepository.findById(projectId)
+            .orElseThrow(() -> new GlobalException(GlobalErrorCode.NOT_FOUND_PROJECT));
+        if (!project.isOwnedBy(userId)) {
+            throw new GlobalException(GlobalErrorCode.ACCESS_DENIED_PROJECT);
+        }
+
+        return new ProjectTrashResponse(
+            jdbcTemplate.query(DELETED_COLUMNS_SQL, (rs, rowNum) -> toItem(rs), projectId),
+            jdbcTemplate.query(DELETED_CARDS_SQL, (rs, rowNum) -> toItem(rs), projectId)
+        );
+    }
+
+    // ===== private 헬퍼 메서드들 =====
+
+    private TrashItemResponse toItem(ResultSet rs) throws SQLException {
+        LocalDateTime deletedAt = rs.getTimestamp("deleted_at").toLocalDateTime();
+        return new TrashItemResponse(rs.getLong("id"), rs.getString("title"), deletedAt, deletedAt.plus(retention));
+    }
+}
@@ -0,0 +1,86 @@
+package gon.til.global.config;
+
+import java.util.List;
+import java.util.regex.Pattern;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.RegexPatternTypeFilter;
+import org.springframework.util.ClassUtils;
+
+/**
+ * GraalVM 네이티브 이미지용 리플렉션/리소스 힌트
+ * - AOT 처리(./gradlew nativeCompile) 시점에 JVM 에서 실행되어 reflect-config 등으로 기록됩니다.
+ * - 스프링이 알아서 찾지 못하는 것만 등록합니다. (JJWT 내부 구현 클래스, 응답 DTO 의 중첩 타입, 마이그레이션 SQL 등)
+ */
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    // jjwt-api 는 구현 클래스를 이름으로 찾아서 리플렉션으로 생성합니다. (Jwts.builder(), Jwts.parser(), Keys.hmacShaKeyFor() 등)
+    private static final List<String> JJWT_IMPLEMENTATIONS = List.of(
+        "io.jsonwebtoken.impl.DefaultJwtBuilder",
+        "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+        "io.jsonwebtoken.impl.DefaultJwtHeaderBuilder",
+        "io.jsonwebtoken.impl.DefaultClaimsBuilder",
+        "io.jsonwebtoken.impl.io.StandardCompressionAlgorithms",
+        "io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms",
+        "io.jsonwebtoken.impl.security.StandardKeyAlgorithms",
+        "io.jsonwebtoken.impl.security.StandardEncryptionAlgorithms",
+        "io.jsonwebtoken.impl.security.StandardKeyOperations",
+        "io.jsonwebtoken.impl.security.StandardHashAlgorithms",
+        "io.jsonwebtoken.impl.security.KeysBridge",
+        "io.jsonwebtoken.jackson.io.JacksonSerializer",
+        "io.jsonwebtoken.jackson.io.JacksonDeserializer"
+    );
+
+    // 드라이버는 DriverManager 가 이름으로 로딩합니다.
+    private static final List<String> JDBC_DRIVERS = List.of(
+        "org.h2.Driver",
+        "com.mysql.cj.jdbc.Driver"
+    );
+
+    // Jackson 이 직렬화/역직렬화하는 DTO 와 엔티티가 들어 있는 패키지
+    private static final List<String> BINDING_PACKAGES = List.of(
+        "gon.til.domain.dto",
+        "gon.til.domain.common",
+        "gon.til.domain.event",
+        "gon.til.global.exception"
+    );
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        for (String className : JJWT_IMPLEMENTATIONS) {
+            hints.reflection().registerTypeIfPresent(classLoader, className,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS,
+                MemberCategory.DECLARED_FIELDS);
+        }
+        hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.io.*");
+
+        for (String className : JDBC_DRIVERS) {
+            hints.reflection().registerTypeIfPresent(classLoader, className, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        }
+
+        // Flyway 마이그레이션과 Swagger UI 정적 리소스
+        hints.resources().registerPattern("db/migration/*.sql");
+        // Java 마이그레이션은 Flyway 가 클래스 이름으로 찾아서 생성합니다.
+        hints.reflection().registerTypeIfPresent(classLoader, "db.migration.V16__Drop_ddl_auto_unique_keys",
+            MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        hints.reflection().registerTypeIfPresent(classLoader, "db.migration.V17__Rebuild_board_daily_flows",
+            MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        hints.resources().registerPattern("META-INF/resources/webjars/swagger-ui/*");
+
+        // Lombok 이 만든 생성자/게터를 Jackson 이 리플렉션으로 호출하므로, 중첩 DTO 까지 전부 바인딩 힌트로 등록합니다.
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new RegexPatternTypeFilter(Pattern.compile(".*")));
+        for (String basePackage : BINDING_PACKAGES) {
+            for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+                Class<?> type = ClassUtils.resolveClassName(candidate.getBeanClassName(), classLoader);
+                bindingRegistrar.registerReflectionHints(hints.reflection(), type);
+            }
+        }
+    }
+}
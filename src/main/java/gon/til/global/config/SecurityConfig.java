@@ -1,8 +1,16 @@
 package gon.til.global.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gon.til.global.filter.AdmissionControlFilter;
 import gon.til.global.filter.JwtAuthenticationFilter;
+import gon.til.global.filter.RateLimitFilter;
 import gon.til.global.jwt.JwtTokenProvider;
+import gon.til.global.ratelimit.AdmissionController;
+import gon.til.global.ratelimit.UserRateLimiter;
+import gon.til.global.shard.ShardRoutingFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -21,19 +29,33 @@ public class SecurityConfig {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final UserDetailsService userDetailsService;
+    private final UserRateLimiter userRateLimiter;
+    private final AdmissionController admissionController;
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<ShardRoutingFilter> shardRoutingFilter;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         JwtAuthenticationFilter jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtTokenProvider, userDetailsService);
+        AdmissionControlFilter admissionControlFilter = new AdmissionControlFilter(admissionController, objectMapper);
+        RateLimitFilter rateLimitFilter = new RateLimitFilter(userRateLimiter, objectMapper);
 
         http
                 .csrf(csrf -> csrf.disable())
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/api/v1/users/signup", "/api/v1/users/login", "/api/v1/users/logout").permitAll()
+                        .requestMatchers("/actuator/health").permitAll()
+                        // 비동기 응답의 재디스패치 (인증은 처음 요청에서 이미 확인)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .anyRequest().authenticated()
                 )
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(admissionControlFilter, JwtAuthenticationFilter.class)
+                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class);
+
+        // 샤딩을 켜면 인증된 사용자의 요청을 그 사용자의 샤드에 고정
+        shardRoutingFilter.ifAvailable(filter -> http.addFilterAfter(filter, RateLimitFilter.class));
 
         return http.build();
     }
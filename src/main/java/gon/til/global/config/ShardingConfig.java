@@ -0,0 +1,173 @@
+package gon.til.global.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import gon.til.domain.service.CardEventRecorder;
+import gon.til.global.shard.ConsistentHashShardMap;
+import gon.til.global.shard.ShardDataCopier;
+import gon.til.global.shard.ShardDirectory;
+import gon.til.global.shard.ShardIdRange;
+import gon.til.global.shard.ShardMap;
+import gon.til.global.shard.ShardRebalancer;
+import gon.til.global.shard.ShardRoutingDataSource;
+import gon.til.global.shard.ShardRoutingFilter;
+import gon.til.global.shard.ShardUserReplicator;
+import gon.til.global.shard.ShardingProperties;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * 사용자 단위 샤딩 (til.sharding.enabled=true 일 때만)
+ * - 샤드 0 : spring.datasource.* (users, shard_assignments 가 있는 기본 샤드, Flyway 도 Spring Boot 가 실행)
+ * - 샤드 n : til.sharding.shards[*] (시작할 때 같은 마이그레이션을 실행하고 ID 구간을 적용)
+ * - 애플리케이션(JPA, JdbcTemplate)은 @Primary 인 라우팅 DataSource 하나만 사용합니다.
+ * - 복제본 라우팅(til.datasource.replica.enabled)과 함께 쓸 수 없습니다.
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties({DataSourceProperties.class, ShardingProperties.class})
+@ConditionalOnProperty(name = "til.sharding.enabled", havingValue = "true")
+public class ShardingConfig {
+
+    public ShardingConfig(@Value("${til.datasource.replica.enabled:false}") boolean replicaEnabled) {
+        if (replicaEnabled) {
+            throw new IllegalStateException("til.sharding 과 til.datasource.replica 는 함께 켤 수 없습니다.");
+        }
+    }
+
+    @Bean
+    @FlywayDataSource
+    public HikariDataSource defaultShardDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("shard-" + ShardMap.DEFAULT_SHARD);
+        return dataSource;
+    }
+
+    @Bean(destroyMethod = "close")
+    public ShardDataSources shardDataSources(
+            @Qualifier("defaultShardDataSource") DataSource defaultShard,
+            DataSourceProperties dataSourceProperties,
+            ShardingProperties shardingProperties,
+            @Value("${spring.flyway.locations:classpath:db/migration}") String[] migrationLocations) {
+        Map<Integer, DataSource> shards = new LinkedHashMap<>();
+        shards.put(ShardMap.DEFAULT_SHARD, defaultShard);
+
+        for (ShardingProperties.Shard shard : shardingProperties.shards()) {
+            if (shard.id() <= ShardMap.DEFAULT_SHARD || shards.containsKey(shard.id())) {
+                throw new IllegalStateException("샤드 번호는 1 이상이고 겹치지 않아야 합니다 : " + shard.id());
+            }
+
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("shard-" + shard.id());
+            dataSource.setDriverClassName(dataSourceProperties.determineDriverClassName());
+            dataSource.setJdbcUrl(shard.url());
+            dataSource.setUsername(shard.username() != null ? shard.username() : dataSourceProperties.getUsername());
+            dataSource.setPassword(shard.password() != null ? shard.password() : dataSourceProperties.getPassword());
+
+            Flyway.configure().dataSource(dataSource).locations(migrationLocations).baselineOnMigrate(true).load().migrate();
+            ShardIdRange.apply(dataSource, shard.id());
+            shards.put(shard.id(), dataSource);
+        }
+        log.info("샤드 {}개 사용 : {}", shards.size(), shards.keySet());
+        return new ShardDataSources(shards);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("defaultShardDataSource") DataSource defaultShard, ShardDataSources shardDataSources) {
+        ShardRoutingDataSource routing = new ShardRoutingDataSource();
+        routing.setTargetDataSources(new HashMap<>(shardDataSources.asMap()));
+        routing.setDefaultTargetDataSource(defaultShard);
+        routing.afterPropertiesSet();
+        return routing;
+    }
+
+    @Bean
+    public ShardDirectory shardDirectory(@Qualifier("defaultShardDataSource") DataSource defaultShard,
+                                         ShardDataSources shardDataSources,
+                                         ShardingProperties properties) {
+        ShardMap placement = new ConsistentHashShardMap(shardDataSources.asMap().keySet(), properties.virtualNodes());
+        return new ShardDirectory(placement, defaultShard, properties.directoryCacheTtl());
+    }
+
+    @Bean
+    public ShardUserReplicator shardUserReplicator(ShardDataSources shardDataSources) {
+        return new ShardUserReplicator(shardDataSources.asMap());
+    }
+
+    // SecurityConfig 가 JwtAuthenticationFilter 다음에 넣습니다.
+    @Bean
+    public ShardRoutingFilter shardRoutingFilter(ShardDirectory shardDirectory, ShardUserReplicator shardUserReplicator, ObjectMapper objectMapper) {
+        return new ShardRoutingFilter(shardDirectory, shardUserReplicator, objectMapper);
+    }
+
+    // 서블릿 필터로 따로 등록되면 인증 전에 실행되므로 자동 등록은 막습니다.
+    @Bean
+    public FilterRegistrationBean<ShardRoutingFilter> shardRoutingFilterRegistration(ShardRoutingFilter shardRoutingFilter) {
+        FilterRegistrationBean<ShardRoutingFilter> registration = new FilterRegistrationBean<>(shardRoutingFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    @Bean
+    public ShardRebalancer shardRebalancer(ShardDirectory shardDirectory,
+                                           ShardRoutingFilter shardRoutingFilter,
+                                           ShardDataSources shardDataSources,
+                                           ShardUserReplicator shardUserReplicator,
+                                           CardEventRecorder cardEventRecorder,
+                                           ShardingProperties properties) {
+        ShardDataCopier copier = new ShardDataCopier(shardDataSources.asMap(), shardUserReplicator);
+        return new ShardRebalancer(shardDirectory, shardRoutingFilter, copier, cardEventRecorder, properties.drainTimeout());
+    }
+
+    // --rebalance-shards 로 시작하면, 서비스를 띄운 채 백그라운드에서 재배치합니다. (샤드를 추가한 뒤 한 번 실행)
+    @Bean
+    public ApplicationRunner shardRebalanceRunner(ShardRebalancer shardRebalancer) {
+        return args -> {
+            if (!args.containsOption("rebalance-shards")) {
+                return;
+            }
+            Thread thread = new Thread(() -> log.info("샤드 재배치 완료 - 사용자 {}명 이동", shardRebalancer.rebalance()), "shard-rebalancer");
+            thread.setDaemon(true);
+            thread.start();
+        };
+    }
+
+    // 샤드 번호 → DataSource (기본 샤드 포함)
+    public static class ShardDataSources {
+
+        private final Map<Integer, DataSource> shards;
+
+        public ShardDataSources(Map<Integer, DataSource> shards) {
+            this.shards = Map.copyOf(shards);
+        }
+
+        public Map<Integer, DataSource> asMap() {
+            return shards;
+        }
+
+        // 기본 샤드는 defaultShardDataSource 빈이 닫습니다.
+        public void close() {
+            shards.forEach((shardId, dataSource) -> {
+                if (shardId != ShardMap.DEFAULT_SHARD && dataSource instanceof HikariDataSource hikari) {
+                    hikari.close();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package gon.til.global.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * 응답 형식
+ * - 기본은 JSON, Accept: application/cbor 이면 같은 DTO 를 CBOR(바이너리)로 직렬화합니다.
+ * - CBOR 매퍼도 Spring Boot 의 Jackson 설정(spring.jackson.*, 모듈)을 그대로 따릅니다.
+ * - 일정 크기 이상의 응답은 gzip 으로 압축합니다. (server.compression.*)
+ */
+@Configuration
+public class WebConfig {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+}
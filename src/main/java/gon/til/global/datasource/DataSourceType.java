@@ -0,0 +1,6 @@
+package gon.til.global.datasource;
+
+public enum DataSourceType {
+    PRIMARY,
+    REPLICA
+}
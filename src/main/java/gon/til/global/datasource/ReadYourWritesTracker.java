@@ -0,0 +1,83 @@
+package gon.til.global.datasource;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 쓰기 직후 읽기 고정 (read-your-writes)
+ * - 사용자의 쓰기 트랜잭션이 커밋되면 stickyWindow 동안 그 사용자의 읽기도 프라이머리로 보냅니다.
+ *   (복제본에 아직 반영되지 않은 자기 변경이 안 보이는 문제 방지)
+ * - 사용자는 SecurityContext 의 인증 이름으로 구분합니다. 인스턴스 메모리에만 기록합니다.
+ */
+public class ReadYourWritesTracker {
+
+    private static final int CLEANUP_THRESHOLD = 10_000;
+
+    private final long stickyWindowNanos;
+
+    // 사용자 -> 프라이머리 고정 만료 시각 (System.nanoTime 기준)
+    private final Map<String, Long> stickyUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(Duration stickyWindow) {
+        this.stickyWindowNanos = stickyWindow.toNanos();
+    }
+
+    // 현재 사용자가 최근에 쓰기를 커밋했는지
+    public boolean isSticky() {
+        String user = currentUser();
+        if (user == null) {
+            return false;
+        }
+        Long until = stickyUntil.get(user);
+        if (until == null) {
+            return false;
+        }
+        if (System.nanoTime() - until > 0) {
+            stickyUntil.remove(user, until);
+            return false;
+        }
+        return true;
+    }
+
+    // 현재 쓰기 트랜잭션이 커밋되면 사용자를 프라이머리에 고정하도록 예약합니다. (트랜잭션당 한 번)
+    public void registerWrite() {
+        String user = currentUser();
+        if (user == null || !TransactionSynchronizationManager.isSynchronizationActive()
+            || TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(this, user);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ReadYourWritesTracker.this);
+                if (status == STATUS_COMMITTED) {
+                    markWrite(user);
+                }
+            }
+        });
+    }
+
+    private void markWrite(String user) {
+        if (stickyUntil.size() >= CLEANUP_THRESHOLD) {
+            long now = System.nanoTime();
+            stickyUntil.values().removeIf(until -> now - until > 0);
+        }
+        stickyUntil.put(user, System.nanoTime() + stickyWindowNanos);
+    }
+
+    private String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+            || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
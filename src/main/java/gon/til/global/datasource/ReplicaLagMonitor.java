@@ -0,0 +1,70 @@
+package gon.til.global.datasource;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * 복제본 지연 감시
+ * - 주기마다 프라이머리의 replication_heartbeat 에 현재 시각을 쓰고, 복제본에 복제된 값과의 차이를 지연으로 봅니다.
+ * - 지연이 maxLag 를 넘거나 복제본에 연결할 수 없으면 복제본을 쓰지 않습니다. (첫 확인 전에도 쓰지 않음)
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String WRITE_HEARTBEAT_SQL = "UPDATE replication_heartbeat SET beat_at = ? WHERE id = 1";
+    private static final String READ_HEARTBEAT_SQL = "SELECT beat_at FROM replication_heartbeat WHERE id = 1";
+
+    private final JdbcTemplate primaryJdbcTemplate;
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final Duration maxLag;
+
+    private volatile boolean replicaAvailable = false;
+    private volatile Duration lastLag;
+
+    public ReplicaLagMonitor(DataSource primary, DataSource replica, Duration maxLag) {
+        this.primaryJdbcTemplate = new JdbcTemplate(primary);
+        this.replicaJdbcTemplate = new JdbcTemplate(replica);
+        this.maxLag = maxLag;
+    }
+
+    @Scheduled(fixedDelayString = "${til.datasource.replica.lag-check-interval-ms:1000}")
+    public void check() {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            primaryJdbcTemplate.update(WRITE_HEARTBEAT_SQL, Timestamp.valueOf(now));
+        } catch (DataAccessException ex) {
+            log.warn("프라이머리 하트비트 기록 실패", ex);
+        }
+
+        try {
+            Timestamp replicated = replicaJdbcTemplate.queryForObject(READ_HEARTBEAT_SQL, Timestamp.class);
+            Duration lag = replicated == null ? null : Duration.between(replicated.toLocalDateTime(), now);
+            update(lag != null && lag.compareTo(maxLag) <= 0, lag);
+        } catch (DataAccessException ex) {
+            log.warn("복제본 하트비트 조회 실패 - 프라이머리로 읽습니다.", ex);
+            update(false, null);
+        }
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    public Duration getLastLag() {
+        return lastLag;
+    }
+
+    private void update(boolean available, Duration lag) {
+        if (replicaAvailable != available) {
+            log.info("복제본 {} (지연 {})", available ? "사용" : "사용 중지", lag);
+        }
+        this.lastLag = lag;
+        this.replicaAvailable = available;
+    }
+}
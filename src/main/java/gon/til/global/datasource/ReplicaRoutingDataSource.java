@@ -0,0 +1,34 @@
+package gon.til.global.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기 전용 트랜잭션은 복제본, 나머지는 프라이머리로 보내는 DataSource
+ * - LazyConnectionDataSourceProxy 로 감싸서, 트랜잭션의 readOnly 여부가 정해진 뒤(첫 SQL 실행 시)에 커넥션을 고르게 합니다.
+ * - 복제본 지연이 크거나, 현재 사용자가 방금 쓰기를 커밋했다면 읽기도 프라이머리로 보냅니다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public ReplicaRoutingDataSource(ReplicaLagMonitor lagMonitor, ReadYourWritesTracker readYourWritesTracker) {
+        this.lagMonitor = lagMonitor;
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                readYourWritesTracker.registerWrite();
+            }
+            return DataSourceType.PRIMARY;
+        }
+        if (!lagMonitor.isReplicaAvailable() || readYourWritesTracker.isSticky()) {
+            return DataSourceType.PRIMARY;
+        }
+        return DataSourceType.REPLICA;
+    }
+}
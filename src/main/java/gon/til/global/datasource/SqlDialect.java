@@ -0,0 +1,33 @@
+package gon.til.global.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+
+/**
+ * DB 마다 문법이 다른 SQL(업서트 등)을 고를 때 쓰는 DB 종류
+ * - 운영은 MySQL(INSERT ... ON DUPLICATE KEY UPDATE), 로컬/테스트 H2 는 표준 MERGE 문법을 씁니다.
+ */
+public enum SqlDialect {
+    MYSQL,
+    STANDARD;
+
+    // 트랜잭션 안에서 부르면 그 트랜잭션의 커넥션을 그대로 씁니다.
+    public static SqlDialect of(DataSource dataSource) {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            return of(connection);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    public static SqlDialect of(Connection connection) {
+        try {
+            return connection.getMetaData().getDatabaseProductName().toLowerCase().contains("mysql") ? MYSQL : STANDARD;
+        } catch (SQLException e) {
+            throw new IllegalStateException("DB 종류를 확인하지 못했습니다.", e);
+        }
+    }
+}
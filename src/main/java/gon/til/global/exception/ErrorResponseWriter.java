@@ -0,0 +1,22 @@
+package gon.til.global.exception;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.http.MediaType;
+
+/**
+ * 필터처럼 GlobalExceptionHandler 를 거치지 않는 곳에서 같은 형식(ErrorResponse)으로 오류를 씁니다.
+ */
+public final class ErrorResponseWriter {
+
+    private ErrorResponseWriter() {
+    }
+
+    public static void write(HttpServletResponse response, ObjectMapper objectMapper, GlobalErrorCode errorCode) throws IOException {
+        response.setStatus(errorCode.getHttpStatus().value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getWriter(), new ErrorResponse(errorCode.getCode(), errorCode.getMessage()));
+    }
+}
@@ -11,6 +11,8 @@ public enum GlobalErrorCode {
     // 서버 오류코드
     INVALID_INPUT_VALUE(HttpStatus.BAD_REQUEST, 400, "유효성 검사를 실패했습니다."),
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, 500, "서버 에러입니다."),
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, 429, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+    SERVER_BUSY(HttpStatus.SERVICE_UNAVAILABLE, 503, "요청이 몰려 지금은 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
     // 유저 오류코드
     DUPLICATE_USER_NAME(HttpStatus.CONFLICT, 409, "이미 존재하는 사용자명입니다."),
@@ -24,6 +26,13 @@ public enum GlobalErrorCode {
     DUPLICATE_PROJECT_TITLE(HttpStatus.CONFLICT, 409, "같은 이름의 프로젝트가 존재합니다."),
     NOT_FOUND_PROJECT(HttpStatus.NOT_FOUND, 404, "프로젝트가 존재하지 않습니다."),
     ACCESS_DENIED_PROJECT(HttpStatus.FORBIDDEN, 403, "프로젝트 접근 권한이 없습니다."),
+    NOT_FOUND_ARCHIVED_PROJECT(HttpStatus.NOT_FOUND, 404, "보관한 프로젝트가 존재하지 않습니다."),
+
+    // 프로젝트 멤버 오류코드
+    NOT_FOUND_PROJECT_MEMBER(HttpStatus.NOT_FOUND, 404, "프로젝트 멤버가 존재하지 않습니다."),
+    DUPLICATE_PROJECT_MEMBER(HttpStatus.CONFLICT, 409, "이미 프로젝트 멤버입니다."),
+    INVALID_PROJECT_MEMBER(HttpStatus.BAD_REQUEST, 400, "프로젝트를 만든 사용자는 멤버로 추가하거나 변경할 수 없습니다."),
+    PROJECT_SHARING_UNAVAILABLE(HttpStatus.CONFLICT, 409, "샤딩을 사용하는 동안에는 프로젝트에 멤버를 추가할 수 없습니다."),
 
     // 보드 오류코드
     DUPLICATE_BOARD(HttpStatus.CONFLICT, 409, "이미 보드가 존재합니다."),
@@ -31,11 +40,18 @@ public enum GlobalErrorCode {
     NOT_FOUND_BOARD(HttpStatus.NOT_FOUND, 404, "보드가 존재하지 않습니다."),
     ACCESS_DENIED_BOARD(HttpStatus.FORBIDDEN, 403, "보드 접근 권한이 없습니다."),
 
+    // 보드 템플릿 오류코드
+    NOT_FOUND_TEMPLATE(HttpStatus.NOT_FOUND, 404, "보드 템플릿이 존재하지 않습니다."),
+    ACCESS_DENIED_TEMPLATE(HttpStatus.FORBIDDEN, 403, "보드 템플릿 접근 권한이 없습니다."),
+    DUPLICATE_TEMPLATE_TITLE(HttpStatus.CONFLICT, 409, "같은 이름의 보드 템플릿이 존재합니다."),
+    INVALID_TEMPLATE(HttpStatus.BAD_REQUEST, 400, "보드 템플릿 구성이 올바르지 않습니다."),
+
     // 칸반칼럼 오류코드
     DUPLICATE_COLUMN(HttpStatus.CONFLICT, 409, "이미 컬럼이 존재합니다."),
     DUPLICATE_COLUMN_TITLE(HttpStatus.CONFLICT, 409, "이미 같은 제목의 컬럼이 존재합니다."),
     NOT_FOUND_COLUMN(HttpStatus.NOT_FOUND, 404, "컬럼이 존재하지 않습니다."),
     ACCESS_DENIED_COLUMN(HttpStatus.FORBIDDEN, 403, "컬럼 접근 권한이 없습니다."),
+    WIP_LIMIT_EXCEEDED(HttpStatus.CONFLICT, 409, "컬럼의 WIP 제한을 초과했습니다."),
 
     // 카드 오류코드
     DUPLICATE_CARD(HttpStatus.CONFLICT, 409, "이미 카드가 존재합니다."),
@@ -43,12 +59,40 @@ public enum GlobalErrorCode {
     NOT_FOUND_CARD(HttpStatus.NOT_FOUND, 404, "카드가 존재하지 않습니다."),
     ACCESS_DENIED_CARD(HttpStatus.FORBIDDEN, 403, "카드 접근 권한이 없습니다."),
     TAG_NOT_IN_SAME_PROJECT(HttpStatus.BAD_REQUEST, 400, "태그가 카드가 속한 프로젝트와 다릅니다."),
+    INVALID_CARD_REMINDER(HttpStatus.BAD_REQUEST, 400, "알림 시각은 마감일 이전이어야 합니다."),
+    INVALID_CARD_CURSOR(HttpStatus.BAD_REQUEST, 400, "카드 목록의 다음 페이지 커서가 올바르지 않습니다."),
+    INVALID_CARD_SHIFT(HttpStatus.BAD_REQUEST, 400, "카드는 같은 보드의 컬럼으로만 옮길 수 있습니다."),
 
     // 태그 오류코드
     NOT_FOUND_TAG(HttpStatus.NOT_FOUND, 404, "태그가 존재하지 않습니다."),
     DUPLICATE_TAG_NAME(HttpStatus.CONFLICT, 409, "이미 존재하는 태그 이름입니다."),
     ACCESS_DENIED_TAG(HttpStatus.FORBIDDEN, 403, "태그 접근 권한이 없습니다."),
-    INVALID_COLOR_NAME(HttpStatus.BAD_REQUEST, 400, "선택할 수 있는 색상이 아닙니다.");
+    INVALID_COLOR_NAME(HttpStatus.BAD_REQUEST, 400, "선택할 수 있는 색상이 아닙니다."),
+    NOT_FOUND_TAG_PALETTE_COLOR(HttpStatus.NOT_FOUND, 404, "팔레트 색상이 존재하지 않습니다."),
+    DUPLICATE_TAG_PALETTE_COLOR(HttpStatus.CONFLICT, 409, "이미 존재하는 색상 이름입니다."),
+
+    // 프로젝트 가져오기 오류코드
+    INVALID_IMPORT_FILE(HttpStatus.BAD_REQUEST, 400, "가져올 수 없는 프로젝트 파일입니다."),
+
+    // 첨부 파일 오류코드
+    NOT_FOUND_ATTACHMENT(HttpStatus.NOT_FOUND, 404, "첨부 파일이 존재하지 않습니다."),
+    ACCESS_DENIED_ATTACHMENT(HttpStatus.FORBIDDEN, 403, "첨부 파일 접근 권한이 없습니다."),
+    ATTACHMENT_TOO_LARGE(HttpStatus.PAYLOAD_TOO_LARGE, 413, "첨부 파일이 너무 큽니다."),
+    INVALID_ATTACHMENT(HttpStatus.BAD_REQUEST, 400, "첨부할 수 없는 파일입니다."),
+    ATTACHMENT_STORAGE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, 500, "첨부 파일을 저장하지 못했습니다."),
+    NOT_AN_IMAGE(HttpStatus.BAD_REQUEST, 400, "썸네일을 만들 수 없는 파일입니다."),
+    UNSUPPORTED_THUMBNAIL_SIZE(HttpStatus.BAD_REQUEST, 400, "지원하지 않는 썸네일 크기입니다."),
+
+    // 카드 이력 오류코드
+    INVALID_DATE_RANGE(HttpStatus.BAD_REQUEST, 400, "조회 시작일이 종료일보다 늦습니다."),
+
+    // 복습 오류코드
+    NOT_FOUND_REVIEW(HttpStatus.NOT_FOUND, 404, "복습 일정에 등록되지 않은 카드입니다."),
+    ACCESS_DENIED_REVIEW(HttpStatus.FORBIDDEN, 403, "복습 일정 접근 권한이 없습니다."),
+    INVALID_REVIEW_QUALITY(HttpStatus.BAD_REQUEST, 400, "복습 평가는 0에서 5 사이여야 합니다."),
+
+    // 샤드 오류코드
+    SHARD_MIGRATION_IN_PROGRESS(HttpStatus.SERVICE_UNAVAILABLE, 503, "데이터를 다른 저장소로 옮기는 중입니다. 잠시 후 다시 시도해주세요.");
 
     private final HttpStatus httpStatus;
     private final int code;
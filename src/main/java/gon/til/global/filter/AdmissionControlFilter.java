@@ -0,0 +1,88 @@
+package gon.til.global.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gon.til.global.exception.ErrorResponseWriter;
+import gon.til.global.exception.GlobalErrorCode;
+import gon.til.global.ratelimit.AdmissionController;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 전체 동시 요청 수 제한 (JwtAuthenticationFilter 보다 먼저 실행해서, 사용자 조회 쿼리도 제한 안에서 실행)
+ * - 자리가 없으면 503 과 Retry-After: 1 을 돌려줍니다.
+ * - /actuator 는 부하가 높을 때도 상태를 볼 수 있도록 제외합니다.
+ * - 본문을 길게 주고받는 요청(첨부파일 업로드/다운로드, 내보내기/가져오기)도 제외합니다.
+ *   자리는 요청이 끝날 때 돌려주므로, 느린 클라이언트와 수십 MB 를 주고받는 동안 자리를 붙잡아 다른 요청을 503 으로 만들기 때문입니다.
+ */
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    // 본문 전송이 긴 엔드포인트 (메서드, 경로 패턴)
+    private static final List<StreamingEndpoint> STREAMING_ENDPOINTS = List.of(
+        new StreamingEndpoint(HttpMethod.POST, "/api/v1/cards/*/attachments"),
+        new StreamingEndpoint(HttpMethod.GET, "/api/v1/attachments/*"),
+        new StreamingEndpoint(HttpMethod.GET, "/api/v1/attachments/*/thumbnail"),
+        new StreamingEndpoint(HttpMethod.GET, "/api/v1/projects/*/export"),
+        new StreamingEndpoint(HttpMethod.GET, "/api/v1/projects/*/export/cards"),
+        new StreamingEndpoint(HttpMethod.POST, "/api/v1/projects/import")
+    );
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final AdmissionController admissionController;
+    private final ObjectMapper objectMapper;
+
+    public AdmissionControlFilter(AdmissionController admissionController, ObjectMapper objectMapper) {
+        this.admissionController = admissionController;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        if (path.startsWith("/actuator")) {
+            return true;
+        }
+        for (StreamingEndpoint endpoint : STREAMING_ENDPOINTS) {
+            if (endpoint.method().matches(request.getMethod()) && PATH_MATCHER.match(endpoint.pattern(), path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        boolean admitted;
+        try {
+            admitted = admissionController.tryEnter();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            admitted = false;
+        }
+
+        if (!admitted) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+            ErrorResponseWriter.write(response, objectMapper, GlobalErrorCode.SERVER_BUSY);
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            admissionController.exit();
+        }
+    }
+
+    private record StreamingEndpoint(HttpMethod method, String pattern) {
+    }
+}
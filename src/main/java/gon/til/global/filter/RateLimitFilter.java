@@ -0,0 +1,50 @@
+package gon.til.global.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gon.til.domain.entity.User;
+import gon.til.global.exception.ErrorResponseWriter;
+import gon.til.global.exception.GlobalErrorCode;
+import gon.til.global.ratelimit.RateLimitBudget;
+import gon.til.global.ratelimit.UserRateLimiter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 로그인한 사용자별 요청 한도 (JwtAuthenticationFilter 다음에 실행)
+ * - 한도를 넘으면 429 와 Retry-After(초)를 돌려줍니다.
+ * - 인증되지 않은 요청(회원가입, 로그인)은 한도를 적용하지 않습니다.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final UserRateLimiter userRateLimiter;
+    private final ObjectMapper objectMapper;
+
+    public RateLimitFilter(UserRateLimiter userRateLimiter, ObjectMapper objectMapper) {
+        this.userRateLimiter = userRateLimiter;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof User user) {
+            long waitNanos = userRateLimiter.tryAcquire(user.getId(), RateLimitBudget.of(request.getMethod()));
+            if (waitNanos > 0) {
+                long retryAfterSeconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+                response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+                ErrorResponseWriter.write(response, objectMapper, GlobalErrorCode.TOO_MANY_REQUESTS);
+                return;
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+}
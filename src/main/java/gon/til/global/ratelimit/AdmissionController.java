@@ -0,0 +1,53 @@
+package gon.til.global.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 전체 동시 처리 요청 수 제한
+ * - 요청마다 DB 커넥션을 하나씩 쓰므로, 동시에 처리하는 요청 수를 커넥션 풀보다 작게 묶어 둡니다.
+ *   풀이 가득 차서 모든 요청이 connection-timeout 까지 기다리기 전에, 넘치는 요청은 바로 503 으로 돌려보냅니다.
+ * - 자리가 없으면 maxWait 만큼만 기다립니다.
+ * - 메트릭 : til.admission.in_flight, til.admission.rejected
+ */
+@Component
+public class AdmissionController {
+
+    private final int maxConcurrent;
+    private final long maxWaitNanos;
+    private final Semaphore permits;
+    private final Counter rejected;
+
+    public AdmissionController(MeterRegistry meterRegistry,
+                               @Value("${til.admission.max-concurrent:8}") int maxConcurrent,
+                               @Value("${til.admission.max-wait:50ms}") Duration maxWait) {
+        this.maxConcurrent = maxConcurrent;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.permits = new Semaphore(maxConcurrent);
+        this.rejected = Counter.builder("til.admission.rejected").register(meterRegistry);
+        Gauge.builder("til.admission.in_flight", this, AdmissionController::inFlight).register(meterRegistry);
+    }
+
+    // 자리를 얻었으면 true. true 를 받은 쪽은 반드시 exit() 를 호출해야 합니다.
+    public boolean tryEnter() throws InterruptedException {
+        if (permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+            return true;
+        }
+        rejected.increment();
+        return false;
+    }
+
+    public void exit() {
+        permits.release();
+    }
+
+    public int inFlight() {
+        return maxConcurrent - permits.availablePermits();
+    }
+}
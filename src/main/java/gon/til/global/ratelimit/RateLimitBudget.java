@@ -0,0 +1,18 @@
+package gon.til.global.ratelimit;
+
+/**
+ * 요청 종류별 한도
+ * - READ  : GET, HEAD, OPTIONS
+ * - WRITE : 그 밖의 메서드
+ */
+public enum RateLimitBudget {
+    READ,
+    WRITE;
+
+    public static RateLimitBudget of(String httpMethod) {
+        return switch (httpMethod) {
+            case "GET", "HEAD", "OPTIONS" -> READ;
+            default -> WRITE;
+        };
+    }
+}
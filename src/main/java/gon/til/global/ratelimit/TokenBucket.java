@@ -0,0 +1,43 @@
+package gon.til.global.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 잠금 없는 토큰 버킷 (GCRA : Generic Cell Rate Algorithm)
+ * - 남은 토큰 수 대신 "버킷이 다시 가득 차는 시각(TAT)" 하나만 AtomicLong 으로 들고, CAS 로 갱신합니다.
+ * - 토큰 하나는 interval 나노초마다 채워지고, 최대 capacity 개까지 한 번에 쓸 수 있습니다.
+ */
+public class TokenBucket {
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final AtomicLong theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+
+    public TokenBucket(long intervalNanos, int capacity) {
+        this.intervalNanos = intervalNanos;
+        this.burstNanos = intervalNanos * capacity;
+    }
+
+    /**
+     * 토큰 하나를 꺼냅니다.
+     * 꺼냈으면 0, 비어 있으면 다음 토큰이 생길 때까지 남은 나노초를 반환합니다.
+     */
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, nowNanos) + intervalNanos;
+            long excess = next - nowNanos - burstNanos;
+            if (excess > 0) {
+                return excess;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    // 가득 찬 버킷은 지워도 새로 만든 버킷과 같습니다.
+    public boolean isFull(long nowNanos) {
+        return theoreticalArrival.get() <= nowNanos;
+    }
+}
@@ -0,0 +1,83 @@
+package gon.til.global.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 요청 한도 (토큰 버킷)
+ * - 사용자 ID 마다 읽기/쓰기 버킷을 따로 둡니다. 버킷 갱신은 CAS 라 요청 스레드끼리 잠금을 잡지 않습니다.
+ * - 버킷 맵은 ConcurrentHashMap 이라 사용자 ID 해시별로 나뉘어(striped) 동시에 접근해도 경합이 적습니다.
+ * - 다시 가득 찬 버킷은 주기적으로 지워서, 활동하지 않는 사용자만큼 메모리가 늘지 않습니다.
+ * - 메트릭 : til.rate_limit.requests{budget, outcome}, til.rate_limit.buckets{budget}
+ */
+@Component
+public class UserRateLimiter {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final Map<RateLimitBudget, Budget> budgets = new EnumMap<>(RateLimitBudget.class);
+
+    public UserRateLimiter(MeterRegistry meterRegistry,
+                           @Value("${til.rate-limit.read.capacity:120}") int readCapacity,
+                           @Value("${til.rate-limit.read.refill-per-second:20}") double readRefillPerSecond,
+                           @Value("${til.rate-limit.write.capacity:30}") int writeCapacity,
+                           @Value("${til.rate-limit.write.refill-per-second:5}") double writeRefillPerSecond) {
+        budgets.put(RateLimitBudget.READ, new Budget(meterRegistry, RateLimitBudget.READ, readCapacity, readRefillPerSecond));
+        budgets.put(RateLimitBudget.WRITE, new Budget(meterRegistry, RateLimitBudget.WRITE, writeCapacity, writeRefillPerSecond));
+    }
+
+    /**
+     * userId 의 budget 에서 토큰 하나를 꺼냅니다.
+     * 허용이면 0, 거절이면 다시 시도할 수 있을 때까지 남은 나노초를 반환합니다.
+     */
+    public long tryAcquire(long userId, RateLimitBudget budget) {
+        return budgets.get(budget).tryAcquire(userId, System.nanoTime());
+    }
+
+    @Scheduled(fixedDelayString = "${til.rate-limit.eviction-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        budgets.values().forEach(budget -> budget.evictFull(now));
+    }
+
+    // ===== private 헬퍼 클래스 =====
+
+    private static class Budget {
+
+        private final long intervalNanos;
+        private final int capacity;
+        private final Map<Long, TokenBucket> buckets = new ConcurrentHashMap<>();
+        private final Counter allowed;
+        private final Counter rejected;
+
+        private Budget(MeterRegistry meterRegistry, RateLimitBudget budget, int capacity, double refillPerSecond) {
+            if (capacity < 1 || refillPerSecond <= 0) {
+                throw new IllegalArgumentException("til.rate-limit." + budget.name().toLowerCase() + " 설정이 올바르지 않습니다.");
+            }
+            this.intervalNanos = Math.max(1L, (long) (NANOS_PER_SECOND / refillPerSecond));
+            this.capacity = capacity;
+
+            String tag = budget.name().toLowerCase();
+            this.allowed = Counter.builder("til.rate_limit.requests").tag("budget", tag).tag("outcome", "allowed").register(meterRegistry);
+            this.rejected = Counter.builder("til.rate_limit.requests").tag("budget", tag).tag("outcome", "rejected").register(meterRegistry);
+            Gauge.builder("til.rate_limit.buckets", buckets, Map::size).tag("budget", tag).register(meterRegistry);
+        }
+
+        private long tryAcquire(long userId, long now) {
+            long waitNanos = buckets.computeIfAbsent(userId, id -> new TokenBucket(intervalNanos, capacity)).tryAcquire(now);
+            (waitNanos == 0 ? allowed : rejected).increment();
+            return waitNanos;
+        }
+
+        private void evictFull(long now) {
+            buckets.entrySet().removeIf(entry -> entry.getValue().isFull(now));
+        }
+    }
+}
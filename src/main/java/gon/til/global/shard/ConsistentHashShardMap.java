@@ -0,0 +1,52 @@
+package gon.til.global.shard;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 일관 해시(consistent hashing) 배치
+ * - 샤드마다 가상 노드를 virtualNodes 개씩 링에 올리고, 사용자 ID 해시의 시계 방향 첫 노드가 담당 샤드입니다.
+ * - 샤드를 하나 추가하면 전체 사용자 중 약 1/(샤드 수) 만 새 샤드로 옮겨집니다.
+ */
+public class ConsistentHashShardMap implements ShardMap {
+
+    private final NavigableMap<Long, Integer> ring = new TreeMap<>();
+    private final SortedSet<Integer> shardIds;
+
+    public ConsistentHashShardMap(Collection<Integer> shardIds, int virtualNodes) {
+        if (shardIds.isEmpty() || virtualNodes < 1) {
+            throw new IllegalArgumentException("샤드와 가상 노드는 하나 이상이어야 합니다.");
+        }
+
+        for (int shardId : shardIds) {
+            for (int node = 0; node < virtualNodes; node++) {
+                ring.put(hash(((long) shardId << 32) | node), shardId);
+            }
+        }
+        this.shardIds = Collections.unmodifiableSortedSet(new TreeSet<>(shardIds));
+    }
+
+    @Override
+    public int shardFor(long userId) {
+        Map.Entry<Long, Integer> node = ring.ceilingEntry(hash(userId));
+        return node != null ? node.getValue() : ring.firstEntry().getValue();
+    }
+
+    @Override
+    public SortedSet<Integer> shardIds() {
+        return shardIds;
+    }
+
+    // SplitMix64 : 연속된 ID 도 링 위에 고르게 흩어지도록 섞습니다.
+    private static long hash(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,56 @@
+package gon.til.global.shard;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드가 사용할 샤드 번호
+ * - 요청 스레드는 ShardRoutingFilter 가 로그인 사용자의 샤드로 한 번만 정합니다.
+ * - 백그라운드 작업은 ShardExecutor.forEachShard 로 샤드마다 따로 실행합니다.
+ * - 이미 샤드가 정해진 스레드에서 다른 샤드로 바꾸려고 하면 IllegalStateException 을 던집니다.
+ *   (한 요청이 두 샤드의 데이터를 섞어 읽는 코드는 만들 수 없습니다.)
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    // 정해진 샤드가 없으면 null (기본 샤드로 라우팅)
+    public static Integer current() {
+        return CURRENT.get();
+    }
+
+    public static void run(int shardId, Runnable task) {
+        try (Scope ignored = enter(shardId)) {
+            task.run();
+        }
+    }
+
+    public static <T> T call(int shardId, Supplier<T> task) {
+        try (Scope ignored = enter(shardId)) {
+            return task.get();
+        }
+    }
+
+    // try-with-resources 로 감싸서 사용합니다. 블록을 벗어나면 원래 상태로 돌아갑니다.
+    public static Scope enter(int shardId) {
+        Integer previous = CURRENT.get();
+        if (previous != null && previous != shardId) {
+            throw new IllegalStateException("샤드 " + previous + " 에서 샤드 " + shardId + " 로 바꿀 수 없습니다.");
+        }
+
+        CURRENT.set(shardId);
+        return () -> {
+            if (previous == null) {
+                CURRENT.remove();
+            }
+        };
+    }
+
+    public interface Scope extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,172 @@
+package gon.til.global.shard;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 사용자 한 명의 데이터를 샤드 사이에서 그대로(같은 ID 로) 복사하고 지웁니다.
+ * - 샤드마다 ID 구간이 달라서(ShardIdRange) 옮겨 온 행의 ID 가 대상 샤드의 행과 겹치지 않습니다.
+ * - 복사는 대상 샤드의 트랜잭션 하나로 실행해서, 실패하면 대상에는 아무것도 남지 않습니다.
+ * - 원본은 커서로 BATCH_SIZE 행씩 읽어 batch insert 합니다.
+ */
+public class ShardDataCopier {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String PROJECT_SCOPE = "project_id IN (SELECT id FROM projects WHERE user_id = ?)";
+    private static final String BOARD_SCOPE =
+        "board_id IN (SELECT b.id FROM boards b JOIN projects p ON p.id = b.project_id WHERE p.user_id = ?)";
+
+    private static final String CARD_SCOPE =
+        "card_id IN (SELECT c.id FROM cards c JOIN projects p ON p.id = c.project_id WHERE p.user_id = ?)";
+
+    private static final String ARCHIVED_PROJECT_SCOPE =
+        "project_id IN (SELECT id FROM archived_projects WHERE user_id = ?)";
+    private static final String ARCHIVED_BOARD_SCOPE =
+        "board_id IN (SELECT b.id FROM archived_boards b JOIN archived_projects p ON p.id = b.project_id WHERE p.user_id = ?)";
+    private static final String ARCHIVED_CARD_SCOPE =
+        "card_id IN (SELECT c.id FROM archived_cards c JOIN archived_projects p ON p.id = c.project_id WHERE p.user_id = ?)";
+
+    // 이력(card_events, board_daily_flows)은 보관된 프로젝트의 보드 것도 남아 있으므로 함께 옮깁니다.
+    private static final String HISTORY_BOARD_SCOPE = BOARD_SCOPE + " OR " + ARCHIVED_BOARD_SCOPE;
+
+    private static final String TEMPLATE_SCOPE = "template_id IN (SELECT id FROM board_templates WHERE user_id = ?)";
+
+    // 외래 키 순서 (삭제는 역순)
+    private static final List<TableScope> TABLES = List.of(
+        new TableScope("projects", "user_id = ?"),
+        // 공유받은 멤버도 같은 샤드의 사용자여야 합니다. (user_id 외래 키)
+        new TableScope("project_members", PROJECT_SCOPE),
+        new TableScope("boards", PROJECT_SCOPE),
+        new TableScope("columns", BOARD_SCOPE),
+        new TableScope("tags", PROJECT_SCOPE),
+        new TableScope("tag_palette_colors", PROJECT_SCOPE),
+        new TableScope("cards", PROJECT_SCOPE),
+        new TableScope("card_tags", CARD_SCOPE),
+        new TableScope("card_attachments", CARD_SCOPE),
+        new TableScope("card_reviews", CARD_SCOPE),
+        new TableScope("board_templates", "user_id = ?"),
+        new TableScope("board_template_columns", TEMPLATE_SCOPE),
+        new TableScope("board_template_tags", TEMPLATE_SCOPE),
+        new TableScope("board_template_cards", TEMPLATE_SCOPE),
+        new TableScope("notifications", "user_id = ?"),
+        new TableScope("notification_counters", "user_id = ?"),
+        new TableScope("archived_projects", "user_id = ?"),
+        new TableScope("archived_project_members", ARCHIVED_PROJECT_SCOPE),
+        new TableScope("archived_boards", ARCHIVED_PROJECT_SCOPE),
+        new TableScope("archived_columns", ARCHIVED_BOARD_SCOPE),
+        new TableScope("archived_tags", ARCHIVED_PROJECT_SCOPE),
+        new TableScope("archived_tag_palette_colors", ARCHIVED_PROJECT_SCOPE),
+        new TableScope("archived_cards", ARCHIVED_PROJECT_SCOPE),
+        new TableScope("archived_card_tags", ARCHIVED_CARD_SCOPE),
+        new TableScope("archived_card_attachments", ARCHIVED_CARD_SCOPE),
+        new TableScope("archived_card_reviews", ARCHIVED_CARD_SCOPE),
+        // 보드/보관 보드 둘 다로 찾으므로 맨 뒤에 둡니다. (삭제할 때 보드보다 먼저 지워짐)
+        new TableScope("card_events", HISTORY_BOARD_SCOPE),
+        new TableScope("board_daily_flows", HISTORY_BOARD_SCOPE)
+    );
+
+    private final Map<Integer, DataSource> shards;
+    private final ShardUserReplicator userReplicator;
+
+    public ShardDataCopier(Map<Integer, DataSource> shards, ShardUserReplicator userReplicator) {
+        this.shards = shards;
+        this.userReplicator = userReplicator;
+    }
+
+    // 복사한 행 수를 반환합니다.
+    public long copy(long userId, int fromShard, int toShard) {
+        userReplicator.ensureReplicated(userId, toShard);
+
+        JdbcTemplate source = new JdbcTemplate(shards.get(fromShard));
+        source.setFetchSize(BATCH_SIZE);
+        JdbcTemplate target = new JdbcTemplate(shards.get(toShard));
+
+        Long copied = transactionTemplate(toShard).execute(status -> {
+            long rows = 0;
+            for (TableScope table : TABLES) {
+                rows += copyTable(source, target, table, userId);
+            }
+            return rows;
+        });
+        return copied == null ? 0 : copied;
+    }
+
+    public void delete(long userId, int shardId) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(shards.get(shardId));
+        List<TableScope> reversed = new ArrayList<>(TABLES);
+        Collections.reverse(reversed);
+
+        transactionTemplate(shardId).executeWithoutResult(status -> {
+            for (TableScope table : reversed) {
+                jdbcTemplate.update("DELETE FROM " + table.name() + " WHERE " + table.where(), table.args(userId));
+            }
+        });
+    }
+
+    // ===== private 헬퍼 메서드들 =====
+
+    private long copyTable(JdbcTemplate source, JdbcTemplate target, TableScope table, long userId) {
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        String[] insertSql = new String[1];
+        long[] rows = {0};
+
+        source.query("SELECT * FROM " + table.name() + " WHERE " + table.where(), rs -> {
+            ResultSetMetaData meta = rs.getMetaData();
+            if (insertSql[0] == null) {
+                insertSql[0] = insertSql(table.name(), meta);
+            }
+
+            Object[] values = new Object[meta.getColumnCount()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = rs.getObject(i + 1);
+            }
+            batch.add(values);
+            rows[0]++;
+
+            if (batch.size() == BATCH_SIZE) {
+                target.batchUpdate(insertSql[0], batch);
+                batch.clear();
+            }
+        }, table.args(userId));
+
+        if (!batch.isEmpty()) {
+            target.batchUpdate(insertSql[0], batch);
+        }
+        return rows[0];
+    }
+
+    private static String insertSql(String table, ResultSetMetaData meta) throws SQLException {
+        StringJoiner columns = new StringJoiner(", ");
+        StringJoiner placeholders = new StringJoiner(", ");
+        for (int i = 1; i <= meta.getColumnCount(); i++) {
+            columns.add(meta.getColumnName(i));
+            placeholders.add("?");
+        }
+        return "INSERT INTO " + table + " (" + columns + ") VALUES (" + placeholders + ")";
+    }
+
+    private TransactionTemplate transactionTemplate(int shardId) {
+        return new TransactionTemplate(new DataSourceTransactionManager(shards.get(shardId)));
+    }
+
+    private record TableScope(String name, String where) {
+
+        // where 의 ? 마다 userId 를 넣습니다.
+        Object[] args(long userId) {
+            Object[] args = new Object[(int) where.chars().filter(c -> c == '?').count()];
+            Arrays.fill(args, userId);
+            return args;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package gon.til.global.shard;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.sql.DataSource;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 사용자별 샤드 배정표 (기본 샤드의 shard_assignments 테이블)
+ * - 처음 보는 사용자는 placement(일관 해시)가 고른 샤드로 배정하고 기록합니다.
+ * - 그 뒤로는 샤드 구성이 바뀌어도 배정표가 우선이라, 데이터가 옮겨지기 전까지 기존 샤드로 라우팅됩니다.
+ * - 배정표와 placement 가 어긋난 사용자를 ShardRebalancer 가 옮깁니다.
+ * - 조회 결과는 cacheTtl 동안만 캐시해서, 다른 인스턴스가 바꾼 배정(이동 시작/완료)도 그 안에 반영됩니다.
+ */
+public class ShardDirectory implements ShardMap {
+
+    private final ShardMap placement;
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration cacheTtl;
+    private final Map<Long, Assignment> cache = new ConcurrentHashMap<>();
+
+    public ShardDirectory(ShardMap placement, DataSource defaultShard, Duration cacheTtl) {
+        this.placement = placement;
+        this.jdbcTemplate = new JdbcTemplate(defaultShard);
+        this.cacheTtl = cacheTtl;
+    }
+
+    public Duration getCacheTtl() {
+        return cacheTtl;
+    }
+
+    @Override
+    public int shardFor(long userId) {
+        return assignment(userId).shardId();
+    }
+
+    @Override
+    public SortedSet<Integer> shardIds() {
+        return placement.shardIds();
+    }
+
+    // 다른 샤드로 옮기는 중인 사용자는 요청을 받지 않습니다.
+    public boolean isMoving(long userId) {
+        return assignment(userId).moving();
+    }
+
+    // 배정된 샤드와 지금 placement 가 고르는 샤드가 다른 사용자 (userId, 현재 샤드, 목표 샤드)
+    public List<Move> findMisplaced() {
+        return jdbcTemplate.query("SELECT user_id, shard_id FROM shard_assignments WHERE moving = FALSE ORDER BY user_id",
+                (rs, rowNum) -> new Move(rs.getLong("user_id"), rs.getInt("shard_id"), placement.shardFor(rs.getLong("user_id"))))
+            .stream()
+            .filter(move -> move.from() != move.to())
+            .toList();
+    }
+
+    public void markMoving(long userId) {
+        int updated = jdbcTemplate.update("UPDATE shard_assignments SET moving = TRUE WHERE user_id = ? AND moving = FALSE", userId);
+        if (updated == 0) {
+            throw new IllegalStateException("사용자 " + userId + " 는 배정되지 않았거나 이미 이동 중입니다.");
+        }
+        cache.remove(userId);
+    }
+
+    // 이동을 마치거나(shardId = 새 샤드) 취소(shardId = 기존 샤드)합니다.
+    public void finishMoving(long userId, int shardId) {
+        jdbcTemplate.update("UPDATE shard_assignments SET shard_id = ?, moving = FALSE WHERE user_id = ?", shardId, userId);
+        cache.remove(userId);
+    }
+
+    // ===== private 헬퍼 메서드들 =====
+
+    private Assignment assignment(long userId) {
+        Assignment cached = cache.get(userId);
+        if (cached != null && System.nanoTime() - cached.loadedAt() < cacheTtl.toNanos()) {
+            return cached;
+        }
+
+        Assignment assignment = load(userId);
+        if (assignment == null) {
+            assignment = assign(userId);
+        }
+        // 이동 중 상태는 캐시하지 않아서, 이동이 끝나면 바로 새 샤드로 라우팅됩니다.
+        if (!assignment.moving()) {
+            cache.put(userId, assignment);
+        }
+        return assignment;
+    }
+
+    private Assignment load(long userId) {
+        return jdbcTemplate.query("SELECT shard_id, moving FROM shard_assignments WHERE user_id = ?",
+                (rs, rowNum) -> new Assignment(rs.getInt("shard_id"), rs.getBoolean("moving"), System.nanoTime()), userId)
+            .stream()
+            .findFirst()
+            .orElse(null);
+    }
+
+    private Assignment assign(long userId) {
+        int shardId = placement.shardFor(userId);
+        try {
+            jdbcTemplate.update("INSERT INTO shard_assignments (user_id, shard_id, moving) VALUES (?, ?, FALSE)", userId, shardId);
+            return new Assignment(shardId, false, System.nanoTime());
+        } catch (DuplicateKeyException e) {
+            // 다른 요청이 먼저 배정했으면 그 값을 따릅니다.
+            return load(userId);
+        }
+    }
+
+    private record Assignment(int shardId, boolean moving, long loadedAt) {
+    }
+
+    public record Move(long userId, int from, int to) {
+    }
+}
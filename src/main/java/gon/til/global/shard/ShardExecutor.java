@@ -0,0 +1,48 @@
+package gon.til.global.shard;
+
+import java.util.function.IntConsumer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * 스케줄러처럼 요청 밖에서 도는 작업을 샤드마다 실행합니다.
+ * - 샤딩을 쓰지 않으면(ShardMap 빈 없음) 기본 DataSource 로 한 번만 실행합니다.
+ */
+@Component
+public class ShardExecutor {
+
+    private final ObjectProvider<ShardMap> shardMap;
+
+    public ShardExecutor(ObjectProvider<ShardMap> shardMap) {
+        this.shardMap = shardMap;
+    }
+
+    public void forEachShard(Runnable task) {
+        forEachShard(shardId -> task.run());
+    }
+
+    public void forEachShard(IntConsumer task) {
+        ShardMap map = shardMap.getIfAvailable();
+        if (map == null) {
+            task.accept(ShardMap.DEFAULT_SHARD);
+            return;
+        }
+        for (int shardId : map.shardIds()) {
+            ShardContext.run(shardId, () -> task.accept(shardId));
+        }
+    }
+
+    // 지금 스레드의 샤드 (요청 스레드면 로그인 사용자의 샤드, 정해지지 않았으면 null)
+    public Integer currentShard() {
+        return ShardContext.current();
+    }
+
+    // 요청 중에 모아 둔 작업을 나중에 같은 샤드에서 실행합니다. (shardId 가 null 이면 기본 샤드)
+    public void runOn(Integer shardId, Runnable task) {
+        if (shardId == null) {
+            task.run();
+        } else {
+            ShardContext.run(shardId, task);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package gon.til.global.shard;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+
+/**
+ * 샤드마다 AUTO_INCREMENT 시작 값을 다르게 둡니다. (샤드 n 은 n * 2^40 + 1 부터)
+ * - 어느 샤드에서 만든 행이든 ID 가 전체에서 유일해서, 사용자를 옮길 때 ID 를 바꾸지 않아도 되고
+ *   ID 를 키로 쓰는 캐시(태그 팔레트, 보드 분석 등)도 샤드와 상관없이 그대로 쓸 수 있습니다.
+ * - 기본 샤드(0)는 1 부터라 기존 데이터에 영향이 없습니다.
+ */
+public final class ShardIdRange {
+
+    private static final long RANGE_SIZE = 1L << 40;
+
+    private static final List<String> TABLES = List.of(
+        "users", "projects", "boards", "columns", "cards", "tags",
+        "tag_palette_colors", "card_events", "board_daily_flows", "card_reviews", "card_attachments",
+        "board_templates", "notifications", "project_members"
+    );
+
+    private ShardIdRange() {
+    }
+
+    public static long firstId(int shardId) {
+        return shardId * RANGE_SIZE + 1;
+    }
+
+    // 적용한 테이블은 shard_identity_tables 에 기록해 두므로, 시작할 때마다 실행해도 테이블마다 한 번만 적용됩니다.
+    public static void apply(DataSource dataSource, int shardId) {
+        if (shardId == ShardMap.DEFAULT_SHARD) {
+            return;
+        }
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        Set<String> applied = new HashSet<>(jdbcTemplate.queryForList(
+            "SELECT table_name FROM shard_identity_tables WHERE shard_id = ?", String.class, shardId));
+        if (applied.containsAll(TABLES)) {
+            return;
+        }
+
+        boolean mysql = isMySql(dataSource);
+        long firstId = firstId(shardId);
+        for (String table : TABLES) {
+            if (applied.contains(table)) {
+                continue;
+            }
+            jdbcTemplate.execute(mysql
+                ? "ALTER TABLE " + table + " AUTO_INCREMENT = " + firstId
+                : "ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + firstId);
+            jdbcTemplate.update("INSERT INTO shard_identity_tables (shard_id, table_name) VALUES (?, ?)", shardId, table);
+        }
+    }
+
+    private static boolean isMySql(DataSource dataSource) {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            return connection.getMetaData().getDatabaseProductName().toLowerCase().contains("mysql");
+        } catch (SQLException e) {
+            throw new IllegalStateException("샤드 DB 종류를 확인하지 못했습니다.", e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+}
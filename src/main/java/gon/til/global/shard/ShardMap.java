@@ -0,0 +1,17 @@
+package gon.til.global.shard;
+
+import java.util.SortedSet;
+
+/**
+ * 사용자 ID → 샤드 번호 배치 규칙
+ * - 프로젝트, 보드, 컬럼, 카드, 태그는 모두 Project.user 아래에 있으므로 사용자 단위로 샤드를 나눕니다.
+ */
+public interface ShardMap {
+
+    // 사용자 테이블과 샤드 배정표가 있는 샤드 (spring.datasource)
+    int DEFAULT_SHARD = 0;
+
+    int shardFor(long userId);
+
+    SortedSet<Integer> shardIds();
+}
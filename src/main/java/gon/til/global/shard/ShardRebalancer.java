@@ -0,0 +1,86 @@
+package gon.til.global.shard;
+
+import gon.til.domain.service.CardEventRecorder;
+import gon.til.global.shard.ShardDirectory.Move;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 샤드 재배치 도구 (서비스를 멈추지 않고 사용자 단위로 옮김)
+ * 1. 배정표에 이동 중 표시 → 그 사용자의 새 요청은 503 (다른 사용자는 그대로 서비스)
+ * 2. 배정표 캐시가 만료되고, 처리 중인 요청과 버퍼의 카드 이력이 모두 저장될 때까지 대기
+ * 3. 대상 샤드로 같은 ID 그대로 복사 (한 트랜잭션)
+ * 4. 배정표를 대상 샤드로 바꾸고 이동 표시 해제 → 이후 요청은 대상 샤드로
+ * 5. 원본 샤드의 데이터 삭제
+ * 복사 전에 실패하거나 복사가 실패하면 이동 표시만 풀고 원본 샤드에 그대로 둡니다.
+ */
+@Slf4j
+public class ShardRebalancer {
+
+    private final ShardDirectory shardDirectory;
+    private final ShardRoutingFilter shardRoutingFilter;
+    private final ShardDataCopier shardDataCopier;
+    private final CardEventRecorder cardEventRecorder;
+    private final Duration drainTimeout;
+
+    public ShardRebalancer(ShardDirectory shardDirectory,
+                           ShardRoutingFilter shardRoutingFilter,
+                           ShardDataCopier shardDataCopier,
+                           CardEventRecorder cardEventRecorder,
+                           Duration drainTimeout) {
+        this.shardDirectory = shardDirectory;
+        this.shardRoutingFilter = shardRoutingFilter;
+        this.shardDataCopier = shardDataCopier;
+        this.cardEventRecorder = cardEventRecorder;
+        this.drainTimeout = drainTimeout;
+    }
+
+    // 배정표와 일관 해시 배치가 다른 사용자를 모두 옮기고, 옮긴 사용자 수를 반환합니다.
+    public int rebalance() {
+        int moved = 0;
+        for (Move move : shardDirectory.findMisplaced()) {
+            try {
+                moveUser(move.userId(), move.from(), move.to());
+                moved++;
+            } catch (RuntimeException e) {
+                log.error("사용자 {} 샤드 이동 실패 ({} → {})", move.userId(), move.from(), move.to(), e);
+            }
+        }
+        return moved;
+    }
+
+    public void moveUser(long userId, int fromShard, int toShard) {
+        if (fromShard == toShard) {
+            return;
+        }
+
+        shardDirectory.markMoving(userId);
+        try {
+            drain(userId);
+            long rows = shardDataCopier.copy(userId, fromShard, toShard);
+            log.info("사용자 {} 샤드 이동 - {} → {}, {}행", userId, fromShard, toShard, rows);
+        } catch (RuntimeException e) {
+            shardDirectory.finishMoving(userId, fromShard);
+            throw e;
+        }
+
+        shardDirectory.finishMoving(userId, toShard);
+        shardDataCopier.delete(userId, fromShard);
+    }
+
+    // ===== private 헬퍼 메서드들 =====
+
+    private void drain(long userId) {
+        try {
+            // 다른 인스턴스도 캐시가 만료되어 이동 중 표시를 보게 될 때까지 기다립니다.
+            Thread.sleep(shardDirectory.getCacheTtl().toMillis());
+            if (!shardRoutingFilter.awaitIdle(userId, drainTimeout)) {
+                throw new IllegalStateException("사용자 " + userId + " 의 요청이 " + drainTimeout + " 안에 끝나지 않았습니다.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("샤드 이동이 중단되었습니다.", e);
+        }
+        cardEventRecorder.flush();
+    }
+}
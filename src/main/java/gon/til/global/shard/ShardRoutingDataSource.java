@@ -0,0 +1,16 @@
+package gon.til.global.shard;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * 커넥션을 얻는 시점의 ShardContext 로 샤드 DataSource 를 고릅니다.
+ * - 트랜잭션은 커넥션 하나에 묶이므로, 한 트랜잭션(그리고 그 안의 모든 쿼리)은 항상 샤드 하나만 봅니다.
+ * - 샤드가 정해지지 않은 스레드(회원가입, 로그인 등)는 기본 샤드(0)를 사용합니다.
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ShardContext.current();
+    }
+}
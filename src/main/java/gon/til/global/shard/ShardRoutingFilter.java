@@ -0,0 +1,82 @@
+package gon.til.global.shard;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gon.til.domain.entity.User;
+import gon.til.global.exception.ErrorResponseWriter;
+import gon.til.global.exception.GlobalErrorCode;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 로그인한 사용자의 요청을 그 사용자의 샤드에 고정합니다. (JwtAuthenticationFilter 다음에 실행)
+ * - 요청이 끝날 때까지 ShardContext 가 바뀌지 않으므로, 요청 안의 모든 트랜잭션은 같은 샤드만 봅니다.
+ * - 다른 샤드로 옮기는 중인 사용자의 요청은 503 으로 거절합니다.
+ * - 사용자별 처리 중인 요청 수를 세어 두고, ShardRebalancer 는 이 수가 0 이 된 뒤에 복사를 시작합니다.
+ */
+public class ShardRoutingFilter extends OncePerRequestFilter {
+
+    private final ShardDirectory shardDirectory;
+    private final ShardUserReplicator userReplicator;
+    private final ObjectMapper objectMapper;
+    private final Map<Long, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+
+    public ShardRoutingFilter(ShardDirectory shardDirectory, ShardUserReplicator userReplicator, ObjectMapper objectMapper) {
+        this.shardDirectory = shardDirectory;
+        this.userReplicator = userReplicator;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof User user)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long userId = user.getId();
+        AtomicInteger counter = inFlight.computeIfAbsent(userId, id -> new AtomicInteger());
+        counter.incrementAndGet();
+        try {
+            // 카운트를 올린 뒤에 확인해야, 이동 표시 이후에 들어온 요청이 복사 중에 쓰지 못합니다.
+            if (shardDirectory.isMoving(userId)) {
+                ErrorResponseWriter.write(response, objectMapper, GlobalErrorCode.SHARD_MIGRATION_IN_PROGRESS);
+                return;
+            }
+
+            int shardId = shardDirectory.shardFor(userId);
+            userReplicator.ensureReplicated(user, shardId);
+            try (ShardContext.Scope ignored = ShardContext.enter(shardId)) {
+                filterChain.doFilter(request, response);
+            }
+        } finally {
+            counter.decrementAndGet();
+        }
+    }
+
+    /**
+     * 처리 중인 userId 의 요청이 모두 끝날 때까지 기다립니다.
+     * timeout 안에 끝나지 않으면 false 를 반환합니다.
+     */
+    public boolean awaitIdle(long userId, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        AtomicInteger counter = inFlight.get(userId);
+        while (counter != null && counter.get() > 0) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            Thread.sleep(10);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,93 @@
+package gon.til.global.shard;
+
+import gon.til.domain.entity.User;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.sql.DataSource;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 사용자 행을 담당 샤드에 복사합니다.
+ * - 회원가입/로그인은 기본 샤드의 users 테이블만 사용합니다.
+ * - projects.user_id 같은 외래 키가 같은 DB 안에서 걸리도록, 다른 샤드에는 같은 ID 로 사본을 둡니다.
+ * - 사본을 맞춘 시점의 updated_at 을 기억해 두고, 기본 샤드의 행이 바뀌면(프로필, 비밀번호) 사본도 다시 맞춥니다.
+ */
+public class ShardUserReplicator {
+
+    private static final String SELECT_SQL =
+        "SELECT id, display_name, email, password, created_at, updated_at FROM users WHERE id = ?";
+    private static final String INSERT_SQL =
+        "INSERT INTO users (display_name, email, password, created_at, updated_at, id) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_SQL =
+        "UPDATE users SET display_name = ?, email = ?, password = ?, created_at = ?, updated_at = ? WHERE id = ?";
+
+    // updated_at 이 비어 있는 예전 행도 맞춘 것으로 기억하기 위한 값
+    private static final LocalDateTime NO_VERSION = LocalDateTime.MIN;
+
+    private final Map<Integer, JdbcTemplate> shards;
+    // 샤드 -> (userId -> 마지막으로 맞춘 updated_at)
+    private final Map<Integer, Map<Long, LocalDateTime>> replicated = new ConcurrentHashMap<>();
+
+    public ShardUserReplicator(Map<Integer, DataSource> shards) {
+        this.shards = new ConcurrentHashMap<>();
+        shards.forEach((shardId, dataSource) -> this.shards.put(shardId, new JdbcTemplate(dataSource)));
+    }
+
+    /**
+     * 요청마다 기본 샤드에서 읽은 사용자(JWT 인증)로 확인합니다.
+     * 마지막으로 맞춘 뒤 updated_at 이 그대로면 DB 에 가지 않습니다.
+     */
+    public void ensureReplicated(User user, int shardId) {
+        if (shardId == ShardMap.DEFAULT_SHARD) {
+            return;
+        }
+        LocalDateTime version = versionOf(user.getUpdatedAt());
+        Map<Long, LocalDateTime> versions = replicated.computeIfAbsent(shardId, id -> new ConcurrentHashMap<>());
+        if (version.equals(versions.get(user.getId()))) {
+            return;
+        }
+
+        sync(shards.get(shardId), user.getDisplayName(), user.getEmail(), user.getPassword(),
+            user.getCreatedAt(), user.getUpdatedAt(), user.getId());
+        versions.put(user.getId(), version);
+    }
+
+    // 샤드를 옮기기 전에 기본 샤드의 행으로 사본을 다시 맞춥니다.
+    public void ensureReplicated(long userId, int shardId) {
+        if (shardId == ShardMap.DEFAULT_SHARD) {
+            return;
+        }
+        JdbcTemplate target = shards.get(shardId);
+        Map<Long, LocalDateTime> versions = replicated.computeIfAbsent(shardId, id -> new ConcurrentHashMap<>());
+
+        shards.get(ShardMap.DEFAULT_SHARD).query(SELECT_SQL, rs -> {
+            LocalDateTime updatedAt = rs.getObject("updated_at", LocalDateTime.class);
+            sync(target, rs.getString("display_name"), rs.getString("email"), rs.getString("password"),
+                rs.getObject("created_at", LocalDateTime.class), updatedAt, userId);
+            versions.put(userId, versionOf(updatedAt));
+        }, userId);
+    }
+
+    // ===== private 헬퍼 메서드들 =====
+
+    // 사본이 있으면 덮어쓰고, 없으면 넣습니다.
+    private void sync(JdbcTemplate target, String displayName, String email, String password,
+                      LocalDateTime createdAt, LocalDateTime updatedAt, long userId) {
+        Object[] args = {displayName, email, password, createdAt, updatedAt, userId};
+        if (target.update(UPDATE_SQL, args) > 0) {
+            return;
+        }
+        try {
+            target.update(INSERT_SQL, args);
+        } catch (DuplicateKeyException e) {
+            // 동시에 들어온 다른 요청이 먼저 넣었습니다. 같은 값으로 한 번 더 덮어씀
+            target.update(UPDATE_SQL, args);
+        }
+    }
+
+    private static LocalDateTime versionOf(LocalDateTime updatedAt) {
+        return updatedAt != null ? updatedAt : NO_VERSION;
+    }
+}
@@ -0,0 +1,24 @@
+package gon.til.global.shard;
+
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * til.sharding.* 설정
+ * - 샤드 0 은 spring.datasource 이고, shards 에는 그 밖의 샤드를 적습니다.
+ * - 샤드 번호는 ID 구간(ShardIdRange)에도 쓰이므로 한 번 정하면 바꾸지 않습니다.
+ */
+@ConfigurationProperties("til.sharding")
+public record ShardingProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("128") int virtualNodes,
+    @DefaultValue("30s") Duration directoryCacheTtl,
+    @DefaultValue("30s") Duration drainTimeout,
+    @DefaultValue List<Shard> shards
+) {
+
+    public record Shard(int id, String url, String username, String password) {
+    }
+}
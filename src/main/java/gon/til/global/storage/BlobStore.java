@@ -0,0 +1,283 @@
+package gon.til.global.storage;
+
+import gon.til.global.exception.GlobalErrorCode;
+import gon.til.global.exception.GlobalException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 첨부 파일 내용을 디스크에 SHA-256 이름으로 저장하는 저장소 (내용 주소 지정)
+ * - 받은 바이트를 고정 크기 버퍼로 임시 파일에 쓰면서 해시를 계산하고, 다 받으면 해시 이름으로 옮깁니다.
+ *   파일 크기와 상관없이 힙에는 버퍼 하나만 올라갑니다.
+ * - 같은 내용이 이미 있으면 임시 파일만 지우므로, 같은 스크린샷을 여러 카드에 올려도 디스크에는 한 번만 저장됩니다.
+ * - 경로는 {root}/ab/cd/abcd... 처럼 해시 앞 두 글자씩 디렉터리를 나눠 한 디렉터리에 파일이 몰리지 않게 합니다.
+ * - 이미지 썸네일은 {root}/thumbnails/{크기}/ab/abcd....jpg 에 두고, 원본을 지울 때 함께 지웁니다.
+ * - 정리 작업은 파일을 묘비 이름(abcd....deleting)으로 옮긴 뒤 다시 확인하고 지웁니다. (같은 내용 업로드와의 경합 방지)
+ */
+@Slf4j
+@Component
+public class BlobStore {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final Pattern HASH = Pattern.compile("[0-9a-f]{64}");
+    private static final String TOMBSTONE_SUFFIX = ".deleting";
+
+    private final Path root;
+    private final Path tmpDir;
+    private final Path thumbnailDir;
+    private final long maxSize;
+
+    public record StoredBlob(String hash, long size) {
+    }
+
+    public BlobStore(@Value("${til.attachments.dir:./data/blobs}") Path root,
+                     @Value("${til.attachments.max-size:20MB}") DataSize maxSize) {
+        this.root = root.toAbsolutePath().normalize();
+        this.tmpDir = this.root.resolve("tmp");
+        this.thumbnailDir = this.root.resolve("thumbnails");
+        this.maxSize = maxSize.toBytes();
+        try {
+            Files.createDirectories(tmpDir);
+        } catch (IOException e) {
+            throw new UncheckedIOException("첨부 파일 저장 디렉터리를 만들지 못했습니다: " + this.root, e);
+        }
+    }
+
+    /**
+     * 스트림을 끝까지 읽어 저장하고 내용 해시와 크기를 반환합니다. in 은 닫지 않습니다.
+     * 최대 크기를 넘으면 그때까지 받은 임시 파일을 지우고 ATTACHMENT_TOO_LARGE 를 던집니다.
+     */
+    public StoredBlob store(InputStream in) {
+        Path tmp = null;
+        try {
+            tmp = Files.createTempFile(tmpDir, "upload-", ".part");
+            MessageDigest digest = sha256();
+            long size = 0;
+
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    size += read;
+                    if (size > maxSize) {
+                        throw new GlobalException(GlobalErrorCode.ATTACHMENT_TOO_LARGE);
+                    }
+                    digest.update(buffer, 0, read);
+                    out.write(buffer, 0, read);
+                }
+            }
+
+            String hash = HexFormat.of().formatHex(digest.digest());
+            moveIntoPlace(tmp, pathOf(hash));
+            tmp = null;
+            return new StoredBlob(hash, size);
+        } catch (IOException e) {
+            log.error("첨부 파일 저장 실패", e);
+            throw new GlobalException(GlobalErrorCode.ATTACHMENT_STORAGE_FAILED);
+        } finally {
+            deleteQuietly(tmp);
+        }
+    }
+
+    // 저장된 파일 경로 (없으면 NOT_FOUND_ATTACHMENT)
+    public Path locate(String hash) {
+        Path path = pathOf(hash);
+        if (!Files.isRegularFile(path)) {
+            throw new GlobalException(GlobalErrorCode.NOT_FOUND_ATTACHMENT);
+        }
+        return path;
+    }
+
+    /**
+     * olderThan 이전에 마지막으로 저장된 파일의 해시를 하나씩 넘겨줍니다. (정리 작업용)
+     * 같은 내용을 다시 올리면 수정 시각이 갱신되므로, 막 올라온 파일은 정리 대상에서 빠집니다.
+     */
+    public void forEachBlobOlderThan(Instant olderThan, Consumer<String> action) {
+        try (Stream<Path> files = Files.walk(root, 3)) {
+            files.filter(path -> !path.startsWith(tmpDir))
+                .filter(Files::isRegularFile)
+                .filter(path -> HASH.matcher(path.getFileName().toString()).matches())
+                .filter(path -> lastModified(path).isBefore(olderThan))
+                .forEach(path -> action.accept(path.getFileName().toString()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 썸네일 캐시 경로 (파일이 있는지는 확인하지 않음)
+    public Path thumbnailPath(String hash, int size) {
+        pathOf(hash);
+        return thumbnailDir.resolve(String.valueOf(size)).resolve(hash.substring(0, 2)).resolve(hash + ".jpg");
+    }
+
+    /**
+     * 정리 작업용 삭제. olderThan 이전에 저장됐고 stillUnused 가 true 일 때만 지우고, 지웠으면 true 를 반환합니다.
+     * - 먼저 묘비 이름으로 옮기므로, 그 뒤에 올라온 같은 내용은 새 파일로 저장됩니다.
+     * - 옮기기 직전에 같은 내용이 다시 올라왔거나(수정 시각 갱신) 그사이 참조가 생겼으면 제자리로 되돌립니다.
+     */
+    public boolean deleteIfUnused(String hash, Instant olderThan, BooleanSupplier stillUnused) {
+        Path path = pathOf(hash);
+        Path tombstone = tombstoneOf(path);
+        try {
+            Files.move(path, tombstone, StandardCopyOption.ATOMIC_MOVE);
+        } catch (NoSuchFileException e) {
+            return false;
+        } catch (IOException e) {
+            log.warn("첨부 파일을 정리하지 못했습니다: {}", hash, e);
+            return false;
+        }
+
+        if (!lastModified(tombstone).isBefore(olderThan) || !stillUnused.getAsBoolean()) {
+            restore(tombstone, path);
+            return false;
+        }
+        deleteQuietly(tombstone);
+        deleteThumbnails(hash);
+        return true;
+    }
+
+    // 정리 도중 멈춰서 남은 묘비를 제자리로 되돌립니다. (지울지는 다음 정리에서 다시 판단)
+    public void restoreTombstones() {
+        try (Stream<Path> files = Files.walk(root, 3)) {
+            files.filter(path -> !path.startsWith(tmpDir))
+                .filter(path -> path.getFileName().toString().endsWith(TOMBSTONE_SUFFIX))
+                .forEach(tombstone -> {
+                    String name = tombstone.getFileName().toString();
+                    restore(tombstone, tombstone.resolveSibling(name.substring(0, name.length() - TOMBSTONE_SUFFIX.length())));
+                });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 원본과 크기별 썸네일을 함께 지웁니다.
+    public void delete(String hash) {
+        deleteQuietly(pathOf(hash));
+        deleteThumbnails(hash);
+    }
+
+    // 중간에 끊긴 업로드의 임시 파일 정리
+    public void deleteStaleTempFiles(Instant olderThan) {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(tmpDir)) {
+            for (Path file : files) {
+                if (lastModified(file).isBefore(olderThan)) {
+                    deleteQuietly(file);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // ===== private 헬퍼 메서드들 =====
+
+    private Path pathOf(String hash) {
+        if (hash == null || !HASH.matcher(hash).matches()) {
+            throw new GlobalException(GlobalErrorCode.NOT_FOUND_ATTACHMENT);
+        }
+        return root.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+    }
+
+    private Path tombstoneOf(Path path) {
+        return path.resolveSibling(path.getFileName() + TOMBSTONE_SUFFIX);
+    }
+
+    private void deleteThumbnails(String hash) {
+        if (!Files.isDirectory(thumbnailDir)) {
+            return;
+        }
+        try (DirectoryStream<Path> sizes = Files.newDirectoryStream(thumbnailDir)) {
+            for (Path sizeDir : sizes) {
+                deleteQuietly(sizeDir.resolve(hash.substring(0, 2)).resolve(hash + ".jpg"));
+            }
+        } catch (IOException e) {
+            log.warn("썸네일을 지우지 못했습니다: {}", hash, e);
+        }
+    }
+
+    // 묘비를 제자리로 옮깁니다. 그사이 같은 내용이 새로 저장됐으면 묘비만 지움
+    private void restore(Path tombstone, Path path) {
+        try {
+            Files.move(tombstone, path, StandardCopyOption.ATOMIC_MOVE);
+        } catch (NoSuchFileException e) {
+            // 다른 인스턴스의 정리 작업이 이미 되돌렸습니다.
+        } catch (IOException e) {
+            if (Files.exists(path)) {
+                deleteQuietly(tombstone);
+            } else {
+                log.error("정리하려던 첨부 파일을 되돌리지 못했습니다: {}", tombstone, e);
+            }
+        }
+    }
+
+    /**
+     * 이미 같은 내용이 있으면 새로 받은 파일은 버리고, 정리 대상에서 빠지도록 수정 시각만 갱신합니다.
+     * 확인과 갱신 사이에 정리 작업이 묘비로 옮겼으면(NoSuchFileException) 새로 받은 파일을 그 자리에 둡니다.
+     */
+    private void moveIntoPlace(Path tmp, Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        if (Files.exists(target)) {
+            try {
+                Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+                Files.delete(tmp);
+                return;
+            } catch (NoSuchFileException e) {
+                // 아래에서 새로 받은 파일을 옮김
+            }
+        }
+        try {
+            Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            // 같은 내용이 동시에 올라온 경우
+            Files.delete(tmp);
+        }
+    }
+
+    private static Instant lastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path).toInstant();
+        } catch (IOException e) {
+            return Instant.now();
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("파일을 지우지 못했습니다: {}", path, e);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
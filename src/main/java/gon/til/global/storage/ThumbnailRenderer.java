@@ -0,0 +1,115 @@
+package gon.til.global.storage;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+/**
+ * javax.imageio 만으로 이미지를 정해진 크기 안에 들어가는 JPEG 썸네일로 줄입니다.
+ * - 원본 크기를 헤더에서 먼저 읽어 max-pixels 를 넘으면 디코딩하지 않습니다. (압축 폭탄 방지)
+ * - 목표보다 훨씬 큰 이미지는 디코딩할 때부터 행/열을 건너뛰며(subsampling) 읽어서 전체 해상도 비트맵을 만들지 않습니다.
+ * - 투명한 부분은 흰 배경으로 채웁니다.
+ */
+public final class ThumbnailRenderer {
+
+    private static final float JPEG_QUALITY = 0.85f;
+
+    private ThumbnailRenderer() {
+    }
+
+    /**
+     * source 이미지를 size x size 안에 들어가도록 줄여 target 에 씁니다. (비율 유지, 확대하지 않음)
+     * 읽을 수 없는 이미지면 false 를 반환합니다.
+     */
+    public static boolean render(Path source, Path target, int size, long maxPixels) throws IOException {
+        BufferedImage image;
+        try (ImageInputStream in = ImageIO.createImageInputStream(source.toFile())) {
+            Iterator<ImageReader> readers = in == null ? null : ImageIO.getImageReaders(in);
+            if (readers == null || !readers.hasNext()) {
+                return false;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    return false;
+                }
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                // 목표의 두 배 이상 남도록만 건너뛰어 축소 품질을 지킵니다.
+                int step = Math.max(1, Math.min(width, height) / (size * 2));
+                if (step > 1) {
+                    param.setSourceSubsampling(step, step, 0, 0);
+                }
+                image = reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException | RuntimeException e) {
+            // 깨진 파일, 지원하지 않는 색 공간 등
+            return false;
+        }
+
+        writeJpeg(scale(image, size), target);
+        return true;
+    }
+
+    // ===== private 헬퍼 메서드들 =====
+
+    private static BufferedImage scale(BufferedImage source, int size) {
+        double ratio = Math.min(1.0, Math.min((double) size / source.getWidth(), (double) size / source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * ratio));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * ratio));
+
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+
+    // 임시 파일에 다 쓴 뒤 옮겨서, 읽는 쪽이 쓰다 만 파일을 보지 않게 합니다.
+    private static void writeJpeg(BufferedImage image, Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        Path tmp = Files.createTempFile(target.getParent(), "thumb-", ".part");
+        try {
+            ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+            try (ImageOutputStream out = ImageIO.createImageOutputStream(tmp.toFile())) {
+                writer.setOutput(out);
+                ImageWriteParam param = writer.getDefaultWriteParam();
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(JPEG_QUALITY);
+                writer.write(null, new IIOImage(image, null, null), param);
+            } finally {
+                writer.dispose();
+            }
+            Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+}
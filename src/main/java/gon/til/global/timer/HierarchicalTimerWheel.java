@@ -0,0 +1,169 @@
+package gon.til.global.timer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 계층형 타이머 휠 (Hierarchical Timing Wheels, Varghese & Lauck)
+ * - levels 개의 휠이 각각 wheelSize 칸을 가집니다. 0단 한 칸은 tick 하나, i단 한 칸은 wheelSize^i tick 입니다.
+ *   예) tick 1초, 60칸, 3단이면 0단은 1분, 1단은 1시간, 2단은 60시간을 덮습니다.
+ * - 예약/취소는 칸 하나에 넣고 빼기만 하므로 예약 수와 관계없이 O(1) 이고,
+ *   시간을 한 tick 넘길 때는 0단의 현재 칸만 꺼냅니다. 윗단 칸은 그 구간이 시작될 때 아랫단으로 내려보냅니다.
+ * - 가장 윗단보다 먼 예약은 윗단 마지막 칸에 두었다가, 내려올 때 남은 시간으로 다시 자리를 찾습니다.
+ * - 같은 키로 다시 예약하면 이전 예약을 대체합니다.
+ */
+public class HierarchicalTimerWheel<K, V> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final int levels;
+    // spans[i] = i단 한 칸이 덮는 tick 수 (spans[levels] 는 휠 전체)
+    private final long[] spans;
+    private final List<List<Map<K, Timer<K, V>>>> slots = new ArrayList<>();
+    // 시각이 이미 지나서 다음 advance 에 바로 꺼낼 예약
+    private final Map<K, Timer<K, V>> overdue = new LinkedHashMap<>();
+    private final Map<K, Timer<K, V>> timers = new HashMap<>();
+
+    private long currentTick;
+
+    public HierarchicalTimerWheel(long tickMillis, int wheelSize, int levels, long startMillis) {
+        if (tickMillis <= 0 || wheelSize < 2 || levels < 1) {
+            throw new IllegalArgumentException("tickMillis > 0, wheelSize >= 2, levels >= 1 이어야 합니다.");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.levels = levels;
+        this.spans = new long[levels + 1];
+        spans[0] = 1;
+        for (int level = 1; level <= levels; level++) {
+            spans[level] = Math.multiplyExact(spans[level - 1], wheelSize);
+        }
+        for (int level = 0; level < levels; level++) {
+            List<Map<K, Timer<K, V>>> wheel = new ArrayList<>(wheelSize);
+            for (int slot = 0; slot < wheelSize; slot++) {
+                wheel.add(new LinkedHashMap<>());
+            }
+            slots.add(wheel);
+        }
+        this.currentTick = Math.floorDiv(startMillis, tickMillis);
+    }
+
+    /**
+     * deadlineMillis 에 꺼낼 값을 예약합니다. 같은 키의 이전 예약은 지워집니다.
+     */
+    public synchronized void schedule(K key, long deadlineMillis, V value) {
+        cancel(key);
+        // 올림 : deadline 이 tick 중간이면 다음 tick 에 꺼내서 이르게 울리지 않도록
+        long deadlineTick = Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis);
+        Timer<K, V> timer = new Timer<>(key, deadlineTick, value);
+        timers.put(key, timer);
+        place(timer);
+    }
+
+    public synchronized boolean cancel(K key) {
+        Timer<K, V> timer = timers.remove(key);
+        if (timer == null) {
+            return false;
+        }
+        timer.slot.remove(key);
+        return true;
+    }
+
+    /**
+     * nowMillis 까지 시간을 넘기고, 그 사이 시각이 된 값을 tick 순서대로 반환합니다.
+     */
+    public synchronized List<V> advance(long nowMillis) {
+        long nowTick = Math.floorDiv(nowMillis, tickMillis);
+        List<V> expired = new ArrayList<>();
+        expire(overdue, expired);
+
+        // 휠 한 바퀴보다 오래 멈춰 있었으면 tick 을 하나씩 넘기지 않고 전부 다시 배치합니다.
+        if (nowTick - currentTick > spans[levels]) {
+            List<Timer<K, V>> all = new ArrayList<>(timers.values());
+            slots.forEach(wheel -> wheel.forEach(Map::clear));
+            currentTick = nowTick;
+            all.forEach(this::place);
+            expire(overdue, expired);
+            return expired;
+        }
+
+        while (currentTick < nowTick) {
+            currentTick++;
+            // 윗단 칸의 구간이 시작되면 그 칸을 아랫단으로 내려보냅니다.
+            for (int level = 1; level < levels && currentTick % spans[level] == 0; level++) {
+                Map<K, Timer<K, V>> slot = slotOf(level, currentTick);
+                List<Timer<K, V>> cascaded = new ArrayList<>(slot.values());
+                slot.clear();
+                cascaded.forEach(this::place);
+            }
+            expire(overdue, expired);
+            expireOrReplace(slotOf(0, currentTick), expired);
+        }
+        return expired;
+    }
+
+    public synchronized int size() {
+        return timers.size();
+    }
+
+    // ===== private 헬퍼 메서드들 =====
+
+    private void place(Timer<K, V> timer) {
+        long delta = timer.deadlineTick - currentTick;
+        if (delta <= 0) {
+            timer.slot = overdue;
+        } else {
+            int level = 0;
+            while (level < levels - 1 && delta >= spans[level + 1]) {
+                level++;
+            }
+            long target = delta >= spans[levels] ? currentTick + spans[levels] - 1 : timer.deadlineTick;
+            timer.slot = slotOf(level, target);
+        }
+        timer.slot.put(timer.key, timer);
+    }
+
+    private Map<K, Timer<K, V>> slotOf(int level, long tick) {
+        return slots.get(level).get((int) ((tick / spans[level]) % wheelSize));
+    }
+
+    private void expire(Map<K, Timer<K, V>> slot, List<V> expired) {
+        for (Timer<K, V> timer : slot.values()) {
+            timers.remove(timer.key);
+            expired.add(timer.value);
+        }
+        slot.clear();
+    }
+
+    // 단이 하나뿐이면 먼 예약도 0단에 있으므로, 아직 시각이 안 된 것은 다시 자리를 찾습니다.
+    private void expireOrReplace(Map<K, Timer<K, V>> slot, List<V> expired) {
+        List<Timer<K, V>> pending = new ArrayList<>();
+        for (Timer<K, V> timer : slot.values()) {
+            if (timer.deadlineTick <= currentTick) {
+                timers.remove(timer.key);
+                expired.add(timer.value);
+            } else {
+                pending.add(timer);
+            }
+        }
+        slot.clear();
+        pending.forEach(this::place);
+    }
+
+    private static final class Timer<K, V> {
+
+        private final K key;
+        private final long deadlineTick;
+        private final V value;
+        private Map<K, Timer<K, V>> slot;
+
+        private Timer(K key, long deadlineTick, V value) {
+            this.key = key;
+            this.deadlineTick = deadlineTick;
+            this.value = value;
+        }
+    }
+}
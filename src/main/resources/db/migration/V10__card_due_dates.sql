@@ -0,0 +1,12 @@
+-- 카드 마감일과 알림
+-- remind_at 에 알림을 보내면 reminded_at 을 적습니다. 서버를 다시 띄우면 reminded_at 이 비어 있는 알림을 다시 읽어옵니다.
+ALTER TABLE cards ADD COLUMN due_at TIMESTAMP(6);
+ALTER TABLE cards ADD COLUMN remind_at TIMESTAMP(6);
+ALTER TABLE cards ADD COLUMN reminded_at TIMESTAMP(6);
+
+-- CardReminderScheduler 가 "다음 구간까지 보낼 알림" 을 범위로 읽는 인덱스 (reminded_at IS NULL AND remind_at < ?)
+CREATE INDEX idx_cards_reminder ON cards (reminded_at, remind_at);
+
+ALTER TABLE archived_cards ADD COLUMN due_at TIMESTAMP(6);
+ALTER TABLE archived_cards ADD COLUMN remind_at TIMESTAMP(6);
+ALTER TABLE archived_cards ADD COLUMN reminded_at TIMESTAMP(6);
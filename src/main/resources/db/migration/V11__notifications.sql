@@ -0,0 +1,21 @@
+-- 알림함
+-- 알림은 쌓기만 하고(append-only) 내용은 바꾸지 않습니다. 읽음 처리는 read_at 만 채웁니다.
+CREATE TABLE notifications (
+    id         BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id    BIGINT NOT NULL,
+    type       VARCHAR(16) NOT NULL,
+    card_id    BIGINT,
+    board_id   BIGINT,
+    actor_id   BIGINT,
+    message    VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    read_at    TIMESTAMP(6)
+);
+-- 최근 알림부터 커서(id)로 넘기는 조회 (user_id = ? AND id < ? ORDER BY id DESC)
+CREATE INDEX idx_notifications_user ON notifications (user_id, id);
+
+-- 사용자별 안 읽은 알림 수 (알림을 넣을 때 늘리고, 읽음 처리할 때 줄임)
+CREATE TABLE notification_counters (
+    user_id      BIGINT PRIMARY KEY,
+    unread_count INTEGER NOT NULL
+);
@@ -0,0 +1,25 @@
+-- 프로젝트 공유 (협업자와 역할)
+-- 프로젝트를 만든 사용자(projects.user_id)는 행 없이 항상 OWNER 이고, 여기에는 초대한 사용자만 적습니다.
+-- role : VIEWER(읽기), EDITOR(카드/컬럼/태그 편집), OWNER(프로젝트 관리, 멤버 관리)
+CREATE TABLE project_members (
+    id         BIGINT AUTO_INCREMENT PRIMARY KEY,
+    project_id BIGINT NOT NULL,
+    user_id    BIGINT NOT NULL,
+    role       VARCHAR(16) NOT NULL,
+    created_at TIMESTAMP(6),
+    CONSTRAINT uk_project_members_project_user UNIQUE (project_id, user_id),
+    CONSTRAINT fk_project_members_project FOREIGN KEY (project_id) REFERENCES projects (id),
+    CONSTRAINT fk_project_members_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+-- 공유받은 프로젝트 목록 (user_id = ?)
+CREATE INDEX idx_project_members_user ON project_members (user_id);
+
+-- 보관할 때 멤버도 함께 옮겨서, 되돌리면 공유도 그대로 돌아옵니다.
+CREATE TABLE archived_project_members (
+    id         BIGINT PRIMARY KEY,
+    project_id BIGINT NOT NULL,
+    user_id    BIGINT NOT NULL,
+    role       VARCHAR(16) NOT NULL,
+    created_at TIMESTAMP(6)
+);
+CREATE INDEX idx_archived_project_members_project ON archived_project_members (project_id);
@@ -0,0 +1,5 @@
+-- 카드 필터 조회 (CardSearchService)
+-- 프로젝트 안의 휴지통에 없는 카드를 만든/수정한 시각 순으로 키셋 페이징합니다.
+-- (project_id, deleted_at IS NULL) 로 범위를 좁힌 뒤 인덱스 순서대로 읽고 LIMIT 에서 멈춥니다.
+CREATE INDEX idx_cards_project_created ON cards (project_id, deleted_at, created_at, id);
+CREATE INDEX idx_cards_project_updated ON cards (project_id, deleted_at, updated_at, id);
@@ -0,0 +1,16 @@
+-- 복습 컬럼 표시와 복습 알림 발송 기록
+-- review_enabled : 이 컬럼에 들어온 카드를 복습 일정에 등록합니다. (컬럼 제목으로 찾지 않음)
+--                  지금까지 제목으로 찾던 "복습 필요" 컬럼은 켜 둡니다.
+ALTER TABLE columns ADD COLUMN review_enabled BOOLEAN NOT NULL DEFAULT FALSE;
+UPDATE columns SET review_enabled = TRUE WHERE title = '복습 필요';
+ALTER TABLE archived_columns ADD COLUMN review_enabled BOOLEAN NOT NULL DEFAULT FALSE;
+UPDATE archived_columns SET review_enabled = TRUE WHERE title = '복습 필요';
+
+-- notified_at : 마지막으로 복습 알림을 보낸 시각. notified_at 이 비었거나 next_review_at 보다 이르면 이번 일정 알림은 아직 보내지 않은 것
+ALTER TABLE card_reviews ADD COLUMN notified_at TIMESTAMP(6);
+ALTER TABLE archived_card_reviews ADD COLUMN notified_at TIMESTAMP(6);
+
+-- 복습 일정은 카드 작성자의 것입니다. 카드를 옮긴 다른 사용자로 등록된 일정을 바로잡습니다.
+UPDATE card_reviews SET user_id = (SELECT c.user_id FROM cards c WHERE c.id = card_reviews.card_id)
+WHERE EXISTS (SELECT 1 FROM cards c
+              WHERE c.id = card_reviews.card_id AND c.user_id IS NOT NULL AND c.user_id <> card_reviews.user_id);
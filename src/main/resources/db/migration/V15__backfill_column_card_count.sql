@@ -0,0 +1,8 @@
+-- columns.card_count 를 실제 카드 수로 다시 채웁니다.
+-- card_count 가 생기기 전부터 있던 컬럼은 0 으로 시작해서 WIP 제한 검사가 실제보다 적은 카드 수로 통과시켰습니다.
+-- 휴지통에 있는 카드는 세지 않습니다. (카드를 지울 때 card_count 를 줄이고, 복원할 때 다시 늘림)
+UPDATE columns SET card_count = (SELECT COUNT(*) FROM cards c
+                                 WHERE c.kanban_column_id = columns.id AND c.deleted_at IS NULL);
+
+UPDATE archived_columns SET card_count = (SELECT COUNT(*) FROM archived_cards c
+                                          WHERE c.kanban_column_id = archived_columns.id AND c.deleted_at IS NULL);
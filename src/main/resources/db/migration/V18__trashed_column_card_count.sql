@@ -0,0 +1,11 @@
+-- 휴지통에 있는 컬럼의 card_count 를 다시 채웁니다.
+-- V15 는 휴지통에 없는 카드만 세서, 컬럼과 함께 지워진 카드까지 0 으로 만들었습니다.
+-- 컬럼을 지울 때는 card_count 를 그대로 두고 복원할 때 카드와 함께 돌아오므로,
+-- 컬럼과 같은 시각에 지워진 카드(함께 복원될 카드)를 셉니다. (그 전에 따로 지운 카드는 빠짐)
+UPDATE columns SET card_count = (SELECT COUNT(*) FROM cards c
+                                 WHERE c.kanban_column_id = columns.id AND c.deleted_at = columns.deleted_at)
+WHERE deleted_at IS NOT NULL;
+
+UPDATE archived_columns SET card_count = (SELECT COUNT(*) FROM archived_cards c
+                                          WHERE c.kanban_column_id = archived_columns.id AND c.deleted_at = archived_columns.deleted_at)
+WHERE deleted_at IS NOT NULL;
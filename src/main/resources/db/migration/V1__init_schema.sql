@@ -0,0 +1,139 @@
+-- 초기 스키마
+-- 엔티티 매핑과 1:1 로 맞춰 두었습니다. (실행 시 hibernate ddl-auto=validate 로 검증)
+-- 이후 스키마 변경은 V2__*.sql 부터 새 파일로 추가합니다. 이미 적용된 파일은 수정하지 않습니다.
+-- 외래 키 컬럼을 앞에 둔 인덱스가 있는 테이블은 인덱스를 먼저 만들고 외래 키를 붙입니다.
+-- (H2 는 외래 키를 만들 때 쓸 인덱스가 없으면 별도 인덱스를 하나 더 만듭니다.)
+
+CREATE TABLE users (
+    id           BIGINT AUTO_INCREMENT PRIMARY KEY,
+    display_name VARCHAR(255),
+    email        VARCHAR(255),
+    password     VARCHAR(255),
+    created_at   TIMESTAMP(6),
+    updated_at   TIMESTAMP(6),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE projects (
+    id          BIGINT AUTO_INCREMENT PRIMARY KEY,
+    title       VARCHAR(255),
+    description VARCHAR(255),
+    category    VARCHAR(255),
+    user_id     BIGINT,
+    created_at  TIMESTAMP(6),
+    updated_at  TIMESTAMP(6),
+    CONSTRAINT fk_projects_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE boards (
+    id         BIGINT AUTO_INCREMENT PRIMARY KEY,
+    title      VARCHAR(255),
+    project_id BIGINT,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    CONSTRAINT uk_boards_project UNIQUE (project_id),
+    CONSTRAINT fk_boards_project FOREIGN KEY (project_id) REFERENCES projects (id)
+);
+
+CREATE TABLE columns (
+    id         BIGINT AUTO_INCREMENT PRIMARY KEY,
+    title      VARCHAR(255),
+    position   INTEGER,
+    wip_limit  INTEGER,
+    card_count INTEGER DEFAULT 0 NOT NULL,
+    board_id   BIGINT,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6)
+);
+CREATE INDEX idx_columns_board_position ON columns (board_id, position);
+ALTER TABLE columns ADD CONSTRAINT fk_columns_board FOREIGN KEY (board_id) REFERENCES boards (id);
+
+CREATE TABLE cards (
+    id               BIGINT AUTO_INCREMENT PRIMARY KEY,
+    title            VARCHAR(255),
+    content          TEXT,
+    position         INTEGER,
+    user_id          BIGINT,
+    kanban_column_id BIGINT,
+    project_id       BIGINT,
+    created_at       TIMESTAMP(6),
+    updated_at       TIMESTAMP(6),
+    CONSTRAINT fk_cards_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+CREATE INDEX idx_cards_project ON cards (project_id);
+CREATE INDEX idx_cards_column_position ON cards (kanban_column_id, position);
+ALTER TABLE cards ADD CONSTRAINT fk_cards_column FOREIGN KEY (kanban_column_id) REFERENCES columns (id);
+ALTER TABLE cards ADD CONSTRAINT fk_cards_project FOREIGN KEY (project_id) REFERENCES projects (id);
+
+CREATE TABLE tags (
+    id         BIGINT AUTO_INCREMENT PRIMARY KEY,
+    name       VARCHAR(255) NOT NULL,
+    color      VARCHAR(255),
+    project_id BIGINT,
+    created_at TIMESTAMP(6),
+    CONSTRAINT uk_tags_project_name UNIQUE (project_id, name),
+    CONSTRAINT fk_tags_project FOREIGN KEY (project_id) REFERENCES projects (id)
+);
+
+CREATE TABLE card_tags (
+    card_id BIGINT NOT NULL,
+    tag_id  BIGINT NOT NULL,
+    PRIMARY KEY (card_id, tag_id),
+    CONSTRAINT fk_card_tags_card FOREIGN KEY (card_id) REFERENCES cards (id)
+);
+CREATE INDEX idx_card_tags_tag ON card_tags (tag_id);
+ALTER TABLE card_tags ADD CONSTRAINT fk_card_tags_tag FOREIGN KEY (tag_id) REFERENCES tags (id);
+
+CREATE TABLE tag_palette_colors (
+    id         BIGINT AUTO_INCREMENT PRIMARY KEY,
+    project_id BIGINT NOT NULL,
+    name       VARCHAR(30) NOT NULL,
+    hex_code   VARCHAR(7) NOT NULL,
+    created_at TIMESTAMP(6),
+    CONSTRAINT uk_tag_palette_colors_project_name UNIQUE (project_id, name),
+    CONSTRAINT fk_tag_palette_colors_project FOREIGN KEY (project_id) REFERENCES projects (id) ON DELETE CASCADE
+);
+
+-- 카드 이력 (append-only, 카드/보드가 지워져도 남겨 두므로 FK 없음)
+CREATE TABLE card_events (
+    id             BIGINT AUTO_INCREMENT PRIMARY KEY,
+    card_id        BIGINT NOT NULL,
+    board_id       BIGINT NOT NULL,
+    user_id        BIGINT,
+    type           VARCHAR(16) NOT NULL,
+    from_column_id BIGINT,
+    to_column_id   BIGINT,
+    tag_id         BIGINT,
+    occurred_at    TIMESTAMP(6) NOT NULL,
+    occurred_day   INTEGER NOT NULL
+);
+CREATE INDEX idx_card_events_card ON card_events (card_id, occurred_at);
+CREATE INDEX idx_card_events_board_flow ON card_events (board_id, type, to_column_id, occurred_day);
+CREATE INDEX idx_card_events_user_activity ON card_events (user_id, type, occurred_day);
+
+CREATE TABLE board_daily_flows (
+    id        BIGINT AUTO_INCREMENT PRIMARY KEY,
+    board_id  BIGINT NOT NULL,
+    column_id BIGINT NOT NULL,
+    flow_date DATE NOT NULL,
+    entered   INTEGER NOT NULL,
+    exited    INTEGER NOT NULL,
+    CONSTRAINT uk_board_daily_flows UNIQUE (board_id, column_id, flow_date)
+);
+CREATE INDEX idx_board_daily_flows_board_date ON board_daily_flows (board_id, flow_date);
+
+CREATE TABLE card_reviews (
+    id               BIGINT AUTO_INCREMENT PRIMARY KEY,
+    card_id          BIGINT NOT NULL,
+    user_id          BIGINT NOT NULL,
+    repetitions      INTEGER NOT NULL,
+    interval_days    INTEGER NOT NULL,
+    ease_factor      DOUBLE PRECISION NOT NULL,
+    next_review_at   TIMESTAMP(6) NOT NULL,
+    last_reviewed_at TIMESTAMP(6),
+    CONSTRAINT uk_card_reviews_card UNIQUE (card_id),
+    CONSTRAINT fk_card_reviews_card FOREIGN KEY (card_id) REFERENCES cards (id) ON DELETE CASCADE
+);
+CREATE INDEX idx_card_reviews_user_due ON card_reviews (user_id, next_review_at);
+CREATE INDEX idx_card_reviews_due ON card_reviews (next_review_at);
+ALTER TABLE card_reviews ADD CONSTRAINT fk_card_reviews_user FOREIGN KEY (user_id) REFERENCES users (id);
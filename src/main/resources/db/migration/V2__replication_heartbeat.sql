@@ -0,0 +1,7 @@
+-- 읽기 전용 복제본 지연 측정용 하트비트 (ReplicaLagMonitor 가 프라이머리에 쓰고 복제본에서 읽음)
+CREATE TABLE replication_heartbeat (
+    id      INTEGER PRIMARY KEY,
+    beat_at TIMESTAMP(6) NOT NULL
+);
+
+INSERT INTO replication_heartbeat (id, beat_at) VALUES (1, CURRENT_TIMESTAMP);
@@ -0,0 +1,12 @@
+-- 사용자별 샤드 배정표 (기본 샤드에서만 사용, til.sharding.enabled=true 일 때)
+CREATE TABLE shard_assignments (
+    user_id  BIGINT PRIMARY KEY,
+    shard_id INTEGER NOT NULL,
+    moving   BOOLEAN NOT NULL DEFAULT FALSE
+);
+CREATE INDEX idx_shard_assignments_shard ON shard_assignments (shard_id);
+
+-- 이 DB 에 샤드별 ID 시작 값(ShardIdRange)을 적용했는지 기록
+CREATE TABLE shard_identity (
+    shard_id INTEGER PRIMARY KEY
+);
@@ -0,0 +1,3 @@
+-- 목록 화면용 카드 본문 요약 (Markdown 을 평문으로 바꿔 200자까지, MarkdownRenderer.excerpt)
+-- 기존 카드는 CardExcerptBackfill 이 기동 후에 채웁니다.
+ALTER TABLE cards ADD COLUMN excerpt VARCHAR(200);
@@ -0,0 +1,13 @@
+-- 카드 첨부 파일 (파일 내용은 BlobStore 에 SHA-256 이름으로 저장하고, 같은 내용은 한 번만 저장)
+CREATE TABLE card_attachments (
+    id           BIGINT AUTO_INCREMENT PRIMARY KEY,
+    card_id      BIGINT NOT NULL,
+    file_name    VARCHAR(255) NOT NULL,
+    content_type VARCHAR(100) NOT NULL,
+    size         BIGINT NOT NULL,
+    blob_hash    VARCHAR(64) NOT NULL,
+    created_at   TIMESTAMP(6),
+    CONSTRAINT fk_card_attachments_card FOREIGN KEY (card_id) REFERENCES cards (id) ON DELETE CASCADE
+);
+CREATE INDEX idx_card_attachments_card ON card_attachments (card_id);
+CREATE INDEX idx_card_attachments_blob ON card_attachments (blob_hash);
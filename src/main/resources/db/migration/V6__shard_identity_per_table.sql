@@ -0,0 +1,20 @@
+-- ShardIdRange 적용 기록을 테이블 단위로 (나중에 추가된 테이블도 이미 쓰고 있는 샤드에서 한 번 적용되도록)
+CREATE TABLE shard_identity_tables (
+    shard_id   INTEGER NOT NULL,
+    table_name VARCHAR(64) NOT NULL,
+    PRIMARY KEY (shard_id, table_name)
+);
+
+INSERT INTO shard_identity_tables (shard_id, table_name)
+SELECT shard_id, 'users' FROM shard_identity
+UNION ALL SELECT shard_id, 'projects' FROM shard_identity
+UNION ALL SELECT shard_id, 'boards' FROM shard_identity
+UNION ALL SELECT shard_id, 'columns' FROM shard_identity
+UNION ALL SELECT shard_id, 'cards' FROM shard_identity
+UNION ALL SELECT shard_id, 'tags' FROM shard_identity
+UNION ALL SELECT shard_id, 'tag_palette_colors' FROM shard_identity
+UNION ALL SELECT shard_id, 'card_events' FROM shard_identity
+UNION ALL SELECT shard_id, 'board_daily_flows' FROM shard_identity
+UNION ALL SELECT shard_id, 'card_reviews' FROM shard_identity;
+
+DROP TABLE shard_identity;
@@ -0,0 +1,41 @@
+-- 보드 템플릿 (컬럼, 태그, 시작 카드)
+-- 템플릿으로 프로젝트를 만들 때는 하위 테이블을 INSERT ... SELECT 로 한 번에 복사합니다.
+CREATE TABLE board_templates (
+    id          BIGINT AUTO_INCREMENT PRIMARY KEY,
+    title       VARCHAR(100) NOT NULL,
+    description VARCHAR(255),
+    user_id     BIGINT NOT NULL,
+    created_at  TIMESTAMP(6),
+    updated_at  TIMESTAMP(6),
+    CONSTRAINT uk_board_templates_user_title UNIQUE (user_id, title),
+    CONSTRAINT fk_board_templates_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE board_template_columns (
+    template_id BIGINT NOT NULL,
+    position    INTEGER NOT NULL,
+    title       VARCHAR(255) NOT NULL,
+    wip_limit   INTEGER,
+    PRIMARY KEY (template_id, position),
+    CONSTRAINT fk_board_template_columns_template FOREIGN KEY (template_id) REFERENCES board_templates (id) ON DELETE CASCADE
+);
+
+CREATE TABLE board_template_tags (
+    template_id BIGINT NOT NULL,
+    name        VARCHAR(255) NOT NULL,
+    color       VARCHAR(255),
+    PRIMARY KEY (template_id, name),
+    CONSTRAINT fk_board_template_tags_template FOREIGN KEY (template_id) REFERENCES board_templates (id) ON DELETE CASCADE
+);
+
+-- column_position 은 board_template_columns.position (복사한 보드에서도 같은 position 의 컬럼으로 들어감)
+CREATE TABLE board_template_cards (
+    template_id     BIGINT NOT NULL,
+    column_position INTEGER NOT NULL,
+    position        INTEGER NOT NULL,
+    title           VARCHAR(255) NOT NULL,
+    content         TEXT,
+    excerpt         VARCHAR(200),
+    PRIMARY KEY (template_id, column_position, position),
+    CONSTRAINT fk_board_template_cards_template FOREIGN KEY (template_id) REFERENCES board_templates (id) ON DELETE CASCADE
+);
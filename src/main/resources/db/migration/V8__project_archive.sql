@@ -0,0 +1,105 @@
+-- 프로젝트 복제/보관
+-- origin_id : 복제할 때 원본 행 ID (카드-태그 연결, 첨부 파일을 새 ID 로 옮길 때 씀, 엔티티에는 매핑하지 않음)
+ALTER TABLE columns ADD COLUMN origin_id BIGINT;
+ALTER TABLE tags ADD COLUMN origin_id BIGINT;
+ALTER TABLE cards ADD COLUMN origin_id BIGINT;
+
+-- 보관한 프로젝트 (원본 테이블과 같은 컬럼, 같은 ID)
+-- 자주 읽지 않는 데이터라 외래 키 없이 프로젝트 단위로 옮기고 지울 때 쓰는 인덱스만 둡니다.
+CREATE TABLE archived_projects (
+    id          BIGINT PRIMARY KEY,
+    title       VARCHAR(255),
+    description VARCHAR(255),
+    category    VARCHAR(255),
+    user_id     BIGINT,
+    created_at  TIMESTAMP(6),
+    updated_at  TIMESTAMP(6),
+    archived_at TIMESTAMP(6) DEFAULT CURRENT_TIMESTAMP(6) NOT NULL
+);
+CREATE INDEX idx_archived_projects_user ON archived_projects (user_id);
+
+CREATE TABLE archived_boards (
+    id         BIGINT PRIMARY KEY,
+    title      VARCHAR(255),
+    project_id BIGINT,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6)
+);
+CREATE INDEX idx_archived_boards_project ON archived_boards (project_id);
+
+CREATE TABLE archived_columns (
+    id         BIGINT PRIMARY KEY,
+    title      VARCHAR(255),
+    position   INTEGER,
+    wip_limit  INTEGER,
+    card_count INTEGER DEFAULT 0 NOT NULL,
+    board_id   BIGINT,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    origin_id  BIGINT
+);
+CREATE INDEX idx_archived_columns_board ON archived_columns (board_id);
+
+CREATE TABLE archived_tags (
+    id         BIGINT PRIMARY KEY,
+    name       VARCHAR(255) NOT NULL,
+    color      VARCHAR(255),
+    project_id BIGINT,
+    created_at TIMESTAMP(6),
+    origin_id  BIGINT
+);
+CREATE INDEX idx_archived_tags_project ON archived_tags (project_id);
+
+CREATE TABLE archived_tag_palette_colors (
+    id         BIGINT PRIMARY KEY,
+    project_id BIGINT NOT NULL,
+    name       VARCHAR(30) NOT NULL,
+    hex_code   VARCHAR(7) NOT NULL,
+    created_at TIMESTAMP(6)
+);
+CREATE INDEX idx_archived_tag_palette_colors_project ON archived_tag_palette_colors (project_id);
+
+CREATE TABLE archived_cards (
+    id               BIGINT PRIMARY KEY,
+    title            VARCHAR(255),
+    content          TEXT,
+    position         INTEGER,
+    user_id          BIGINT,
+    kanban_column_id BIGINT,
+    project_id       BIGINT,
+    created_at       TIMESTAMP(6),
+    updated_at       TIMESTAMP(6),
+    excerpt          VARCHAR(200),
+    origin_id        BIGINT
+);
+CREATE INDEX idx_archived_cards_project ON archived_cards (project_id);
+
+CREATE TABLE archived_card_tags (
+    card_id BIGINT NOT NULL,
+    tag_id  BIGINT NOT NULL,
+    PRIMARY KEY (card_id, tag_id)
+);
+
+CREATE TABLE archived_card_attachments (
+    id           BIGINT PRIMARY KEY,
+    card_id      BIGINT NOT NULL,
+    file_name    VARCHAR(255) NOT NULL,
+    content_type VARCHAR(100) NOT NULL,
+    size         BIGINT NOT NULL,
+    blob_hash    VARCHAR(64) NOT NULL,
+    created_at   TIMESTAMP(6)
+);
+CREATE INDEX idx_archived_card_attachments_card ON archived_card_attachments (card_id);
+CREATE INDEX idx_archived_card_attachments_blob ON archived_card_attachments (blob_hash);
+
+CREATE TABLE archived_card_reviews (
+    id               BIGINT PRIMARY KEY,
+    card_id          BIGINT NOT NULL,
+    user_id          BIGINT NOT NULL,
+    repetitions      INTEGER NOT NULL,
+    interval_days    INTEGER NOT NULL,
+    ease_factor      DOUBLE PRECISION NOT NULL,
+    next_review_at   TIMESTAMP(6) NOT NULL,
+    last_reviewed_at TIMESTAMP(6)
+);
+CREATE INDEX idx_archived_card_reviews_card ON archived_card_reviews (card_id);
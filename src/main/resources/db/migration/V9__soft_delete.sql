@@ -0,0 +1,15 @@
+-- 휴지통 (soft delete)
+-- deleted_at 이 있는 행은 엔티티 조회에서 빠지고(@SQLRestriction), 보관 기간이 지나면 TrashPurger 가 배치로 지웁니다.
+-- 컬럼/프로젝트를 지울 때 딸린 행에도 같은 deleted_at 을 적어서, 되돌릴 때 그 시각으로 함께 지워진 행만 찾습니다.
+ALTER TABLE projects ADD COLUMN deleted_at TIMESTAMP(6);
+ALTER TABLE columns ADD COLUMN deleted_at TIMESTAMP(6);
+ALTER TABLE cards ADD COLUMN deleted_at TIMESTAMP(6);
+
+CREATE INDEX idx_projects_deleted ON projects (deleted_at);
+CREATE INDEX idx_columns_deleted ON columns (deleted_at);
+CREATE INDEX idx_cards_deleted ON cards (deleted_at);
+
+-- 보관(archived_*)할 때도 휴지통 상태를 그대로 옮깁니다.
+ALTER TABLE archived_projects ADD COLUMN deleted_at TIMESTAMP(6);
+ALTER TABLE archived_columns ADD COLUMN deleted_at TIMESTAMP(6);
+ALTER TABLE archived_cards ADD COLUMN deleted_at TIMESTAMP(6);
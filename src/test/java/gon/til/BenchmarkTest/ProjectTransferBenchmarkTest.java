@@ -0,0 +1,178 @@
+package gon.til.BenchmarkTest;
+
+import gon.til.domain.dto.transfer.ProjectImportResponse;
+import gon.til.domain.entity.User;
+import gon.til.domain.repository.UserRepository;
+import gon.til.domain.service.ProjectExportService;
+import gon.til.domain.service.ProjectImportService;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 카드 10만 장짜리 프로젝트를 내보냈다가 다시 가져오는 벤치마크
+ * - ./gradlew benchmark 로 실행합니다. (힙 192MB 로 제한, 기본 test 태스크에서는 제외)
+ * - 카드 내용만 100MB 가 넘어서, 프로젝트를 통째로 메모리에 올리면 이 힙에서는 끝까지 돌 수 없습니다.
+ * - DB 데이터가 힙을 차지하지 않도록 H2 파일 DB 를 사용합니다.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:file:./build/benchmark/transfer-${random.uuid};DB_CLOSE_ON_EXIT=FALSE",
+    "spring.jpa.show-sql=false"
+})
+@DisplayName("프로젝트 내보내기/가져오기 벤치마크")
+class ProjectTransferBenchmarkTest {
+
+    private static final int CARD_COUNT = 100_000;
+    private static final int CONTENT_LENGTH = 1_000;
+    private static final int BATCH_SIZE = 1_000;
+    private static final long HEAP_LIMIT_BYTES = 192L * 1024 * 1024;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectExportService projectExportService;
+
+    @Autowired
+    private ProjectImportService projectImportService;
+
+    @Test
+    @DisplayName("카드 10만 장 프로젝트 왕복")
+    void roundTrip_100kCards() throws Exception {
+        assertThat(Runtime.getRuntime().maxMemory())
+            .as("benchmark 태스크(제한된 힙)로 실행해야 합니다.")
+            .isLessThanOrEqualTo(HEAP_LIMIT_BYTES);
+
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        User user = userRepository.save(new User("bench" + suffix, "bench" + suffix + "@example.com", "password123"));
+        Long projectId = seedProject(user.getId(), suffix);
+        Path file = Files.createTempFile("til-project-", ".json");
+
+        resetPeakUsage();
+
+        long exportStart = System.nanoTime();
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            projectExportService.exportJson(projectId, out);
+        }
+        long exportMillis = (System.nanoTime() - exportStart) / 1_000_000;
+
+        // 같은 사용자의 프로젝트 이름은 겹칠 수 없으므로 원본을 지우고 가져옵니다.
+        deleteProject(projectId);
+
+        long importStart = System.nanoTime();
+        ProjectImportResponse imported;
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            imported = projectImportService.importJson(user.getId(), in);
+        }
+        long importMillis = (System.nanoTime() - importStart) / 1_000_000;
+
+        System.out.printf("export: %d ms, import: %d ms, file: %d MB, peak heap: %d MB (max %d MB)%n",
+            exportMillis, importMillis, Files.size(file) / (1024 * 1024),
+            peakHeapUsage() / (1024 * 1024), Runtime.getRuntime().maxMemory() / (1024 * 1024));
+        Files.deleteIfExists(file);
+
+        assertThat(imported.getCardCount()).isEqualTo(CARD_COUNT);
+        Integer taggedCards = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM card_tags ct JOIN cards c ON c.id = ct.card_id WHERE c.project_id = ?",
+            Integer.class, imported.getProjectId());
+        assertThat(taggedCards).isEqualTo(CARD_COUNT);
+    }
+
+    // 프로젝트 하나(컬럼 3개, 태그 5개, 카드 CARD_COUNT 장, 카드마다 태그 1개)를 JDBC 배치로 만듭니다.
+    private Long seedProject(Long userId, String suffix) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Long projectId = insert("INSERT INTO projects (title, user_id, created_at, updated_at) VALUES (?, ?, ?, ?)",
+            "Benchmark Project", userId, now, now);
+        Long boardId = insert("INSERT INTO boards (title, project_id, created_at, updated_at) VALUES (?, ?, ?, ?)",
+            "Benchmark Board", projectId, now, now);
+
+        List<Long> columnIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            columnIds.add(insert("INSERT INTO columns (title, position, card_count, board_id, created_at, updated_at) VALUES (?, ?, 0, ?, ?, ?)",
+                "Column " + i, i, boardId, now, now));
+        }
+        List<Long> tagIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            tagIds.add(insert("INSERT INTO tags (name, color, project_id, created_at) VALUES (?, ?, ?, ?)",
+                "bench-" + suffix + "-" + i, "#9BF6FF", projectId, now));
+        }
+
+        String content = "x".repeat(CONTENT_LENGTH);
+        for (int start = 0; start < CARD_COUNT; start += BATCH_SIZE) {
+            List<Object[]> cards = new ArrayList<>(BATCH_SIZE);
+            for (int i = start; i < start + BATCH_SIZE; i++) {
+                cards.add(new Object[]{"Card " + i, content, i, userId, columnIds.get(i % 3), projectId, now, now});
+            }
+            jdbcTemplate.batchUpdate(
+                "INSERT INTO cards (title, content, position, user_id, kanban_column_id, project_id, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", cards);
+        }
+        jdbcTemplate.update(
+            "INSERT INTO card_tags (card_id, tag_id) SELECT id, ? FROM cards WHERE project_id = ?", tagIds.get(0), projectId);
+        return projectId;
+    }
+
+    private void deleteProject(Long projectId) {
+        jdbcTemplate.update("DELETE FROM card_tags WHERE card_id IN (SELECT id FROM cards WHERE project_id = ?)", projectId);
+        jdbcTemplate.update("DELETE FROM cards WHERE project_id = ?", projectId);
+        jdbcTemplate.update("DELETE FROM tags WHERE project_id = ?", projectId);
+        jdbcTemplate.update("DELETE FROM columns WHERE board_id IN (SELECT id FROM boards WHERE project_id = ?)", projectId);
+        jdbcTemplate.update("DELETE FROM boards WHERE project_id = ?", projectId);
+        jdbcTemplate.update("DELETE FROM projects WHERE id = ?", projectId);
+    }
+
+    private Long insert(String sql, Object... args) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(con -> {
+            var ps = con.prepareStatement(sql, new String[]{"id"});
+            for (int i = 0; i < args.length; i++) {
+                ps.setObject(i + 1, args[i]);
+            }
+            return ps;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+
+    private void resetPeakUsage() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    private long peakHeapUsage() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        return peak;
+    }
+}
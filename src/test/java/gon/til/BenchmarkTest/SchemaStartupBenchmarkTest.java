@@ -0,0 +1,73 @@
+package gon.til.BenchmarkTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import gon.til.TilApplication;
+import java.util.Arrays;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 스키마 관리 방식별 기동 시간 비교
+ * - ./gradlew benchmark 로 실행합니다.
+ * - 같은 파일 DB(이미 마이그레이션 완료)에 대해 ddl-auto=update 와 Flyway + ddl-auto=validate 로 번갈아 기동하고 중앙값을 출력합니다.
+ */
+@Tag("benchmark")
+@DisplayName("스키마 관리 방식별 기동 시간 벤치마크")
+class SchemaStartupBenchmarkTest {
+
+    private static final int RUNS = 5;
+
+    @Test
+    @DisplayName("ddl-auto=update vs Flyway + validate")
+    void compareStartup() {
+        String url = "jdbc:h2:file:./build/benchmark/startup-" + UUID.randomUUID() + ";DB_CLOSE_ON_EXIT=FALSE";
+
+        // 첫 기동에서 V1 마이그레이션을 적용해 둡니다. (측정에서 제외)
+        try (ConfigurableApplicationContext context = start(url, "validate", true)) {
+            Integer applied = context.getBean(JdbcTemplate.class)
+                .queryForObject("SELECT COUNT(*) FROM \"flyway_schema_history\" WHERE \"success\" = TRUE", Integer.class);
+            assertThat(applied).isPositive();
+        }
+
+        long[] update = new long[RUNS];
+        long[] validate = new long[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            update[i] = measure(url, "update", false);
+            validate[i] = measure(url, "validate", true);
+        }
+
+        System.out.printf("startup median - ddl-auto=update: %d ms, flyway + validate: %d ms (%d runs)%n",
+            median(update), median(validate), RUNS);
+    }
+
+    private long measure(String url, String ddlAuto, boolean flyway) {
+        long start = System.nanoTime();
+        try (ConfigurableApplicationContext ignored = start(url, ddlAuto, flyway)) {
+            return (System.nanoTime() - start) / 1_000_000;
+        }
+    }
+
+    private ConfigurableApplicationContext start(String url, String ddlAuto, boolean flyway) {
+        return new SpringApplicationBuilder(TilApplication.class)
+            .properties(
+                "spring.datasource.url=" + url,
+                "spring.jpa.hibernate.ddl-auto=" + ddlAuto,
+                "spring.flyway.enabled=" + flyway,
+                "spring.jpa.show-sql=false",
+                "server.port=0",
+                "logging.level.root=WARN")
+            .run();
+    }
+
+    private long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
@@ -0,0 +1,61 @@
+package gon.til.BenchmarkTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import gon.til.BenchmarkTest.StartupProbe.BootResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * JVM 기동 모드별 time-to-first-request 비교
+ * - ./gradlew startupBenchmark 로 실행합니다. (bootJar -> extractBootJar -> cdsArchive 후 실행)
+ * - jar : 일반 실행
+ * - aot : AOT 로 미리 만든 빈 정의 사용 (-Dspring.aot.enabled=true, 리포지토리 스캔/설정 클래스 파싱 생략)
+ * - aot-cds : AOT + 학습 실행으로 만든 CDS 아카이브 (-XX:SharedArchiveFile)
+ * - 모드마다 RUNS 번씩 띄워서 중앙값을 build/reports/startup/startup.md 에 남깁니다.
+ */
+@Tag("startup")
+@DisplayName("JVM 기동 시간 벤치마크")
+class StartupBenchmarkTest {
+
+    private static final int RUNS = 3;
+
+    @Test
+    @DisplayName("jar / AOT / AOT + CDS 기동 시간 비교")
+    void compareStartupModes() throws Exception {
+        Path reportDir = Path.of(System.getProperty("til.report.dir", "build/reports/startup"));
+        String java = StartupProbe.javaExecutable();
+        String bootJar = System.getProperty("til.boot.jar");
+        String extractedJar = System.getProperty("til.cds.jar");
+        String cdsArchive = System.getProperty("til.cds.archive");
+        assertThat(Path.of(cdsArchive)).as("run ./gradlew cdsArchive first").exists();
+
+        BootResult jar = median("jar", List.of(java, "-jar", bootJar), reportDir);
+        BootResult aot = median("aot", List.of(java, "-Dspring.aot.enabled=true", "-jar", extractedJar), reportDir);
+        BootResult aotCds = median("aot-cds", List.of(java, "-XX:SharedArchiveFile=" + cdsArchive,
+            "-Dspring.aot.enabled=true", "-jar", extractedJar), reportDir);
+
+        String report = "| mode | time to first request (ms, median of " + RUNS + ") | RSS (MB) |\n"
+            + "|---|---:|---:|\n"
+            + jar.toRow("jar")
+            + aot.toRow("aot")
+            + aotCds.toRow("aot-cds");
+        Files.writeString(reportDir.resolve("startup.md"), report);
+        System.out.print(report);
+    }
+
+    private BootResult median(String name, List<String> command, Path reportDir) throws Exception {
+        List<BootResult> results = new ArrayList<>();
+        for (int i = 0; i < RUNS; i++) {
+            results.add(StartupProbe.boot(name, command, reportDir));
+        }
+        results.sort(Comparator.comparingLong(BootResult::startupMillis));
+        return results.get(RUNS / 2);
+    }
+}
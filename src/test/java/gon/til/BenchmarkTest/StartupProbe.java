@@ -0,0 +1,143 @@
+package gon.til.BenchmarkTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 빌드된 애플리케이션(jar, 네이티브 바이너리)을 별도 프로세스로 띄워서 기동 시간과 RSS 를 재는 도구
+ * - 기본 설정(H2 메모리 DB)으로 띄우고 회원가입 -> 로그인 -> 프로젝트 생성/조회까지 확인합니다.
+ *   (Flyway, Hibernate, JJWT, Jackson DTO 바인딩이 모두 한 번씩 실행됨)
+ * - 기동 시간은 프로세스 시작부터 첫 요청(회원가입)이 성공할 때까지, RSS 는 스모크 요청 후 /proc/{pid}/status 의 VmRSS 입니다.
+ */
+public final class StartupProbe {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(90);
+
+    private static final HttpClient HTTP_CLIENT = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private StartupProbe() {
+    }
+
+    /**
+     * command 로 애플리케이션을 띄우고 스모크 요청을 보낸 뒤 종료합니다.
+     * 로그는 logDir/{name}.log 에 남깁니다. name 은 회원가입 이름에도 쓰므로 10자 이하로 지정합니다.
+     */
+    public static BootResult boot(String name, List<String> command, Path logDir) throws Exception {
+        Files.createDirectories(logDir);
+        int port = freePort();
+        List<String> fullCommand = new ArrayList<>(command);
+        fullCommand.add("--server.port=" + port);
+        fullCommand.add("--spring.jpa.show-sql=false");
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(fullCommand)
+            .redirectErrorStream(true)
+            .redirectOutput(logDir.resolve(name + ".log").toFile())
+            .start();
+        try {
+            String baseUrl = "http://localhost:" + port + "/api/v1";
+            String email = name + "@example.com";
+
+            HttpResponse<String> signup = waitForFirstResponse(process, baseUrl + "/users/signup",
+                Map.of("displayName", name + "User", "email", email, "password", "password123"));
+            long startupMillis = (System.nanoTime() - start) / 1_000_000;
+            assertThat(signup.statusCode()).as(name + " signup").isEqualTo(201);
+
+            HttpResponse<String> login = post(baseUrl + "/users/login", Map.of("email", email, "password", "password123"), null);
+            assertThat(login.statusCode()).as(name + " login").isEqualTo(200);
+            String token = "Bearer " + OBJECT_MAPPER.readTree(login.body()).get("token").asText();
+
+            HttpResponse<String> project = post(baseUrl + "/projects",
+                Map.of("title", "Startup Probe", "description", "smoke", "category", "BE"), token);
+            assertThat(project.statusCode()).as(name + " create project").isEqualTo(201);
+
+            HttpResponse<String> projects = HTTP_CLIENT.send(HttpRequest.newBuilder(URI.create(baseUrl + "/projects"))
+                .header("Authorization", token).GET().build(), HttpResponse.BodyHandlers.ofString());
+            assertThat(projects.statusCode()).as(name + " list projects").isEqualTo(200);
+            assertThat(OBJECT_MAPPER.readTree(projects.body()).size()).isEqualTo(1);
+
+            return new BootResult(startupMillis, readRssKb(process.pid()));
+        } finally {
+            process.destroy();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    public static String javaExecutable() {
+        return Path.of(System.getProperty("java.home"), "bin", "java").toString();
+    }
+
+    // 포트가 열릴 때까지 회원가입 요청을 반복합니다.
+    private static HttpResponse<String> waitForFirstResponse(Process process, String url, Map<String, String> body)
+        throws Exception {
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                fail("process exited during startup with code " + process.exitValue());
+            }
+            try {
+                return post(url, body, null);
+            } catch (ConnectException e) {
+                Thread.sleep(20);
+            }
+        }
+        return fail("application did not start within " + STARTUP_TIMEOUT);
+    }
+
+    private static HttpResponse<String> post(String url, Map<String, String> body, String token) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(OBJECT_MAPPER.writeValueAsString(body)));
+        if (token != null) {
+            request.header("Authorization", token);
+        }
+        return HTTP_CLIENT.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    // Linux 에서만 측정 (/proc). 그 외에는 -1
+    private static long readRssKb(long pid) throws IOException {
+        Path status = Path.of("/proc", String.valueOf(pid), "status");
+        if (!Files.exists(status)) {
+            return -1;
+        }
+        for (String line : Files.readAllLines(status)) {
+            if (line.startsWith("VmRSS:")) {
+                return Long.parseLong(line.replaceAll("\\D", ""));
+            }
+        }
+        return -1;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    public record BootResult(long startupMillis, long rssKb) {
+
+        public String toRow(String name) {
+            String rss = rssKb < 0 ? "n/a" : String.valueOf(rssKb / 1024);
+            return "| " + name + " | " + startupMillis + " | " + rss + " |\n";
+        }
+    }
+}
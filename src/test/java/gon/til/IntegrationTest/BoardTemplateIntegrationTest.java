@@ -0,0 +1,191 @@
+package gon.til.IntegrationTest;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gon.til.domain.dto.kanbancolumn.KanbanColumnResponse;
+import gon.til.domain.dto.project.ProjectCreateRequest;
+import gon.til.domain.dto.template.BoardTemplateCreateRequest;
+import gon.til.domain.dto.template.BoardTemplateCreateRequest.CardItem;
+import gon.til.domain.dto.template.BoardTemplateCreateRequest.ColumnItem;
+import gon.til.domain.dto.template.BoardTemplateCreateRequest.TagItem;
+import gon.til.domain.dto.template.BoardTemplateFromProjectRequest;
+import gon.til.domain.dto.user.UserSignupRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@DisplayName("BoardTemplate 통합 테스트")
+public class BoardTemplateIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String token;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        UserSignupRequest signupRequest = new UserSignupRequest("templateUser", "template@example.com", "password123");
+        mockMvc.perform(post("/api/v1/users/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(signupRequest)))
+                .andExpect(status().isCreated());
+
+        Map<String, String> loginRequest = new HashMap<>();
+        loginRequest.put("email", "template@example.com");
+        loginRequest.put("password", "password123");
+        MvcResult loginResult = mockMvc.perform(post("/api/v1/users/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(status().isOk())
+                .andReturn();
+        token = "Bearer " + objectMapper.readTree(loginResult.getResponse().getContentAsString()).get("token").asText();
+    }
+
+    @Test
+    @DisplayName("템플릿으로 만든 프로젝트에 컬럼, 태그, 시작 카드가 복사됨")
+    void createProjectFromTemplate_Success() throws Exception {
+        BoardTemplateCreateRequest templateRequest = new BoardTemplateCreateRequest(
+                "스터디 템플릿",
+                "설명",
+                List.of(new ColumnItem("읽을 것", null), new ColumnItem("읽는 중", 2), new ColumnItem("정리 완료", null)),
+                List.of(new TagItem("Java", "BLUE"), new TagItem("Spring", "#a0c4ff")),
+                List.of(
+                        new CardItem(1, "첫 카드", "**굵게** 쓴 내용"),
+                        new CardItem(1, "둘째 카드", null),
+                        new CardItem(3, "끝난 카드", "정리")
+                )
+        );
+        JsonNode template = createTemplate(templateRequest);
+        assertThat(template.get("columns")).hasSize(3);
+        assertThat(template.get("cardCount").asInt()).isEqualTo(3);
+
+        JsonNode project = createProjectFromTemplate(template.get("id").asLong(), "템플릿 프로젝트");
+        Long projectId = project.get("id").asLong();
+
+        List<KanbanColumnResponse> columns = getColumns(project.get("mainBoardId").asLong());
+        assertThat(columns).extracting(KanbanColumnResponse::getTitle).containsExactly("읽을 것", "읽는 중", "정리 완료");
+        assertThat(columns).extracting(KanbanColumnResponse::getPosition).containsExactly(1, 2, 3);
+        assertThat(columns).extracting(KanbanColumnResponse::getCardCount).containsExactly(2, 0, 1);
+        assertThat(columns.get(1).getWipLimit()).isEqualTo(2);
+
+        mockMvc.perform(get("/api/v1/tags/projects/" + projectId)
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)));
+
+        mockMvc.perform(get("/api/v1/cards/project/" + projectId + "/summary")
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(3)))
+                .andExpect(jsonPath("$[?(@.title == '첫 카드')].excerpt").value("굵게 쓴 내용"))
+                .andExpect(jsonPath("$[?(@.title == '끝난 카드')].columnId").value(columns.get(2).getId().intValue()));
+    }
+
+    @Test
+    @DisplayName("컬럼 50개 템플릿도 그대로 복사됨")
+    void createProjectFromTemplate_ManyColumns() throws Exception {
+        List<ColumnItem> columnItems = new ArrayList<>();
+        List<CardItem> cardItems = new ArrayList<>();
+        for (int i = 1; i <= 50; i++) {
+            columnItems.add(new ColumnItem("컬럼 " + i, null));
+            cardItems.add(new CardItem(i, "카드 " + i, null));
+        }
+        JsonNode template = createTemplate(new BoardTemplateCreateRequest("큰 템플릿", null, columnItems, List.of(), cardItems));
+
+        JsonNode project = createProjectFromTemplate(template.get("id").asLong(), "큰 프로젝트");
+
+        List<KanbanColumnResponse> columns = getColumns(project.get("mainBoardId").asLong());
+        assertThat(columns).hasSize(50);
+        assertThat(columns.get(49).getTitle()).isEqualTo("컬럼 50");
+        assertThat(columns).allSatisfy(column -> assertThat(column.getCardCount()).isEqualTo(1));
+    }
+
+    @Test
+    @DisplayName("기존 프로젝트를 템플릿으로 저장하면 기본 컬럼이 담김")
+    void createTemplateFromProject_Success() throws Exception {
+        MvcResult projectResult = mockMvc.perform(post("/api/v1/projects")
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ProjectCreateRequest("원본 프로젝트", "설명", "BE"))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        Long projectId = objectMapper.readTree(projectResult.getResponse().getContentAsString()).get("id").asLong();
+
+        mockMvc.perform(post("/api/v1/board-templates/projects/" + projectId)
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BoardTemplateFromProjectRequest("저장한 템플릿", null, true))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.columns", hasSize(4)))
+                .andExpect(jsonPath("$.columns[0]", is("할 일")))
+                .andExpect(jsonPath("$.columns[3]", is("복습 필요")))
+                .andExpect(jsonPath("$.cardCount", is(0)));
+    }
+
+    @Test
+    @DisplayName("없는 컬럼 위치에 카드를 두면 400")
+    void createTemplate_InvalidCardColumn() throws Exception {
+        BoardTemplateCreateRequest request = new BoardTemplateCreateRequest(
+                "잘못된 템플릿", null, List.of(new ColumnItem("하나", null)), List.of(), List.of(new CardItem(2, "카드", null)));
+
+        mockMvc.perform(post("/api/v1/board-templates")
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+
+    private JsonNode createTemplate(BoardTemplateCreateRequest request) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/v1/board-templates")
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString());
+    }
+
+    private JsonNode createProjectFromTemplate(Long templateId, String title) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/v1/board-templates/" + templateId + "/projects")
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ProjectCreateRequest(title, "설명", "BE"))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString());
+    }
+
+    private List<KanbanColumnResponse> getColumns(Long boardId) throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/kanban-columns/boards/" + boardId)
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readValue(result.getResponse().getContentAsString(), new TypeReference<List<KanbanColumnResponse>>() {});
+    }
+}
@@ -0,0 +1,354 @@
+package gon.til.IntegrationTest;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gon.til.domain.dto.card.CardCreateRequest;
+import gon.til.domain.dto.kanbancolumn.KanbanColumnResponse;
+import gon.til.domain.dto.project.ProjectCreateRequest;
+import gon.til.domain.dto.user.UserSignupRequest;
+import gon.til.domain.service.AttachmentBlobSweeper;
+import gon.til.global.storage.BlobStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 업로드는 파일 저장 후 따로 커밋하므로 @Transactional 없이 실행하고, 끝나면 만든 프로젝트를 삭제합니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("CardAttachment 통합 테스트")
+public class CardAttachmentIntegrationTest {
+
+    private static final int MAX_SIZE = 256 * 1024;
+
+    @TempDir
+    static Path blobDir;
+
+    @DynamicPropertySource
+    static void attachmentProperties(DynamicPropertyRegistry registry) {
+        registry.add("til.attachments.dir", () -> blobDir.toString());
+        registry.add("til.attachments.max-size", () -> MAX_SIZE + "B");
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private AttachmentBlobSweeper attachmentBlobSweeper;
+
+    @Autowired
+    private BlobStore blobStore;
+
+    private String token;
+    private Long projectId;
+    private Long cardId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        String email = "attach" + suffix + "@example.com";
+        mockMvc.perform(post("/api/v1/users/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new UserSignupRequest("at" + suffix, email, "password123"))))
+                .andExpect(status().isCreated());
+
+        Map<String, String> loginRequest = new HashMap<>();
+        loginRequest.put("email", email);
+        loginRequest.put("password", "password123");
+        MvcResult loginResult = mockMvc.perform(post("/api/v1/users/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(status().isOk())
+                .andReturn();
+        token = "Bearer " + objectMapper.readTree(loginResult.getResponse().getContentAsString()).get("token").asText();
+
+        MvcResult projectResult = mockMvc.perform(post("/api/v1/projects")
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ProjectCreateRequest("Attachment Project", "설명", "BE"))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        JsonNode project = objectMapper.readTree(projectResult.getResponse().getContentAsString());
+        projectId = project.get("id").asLong();
+
+        MvcResult columnsResult = mockMvc.perform(get("/api/v1/kanban-columns/boards/" + project.get("mainBoardId").asLong())
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andReturn();
+        Long columnId = objectMapper.readValue(columnsResult.getResponse().getContentAsString(),
+                new TypeReference<List<KanbanColumnResponse>>() {}).get(0).getId();
+
+        MvcResult cardResult = mockMvc.perform(post("/api/v1/cards/columns/" + columnId)
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CardCreateRequest(columnId, "첨부 카드", "내용"))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        cardId = objectMapper.readTree(cardResult.getResponse().getContentAsString()).get("id").asLong();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        mockMvc.perform(delete("/api/v1/projects/" + projectId)
+                .header("Authorization", token));
+    }
+
+    @Test
+    @DisplayName("업로드한 파일은 내용 해시 이름으로 저장되고 그대로 내려받을 수 있음")
+    void uploadAndDownload_Success() throws Exception {
+        byte[] content = randomBytes(100_000);
+
+        JsonNode uploaded = upload("screenshot.png", MediaType.IMAGE_PNG, content);
+        assertThat(uploaded.get("hash").asText()).isEqualTo(sha256(content));
+        assertThat(uploaded.get("size").asLong()).isEqualTo(content.length);
+        assertThat(Files.exists(blobPath(sha256(content)))).isTrue();
+
+        mockMvc.perform(get("/api/v1/cards/" + cardId + "/attachments")
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].fileName", is("screenshot.png")));
+
+        MvcResult download = mockMvc.perform(get("/api/v1/attachments/" + uploaded.get("id").asLong())
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, MediaType.IMAGE_PNG_VALUE))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + sha256(content) + "\""))
+                .andReturn();
+        assertThat(download.getResponse().getContentAsByteArray()).isEqualTo(content);
+        assertThat(download.getResponse().getHeader(HttpHeaders.CONTENT_DISPOSITION)).startsWith("inline");
+    }
+
+    @Test
+    @DisplayName("Range 요청이면 해당 구간만 206 으로 내려줌")
+    void download_Range() throws Exception {
+        byte[] content = randomBytes(10_000);
+        Long attachmentId = upload("notes.txt", MediaType.TEXT_PLAIN, content).get("id").asLong();
+
+        MvcResult partial = mockMvc.perform(get("/api/v1/attachments/" + attachmentId)
+                        .header("Authorization", token)
+                        .header(HttpHeaders.RANGE, "bytes=100-199"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 100-199/" + content.length))
+                .andReturn();
+
+        assertThat(partial.getResponse().getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(content, 100, 200));
+        assertThat(partial.getResponse().getHeader(HttpHeaders.CONTENT_DISPOSITION)).startsWith("attachment");
+    }
+
+    @Test
+    @DisplayName("ETag 가 같으면 304")
+    void download_NotModified() throws Exception {
+        byte[] content = randomBytes(1_000);
+        Long attachmentId = upload("a.bin", MediaType.APPLICATION_OCTET_STREAM, content).get("id").asLong();
+
+        mockMvc.perform(get("/api/v1/attachments/" + attachmentId)
+                        .header("Authorization", token)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"" + sha256(content) + "\""))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("같은 내용을 여러 번 올려도 파일은 하나만 저장됨")
+    void upload_Deduplicated() throws Exception {
+        byte[] content = randomBytes(5_000);
+
+        JsonNode first = upload("a.png", MediaType.IMAGE_PNG, content);
+        JsonNode second = upload("b.png", MediaType.IMAGE_PNG, content);
+
+        assertThat(second.get("id").asLong()).isNotEqualTo(first.get("id").asLong());
+        assertThat(second.get("hash").asText()).isEqualTo(first.get("hash").asText());
+        try (Stream<Path> files = Files.list(blobPath(sha256(content)).getParent())) {
+            assertThat(files.filter(path -> path.getFileName().toString().equals(sha256(content)))).hasSize(1);
+        }
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 413, 받던 임시 파일은 남지 않음")
+    void upload_TooLarge() throws Exception {
+        mockMvc.perform(post("/api/v1/cards/" + cardId + "/attachments")
+                        .header("Authorization", token)
+                        .param("fileName", "big.bin")
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content(randomBytes(MAX_SIZE + 1)))
+                .andExpect(status().isPayloadTooLarge());
+
+        try (Stream<Path> tmpFiles = Files.list(blobDir.resolve("tmp"))) {
+            assertThat(tmpFiles).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("경로가 붙은 파일 이름은 마지막 이름만 저장")
+    void upload_StripsPath() throws Exception {
+        JsonNode uploaded = upload("../../etc/passwd", MediaType.TEXT_PLAIN, randomBytes(10));
+
+        assertThat(uploaded.get("fileName").asText()).isEqualTo("passwd");
+    }
+
+    @Test
+    @DisplayName("참조가 없어진 파일만 정리 작업에서 지워짐")
+    void sweep_DeletesOnlyUnreferencedBlobs() throws Exception {
+        byte[] kept = randomBytes(2_000);
+        byte[] removed = randomBytes(2_001);
+        upload("kept.png", MediaType.IMAGE_PNG, kept);
+        Long removedId = upload("removed.png", MediaType.IMAGE_PNG, removed).get("id").asLong();
+
+        mockMvc.perform(delete("/api/v1/attachments/" + removedId)
+                        .header("Authorization", token))
+                .andExpect(status().isNoContent());
+
+        // 정리 대상이 되도록 마지막 저장 시각을 grace(1시간) 이전으로
+        FileTime old = FileTime.from(Instant.now().minus(Duration.ofHours(2)));
+        Files.setLastModifiedTime(blobPath(sha256(kept)), old);
+        Files.setLastModifiedTime(blobPath(sha256(removed)), old);
+
+        attachmentBlobSweeper.sweep();
+
+        assertThat(Files.exists(blobPath(sha256(kept)))).isTrue();
+        assertThat(Files.exists(blobPath(sha256(removed)))).isFalse();
+    }
+
+    @Test
+    @DisplayName("정리 중 다시 확인할 때 참조가 생겼거나 같은 내용이 다시 올라왔으면 파일이 남음")
+    void sweep_KeepsBlobReusedDuringDelete() throws Exception {
+        byte[] referenced = randomBytes(3_000);
+        byte[] reuploaded = randomBytes(3_001);
+        Instant cutoff = Instant.now().minus(Duration.ofHours(1));
+        FileTime old = FileTime.from(Instant.now().minus(Duration.ofHours(2)));
+        String referencedHash = blobStore.store(new ByteArrayInputStream(referenced)).hash();
+        String reuploadedHash = blobStore.store(new ByteArrayInputStream(reuploaded)).hash();
+        Files.setLastModifiedTime(blobPath(referencedHash), old);
+        Files.setLastModifiedTime(blobPath(reuploadedHash), old);
+
+        // 묘비로 옮긴 뒤 참조가 생김 -> 되돌림
+        assertThat(blobStore.deleteIfUnused(referencedHash, cutoff, () -> false)).isFalse();
+        // 묘비로 옮긴 뒤 같은 내용이 올라옴 -> 새 파일로 저장되고 묘비만 지워짐
+        blobStore.deleteIfUnused(reuploadedHash, cutoff, () -> {
+            blobStore.store(new ByteArrayInputStream(reuploaded));
+            return true;
+        });
+
+        assertThat(Files.exists(blobPath(referencedHash))).isTrue();
+        assertThat(Files.exists(blobPath(reuploadedHash))).isTrue();
+        assertThat(Files.exists(blobPath(referencedHash).resolveSibling(referencedHash + ".deleting"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("이미지 썸네일은 비동기로 만들어 크기 안에 들어가는 JPEG 로 내려주고, 디스크에 캐시함")
+    void thumbnail_RenderedAndCached() throws Exception {
+        byte[] png = png(800, 400);
+        JsonNode uploaded = upload("photo.png", MediaType.IMAGE_PNG, png);
+        Long attachmentId = uploaded.get("id").asLong();
+
+        MvcResult pending = mockMvc.perform(get("/api/v1/attachments/" + attachmentId + "/thumbnail")
+                        .header("Authorization", token)
+                        .param("size", "128"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(pending))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, MediaType.IMAGE_JPEG_VALUE))
+                .andReturn();
+
+        BufferedImage thumbnail = ImageIO.read(new ByteArrayInputStream(result.getResponse().getContentAsByteArray()));
+        assertThat(thumbnail.getWidth()).isEqualTo(128);
+        assertThat(thumbnail.getHeight()).isEqualTo(64);
+
+        Path cached = blobDir.resolve("thumbnails").resolve("128")
+                .resolve(sha256(png).substring(0, 2)).resolve(sha256(png) + ".jpg");
+        assertThat(Files.exists(cached)).isTrue();
+    }
+
+    @Test
+    @DisplayName("이미지가 아니거나 지원하지 않는 크기면 400")
+    void thumbnail_BadRequest() throws Exception {
+        Long textId = upload("notes.txt", MediaType.TEXT_PLAIN, randomBytes(300)).get("id").asLong();
+        Long imageId = upload("photo.png", MediaType.IMAGE_PNG, png(10, 10)).get("id").asLong();
+
+        mockMvc.perform(get("/api/v1/attachments/" + textId + "/thumbnail")
+                        .header("Authorization", token))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/attachments/" + imageId + "/thumbnail")
+                        .header("Authorization", token)
+                        .param("size", "100"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private JsonNode upload(String fileName, MediaType contentType, byte[] content) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/v1/cards/" + cardId + "/attachments")
+                        .header("Authorization", token)
+                        .param("fileName", fileName)
+                        .contentType(contentType)
+                        .content(content))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString());
+    }
+
+    private Path blobPath(String hash) {
+        return blobDir.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+    }
+
+    private static byte[] png(int width, int height) throws Exception {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+
+    private static String sha256(byte[] content) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+    }
+}
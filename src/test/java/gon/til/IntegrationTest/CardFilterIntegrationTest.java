@@ -0,0 +1,241 @@
+package gon.til.IntegrationTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gon.til.domain.dto.card.CardCreateRequest;
+import gon.til.domain.dto.kanbancolumn.KanbanColumnResponse;
+import gon.til.domain.dto.project.ProjectCreateRequest;
+import gon.til.domain.dto.tag.TagCreateRequest;
+import gon.til.domain.dto.user.UserSignupRequest;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 카드 필터/패싯 통합 테스트
+ * - 카드-태그 연결과 만든 시각은 테스트 트랜잭션 안에서 JDBC 로 직접 맞춥니다.
+ *   (조회가 JDBC 라서, 아직 flush 되지 않은 엔티티 변경은 보이지 않음)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@DisplayName("CardFilter 통합 테스트")
+public class CardFilterIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String token;
+    private Long projectId;
+    private Long todoColumnId;
+    private Long doneColumnId;
+    private Long javaTagId;
+    private Long springTagId;
+    // 만든 순서대로 (하루씩 늦게 만든 것으로 맞춤)
+    private final List<Long> cardIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        token = signupAndLogin("filterUser", "filter@example.com");
+
+        MvcResult createResult = mockMvc.perform(post("/api/v1/projects")
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ProjectCreateRequest("필터 프로젝트", "설명", "스터디"))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        JsonNode project = objectMapper.readTree(createResult.getResponse().getContentAsString());
+        projectId = project.get("id").asLong();
+
+        MvcResult columnsResult = mockMvc.perform(get("/api/v1/kanban-columns/boards/" + project.get("mainBoardId").asLong())
+                        .header("Authorization", token))
+                .andReturn();
+        List<KanbanColumnResponse> columns = objectMapper.readValue(
+                columnsResult.getResponse().getContentAsString(), new TypeReference<List<KanbanColumnResponse>>() {});
+        todoColumnId = columns.get(0).getId();
+        doneColumnId = columns.get(1).getId();
+
+        javaTagId = createTag("Java");
+        springTagId = createTag("Spring");
+
+        createCard(todoColumnId, "Kotlin 코루틴", "비동기 정리");                // 0 : Java, Spring
+        createCard(todoColumnId, "JPA N+1", "fetch join 으로 해결");             // 1 : Java
+        createCard(doneColumnId, "스프링 시큐리티", "필터 체인과 kotlin DSL");   // 2 : Spring
+        createCard(doneColumnId, "100% 완료", "퍼센트 기호 검색");               // 3
+        createCard(todoColumnId, "Git rebase", "커밋 정리");                     // 4
+
+        LocalDateTime base = LocalDateTime.of(2026, 3, 1, 9, 0);
+        for (int i = 0; i < cardIds.size(); i++) {
+            jdbcTemplate.update("UPDATE cards SET created_at = ? WHERE id = ?",
+                    Timestamp.valueOf(base.plusDays(i)), cardIds.get(i));
+        }
+        tag(cardIds.get(0), javaTagId);
+        tag(cardIds.get(0), springTagId);
+        tag(cardIds.get(1), javaTagId);
+        tag(cardIds.get(2), springTagId);
+    }
+
+    @Test
+    @DisplayName("태그 ANY 는 하나라도 달린 카드, ALL 은 모두 달린 카드만")
+    void filterByTags_anyAndAll() throws Exception {
+        mockMvc.perform(filter().param("tagIds", javaTagId.toString(), springTagId.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.cards", hasSize(3)))
+                .andExpect(jsonPath("$.facets.total", is(3)));
+
+        mockMvc.perform(filter()
+                        .param("tagIds", javaTagId.toString(), springTagId.toString())
+                        .param("tagMatch", "ALL"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.cards", hasSize(1)))
+                .andExpect(jsonPath("$.cards[0].id", is(cardIds.get(0).intValue())))
+                .andExpect(jsonPath("$.cards[0].tags", hasSize(2)));
+    }
+
+    @Test
+    @DisplayName("키셋 커서로 최근 것부터 겹치지 않게 넘기고, 패싯은 첫 페이지에만")
+    void filter_keysetPagination() throws Exception {
+        JsonNode first = readJson(filter().param("size", "2"));
+        assertThat(first.get("facets").get("total").asInt()).isEqualTo(5);
+        assertThat(first.get("facets").get("columns").get(0).get("id").asLong()).isEqualTo(todoColumnId);
+        assertThat(first.get("facets").get("columns").get(0).get("count").asInt()).isEqualTo(3);
+        assertThat(first.get("facets").get("tags")).hasSize(2);
+
+        List<Long> seen = new ArrayList<>();
+        JsonNode page = first;
+        while (true) {
+            page.get("cards").forEach(card -> seen.add(card.get("id").asLong()));
+            if (page.get("nextCursor").isNull()) {
+                break;
+            }
+            page = readJson(filter().param("size", "2").param("cursor", page.get("nextCursor").asText()));
+            assertThat(page.get("facets").isNull()).isTrue();
+        }
+        assertThat(seen).containsExactly(cardIds.get(4), cardIds.get(3), cardIds.get(2), cardIds.get(1), cardIds.get(0));
+
+        JsonNode ascending = readJson(filter().param("size", "10").param("sort", "CREATED_ASC"));
+        assertThat(ascending.get("cards").get(0).get("id").asLong()).isEqualTo(cardIds.get(0));
+    }
+
+    @Test
+    @DisplayName("검색어는 제목/본문에서 대소문자 없이 찾고, %, _ 는 글자 그대로 찾음")
+    void filter_textColumnAndDate() throws Exception {
+        mockMvc.perform(filter().param("q", "KOTLIN"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.cards", hasSize(2)));
+        mockMvc.perform(filter().param("q", "100%"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.cards", hasSize(1)));
+        mockMvc.perform(filter().param("q", "kotlin").param("columnIds", doneColumnId.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.cards", hasSize(1)))
+                .andExpect(jsonPath("$.cards[0].id", is(cardIds.get(2).intValue())));
+
+        // 3/2 ~ 3/3 에 만든 카드 (날짜 양 끝 포함)
+        mockMvc.perform(filter().param("createdFrom", "2026-03-02").param("createdTo", "2026-03-03"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.cards", hasSize(2)))
+                .andExpect(jsonPath("$.facets.total", is(2)));
+    }
+
+    @Test
+    @DisplayName("잘못된 커서, 거꾸로 된 날짜 범위는 400, 다른 사용자는 403")
+    void filter_invalidRequests() throws Exception {
+        mockMvc.perform(filter().param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(filter().param("createdFrom", "2026-03-05").param("createdTo", "2026-03-01"))
+                .andExpect(status().isBadRequest());
+
+        // 다른 정렬에서 받은 커서
+        JsonNode first = readJson(filter().param("size", "1"));
+        mockMvc.perform(filter().param("sort", "UPDATED_DESC").param("cursor", first.get("nextCursor").asText()))
+                .andExpect(status().isBadRequest());
+
+        String otherToken = signupAndLogin("filterOther", "filter-other@example.com");
+        mockMvc.perform(get("/api/v1/cards/project/{projectId}/filter", projectId)
+                        .header("Authorization", otherToken))
+                .andExpect(status().isForbidden());
+    }
+
+    // ===== private 헬퍼 메서드들 =====
+
+    private MockHttpServletRequestBuilder filter() {
+        return get("/api/v1/cards/project/{projectId}/filter", projectId).header("Authorization", token);
+    }
+
+    private JsonNode readJson(MockHttpServletRequestBuilder request) throws Exception {
+        MvcResult result = mockMvc.perform(request).andExpect(status().isOk()).andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString());
+    }
+
+    private void createCard(Long columnId, String title, String content) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/v1/cards/columns/" + columnId)
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CardCreateRequest(columnId, title, content))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        cardIds.add(objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asLong());
+    }
+
+    private Long createTag(String name) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/v1/tags/projects/" + projectId)
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TagCreateRequest(name, "PASTEL_BLUE"))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asLong();
+    }
+
+    private void tag(Long cardId, Long tagId) {
+        jdbcTemplate.update("INSERT INTO card_tags (card_id, tag_id) VALUES (?, ?)", cardId, tagId);
+    }
+
+    private String signupAndLogin(String name, String email) throws Exception {
+        mockMvc.perform(post("/api/v1/users/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new UserSignupRequest(name, email, "password123"))))
+                .andExpect(status().isCreated());
+
+        Map<String, String> loginRequest = new HashMap<>();
+        loginRequest.put("email", email);
+        loginRequest.put("password", "password123");
+        MvcResult loginResult = mockMvc.perform(post("/api/v1/users/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(status().isOk())
+                .andReturn();
+        return "Bearer " + objectMapper.readTree(loginResult.getResponse().getContentAsString()).get("token").asText();
+    }
+}
@@ -9,6 +9,10 @@ import gon.til.domain.dto.card.CardUpdateRequest;
 import gon.til.domain.dto.kanbancolumn.KanbanColumnResponse;
 import gon.til.domain.dto.project.ProjectCreateRequest;
 import gon.til.domain.dto.user.UserSignupRequest;
+import gon.til.domain.entity.Card;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceUnitUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -24,6 +28,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -42,6 +47,9 @@ public class CardIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
     private String token;
     private Long projectId;
     private Long boardId;
@@ -120,7 +128,47 @@ public class CardIntegrationTest {
                         .content(objectMapper.writeValueAsString(updateRequest)))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.title", is("수정된 카드 제목")))
-                .andExpect(jsonPath("$.content", is("수정된 내용")));
+                .andExpect(jsonPath("$.content", is("수정된 내용")))
+                .andExpect(jsonPath("$.contentHtml", is("<p>수정된 내용</p>\n")));
+    }
+
+    @Test
+    @DisplayName("Markdown 본문은 상세 조회에서 HTML 로, 요약 조회에서 평문 요약으로 내려감")
+    void markdownContent_RenderedAndExcerpted() throws Exception {
+        Long todoColumnId = columns.get(0).getId();
+        CardCreateRequest createRequest = new CardCreateRequest(todoColumnId, "마크다운 카드",
+            "## JPA\n\n**지연 로딩** <script>alert(1)</script>");
+
+        MvcResult createResult = mockMvc.perform(post("/api/v1/cards/columns/" + todoColumnId)
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createRequest)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        Long cardId = objectMapper.readTree(createResult.getResponse().getContentAsString()).get("id").asLong();
+
+        mockMvc.perform(get("/api/v1/cards/" + cardId)
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.contentHtml", is(
+                    "<h2>JPA</h2>\n<p><strong>지연 로딩</strong> &lt;script&gt;alert(1)&lt;/script&gt;</p>\n")));
+
+        mockMvc.perform(get("/api/v1/cards/project/" + projectId + "/summary")
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].excerpt", is("JPA 지연 로딩 alert(1)")));
+
+        // 본문을 바꾸면 요약도 다시 만들어짐
+        mockMvc.perform(put("/api/v1/cards/" + cardId)
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CardUpdateRequest("마크다운 카드", "- 영속성 컨텍스트"))))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/cards/project/" + projectId + "/summary")
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].excerpt", is("영속성 컨텍스트")));
     }
 
     @Test
@@ -161,6 +209,35 @@ public class CardIntegrationTest {
                 .andExpect(jsonPath("$", hasSize(2)));
     }
 
+    @Test
+    @DisplayName("카드 요약 조회는 본문을 포함하지 않음")
+    void getCardSummaries_OmitsContent() throws Exception {
+        createTestCard();
+
+        mockMvc.perform(get("/api/v1/cards/project/" + projectId + "/summary")
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].title", is("테스트 카드")))
+                .andExpect(jsonPath("$[0].content").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("카드 엔티티를 읽어도 본문은 처음 접근할 때 불러옴")
+    void cardContent_IsLazilyLoaded() throws Exception {
+        Long cardId = createTestCard();
+        entityManager.flush();
+        entityManager.clear();
+
+        Card card = entityManager.find(Card.class, cardId);
+        PersistenceUnitUtil persistenceUnitUtil = entityManager.getEntityManagerFactory().getPersistenceUnitUtil();
+        assertThat(persistenceUnitUtil.isLoaded(card, "title")).isTrue();
+        assertThat(persistenceUnitUtil.isLoaded(card, "content")).isFalse();
+
+        assertThat(card.getContent()).isEqualTo("테스트 내용");
+        assertThat(persistenceUnitUtil.isLoaded(card, "content")).isTrue();
+    }
+
     private Long createTestCard() throws Exception {
         Long todoColumnId = columns.get(0).getId();
         CardCreateRequest cardCreateRequest = new CardCreateRequest(todoColumnId, "테스트 카드", "테스트 내용");
@@ -0,0 +1,246 @@
+package gon.til.IntegrationTest;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gon.til.domain.dto.card.CardCreateRequest;
+import gon.til.domain.dto.card.CardDueDateRequest;
+import gon.til.domain.dto.kanbancolumn.KanbanColumnResponse;
+import gon.til.domain.dto.project.ProjectCreateRequest;
+import gon.til.domain.dto.user.UserSignupRequest;
+import gon.til.domain.event.CardReminderEvent;
+import gon.til.domain.repository.CardRepository;
+import gon.til.domain.service.CardReminderQueue;
+import gon.til.domain.service.CardReminderScheduler;
+import gon.til.global.shard.ShardExecutor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 카드 마감일/알림 통합 테스트
+ * - 백그라운드 스케줄러와 겹치지 않도록, 테스트마다 새 큐와 가짜 이벤트 발행기로 CardReminderScheduler 를 만들어 직접 돌립니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@DisplayName("CardReminder 통합 테스트")
+public class CardReminderIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CardRepository cardRepository;
+
+    @Autowired
+    private ShardExecutor shardExecutor;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private String token;
+    private Long cardId;
+    private ApplicationEventPublisher eventPublisher;
+    private CardReminderScheduler scheduler;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        UserSignupRequest signupRequest = new UserSignupRequest("reminderUser", "reminder@example.com", "password123");
+        mockMvc.perform(post("/api/v1/users/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(signupRequest)))
+                .andExpect(status().isCreated());
+
+        Map<String, String> loginRequest = new HashMap<>();
+        loginRequest.put("email", "reminder@example.com");
+        loginRequest.put("password", "password123");
+        MvcResult loginResult = mockMvc.perform(post("/api/v1/users/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(status().isOk())
+                .andReturn();
+        token = "Bearer " + objectMapper.readTree(loginResult.getResponse().getContentAsString()).get("token").asText();
+
+        MvcResult projectResult = mockMvc.perform(post("/api/v1/projects")
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ProjectCreateRequest("알림 프로젝트", "설명", "BE"))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        Long boardId = objectMapper.readTree(projectResult.getResponse().getContentAsString()).get("mainBoardId").asLong();
+
+        MvcResult columnsResult = mockMvc.perform(get("/api/v1/kanban-columns/boards/" + boardId)
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andReturn();
+        Long columnId = objectMapper.readValue(columnsResult.getResponse().getContentAsString(),
+                new TypeReference<List<KanbanColumnResponse>>() {}).get(0).getId();
+
+        MvcResult cardResult = mockMvc.perform(post("/api/v1/cards/columns/" + columnId)
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CardCreateRequest(columnId, "마감 카드", "내용"))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        cardId = objectMapper.readTree(cardResult.getResponse().getContentAsString()).get("id").asLong();
+
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        scheduler = new CardReminderScheduler(cardRepository, new CardReminderQueue(), eventPublisher, shardExecutor, transactionManager);
+    }
+
+    @Test
+    @DisplayName("알림 시각이 지난 카드는 한 번만 알림이 나가고 reminded_at 이 남음")
+    void dueReminder_publishedOnce() throws Exception {
+        LocalDateTime dueAt = LocalDateTime.now().plusHours(1);
+        updateDueDate(dueAt, LocalDateTime.now().minusMinutes(1))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.dueAt").exists())
+                .andExpect(jsonPath("$.remindAt").exists());
+        flushAndClear();
+
+        scheduler.refill();
+        scheduler.drain();
+
+        ArgumentCaptor<CardReminderEvent> captor = ArgumentCaptor.forClass(CardReminderEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().cardId()).isEqualTo(cardId);
+        assertThat(captor.getValue().title()).isEqualTo("마감 카드");
+        assertThat(remindedAt()).isNotNull();
+
+        // 다시 채워도 보낸 알림은 읽지 않음
+        scheduler.refill();
+        scheduler.drain();
+        verify(eventPublisher, times(1)).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("같은 알림을 두 번 선점하면 처음만 1, 이후는 0")
+    void claimReminder_onlyFirstClaimWins() throws Exception {
+        updateDueDate(LocalDateTime.now().plusHours(1), LocalDateTime.now().minusMinutes(1)).andExpect(status().isOk());
+        flushAndClear();
+
+        LocalDateTime now = LocalDateTime.now();
+        assertThat(cardRepository.claimReminder(cardId, now)).isEqualTo(1);
+        assertThat(cardRepository.claimReminder(cardId, now)).isZero();
+        assertThat(remindedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("두 인스턴스가 같은 알림을 꺼내도 선점한 한 곳만 알림을 보냄")
+    void dueReminder_publishedOnceAcrossInstances() throws Exception {
+        updateDueDate(LocalDateTime.now().plusHours(1), LocalDateTime.now().minusMinutes(1)).andExpect(status().isOk());
+        flushAndClear();
+
+        // 인스턴스마다 자기 큐를 채우므로 같은 알림이 두 큐에 모두 들어감
+        CardReminderScheduler other = new CardReminderScheduler(cardRepository, new CardReminderQueue(), eventPublisher,
+                shardExecutor, transactionManager);
+        scheduler.refill();
+        other.refill();
+
+        scheduler.drain();
+        other.drain();
+
+        verify(eventPublisher, times(1)).publishEvent(any(CardReminderEvent.class));
+    }
+
+    @Test
+    @DisplayName("알림 시각을 바꾸면 다시 알림이 나감")
+    void changedReminder_publishedAgain() throws Exception {
+        LocalDateTime dueAt = LocalDateTime.now().plusHours(1);
+        updateDueDate(dueAt, LocalDateTime.now().minusMinutes(2)).andExpect(status().isOk());
+        flushAndClear();
+        scheduler.refill();
+        scheduler.drain();
+
+        updateDueDate(dueAt, LocalDateTime.now().minusMinutes(1)).andExpect(status().isOk());
+        flushAndClear();
+        assertThat(remindedAt()).isNull();
+
+        scheduler.refill();
+        scheduler.drain();
+        verify(eventPublisher, times(2)).publishEvent(any(CardReminderEvent.class));
+    }
+
+    @Test
+    @DisplayName("아직 시각이 안 된 알림과 지운 카드의 알림은 나가지 않음")
+    void futureOrDeleted_notPublished() throws Exception {
+        updateDueDate(LocalDateTime.now().plusHours(2), LocalDateTime.now().plusMinutes(30)).andExpect(status().isOk());
+        flushAndClear();
+        scheduler.refill();
+        scheduler.drain();
+        verify(eventPublisher, never()).publishEvent(any());
+
+        updateDueDate(LocalDateTime.now().plusHours(2), LocalDateTime.now().minusMinutes(1)).andExpect(status().isOk());
+        mockMvc.perform(delete("/api/v1/cards/" + cardId)
+                        .header("Authorization", token))
+                .andExpect(status().isNoContent());
+        flushAndClear();
+
+        scheduler.refill();
+        scheduler.drain();
+        verify(eventPublisher, never()).publishEvent(any());
+        assertThat(remindedAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("알림 시각이 마감일보다 늦으면 400")
+    void remindAfterDue_BadRequest() throws Exception {
+        LocalDateTime dueAt = LocalDateTime.now().plusHours(1);
+        updateDueDate(dueAt, dueAt.plusMinutes(1))
+                .andExpect(status().isBadRequest());
+    }
+
+    private ResultActions updateDueDate(LocalDateTime dueAt, LocalDateTime remindAt) throws Exception {
+        return mockMvc.perform(patch("/api/v1/cards/" + cardId + "/due-date")
+                .header("Authorization", token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new CardDueDateRequest(dueAt, remindAt))));
+    }
+
+    private LocalDateTime remindedAt() {
+        return jdbcTemplate.queryForObject("SELECT reminded_at FROM cards WHERE id = ?", LocalDateTime.class, cardId);
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,243 @@
+package gon.til.IntegrationTest;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gon.til.domain.dto.card.CardCreateRequest;
+import gon.til.domain.dto.card.CardShiftRequest;
+import gon.til.domain.dto.kanbancolumn.KanbanColumnResponse;
+import gon.til.domain.dto.kanbancolumn.KanbanColumnReviewRequest;
+import gon.til.domain.dto.project.ProjectCreateRequest;
+import gon.til.domain.dto.review.ReviewSubmitRequest;
+import gon.til.domain.dto.user.UserSignupRequest;
+import gon.til.domain.event.ReviewDueEvent;
+import gon.til.domain.repository.CardReviewRepository;
+import gon.til.domain.service.ReviewDueQueue;
+import gon.til.domain.service.ReviewScheduler;
+import gon.til.global.shard.ShardExecutor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@DisplayName("CardReview 통합 테스트")
+public class CardReviewIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CardReviewRepository cardReviewRepository;
+
+    @Autowired
+    private ShardExecutor shardExecutor;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private String token;
+    private Long todoColumnId;
+    private Long reviewColumnId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        UserSignupRequest signupRequest = new UserSignupRequest("reviewUser", "review@example.com", "password123");
+        mockMvc.perform(post("/api/v1/users/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(signupRequest)))
+                .andExpect(status().isCreated());
+
+        Map<String, String> loginRequest = new HashMap<>();
+        loginRequest.put("email", "review@example.com");
+        loginRequest.put("password", "password123");
+
+        MvcResult loginResult = mockMvc.perform(post("/api/v1/users/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(status().isOk())
+                .andReturn();
+        token = "Bearer " + objectMapper.readTree(loginResult.getResponse().getContentAsString()).get("token").asText();
+
+        ProjectCreateRequest createRequest = new ProjectCreateRequest("Review Test Project", "설명", "BE");
+        MvcResult createResult = mockMvc.perform(post("/api/v1/projects")
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createRequest)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        Long boardId = objectMapper.readTree(createResult.getResponse().getContentAsString()).get("mainBoardId").asLong();
+
+        MvcResult columnsResult = mockMvc.perform(get("/api/v1/kanban-columns/boards/" + boardId)
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andReturn();
+        List<KanbanColumnResponse> columns = objectMapper.readValue(
+                columnsResult.getResponse().getContentAsString(), new TypeReference<List<KanbanColumnResponse>>() {});
+
+        todoColumnId = columns.get(0).getId();
+
+        // 프로젝트 기본 보드의 복습 컬럼
+        reviewColumnId = columns.stream()
+                .filter(KanbanColumnResponse::isReviewEnabled)
+                .findFirst()
+                .orElseThrow()
+                .getId();
+    }
+
+    @Test
+    @DisplayName("복습 필요 컬럼으로 이동한 카드의 복습 결과 제출")
+    void moveToReviewColumnAndSubmit_Success() throws Exception {
+        Long cardId = createTestCard();
+
+        mockMvc.perform(patch("/api/v1/cards/" + cardId + "/shift")
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CardShiftRequest(reviewColumnId, 1))))
+                .andExpect(status().isOk());
+
+        // 첫 복습은 하루 뒤라서 오늘 목록에는 없음
+        mockMvc.perform(get("/api/v1/reviews/due")
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+
+        mockMvc.perform(post("/api/v1/reviews/cards/" + cardId)
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ReviewSubmitRequest(5))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.cardId", is(cardId.intValue())))
+                .andExpect(jsonPath("$.repetitions", is(1)))
+                .andExpect(jsonPath("$.intervalDays", is(1)));
+    }
+
+    @Test
+    @DisplayName("복습 컬럼 지정을 해제하면 제목이 그대로여도 일정에 등록되지 않음")
+    void unmarkedReviewColumn_NotEnrolled() throws Exception {
+        mockMvc.perform(patch("/api/v1/kanban-columns/" + reviewColumnId + "/review")
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new KanbanColumnReviewRequest(false))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.reviewEnabled", is(false)));
+
+        Long cardId = createTestCard();
+        mockMvc.perform(patch("/api/v1/cards/" + cardId + "/shift")
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CardShiftRequest(reviewColumnId, 1))))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/v1/reviews/cards/" + cardId)
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ReviewSubmitRequest(5))))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("복습 일정이 없는 카드는 제출 실패")
+    void submitNotEnrolledCard_NotFound() throws Exception {
+        Long cardId = createTestCard();
+
+        mockMvc.perform(post("/api/v1/reviews/cards/" + cardId)
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ReviewSubmitRequest(5))))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("복습 평가는 0~5 범위만 허용")
+    void submitInvalidQuality_BadRequest() throws Exception {
+        Long cardId = createTestCard();
+
+        mockMvc.perform(post("/api/v1/reviews/cards/" + cardId)
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ReviewSubmitRequest(6))))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("두 인스턴스가 같은 복습 일정을 꺼내도 알림은 한 번만 발행")
+    void dueReview_publishedOnceAcrossInstances() throws Exception {
+        Long cardId = createTestCard();
+        mockMvc.perform(patch("/api/v1/cards/" + cardId + "/shift")
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CardShiftRequest(reviewColumnId, 1))))
+                .andExpect(status().isOk());
+        entityManager.flush();
+        entityManager.clear();
+        jdbcTemplate.update("UPDATE card_reviews SET next_review_at = ? WHERE card_id = ?",
+                LocalDateTime.now().minusMinutes(1), cardId);
+
+        // 인스턴스마다 자기 큐를 채우므로 같은 일정이 두 큐에 모두 들어감
+        ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+        ReviewScheduler first = new ReviewScheduler(cardReviewRepository, new ReviewDueQueue(), eventPublisher,
+                shardExecutor, transactionManager);
+        ReviewScheduler second = new ReviewScheduler(cardReviewRepository, new ReviewDueQueue(), eventPublisher,
+                shardExecutor, transactionManager);
+        first.refill();
+        second.refill();
+
+        first.drain();
+        second.drain();
+
+        verify(eventPublisher, times(1)).publishEvent(any(ReviewDueEvent.class));
+        assertThat(jdbcTemplate.queryForObject("SELECT notified_at FROM card_reviews WHERE card_id = ?",
+                LocalDateTime.class, cardId)).isNotNull();
+    }
+
+    private Long createTestCard() throws Exception {
+        CardCreateRequest cardCreateRequest = new CardCreateRequest(todoColumnId, "복습 카드", "복습 내용");
+
+        MvcResult createCardResult = mockMvc.perform(post("/api/v1/cards/columns/" + todoColumnId)
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(cardCreateRequest)))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        return objectMapper.readTree(createCardResult.getResponse().getContentAsString()).get("id").asLong();
+    }
+}
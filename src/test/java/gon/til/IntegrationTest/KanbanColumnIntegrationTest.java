@@ -82,10 +82,12 @@ public class KanbanColumnIntegrationTest {
         mockMvc.perform(get("/api/v1/kanban-columns/boards/" + boardId)
                         .header("Authorization", token))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$", hasSize(3)))
-                .andExpect(jsonPath("$[0].title", is("To Do")))
-                .andExpect(jsonPath("$[1].title", is("In Progress")))
-                .andExpect(jsonPath("$[2].title", is("Done")));
+                .andExpect(jsonPath("$", hasSize(4)))
+                .andExpect(jsonPath("$[0].title", is("할 일")))
+                .andExpect(jsonPath("$[0].position", is(1)))
+                .andExpect(jsonPath("$[1].title", is("진행 중")))
+                .andExpect(jsonPath("$[2].title", is("완료")))
+                .andExpect(jsonPath("$[3].title", is("복습 필요")));
     }
 
     @Test
@@ -103,7 +105,7 @@ public class KanbanColumnIntegrationTest {
         mockMvc.perform(get("/api/v1/kanban-columns/boards/" + boardId)
                         .header("Authorization", token))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$", hasSize(4)));
+                .andExpect(jsonPath("$", hasSize(5)));
     }
 
     @Test
@@ -0,0 +1,230 @@
+package gon.til.IntegrationTest;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gon.til.domain.dto.card.CardCreateRequest;
+import gon.til.domain.dto.card.CardShiftRequest;
+import gon.til.domain.dto.kanbancolumn.KanbanColumnResponse;
+import gon.til.domain.dto.kanbancolumn.KanbanColumnWipLimitRequest;
+import gon.til.domain.dto.project.ProjectCreateRequest;
+import gon.til.domain.dto.user.UserSignupRequest;
+import gon.til.domain.entity.KanbanColumn;
+import gon.til.domain.repository.KanbanColumnRepository;
+import gon.til.domain.service.CardService;
+import gon.til.global.exception.GlobalErrorCode;
+import gon.til.global.exception.GlobalException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 동시에 여러 요청이 커밋되어야 하므로 @Transactional 없이 실행하고, 끝나면 프로젝트를 삭제합니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("KanbanColumn WIP 제한 통합 테스트")
+public class KanbanColumnWipLimitIntegrationTest {
+
+    private static final int WIP_LIMIT = 3;
+    private static final int CARD_COUNT = 10;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CardService cardService;
+
+    @Autowired
+    private KanbanColumnRepository kanbanColumnRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private String token;
+    private Long userId;
+    private Long projectId;
+    private Long todoColumnId;
+    private Long inProgressColumnId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // 커밋된 데이터가 다른 테스트와 겹치지 않도록 매번 새 사용자로 실행
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        String email = "wip" + suffix + "@example.com";
+        UserSignupRequest signupRequest = new UserSignupRequest("wip" + suffix, email, "password123");
+        MvcResult signupResult = mockMvc.perform(post("/api/v1/users/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(signupRequest)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        userId = objectMapper.readTree(signupResult.getResponse().getContentAsString()).get("id").asLong();
+
+        Map<String, String> loginRequest = new HashMap<>();
+        loginRequest.put("email", email);
+        loginRequest.put("password", "password123");
+
+        MvcResult loginResult = mockMvc.perform(post("/api/v1/users/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(status().isOk())
+                .andReturn();
+        token = "Bearer " + objectMapper.readTree(loginResult.getResponse().getContentAsString()).get("token").asText();
+
+        ProjectCreateRequest createRequest = new ProjectCreateRequest("WIP Test Project", "설명", "BE");
+        MvcResult createResult = mockMvc.perform(post("/api/v1/projects")
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createRequest)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        String projectResponse = createResult.getResponse().getContentAsString();
+        projectId = objectMapper.readTree(projectResponse).get("id").asLong();
+        Long boardId = objectMapper.readTree(projectResponse).get("mainBoardId").asLong();
+
+        MvcResult columnsResult = mockMvc.perform(get("/api/v1/kanban-columns/boards/" + boardId)
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andReturn();
+        List<KanbanColumnResponse> columns = objectMapper.readValue(
+                columnsResult.getResponse().getContentAsString(), new TypeReference<List<KanbanColumnResponse>>() {});
+        todoColumnId = columns.get(0).getId();
+        inProgressColumnId = columns.get(1).getId();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        mockMvc.perform(delete("/api/v1/projects/" + projectId)
+                .header("Authorization", token));
+    }
+
+    @Test
+    @DisplayName("WIP 제한 설정 후 초과 이동은 409")
+    void wipLimitExceeded_Conflict() throws Exception {
+        updateWipLimit(inProgressColumnId, 1);
+        Long firstCardId = createCard(todoColumnId);
+        Long secondCardId = createCard(todoColumnId);
+
+        mockMvc.perform(patch("/api/v1/cards/" + firstCardId + "/shift")
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CardShiftRequest(inProgressColumnId, 1))))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(patch("/api/v1/cards/" + secondCardId + "/shift")
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CardShiftRequest(inProgressColumnId, 1))))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code", is(409)));
+    }
+
+    @Test
+    @DisplayName("동시에 이동해도 WIP 제한을 넘지 않음")
+    void parallelMoves_RespectWipLimit() throws Exception {
+        updateWipLimit(inProgressColumnId, WIP_LIMIT);
+        List<Long> cardIds = new ArrayList<>();
+        for (int i = 0; i < CARD_COUNT; i++) {
+            cardIds.add(createCard(todoColumnId));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(CARD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger moved = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        for (Long cardId : cardIds) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    cardService.shiftCard(cardId, userId, new CardShiftRequest(inProgressColumnId, 1));
+                    moved.incrementAndGet();
+                } catch (GlobalException e) {
+                    if (e.getGlobalErrorCode() == GlobalErrorCode.WIP_LIMIT_EXCEEDED) {
+                        rejected.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(moved.get()).isEqualTo(WIP_LIMIT);
+        assertThat(rejected.get()).isEqualTo(CARD_COUNT - WIP_LIMIT);
+        assertThat(kanbanColumnRepository.findById(inProgressColumnId).orElseThrow().getCardCount()).isEqualTo(WIP_LIMIT);
+        assertThat(kanbanColumnRepository.findById(todoColumnId).orElseThrow().getCardCount()).isEqualTo(CARD_COUNT - WIP_LIMIT);
+    }
+
+    @Test
+    @DisplayName("카드 수 UPDATE 는 앞선 엔티티 변경을 먼저 반영하고, 끝나면 낡은 컬럼을 영속성 컨텍스트에서 비움")
+    void cardCountUpdate_FlushesBeforeAndClearsAfter() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            KanbanColumn column = kanbanColumnRepository.findById(todoColumnId).orElseThrow();
+            column.updateColumn("바뀐 제목");
+
+            assertThat(kanbanColumnRepository.incrementCardCount(todoColumnId)).isEqualTo(1);
+
+            // 다시 읽으면 UPDATE 결과가 보이고, UPDATE 전에 바꾼 제목도 사라지지 않음
+            KanbanColumn reloaded = kanbanColumnRepository.findById(todoColumnId).orElseThrow();
+            assertThat(reloaded).isNotSameAs(column);
+            assertThat(reloaded.getCardCount()).isEqualTo(1);
+            assertThat(reloaded.getTitle()).isEqualTo("바뀐 제목");
+        });
+    }
+
+    private void updateWipLimit(Long columnId, int wipLimit) throws Exception {
+        mockMvc.perform(patch("/api/v1/kanban-columns/" + columnId + "/wip-limit")
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new KanbanColumnWipLimitRequest(wipLimit))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.wipLimit", is(wipLimit)));
+    }
+
+    private Long createCard(Long columnId) throws Exception {
+        CardCreateRequest cardCreateRequest = new CardCreateRequest(columnId, "WIP 카드", "내용");
+
+        MvcResult createCardResult = mockMvc.perform(post("/api/v1/cards/columns/" + columnId)
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(cardCreateRequest)))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        return objectMapper.readTree(createCardResult.getResponse().getContentAsString()).get("id").asLong();
+    }
+}
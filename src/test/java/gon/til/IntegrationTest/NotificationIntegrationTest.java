@@ -0,0 +1,184 @@
+package gon.til.IntegrationTest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gon.til.domain.dto.notification.NotificationReadRequest;
+import gon.til.domain.dto.user.UserSignupRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 알림함 통합 테스트
+ * - NotificationWriter 는 별도 트랜잭션으로 저장하므로, 여기서는 같은 모양의 행을 테스트 트랜잭션 안에서 직접 넣습니다.
+ *   (저장 경로는 NotificationWriterIntegrationTest)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@DisplayName("Notification 통합 테스트")
+public class NotificationIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String token;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        UserSignupRequest signupRequest = new UserSignupRequest("inboxUser", "inbox@example.com", "password123");
+        MvcResult signupResult = mockMvc.perform(post("/api/v1/users/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(signupRequest)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        userId = objectMapper.readTree(signupResult.getResponse().getContentAsString()).get("id").asLong();
+
+        Map<String, String> loginRequest = new HashMap<>();
+        loginRequest.put("email", "inbox@example.com");
+        loginRequest.put("password", "password123");
+        MvcResult loginResult = mockMvc.perform(post("/api/v1/users/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(status().isOk())
+                .andReturn();
+        token = "Bearer " + objectMapper.readTree(loginResult.getResponse().getContentAsString()).get("token").asText();
+    }
+
+    @Test
+    @DisplayName("커서로 최근 알림부터 겹치지 않게 넘기고, 마지막 페이지는 nextCursor 가 없음")
+    void getNotifications_cursorPagination() throws Exception {
+        insertNotifications(userId, 5);
+        insertNotifications(-1L, 3);    // 다른 사용자의 알림은 보이지 않음
+
+        JsonNode first = getPage(null, 2);
+        assertThat(first.get("notifications")).hasSize(2);
+        assertThat(first.get("unreadCount").asInt()).isEqualTo(5);
+        assertThat(first.get("notifications").get(0).get("message").asText()).isEqualTo("알림 5");
+
+        List<String> messages = new ArrayList<>();
+        JsonNode page = first;
+        while (true) {
+            page.get("notifications").forEach(n -> messages.add(n.get("message").asText()));
+            if (page.get("nextCursor").isNull()) {
+                break;
+            }
+            page = getPage(page.get("nextCursor").asLong(), 2);
+        }
+        assertThat(messages).containsExactly("알림 5", "알림 4", "알림 3", "알림 2", "알림 1");
+    }
+
+    @Test
+    @DisplayName("선택한 알림 읽음 처리 - 이미 읽은 알림과 다른 사용자의 알림은 안 읽은 수에 영향 없음")
+    void markAsRead_decrementsOnce() throws Exception {
+        List<Long> ids = insertNotifications(userId, 3);
+        List<Long> otherIds = insertNotifications(-1L, 1);
+
+        readNotifications(List.of(ids.get(0), ids.get(1), otherIds.get(0)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.unreadCount", is(1)));
+        readNotifications(List.of(ids.get(0)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.unreadCount", is(1)));
+
+        mockMvc.perform(get("/api/v1/notifications")
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.notifications[0].read", is(false)))
+                .andExpect(jsonPath("$.notifications[2].read", is(true)));
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT unread_count FROM notification_counters WHERE user_id = -1", Integer.class)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("모두 읽음 처리하면 안 읽은 수가 0")
+    void markAllAsRead() throws Exception {
+        insertNotifications(userId, 3);
+
+        mockMvc.perform(post("/api/v1/notifications/read-all")
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.unreadCount", is(0)));
+
+        mockMvc.perform(get("/api/v1/notifications/unread-count")
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.unreadCount", is(0)));
+    }
+
+    @Test
+    @DisplayName("알림이 없으면 빈 목록과 안 읽은 수 0")
+    void getNotifications_empty() throws Exception {
+        mockMvc.perform(get("/api/v1/notifications")
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.notifications", hasSize(0)))
+                .andExpect(jsonPath("$.nextCursor", nullValue()))
+                .andExpect(jsonPath("$.unreadCount", is(0)));
+    }
+
+    @Test
+    @DisplayName("읽음 처리할 알림을 보내지 않으면 400")
+    void markAsRead_emptyIds_BadRequest() throws Exception {
+        readNotifications(List.of()).andExpect(status().isBadRequest());
+    }
+
+    // NotificationWriter 와 같은 모양으로 알림과 안 읽은 수를 넣고, 넣은 순서대로 id 를 반환합니다.
+    private List<Long> insertNotifications(Long recipientId, int count) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int i = 1; i <= count; i++) {
+            jdbcTemplate.update("INSERT INTO notifications (user_id, type, message, created_at) VALUES (?, 'REVIEW_DUE', ?, ?)",
+                    recipientId, "알림 " + i, now);
+        }
+        jdbcTemplate.update("INSERT INTO notification_counters (user_id, unread_count) VALUES (?, ?)", recipientId, count);
+        return jdbcTemplate.queryForList("SELECT id FROM notifications WHERE user_id = ? ORDER BY id", Long.class, recipientId);
+    }
+
+    private JsonNode getPage(Long cursor, int size) throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/notifications")
+                        .header("Authorization", token)
+                        .param("size", String.valueOf(size))
+                        .param("cursor", cursor == null ? "" : cursor.toString()))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString());
+    }
+
+    private ResultActions readNotifications(List<Long> ids) throws Exception {
+        return mockMvc.perform(post("/api/v1/notifications/read")
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new NotificationReadRequest(ids))));
+    }
+}
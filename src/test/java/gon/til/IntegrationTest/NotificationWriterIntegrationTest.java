@@ -0,0 +1,151 @@
+package gon.til.IntegrationTest;
+
+import gon.til.domain.common.NotificationType;
+import gon.til.domain.entity.Board;
+import gon.til.domain.entity.Card;
+import gon.til.domain.entity.KanbanColumn;
+import gon.til.domain.entity.Project;
+import gon.til.domain.event.CardActivityEvent;
+import gon.til.domain.event.CardReminderEvent;
+import gon.til.domain.event.ReviewDueEvent;
+import gon.til.domain.service.NotificationWriter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * NotificationWriter 저장 경로 통합 테스트
+ * - 저장은 별도 트랜잭션에서 커밋되므로 이 테스트는 트랜잭션으로 감싸지 않고, 음수 id 로 넣은 행을 끝날 때 지웁니다.
+ */
+@SpringBootTest(properties = "til.notifications.flush-interval-ms=3600000")
+@DisplayName("NotificationWriter 통합 테스트")
+public class NotificationWriterIntegrationTest {
+
+    private static final long OWNER_ID = -201L;
+    private static final long ACTOR_ID = -202L;
+    private static final long PROJECT_ID = -201L;
+    private static final long BOARD_ID = -201L;
+
+    @Autowired
+    private NotificationWriter notificationWriter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        jdbcTemplate.update("INSERT INTO users (id, display_name, email) VALUES (?, 'owner', 'writer-owner@example.com')", OWNER_ID);
+        jdbcTemplate.update("INSERT INTO projects (id, title, user_id) VALUES (?, '공유 프로젝트', ?)", PROJECT_ID, OWNER_ID);
+        jdbcTemplate.update("INSERT INTO boards (id, title, project_id) VALUES (?, '보드', ?)", BOARD_ID, PROJECT_ID);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM notifications WHERE user_id IN (?, ?)", OWNER_ID, ACTOR_ID);
+        jdbcTemplate.update("DELETE FROM notification_counters WHERE user_id IN (?, ?)", OWNER_ID, ACTOR_ID);
+        jdbcTemplate.update("DELETE FROM boards WHERE id = ?", BOARD_ID);
+        jdbcTemplate.update("DELETE FROM projects WHERE id = ?", PROJECT_ID);
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", OWNER_ID);
+    }
+
+    @Test
+    @DisplayName("리스너는 버퍼에만 넣고, flush 할 때 한 번에 저장하며 안 읽은 수를 늘림")
+    void flush_writesBufferedNotifications() {
+        notificationWriter.onCardReminder(new CardReminderEvent(OWNER_ID, 1L, "마감 카드", LocalDateTime.of(2026, 3, 2, 18, 0)));
+        notificationWriter.onReviewDue(new ReviewDueEvent(OWNER_ID, List.of(1L, 2L)));
+        assertThat(count(OWNER_ID)).isZero();
+
+        notificationWriter.flush();
+
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+            "SELECT type, message FROM notifications WHERE user_id = ? ORDER BY id", OWNER_ID);
+        assertThat(rows).extracting(row -> row.get("TYPE"))
+            .containsExactly(NotificationType.CARD_DUE.name(), NotificationType.REVIEW_DUE.name());
+        assertThat((String) rows.get(0).get("MESSAGE")).contains("마감 카드").contains("3/2 18:00");
+        assertThat(unreadCount(OWNER_ID)).isEqualTo(2);
+
+        // 이미 있는 안 읽은 수에 더함
+        notificationWriter.onReviewDue(new ReviewDueEvent(OWNER_ID, List.of(3L)));
+        notificationWriter.flush();
+        assertThat(unreadCount(OWNER_ID)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("이미 있는 안 읽은 수 행에는 upsert 로 더함")
+    void flush_incrementsExistingCounter() {
+        jdbcTemplate.update("INSERT INTO notification_counters (user_id, unread_count) VALUES (?, 5)", OWNER_ID);
+
+        notificationWriter.onReviewDue(new ReviewDueEvent(OWNER_ID, List.of(1L)));
+        notificationWriter.onCardReminder(new CardReminderEvent(OWNER_ID, 1L, "마감 카드", null));
+        notificationWriter.flush();
+
+        assertThat(unreadCount(OWNER_ID)).isEqualTo(7);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM notification_counters WHERE user_id = ?", Integer.class, OWNER_ID)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("저장에 실패한 배치는 알림과 안 읽은 수 모두 남기지 않고, 다음 flush 에서 한 번만 다시 저장")
+    void flush_retriesFailedBatch() {
+        notificationWriter.onReviewDue(new ReviewDueEvent(OWNER_ID, List.of(1L)));
+
+        // 안 읽은 수 upsert 가 실패하도록 잠깐 테이블 이름을 바꿈
+        jdbcTemplate.execute("ALTER TABLE notification_counters RENAME TO notification_counters_off");
+        try {
+            notificationWriter.flush();
+        } finally {
+            jdbcTemplate.execute("ALTER TABLE notification_counters_off RENAME TO notification_counters");
+        }
+        assertThat(count(OWNER_ID)).isZero();
+
+        notificationWriter.onReviewDue(new ReviewDueEvent(OWNER_ID, List.of(2L)));
+        notificationWriter.flush();
+        notificationWriter.flush();
+
+        assertThat(jdbcTemplate.queryForList(
+            "SELECT card_id FROM notifications WHERE user_id = ? ORDER BY id", Long.class, OWNER_ID))
+            .containsExactly(1L, 2L);
+        assertThat(unreadCount(OWNER_ID)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("보드 활동 알림은 보드 소유자에게만 가고, 소유자 본인의 활동은 알리지 않음")
+    void boardActivity_notifiesOwnerOnly() {
+        notificationWriter.onCardActivity(CardActivityEvent.moved(card(), 10L, ACTOR_ID));
+        notificationWriter.onCardActivity(CardActivityEvent.moved(card(), 10L, OWNER_ID));
+        notificationWriter.onCardActivity(CardActivityEvent.reviewed(card(), ACTOR_ID));
+
+        notificationWriter.flush();
+
+        assertThat(count(OWNER_ID)).isEqualTo(1);
+        assertThat(count(ACTOR_ID)).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT actor_id FROM notifications WHERE user_id = ?", Long.class, OWNER_ID)).isEqualTo(ACTOR_ID);
+    }
+
+    private Card card() {
+        Project project = Project.builder().id(PROJECT_ID).build();
+        Board board = Board.builder().id(BOARD_ID).project(project).build();
+        KanbanColumn column = KanbanColumn.builder().id(11L).board(board).build();
+        return Card.builder().id(1L).kanbanColumn(column).build();
+    }
+
+    private int count(long userId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notifications WHERE user_id = ?", Integer.class, userId);
+    }
+
+    private int unreadCount(long userId) {
+        return jdbcTemplate.queryForObject("SELECT unread_count FROM notification_counters WHERE user_id = ?", Integer.class, userId);
+    }
+}
@@ -0,0 +1,243 @@
+package gon.til.IntegrationTest;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gon.til.domain.dto.card.CardCreateRequest;
+import gon.til.domain.dto.cardtag.CardTagRequest;
+import gon.til.domain.dto.kanbancolumn.KanbanColumnResponse;
+import gon.til.domain.dto.project.ProjectCreateRequest;
+import gon.til.domain.dto.project.ProjectDuplicateRequest;
+import gon.til.domain.dto.tag.TagCreateRequest;
+import gon.til.domain.dto.user.UserSignupRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@DisplayName("프로젝트 일괄 삭제/보관/복제 통합 테스트")
+public class ProjectBulkIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String token;
+    private Long projectId;
+    private Long columnId;
+    private Long cardId;
+    private Long tagId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        UserSignupRequest signupRequest = new UserSignupRequest("bulkUser", "bulk@example.com", "password123");
+        mockMvc.perform(post("/api/v1/users/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(signupRequest)))
+                .andExpect(status().isCreated());
+
+        Map<String, String> loginRequest = new HashMap<>();
+        loginRequest.put("email", "bulk@example.com");
+        loginRequest.put("password", "password123");
+        MvcResult loginResult = mockMvc.perform(post("/api/v1/users/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(status().isOk())
+                .andReturn();
+        token = "Bearer " + objectMapper.readTree(loginResult.getResponse().getContentAsString()).get("token").asText();
+
+        JsonNode project = createProject("원본 프로젝트");
+        projectId = project.get("id").asLong();
+        columnId = getColumns(project.get("mainBoardId").asLong()).get(0).getId();
+
+        MvcResult cardResult = mockMvc.perform(post("/api/v1/cards/columns/" + columnId)
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CardCreateRequest(columnId, "카드", "내용"))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        cardId = objectMapper.readTree(cardResult.getResponse().getContentAsString()).get("id").asLong();
+
+        MvcResult tagResult = mockMvc.perform(post("/api/v1/tags/projects/" + projectId)
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TagCreateRequest("BE", "PASTEL_BLUE"))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        tagId = objectMapper.readTree(tagResult.getResponse().getContentAsString()).get("id").asLong();
+
+        mockMvc.perform(post("/api/v1/cards/" + cardId + "/tags")
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CardTagRequest(tagId))))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    @DisplayName("프로젝트를 지우면 카드까지 함께 휴지통으로 옮겨져 보이지 않음")
+    void deleteProject_Success() throws Exception {
+        mockMvc.perform(delete("/api/v1/projects/" + projectId)
+                        .header("Authorization", token))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/v1/projects/" + projectId)
+                        .header("Authorization", token))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/v1/cards/" + cardId)
+                        .header("Authorization", token))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/v1/projects")
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    @Test
+    @DisplayName("보관한 프로젝트는 목록에서 빠지고, 복원하면 같은 ID 로 돌아옴")
+    void archiveAndRestore_Success() throws Exception {
+        mockMvc.perform(post("/api/v1/projects/" + projectId + "/archive")
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title", is("원본 프로젝트")));
+
+        mockMvc.perform(get("/api/v1/projects")
+                        .header("Authorization", token))
+                .andExpect(jsonPath("$", hasSize(0)));
+        mockMvc.perform(get("/api/v1/cards/" + cardId)
+                        .header("Authorization", token))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/v1/projects/archived")
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id", is(projectId.intValue())));
+
+        // 보관 중에는 같은 제목을 다시 쓸 수 있고, 그동안은 복원할 수 없음
+        Long sameTitleId = createProject("원본 프로젝트").get("id").asLong();
+        mockMvc.perform(post("/api/v1/projects/archived/" + projectId + "/restore")
+                        .header("Authorization", token))
+                .andExpect(status().isConflict());
+        mockMvc.perform(delete("/api/v1/projects/" + sameTitleId)
+                        .header("Authorization", token))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(post("/api/v1/projects/archived/" + projectId + "/restore")
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", is(projectId.intValue())));
+
+        mockMvc.perform(get("/api/v1/cards/" + cardId)
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.columnId", is(columnId.intValue())))
+                .andExpect(jsonPath("$.tags", hasSize(1)))
+                .andExpect(jsonPath("$.tags[0].id", is(tagId.intValue())));
+        mockMvc.perform(get("/api/v1/projects/archived")
+                        .header("Authorization", token))
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    @Test
+    @DisplayName("보관한 프로젝트를 영구 삭제하면 복원할 수 없음")
+    void deleteArchived_Success() throws Exception {
+        mockMvc.perform(post("/api/v1/projects/" + projectId + "/archive")
+                        .header("Authorization", token))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(delete("/api/v1/projects/archived/" + projectId)
+                        .header("Authorization", token))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(post("/api/v1/projects/archived/" + projectId + "/restore")
+                        .header("Authorization", token))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("복제한 프로젝트는 새 ID 의 컬럼, 태그, 카드를 가짐")
+    void duplicateProject_Success() throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/v1/projects/" + projectId + "/duplicate")
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ProjectDuplicateRequest("사본 프로젝트"))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.title", is("사본 프로젝트")))
+                .andReturn();
+        JsonNode copy = objectMapper.readTree(result.getResponse().getContentAsString());
+        Long copyId = copy.get("id").asLong();
+
+        List<KanbanColumnResponse> columns = getColumns(copy.get("mainBoardId").asLong());
+        assertThat(columns).hasSize(4);
+        assertThat(columns.get(0).getId()).isNotEqualTo(columnId);
+        assertThat(columns.get(0).getCardCount()).isEqualTo(1);
+
+        MvcResult summaryResult = mockMvc.perform(get("/api/v1/cards/project/" + copyId + "/summary")
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].title", is("카드")))
+                .andExpect(jsonPath("$[0].columnId", is(columns.get(0).getId().intValue())))
+                .andReturn();
+        JsonNode copiedCard = objectMapper.readTree(summaryResult.getResponse().getContentAsString()).get(0);
+        assertThat(copiedCard.get("id").asLong()).isNotEqualTo(cardId);
+        assertThat(copiedCard.get("tags")).hasSize(1);
+        assertThat(copiedCard.get("tags").get(0).get("id").asLong()).isNotEqualTo(tagId);
+        assertThat(copiedCard.get("tags").get(0).get("name").asText()).isEqualTo("BE");
+
+        // 원본은 그대로
+        mockMvc.perform(get("/api/v1/cards/" + cardId)
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tags", hasSize(1)));
+    }
+
+    @Test
+    @DisplayName("같은 제목으로 복제하면 409")
+    void duplicateProject_DuplicateTitle() throws Exception {
+        mockMvc.perform(post("/api/v1/projects/" + projectId + "/duplicate")
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ProjectDuplicateRequest("원본 프로젝트"))))
+                .andExpect(status().isConflict());
+    }
+
+    private JsonNode createProject(String title) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/v1/projects")
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ProjectCreateRequest(title, "설명", "BE"))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString());
+    }
+
+    private List<KanbanColumnResponse> getColumns(Long boardId) throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/kanban-columns/boards/" + boardId)
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readValue(result.getResponse().getContentAsString(), new TypeReference<List<KanbanColumnResponse>>() {});
+    }
+}
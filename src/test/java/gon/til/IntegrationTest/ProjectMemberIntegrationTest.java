@@ -0,0 +1,166 @@
+package gon.til.IntegrationTest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gon.til.domain.common.ProjectRole;
+import gon.til.domain.dto.member.ProjectMemberRequest;
+import gon.til.domain.dto.project.ProjectCreateRequest;
+import gon.til.domain.dto.project.ProjectUpdateRequest;
+import gon.til.domain.dto.tag.TagCreateRequest;
+import gon.til.domain.dto.user.UserSignupRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 프로젝트 공유 통합 테스트
+ * - 테스트 트랜잭션은 커밋되지 않아 ProjectAccessCache 무효화 이벤트가 오지 않으므로, 멤버마다 역할을 한 번만 정합니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@DisplayName("ProjectMember 통합 테스트")
+public class ProjectMemberIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String ownerToken;
+    private String viewerToken;
+    private String editorToken;
+    private String strangerToken;
+    private Long projectId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ownerToken = signupAndLogin("shareOwner", "share-owner@example.com");
+        viewerToken = signupAndLogin("shareViewer", "share-viewer@example.com");
+        editorToken = signupAndLogin("shareEditor", "share-editor@example.com");
+        strangerToken = signupAndLogin("shareStranger", "share-stranger@example.com");
+
+        MvcResult result = mockMvc.perform(post("/api/v1/projects")
+                        .header("Authorization", ownerToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ProjectCreateRequest("공유 프로젝트", "설명", "스터디"))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        projectId = objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asLong();
+
+        addMember(ownerToken, "share-viewer@example.com", ProjectRole.VIEWER);
+        addMember(ownerToken, "share-editor@example.com", ProjectRole.EDITOR);
+    }
+
+    @Test
+    @DisplayName("VIEWER 는 프로젝트와 태그를 읽을 수 있고 목록에도 보이지만, 수정하면 403")
+    void viewer_canReadButNotEdit() throws Exception {
+        mockMvc.perform(get("/api/v1/projects/{projectId}", projectId)
+                        .header("Authorization", viewerToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title", is("공유 프로젝트")));
+        mockMvc.perform(get("/api/v1/projects")
+                        .header("Authorization", viewerToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].id", hasItem(projectId.intValue())));
+        mockMvc.perform(get("/api/v1/tags/projects/{projectId}", projectId)
+                        .header("Authorization", viewerToken))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/v1/tags/projects/{projectId}", projectId)
+                        .header("Authorization", viewerToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TagCreateRequest("Java", "RED"))))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(put("/api/v1/projects/{projectId}", projectId)
+                        .header("Authorization", viewerToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ProjectUpdateRequest("바꾼 이름", "", ""))))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("EDITOR 는 태그를 만들 수 있지만 멤버를 관리하거나 프로젝트를 지우면 403")
+    void editor_canEditButNotManage() throws Exception {
+        mockMvc.perform(post("/api/v1/tags/projects/{projectId}", projectId)
+                        .header("Authorization", editorToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TagCreateRequest("Java", "RED"))))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(post("/api/v1/projects/{projectId}/members", projectId)
+                        .header("Authorization", editorToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new ProjectMemberRequest("share-stranger@example.com", ProjectRole.VIEWER))))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(delete("/api/v1/projects/{projectId}", projectId)
+                        .header("Authorization", editorToken))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("멤버 목록은 멤버만 볼 수 있고, 같은 사용자를 두 번 추가하면 409")
+    void members_listAndDuplicate() throws Exception {
+        mockMvc.perform(get("/api/v1/projects/{projectId}/members", projectId)
+                        .header("Authorization", viewerToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].role", is("VIEWER")))
+                .andExpect(jsonPath("$[1].role", is("EDITOR")));
+        mockMvc.perform(get("/api/v1/projects/{projectId}/members", projectId)
+                        .header("Authorization", strangerToken))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(post("/api/v1/projects/{projectId}/members", projectId)
+                        .header("Authorization", ownerToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new ProjectMemberRequest("share-viewer@example.com", ProjectRole.EDITOR))))
+                .andExpect(status().isConflict());
+    }
+
+    // ===== private 헬퍼 메서드들 =====
+
+    private void addMember(String token, String email, ProjectRole role) throws Exception {
+        mockMvc.perform(post("/api/v1/projects/{projectId}/members", projectId)
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ProjectMemberRequest(email, role))))
+                .andExpect(status().isCreated());
+    }
+
+    private String signupAndLogin(String name, String email) throws Exception {
+        mockMvc.perform(post("/api/v1/users/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new UserSignupRequest(name, email, "password123"))))
+                .andExpect(status().isCreated());
+
+        Map<String, String> loginRequest = new HashMap<>();
+        loginRequest.put("email", email);
+        loginRequest.put("password", "password123");
+        MvcResult loginResult = mockMvc.perform(post("/api/v1/users/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(status().isOk())
+                .andReturn();
+        return "Bearer " + objectMapper.readTree(loginResult.getResponse().getContentAsString()).get("token").asText();
+    }
+}
@@ -0,0 +1,250 @@
+package gon.til.IntegrationTest;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import gon.til.domain.dto.card.CardCreateRequest;
+import gon.til.domain.dto.cardtag.CardTagRequest;
+import gon.til.domain.dto.kanbancolumn.KanbanColumnResponse;
+import gon.til.domain.dto.project.ProjectCreateRequest;
+import gon.til.domain.dto.tag.TagCreateRequest;
+import gon.til.domain.dto.user.UserSignupRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 가져오기는 청크마다 직접 커밋하므로 @Transactional 없이 실행하고, 끝나면 만든 프로젝트를 삭제합니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("ProjectTransfer 통합 테스트")
+public class ProjectTransferIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String token;
+    private String suffix;
+    private Long projectId;
+    private Long todoColumnId;
+    private final List<Long> createdProjectIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // 커밋된 데이터가 다른 테스트와 겹치지 않도록 매번 새 사용자로 실행
+        suffix = UUID.randomUUID().toString().substring(0, 8);
+        String email = "transfer" + suffix + "@example.com";
+        UserSignupRequest signupRequest = new UserSignupRequest("tr" + suffix, email, "password123");
+        mockMvc.perform(post("/api/v1/users/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(signupRequest)))
+                .andExpect(status().isCreated());
+
+        Map<String, String> loginRequest = new HashMap<>();
+        loginRequest.put("email", email);
+        loginRequest.put("password", "password123");
+
+        MvcResult loginResult = mockMvc.perform(post("/api/v1/users/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(status().isOk())
+                .andReturn();
+        token = "Bearer " + objectMapper.readTree(loginResult.getResponse().getContentAsString()).get("token").asText();
+
+        ProjectCreateRequest createRequest = new ProjectCreateRequest("Transfer Project", "설명", "BE");
+        MvcResult createResult = mockMvc.perform(post("/api/v1/projects")
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createRequest)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        String projectResponse = createResult.getResponse().getContentAsString();
+        projectId = objectMapper.readTree(projectResponse).get("id").asLong();
+        createdProjectIds.add(projectId);
+        Long boardId = objectMapper.readTree(projectResponse).get("mainBoardId").asLong();
+
+        MvcResult columnsResult = mockMvc.perform(get("/api/v1/kanban-columns/boards/" + boardId)
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andReturn();
+        List<KanbanColumnResponse> columns = objectMapper.readValue(
+                columnsResult.getResponse().getContentAsString(), new TypeReference<List<KanbanColumnResponse>>() {});
+        todoColumnId = columns.get(0).getId();
+
+        MvcResult tagResult = mockMvc.perform(post("/api/v1/tags/projects/" + projectId)
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TagCreateRequest("tag" + suffix, "PASTEL_BLUE"))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        Long tagId = objectMapper.readTree(tagResult.getResponse().getContentAsString()).get("id").asLong();
+
+        Long taggedCardId = createCard(todoColumnId, "태그 카드", "쉼표, \"따옴표\" 포함");
+        createCard(todoColumnId, "일반 카드", "내용");
+        mockMvc.perform(post("/api/v1/cards/" + taggedCardId + "/tags")
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CardTagRequest(tagId))))
+                .andExpect(status().isCreated());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (Long id : createdProjectIds) {
+            mockMvc.perform(delete("/api/v1/projects/" + id)
+                    .header("Authorization", token));
+        }
+    }
+
+    @Test
+    @DisplayName("내보낸 JSON 을 다시 가져오면 같은 구조의 새 프로젝트가 생김")
+    void exportAndImport_RoundTrip() throws Exception {
+        JsonNode exported = exportProject();
+        assertThat(exported.get("columns")).hasSize(4);
+        assertThat(exported.get("tags")).hasSize(1);
+        assertThat(exported.get("cards")).hasSize(2);
+        assertThat(exported.get("cards").get(0).get("tagIds")).hasSize(1);
+
+        // 같은 사용자의 프로젝트 이름은 겹칠 수 없어서 바꿔서 가져옴 (태그 이름은 프로젝트마다 따로)
+        ((ObjectNode) exported.get("project")).put("title", "Imported Project");
+
+        MvcResult importResult = mockMvc.perform(post("/api/v1/projects/import")
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(exported)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.columnCount", is(3)))
+                .andExpect(jsonPath("$.tagCount", is(1)))
+                .andExpect(jsonPath("$.cardCount", is(2)))
+                .andReturn();
+        Long importedProjectId = objectMapper.readTree(importResult.getResponse().getContentAsString()).get("projectId").asLong();
+        createdProjectIds.add(0, importedProjectId);
+
+        assertThat(importedProjectId).isNotEqualTo(projectId);
+        mockMvc.perform(get("/api/v1/cards/project/" + importedProjectId)
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)));
+
+        JsonNode reExported = exportProject(importedProjectId);
+        assertThat(reExported.get("cards").get(0).get("tagIds").get(0).asLong())
+                .isEqualTo(reExported.get("tags").get(0).get("id").asLong());
+    }
+
+    @Test
+    @DisplayName("카드 목록 CSV 내보내기")
+    void exportCardsCsv_Success() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/projects/" + projectId + "/export/cards")
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        String csv = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        String[] lines = csv.split("\r\n");
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).isEqualTo("id,column,title,content,position,tags,created_at");
+        assertThat(lines[1]).contains("\"쉼표, \"\"따옴표\"\" 포함\"").contains("tag" + suffix);
+    }
+
+    @Test
+    @DisplayName("수식으로 시작하는 값은 앞에 ' 를 붙여 CSV 로 내보냄")
+    void exportCardsCsv_FormulaEscaped() throws Exception {
+        createCard(todoColumnId, "=HYPERLINK(\"http://evil\")", "@SUM(1+1)");
+
+        MvcResult result = mockMvc.perform(get("/api/v1/projects/" + projectId + "/export/cards")
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        String csv = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertThat(csv).contains(",\"'=HYPERLINK(\"\"http://evil\"\")\",'@SUM(1+1),");
+        assertThat(csv).doesNotContain(",=HYPERLINK").doesNotContain(",@SUM");
+    }
+
+    @Test
+    @DisplayName("허용되지 않는 태그 색상은 가져오기 실패, 프로젝트도 남지 않음")
+    void importInvalidColor_BadRequest() throws Exception {
+        JsonNode exported = exportProject();
+        ((ObjectNode) exported.get("project")).put("title", "Invalid Project");
+        ((ObjectNode) exported.get("tags").get(0)).put("color", "NEON");
+
+        mockMvc.perform(post("/api/v1/projects/import")
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(exported)))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/v1/projects")
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)));
+    }
+
+    @Test
+    @DisplayName("알 수 없는 컬럼을 가리키는 카드가 있으면 가져오기 실패")
+    void importUnknownColumn_BadRequest() throws Exception {
+        JsonNode exported = exportProject();
+        ((ObjectNode) exported.get("project")).put("title", "Broken Project");
+        ((ObjectNode) exported.get("cards").get(1)).put("columnId", -1L);
+
+        mockMvc.perform(post("/api/v1/projects/import")
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(exported)))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/v1/projects")
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)));
+    }
+
+    private JsonNode exportProject() throws Exception {
+        return exportProject(projectId);
+    }
+
+    private JsonNode exportProject(Long id) throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/projects/" + id + "/export")
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString(StandardCharsets.UTF_8));
+    }
+
+    private Long createCard(Long columnId, String title, String content) throws Exception {
+        MvcResult createCardResult = mockMvc.perform(post("/api/v1/cards/columns/" + columnId)
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CardCreateRequest(columnId, title, content))))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        return objectMapper.readTree(createCardResult.getResponse().getContentAsString()).get("id").asLong();
+    }
+}
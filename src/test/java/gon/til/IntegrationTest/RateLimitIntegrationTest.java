@@ -0,0 +1,157 @@
+package gon.til.IntegrationTest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gon.til.domain.dto.project.ProjectCreateRequest;
+import gon.til.domain.dto.user.UserSignupRequest;
+import gon.til.global.ratelimit.AdmissionController;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 쓰기 한도를 2 로 줄이고(100초에 한 개씩 채움) 사용자마다 새로 가입해서 실행합니다.
+ */
+@SpringBootTest(properties = {
+    "til.rate-limit.write.capacity=2",
+    "til.rate-limit.write.refill-per-second=0.01",
+    "til.admission.max-concurrent=4",
+    "til.admission.max-wait=10ms"
+})
+@AutoConfigureMockMvc
+@DisplayName("요청 한도 통합 테스트")
+public class RateLimitIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private AdmissionController admissionController;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private String token;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        String email = "limit" + suffix + "@example.com";
+        mockMvc.perform(post("/api/v1/users/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new UserSignupRequest("lm" + suffix, email, "password123"))))
+                .andExpect(status().isCreated());
+
+        Map<String, String> loginRequest = new HashMap<>();
+        loginRequest.put("email", email);
+        loginRequest.put("password", "password123");
+        MvcResult loginResult = mockMvc.perform(post("/api/v1/users/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(status().isOk())
+                .andReturn();
+        token = "Bearer " + objectMapper.readTree(loginResult.getResponse().getContentAsString()).get("token").asText();
+    }
+
+    @Test
+    @DisplayName("쓰기 한도를 넘으면 429 와 Retry-After, 읽기는 따로 허용")
+    void writeBudgetExceeded_Returns429() throws Exception {
+        double rejectedBefore = rejectedWrites();
+
+        createProject("첫 번째").andExpect(status().isCreated());
+        createProject("두 번째").andExpect(status().isCreated());
+        createProject("세 번째")
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"))
+                .andExpect(jsonPath("$.code", is(429)));
+
+        mockMvc.perform(get("/api/v1/projects")
+                        .header("Authorization", token))
+                .andExpect(status().isOk());
+        assertThat(rejectedWrites()).isEqualTo(rejectedBefore + 1);
+    }
+
+    @Test
+    @DisplayName("동시 처리 자리가 없으면 503 으로 거절")
+    void admissionFull_Returns503() throws Exception {
+        int taken = 0;
+        try {
+            while (admissionController.tryEnter()) {
+                taken++;
+            }
+
+            mockMvc.perform(get("/api/v1/projects")
+                            .header("Authorization", token))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string("Retry-After", "1"))
+                    .andExpect(jsonPath("$.code", is(503)));
+        } finally {
+            for (int i = 0; i < taken; i++) {
+                admissionController.exit();
+            }
+        }
+
+        assertThat(taken).isEqualTo(4);
+        mockMvc.perform(get("/api/v1/projects")
+                        .header("Authorization", token))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("첨부파일 다운로드처럼 본문 전송이 긴 요청은 동시 처리 자리를 쓰지 않음")
+    void admissionFull_StreamingEndpointNotRejected() throws Exception {
+        int taken = 0;
+        try {
+            while (admissionController.tryEnter()) {
+                taken++;
+            }
+
+            mockMvc.perform(get("/api/v1/attachments/999999")
+                            .header("Authorization", token))
+                    .andExpect(status().isNotFound());
+        } finally {
+            for (int i = 0; i < taken; i++) {
+                admissionController.exit();
+            }
+        }
+    }
+
+    // ===== 헬퍼 =====
+
+    private ResultActions createProject(String title) throws Exception {
+        return mockMvc.perform(post("/api/v1/projects")
+                .header("Authorization", token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new ProjectCreateRequest(title, "설명", "BE"))));
+    }
+
+    private double rejectedWrites() {
+        return meterRegistry.get("til.rate_limit.requests")
+                .tag("budget", "write")
+                .tag("outcome", "rejected")
+                .counter()
+                .count();
+    }
+}
@@ -0,0 +1,126 @@
+package gon.til.IntegrationTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import gon.til.global.datasource.ReplicaLagMonitor;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import javax.sql.DataSource;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 프라이머리/복제본 라우팅 통합 테스트
+ * - H2 메모리 DB 두 개를 프라이머리와 복제본으로 사용합니다. (복제는 되지 않으므로 복제본에만 표식 행을 넣어 구분)
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=" + ReplicaRoutingIntegrationTest.PRIMARY_URL,
+    "til.datasource.replica.enabled=true",
+    "til.datasource.replica.url=" + ReplicaRoutingIntegrationTest.REPLICA_URL,
+    "til.datasource.replica.lag-check-interval-ms=3600000",
+    "til.datasource.replica.max-lag=5s",
+    "til.datasource.replica.sticky-window=300ms"
+})
+@DisplayName("DataSource 라우팅 통합 테스트")
+public class ReplicaRoutingIntegrationTest {
+
+    static final String PRIMARY_URL = "jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1";
+    private static final String MARKER_EMAIL = "replica-only@example.com";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    private JdbcTemplate jdbcTemplate;
+    private JdbcTemplate replicaJdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        Flyway.configure().dataSource(REPLICA_URL, "sa", "").load().migrate();
+        replicaJdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+        replicaJdbcTemplate.update("DELETE FROM users WHERE email = ?", MARKER_EMAIL);
+        replicaJdbcTemplate.update("INSERT INTO users (display_name, email, password) VALUES ('replica', ?, 'x')", MARKER_EMAIL);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        replicateHeartbeat(LocalDateTime.now());
+        replicaLagMonitor.check();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제본, 쓰기 트랜잭션은 프라이머리")
+    void readOnlyGoesToReplica() {
+        assertThat(replicaLagMonitor.isReplicaAvailable()).isTrue();
+        assertThat(readsFromReplica(true)).isTrue();
+        assertThat(readsFromReplica(false)).isFalse();
+    }
+
+    @Test
+    @DisplayName("복제본 지연이 max-lag 를 넘으면 읽기도 프라이머리")
+    void laggingReplicaFallsBackToPrimary() {
+        replicateHeartbeat(LocalDateTime.now().minusMinutes(1));
+        replicaLagMonitor.check();
+
+        assertThat(replicaLagMonitor.isReplicaAvailable()).isFalse();
+        assertThat(readsFromReplica(true)).isFalse();
+    }
+
+    @Test
+    @DisplayName("쓰기를 커밋한 사용자는 sticky-window 동안 프라이머리에서 읽음")
+    void readYourWrites() throws InterruptedException {
+        authenticate("writer@example.com");
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+            jdbcTemplate.update("UPDATE replication_heartbeat SET beat_at = beat_at WHERE id = 1"));
+
+        assertThat(readsFromReplica(true)).isFalse();
+
+        // 다른 사용자는 영향 없음
+        authenticate("reader@example.com");
+        assertThat(readsFromReplica(true)).isTrue();
+
+        // 창이 지나면 다시 복제본
+        authenticate("writer@example.com");
+        Thread.sleep(400);
+        assertThat(readsFromReplica(true)).isTrue();
+    }
+
+    // 복제본에만 있는 표식 행이 보이면 복제본에서 읽은 것
+    private boolean readsFromReplica(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        Integer count = template.execute(status ->
+            jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users WHERE email = ?", Integer.class, MARKER_EMAIL));
+        return count != null && count == 1;
+    }
+
+    private void replicateHeartbeat(LocalDateTime beatAt) {
+        replicaJdbcTemplate.update("UPDATE replication_heartbeat SET beat_at = ? WHERE id = 1", Timestamp.valueOf(beatAt));
+    }
+
+    private void authenticate(String name) {
+        SecurityContextHolder.getContext().setAuthentication(
+            UsernamePasswordAuthenticationToken.authenticated(name, null, List.of()));
+    }
+}
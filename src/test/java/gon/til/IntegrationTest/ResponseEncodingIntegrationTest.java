@@ -0,0 +1,175 @@
+package gon.til.IntegrationTest;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import gon.til.domain.dto.card.CardCreateRequest;
+import gon.til.domain.dto.kanbancolumn.KanbanColumnResponse;
+import gon.til.domain.dto.project.ProjectCreateRequest;
+import gon.til.domain.dto.user.UserSignupRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 압축은 내장 톰캣에서 적용되므로 실제 포트로 띄우고 HttpClient 로 확인합니다.
+ * 데이터 준비와 CBOR 확인은 MockMvc 로 합니다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureMockMvc
+@DisplayName("응답 압축/형식 통합 테스트")
+public class ResponseEncodingIntegrationTest {
+
+    private static final int CARD_COUNT = 12;
+    private static final String LONG_CONTENT = "오늘 배운 내용을 길게 정리한 본문입니다. ".repeat(20);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String token;
+    private Long projectId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        String email = "encoding" + suffix + "@example.com";
+        mockMvc.perform(post("/api/v1/users/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new UserSignupRequest("en" + suffix, email, "password123"))))
+                .andExpect(status().isCreated());
+
+        Map<String, String> loginRequest = new HashMap<>();
+        loginRequest.put("email", email);
+        loginRequest.put("password", "password123");
+        MvcResult loginResult = mockMvc.perform(post("/api/v1/users/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(status().isOk())
+                .andReturn();
+        token = "Bearer " + objectMapper.readTree(loginResult.getResponse().getContentAsString()).get("token").asText();
+
+        MvcResult projectResult = mockMvc.perform(post("/api/v1/projects")
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ProjectCreateRequest("Encoding Project", "설명", "BE"))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        JsonNode project = objectMapper.readTree(projectResult.getResponse().getContentAsString());
+        projectId = project.get("id").asLong();
+
+        MvcResult columnsResult = mockMvc.perform(get("/api/v1/kanban-columns/boards/" + project.get("mainBoardId").asLong())
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andReturn();
+        Long columnId = objectMapper.readValue(columnsResult.getResponse().getContentAsString(),
+                new TypeReference<List<KanbanColumnResponse>>() {}).get(0).getId();
+
+        for (int i = 0; i < CARD_COUNT; i++) {
+            mockMvc.perform(post("/api/v1/cards/columns/" + columnId)
+                            .header("Authorization", token)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new CardCreateRequest(columnId, "카드 " + i, LONG_CONTENT))))
+                    .andExpect(status().isCreated());
+        }
+    }
+
+    @Test
+    @DisplayName("gzip 을 받는 클라이언트에게는 카드 목록을 압축해서 보냄")
+    void cardList_IsGzipped() throws Exception {
+        HttpResponse<byte[]> plain = send("/api/v1/cards/project/" + projectId, null);
+        HttpResponse<byte[]> gzipped = send("/api/v1/cards/project/" + projectId, "gzip");
+
+        assertThat(plain.headers().firstValue("Content-Encoding")).isEmpty();
+        assertThat(gzipped.headers().firstValue("Content-Encoding")).hasValue("gzip");
+        assertThat(gzipped.body().length).isLessThan(plain.body().length);
+
+        byte[] unzipped = new GZIPInputStream(new ByteArrayInputStream(gzipped.body())).readAllBytes();
+        assertThat(objectMapper.readTree(unzipped)).hasSize(CARD_COUNT);
+    }
+
+    @Test
+    @DisplayName("요약 조회는 본문을 빼고 보냄")
+    void summary_OmitsContent() throws Exception {
+        HttpResponse<byte[]> full = send("/api/v1/cards/project/" + projectId, null);
+        HttpResponse<byte[]> summary = send("/api/v1/cards/project/" + projectId + "/summary", null);
+
+        JsonNode cards = objectMapper.readTree(summary.body());
+        assertThat(cards).hasSize(CARD_COUNT);
+        cards.forEach(card -> {
+            assertThat(card.has("content")).isFalse();
+            assertThat(card.has("title")).isTrue();
+        });
+        assertThat(summary.body().length).isLessThan(full.body().length / 4);
+    }
+
+    @Test
+    @DisplayName("Accept: application/cbor 이면 같은 내용을 CBOR 로 보냄")
+    void cbor_WhenAccepted() throws Exception {
+        MvcResult jsonResult = mockMvc.perform(get("/api/v1/cards/project/" + projectId + "/summary")
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andReturn();
+        MvcResult cborResult = mockMvc.perform(get("/api/v1/cards/project/" + projectId + "/summary")
+                        .header("Authorization", token)
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andReturn();
+
+        byte[] cbor = cborResult.getResponse().getContentAsByteArray();
+        JsonNode fromCbor = new CBORMapper().readTree(cbor);
+        JsonNode fromJson = objectMapper.readTree(jsonResult.getResponse().getContentAsString());
+        assertThat(fromCbor).hasSize(CARD_COUNT);
+        for (int i = 0; i < CARD_COUNT; i++) {
+            assertThat(fromCbor.get(i).get("id").asLong()).isEqualTo(fromJson.get(i).get("id").asLong());
+            assertThat(fromCbor.get(i).get("title").asText()).isEqualTo(fromJson.get(i).get("title").asText());
+        }
+        assertThat(cbor.length).isLessThan(jsonResult.getResponse().getContentAsByteArray().length);
+    }
+
+    // ===== 헬퍼 =====
+
+    private HttpResponse<byte[]> send(String path, String acceptEncoding) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Authorization", token)
+                .header("Accept", MediaType.APPLICATION_JSON_VALUE);
+        if (acceptEncoding != null) {
+            request.header("Accept-Encoding", acceptEncoding);
+        }
+
+        HttpResponse<byte[]> response = HttpClient.newHttpClient().send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        assertThat(response.statusCode()).isEqualTo(200);
+        return response;
+    }
+}
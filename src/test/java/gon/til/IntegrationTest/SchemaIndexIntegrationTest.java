@@ -0,0 +1,120 @@
+package gon.til.IntegrationTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 자주 쓰는 조회가 인덱스를 타는지 H2 실행 계획(EXPLAIN)으로 확인합니다.
+ * - 인덱스를 못 쓰면 계획에 "tableScan" 이 찍힙니다.
+ */
+@SpringBootTest
+@Transactional
+@DisplayName("스키마 인덱스 통합 테스트")
+public class SchemaIndexIntegrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("프로젝트별 태그 이름 조회는 (project_id, name) 유니크 인덱스 사용")
+    void tagsByProjectAndName_usesUniqueIndex() {
+        assertUsesIndex("SELECT id FROM tags WHERE project_id = 1 AND name = 'BE'", "uk_tags_project_name");
+    }
+
+    @Test
+    @DisplayName("프로젝트별 카드 조회는 cards.project_id 인덱스 사용")
+    void cardsByProject_usesIndex() {
+        assertUsesIndex("SELECT id FROM cards WHERE project_id = 1", "idx_cards_project");
+    }
+
+    @Test
+    @DisplayName("컬럼별 카드 조회는 (kanban_column_id, position) 인덱스 사용")
+    void cardsByColumn_usesIndex() {
+        assertUsesIndex("SELECT id FROM cards WHERE kanban_column_id = 1 ORDER BY position", "idx_cards_column_position");
+    }
+
+    @Test
+    @DisplayName("보드별 컬럼 조회는 (board_id, position) 인덱스 사용")
+    void columnsByBoard_usesIndex() {
+        assertUsesIndex("SELECT id FROM columns WHERE board_id = 1 ORDER BY position", "idx_columns_board_position");
+    }
+
+    @Test
+    @DisplayName("태그가 붙은 카드 조회는 card_tags.tag_id 인덱스 사용")
+    void cardTagsByTag_usesIndex() {
+        assertUsesIndex("SELECT card_id FROM card_tags WHERE tag_id = 1", "idx_card_tags_tag");
+    }
+
+    @Test
+    @DisplayName("보낼 알림 조회는 (reminded_at, remind_at) 인덱스 사용")
+    void pendingReminders_usesIndex() {
+        assertUsesIndex("SELECT id FROM cards WHERE reminded_at IS NULL AND remind_at < TIMESTAMP '2030-01-01 00:00:00'",
+            "idx_cards_reminder");
+    }
+
+    @Test
+    @DisplayName("알림함 커서 조회는 (user_id, id) 인덱스 사용")
+    void notificationsByUserCursor_usesIndex() {
+        assertUsesIndex("SELECT id FROM notifications WHERE user_id = 1 AND id < 100 ORDER BY id DESC",
+            "idx_notifications_user");
+    }
+
+    @Test
+    @DisplayName("ACL 캐시가 놓친 역할 조회는 (project_id, user_id) 유니크 인덱스로 한 행만 읽음")
+    void projectMemberRole_usesUniqueIndex() {
+        assertUsesIndex("SELECT role FROM project_members WHERE project_id = 1 AND user_id = 2",
+            "uk_project_members_project_user");
+    }
+
+    @Test
+    @DisplayName("공유받은 프로젝트 조회는 user_id 인덱스 사용")
+    void projectMembersByUser_usesIndex() {
+        assertUsesIndex("SELECT project_id FROM project_members WHERE user_id = 2", "idx_project_members_user");
+    }
+
+    @Test
+    @DisplayName("카드 필터 목록은 (project_id, deleted_at, created_at, id) 인덱스 순서로 읽음")
+    void cardFilterPage_usesCompositeIndex() {
+        assertUsesIndex("SELECT c.id FROM cards c WHERE c.project_id = 1 AND c.deleted_at IS NULL " +
+            "AND (c.created_at < TIMESTAMP '2026-01-01 00:00:00' OR (c.created_at = TIMESTAMP '2026-01-01 00:00:00' AND c.id < 100)) " +
+            "ORDER BY c.created_at DESC, c.id DESC LIMIT 21", "idx_cards_project_created");
+        assertUsesIndex("SELECT c.id FROM cards c WHERE c.project_id = 1 AND c.deleted_at IS NULL " +
+            "ORDER BY c.updated_at DESC, c.id DESC LIMIT 21", "idx_cards_project_updated");
+    }
+
+    @Test
+    @DisplayName("카드 필터의 태그 조건(ANY/ALL)은 card_tags.tag_id 인덱스 세미 조인")
+    void cardFilterTags_semiJoinUsesIndex() {
+        String base = "SELECT c.id FROM cards c WHERE c.project_id = 1 AND c.deleted_at IS NULL " +
+            "AND c.id IN (SELECT ct.card_id FROM card_tags ct WHERE ct.tag_id IN (1, 2)";
+        assertUsesIndex(base + ")", "idx_card_tags_tag");
+        assertUsesIndex(base + " GROUP BY ct.card_id HAVING COUNT(*) = 2)", "idx_card_tags_tag");
+    }
+
+    @Test
+    @DisplayName("태그 이름은 프로젝트 안에서만 유일")
+    void tagName_uniquePerProject() {
+        jdbcTemplate.update("INSERT INTO projects (id, title) VALUES (-1, 'A'), (-2, 'B')");
+        jdbcTemplate.update("INSERT INTO tags (name, color, project_id) VALUES ('BE', '#FFADAD', -1)");
+
+        // 다른 프로젝트에서는 같은 이름 허용
+        jdbcTemplate.update("INSERT INTO tags (name, color, project_id) VALUES ('BE', '#FFADAD', -2)");
+
+        // 같은 프로젝트에서는 거부
+        assertThatThrownBy(() -> jdbcTemplate.update("INSERT INTO tags (name, color, project_id) VALUES ('BE', '#9BF6FF', -1)"))
+            .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    private void assertUsesIndex(String sql, String indexName) {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+        assertThat(plan).containsIgnoringCase(indexName).doesNotContain("tableScan");
+    }
+}
@@ -0,0 +1,107 @@
+package gon.til.IntegrationTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * 마이그레이션 통합 테스트
+ * - ddl-auto 로 만들어져 baseline 된 DB 처럼, 마이그레이션 도중에 예전 유니크 키를 붙여 두고 이후 버전을 적용합니다.
+ * - 이전 버전까지 적용한 DB 에 데이터를 넣어 두고 이후 버전의 데이터 보정을 확인합니다.
+ */
+@DisplayName("스키마 마이그레이션 통합 테스트")
+public class SchemaMigrationIntegrationTest {
+
+    private static final String URL = "jdbc:h2:mem:schema-migration;DB_CLOSE_DELAY=-1";
+
+    private static final String FLOWS_URL = "jdbc:h2:mem:schema-migration-flows;DB_CLOSE_DELAY=-1";
+    private static final String CARD_COUNT_URL = "jdbc:h2:mem:schema-migration-card-count;DB_CLOSE_DELAY=-1";
+
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(URL, "sa", ""));
+
+    @Test
+    @DisplayName("V16 - tags.name, users.created_at 단독 유니크 키는 지우고 프로젝트별 태그 이름 키는 남김")
+    void dropDdlAutoUniqueKeys() {
+        Flyway.configure().dataSource(URL, "sa", "").target("15").load().migrate();
+        jdbcTemplate.execute("ALTER TABLE tags ADD CONSTRAINT UK_legacy_tag_name UNIQUE (name)");
+        jdbcTemplate.execute("ALTER TABLE users ADD CONSTRAINT UK_legacy_created_at UNIQUE (created_at)");
+
+        Flyway.configure().dataSource(URL, "sa", "").load().migrate();
+
+        assertThat(uniqueConstraints("TAGS")).containsExactly("UK_TAGS_PROJECT_NAME");
+        assertThat(uniqueConstraints("USERS")).containsExactly("UK_USERS_EMAIL");
+    }
+
+    @Test
+    @DisplayName("V17 - 카드 이벤트로 일별 흐름을 다시 만들고, 이력 전 카드와 이벤트 없이 휴지통에 간 카드를 맞춤")
+    void rebuildBoardDailyFlows() {
+        Flyway.configure().dataSource(FLOWS_URL, "sa", "").target("16").load().migrate();
+        JdbcTemplate flows = new JdbcTemplate(new DriverManagerDataSource(FLOWS_URL, "sa", ""));
+        flows.update("INSERT INTO projects (id, title) VALUES (1, 'p')");
+        flows.update("INSERT INTO boards (id, project_id) VALUES (1, 1)");
+        flows.update("INSERT INTO columns (id, board_id, position) VALUES (10, 1, 1), (11, 1, 2)");
+        // 100: 이력 전에 만들어 이벤트 없음, 101: 생성 후 이동, 102: 이벤트 없이 프로젝트 휴지통으로, 103: 이력 전에 만들고 이동
+        flows.update("INSERT INTO cards (id, kanban_column_id, project_id, created_at, deleted_at) VALUES " +
+            "(100, 10, 1, TIMESTAMP '2024-01-01 09:00:00', NULL), " +
+            "(101, 11, 1, TIMESTAMP '2024-01-02 09:00:00', NULL), " +
+            "(102, 10, 1, TIMESTAMP '2024-01-02 09:00:00', TIMESTAMP '2024-01-05 09:00:00'), " +
+            "(103, 11, 1, TIMESTAMP '2024-01-01 09:00:00', NULL)");
+        flows.update("INSERT INTO card_events (card_id, board_id, type, from_column_id, to_column_id, occurred_at, occurred_day) VALUES " +
+            "(101, 1, 'CREATED', NULL, 10, TIMESTAMP '2024-01-02 09:00:00', 20240102), " +
+            "(101, 1, 'MOVED', 10, 11, TIMESTAMP '2024-01-03 09:00:00', 20240103), " +
+            "(102, 1, 'CREATED', NULL, 10, TIMESTAMP '2024-01-02 09:00:00', 20240102), " +
+            "(103, 1, 'MOVED', 10, 11, TIMESTAMP '2024-01-04 09:00:00', 20240104)");
+        // 어긋나 있던 기존 행은 다시 만들면서 사라짐
+        flows.update("INSERT INTO board_daily_flows (board_id, column_id, flow_date, entered, exited) " +
+            "VALUES (1, 10, DATE '2024-01-01', 5, 0)");
+
+        Flyway.configure().dataSource(FLOWS_URL, "sa", "").load().migrate();
+
+        assertThat(flows.queryForList(
+            "SELECT CONCAT(column_id, ' ', flow_date, ' ', entered, ' ', exited) FROM board_daily_flows " +
+            "ORDER BY column_id, flow_date", String.class))
+            .containsExactly(
+                "10 2024-01-01 2 0",
+                "10 2024-01-02 2 0",
+                "10 2024-01-03 0 1",
+                "10 2024-01-04 0 1",
+                "10 2024-01-05 0 1",
+                "11 2024-01-03 1 0",
+                "11 2024-01-04 1 0"
+            );
+    }
+
+    @Test
+    @DisplayName("V18 - 휴지통에 있는 컬럼은 함께 지워진 카드 수로 card_count 를 채움")
+    void trashedColumnCardCount() {
+        Flyway.configure().dataSource(CARD_COUNT_URL, "sa", "").target("17").load().migrate();
+        JdbcTemplate counts = new JdbcTemplate(new DriverManagerDataSource(CARD_COUNT_URL, "sa", ""));
+        counts.update("INSERT INTO projects (id, title) VALUES (1, 'p')");
+        counts.update("INSERT INTO boards (id, project_id) VALUES (1, 1)");
+        // 10: 살아 있는 컬럼, 11: 휴지통에 있는 컬럼 (V15 가 0 으로 만든 상태)
+        counts.update("INSERT INTO columns (id, board_id, position, card_count, deleted_at) VALUES " +
+            "(10, 1, 1, 1, NULL), (11, 1, 2, 0, TIMESTAMP '2024-01-05 09:00:00')");
+        // 11 의 카드 2장은 컬럼과 함께, 1장은 그 전에 따로 지워짐
+        counts.update("INSERT INTO cards (id, kanban_column_id, project_id, deleted_at) VALUES " +
+            "(100, 10, 1, NULL), " +
+            "(101, 11, 1, TIMESTAMP '2024-01-05 09:00:00'), " +
+            "(102, 11, 1, TIMESTAMP '2024-01-05 09:00:00'), " +
+            "(103, 11, 1, TIMESTAMP '2024-01-04 09:00:00')");
+
+        Flyway.configure().dataSource(CARD_COUNT_URL, "sa", "").load().migrate();
+
+        assertThat(counts.queryForObject("SELECT card_count FROM columns WHERE id = 10", Integer.class)).isEqualTo(1);
+        assertThat(counts.queryForObject("SELECT card_count FROM columns WHERE id = 11", Integer.class)).isEqualTo(2);
+    }
+
+    private List<String> uniqueConstraints(String table) {
+        return jdbcTemplate.queryForList(
+            "SELECT CONSTRAINT_NAME FROM INFORMATION_SCHEMA.TABLE_CONSTRAINTS " +
+            "WHERE TABLE_NAME = ? AND CONSTRAINT_TYPE = 'UNIQUE'", String.class, table);
+    }
+}
@@ -0,0 +1,244 @@
+package gon.til.IntegrationTest;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gon.til.domain.dto.card.CardCreateRequest;
+import gon.til.domain.dto.kanbancolumn.KanbanColumnResponse;
+import gon.til.domain.dto.project.ProjectCreateRequest;
+import gon.til.domain.dto.user.UserSignupRequest;
+import gon.til.global.shard.ShardContext;
+import gon.til.global.shard.ShardDirectory;
+import gon.til.global.shard.ShardIdRange;
+import gon.til.global.shard.ShardRebalancer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 사용자 단위 샤딩 통합 테스트
+ * - H2 메모리 DB 세 개를 샤드 0(기본), 1, 2 로 사용합니다.
+ * - 각 샤드의 내용은 라우팅을 거치지 않는 JdbcTemplate 으로 직접 확인합니다.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:shard-0;DB_CLOSE_DELAY=-1",
+    "til.sharding.enabled=true",
+    "til.sharding.shards[0].id=1",
+    "til.sharding.shards[0].url=" + ShardingIntegrationTest.SHARD_1_URL,
+    "til.sharding.shards[1].id=2",
+    "til.sharding.shards[1].url=" + ShardingIntegrationTest.SHARD_2_URL,
+    "til.sharding.directory-cache-ttl=0s",
+    "til.sharding.drain-timeout=5s"
+})
+@AutoConfigureMockMvc
+@DisplayName("샤딩 통합 테스트")
+public class ShardingIntegrationTest {
+
+    static final String SHARD_1_URL = "jdbc:h2:mem:shard-1;DB_CLOSE_DELAY=-1";
+    static final String SHARD_2_URL = "jdbc:h2:mem:shard-2;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ShardDirectory shardDirectory;
+
+    @Autowired
+    private ShardRebalancer shardRebalancer;
+
+    private final Map<Integer, JdbcTemplate> shards = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        shards.put(0, new JdbcTemplate(new DriverManagerDataSource("jdbc:h2:mem:shard-0;DB_CLOSE_DELAY=-1", "sa", "")));
+        shards.put(1, new JdbcTemplate(new DriverManagerDataSource(SHARD_1_URL, "sa", "")));
+        shards.put(2, new JdbcTemplate(new DriverManagerDataSource(SHARD_2_URL, "sa", "")));
+    }
+
+    @Test
+    @DisplayName("프로젝트는 사용자에게 배정된 샤드에만, 그 샤드의 ID 구간으로 저장")
+    void projectIsStoredOnlyOnAssignedShard() throws Exception {
+        Map<Integer, TestUser> usersByShard = usersOnDistinctShards(2);
+
+        for (Map.Entry<Integer, TestUser> entry : usersByShard.entrySet()) {
+            int shardId = entry.getKey();
+            Long projectId = createProject(entry.getValue(), "샤드 " + shardId + " 프로젝트");
+
+            assertThat(projectId).isBetween(ShardIdRange.firstId(shardId), ShardIdRange.firstId(shardId + 1) - 1);
+            for (int other : shards.keySet()) {
+                assertThat(countProjects(other, projectId)).isEqualTo(other == shardId ? 1 : 0);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("다른 샤드에 있는 사용자의 프로젝트는 보이지 않음")
+    void otherShardProjectIsNotVisible() throws Exception {
+        List<TestUser> users = List.copyOf(usersOnDistinctShards(2).values());
+        Long otherProjectId = createProject(users.get(1), "다른 샤드 프로젝트");
+
+        mockMvc.perform(get("/api/v1/projects/" + otherProjectId)
+                        .header("Authorization", users.get(0).token()))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("재배치하면 같은 ID 로 옮겨지고, 배치 규칙과 다른 사용자는 rebalance 가 되돌림")
+    void moveUserKeepsIdsAndRebalanceRestoresPlacement() throws Exception {
+        TestUser user = signUpAndLogin();
+        int home = shardDirectory.shardFor(user.id());
+        int target = home == 2 ? 1 : home + 1;
+
+        Long projectId = createProject(user, "이동 프로젝트");
+        Long cardId = createCardInFirstColumn(user, projectId);
+
+        shardRebalancer.moveUser(user.id(), home, target);
+
+        assertThat(shardDirectory.shardFor(user.id())).isEqualTo(target);
+        assertThat(countProjects(home, projectId)).isZero();
+        assertThat(countProjects(target, projectId)).isEqualTo(1);
+        mockMvc.perform(get("/api/v1/cards/" + cardId)
+                        .header("Authorization", user.token()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", is(cardId.intValue())));
+
+        assertThat(shardRebalancer.rebalance()).isGreaterThanOrEqualTo(1);
+
+        assertThat(shardDirectory.shardFor(user.id())).isEqualTo(home);
+        assertThat(countProjects(home, projectId)).isEqualTo(1);
+        assertThat(countProjects(target, projectId)).isZero();
+        mockMvc.perform(get("/api/v1/projects/" + projectId)
+                        .header("Authorization", user.token()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("기본 샤드의 사용자 행이 바뀌면 다음 요청에서 담당 샤드의 사본도 갱신")
+    void userCopyFollowsDefaultShardChanges() throws Exception {
+        TestUser user = usersOnDistinctShards(2).entrySet().stream()
+                .filter(entry -> entry.getKey() != 0)
+                .findFirst().orElseThrow().getValue();
+        int home = shardDirectory.shardFor(user.id());
+        createProject(user, "사본 프로젝트");
+
+        shards.get(0).update("UPDATE users SET display_name = ?, updated_at = ? WHERE id = ?",
+                "renamed", LocalDateTime.now().plusSeconds(1), user.id());
+        mockMvc.perform(get("/api/v1/projects")
+                        .header("Authorization", user.token()))
+                .andExpect(status().isOk());
+
+        assertThat(shards.get(home).queryForObject("SELECT display_name FROM users WHERE id = ?", String.class, user.id()))
+                .isEqualTo("renamed");
+    }
+
+    @Test
+    @DisplayName("샤드가 정해진 스레드에서 다른 샤드로 바꿀 수 없음")
+    void shardCannotChangeWithinContext() {
+        ShardContext.run(1, () -> {
+            ShardContext.run(1, () -> assertThat(ShardContext.current()).isEqualTo(1));
+            assertThatThrownBy(() -> ShardContext.run(2, () -> { }))
+                .isInstanceOf(IllegalStateException.class);
+        });
+        assertThat(ShardContext.current()).isNull();
+    }
+
+    // ===== 헬퍼 =====
+
+    private Map<Integer, TestUser> usersOnDistinctShards(int count) throws Exception {
+        Map<Integer, TestUser> usersByShard = new LinkedHashMap<>();
+        for (int i = 0; i < 50 && usersByShard.size() < count; i++) {
+            TestUser user = signUpAndLogin();
+            usersByShard.putIfAbsent(shardDirectory.shardFor(user.id()), user);
+        }
+        assertThat(usersByShard).hasSize(count);
+        return usersByShard;
+    }
+
+    private TestUser signUpAndLogin() throws Exception {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        String email = "shard" + suffix + "@example.com";
+        MvcResult signupResult = mockMvc.perform(post("/api/v1/users/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new UserSignupRequest("sh" + suffix, email, "password123"))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        Long userId = objectMapper.readTree(signupResult.getResponse().getContentAsString()).get("id").asLong();
+
+        Map<String, String> loginRequest = new HashMap<>();
+        loginRequest.put("email", email);
+        loginRequest.put("password", "password123");
+        MvcResult loginResult = mockMvc.perform(post("/api/v1/users/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(status().isOk())
+                .andReturn();
+        String token = "Bearer " + objectMapper.readTree(loginResult.getResponse().getContentAsString()).get("token").asText();
+        return new TestUser(userId, token);
+    }
+
+    private Long createProject(TestUser user, String title) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/v1/projects")
+                        .header("Authorization", user.token())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ProjectCreateRequest(title, "설명", "BE"))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asLong();
+    }
+
+    private Long createCardInFirstColumn(TestUser user, Long projectId) throws Exception {
+        MvcResult projectResult = mockMvc.perform(get("/api/v1/projects/" + projectId)
+                        .header("Authorization", user.token()))
+                .andExpect(status().isOk())
+                .andReturn();
+        Long boardId = objectMapper.readTree(projectResult.getResponse().getContentAsString()).get("mainBoardId").asLong();
+
+        MvcResult columnsResult = mockMvc.perform(get("/api/v1/kanban-columns/boards/" + boardId)
+                        .header("Authorization", user.token()))
+                .andExpect(status().isOk())
+                .andReturn();
+        Long columnId = objectMapper.readValue(columnsResult.getResponse().getContentAsString(),
+                new TypeReference<List<KanbanColumnResponse>>() {}).get(0).getId();
+
+        MvcResult cardResult = mockMvc.perform(post("/api/v1/cards/columns/" + columnId)
+                        .header("Authorization", user.token())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CardCreateRequest(columnId, "이동 카드", "내용"))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper.readTree(cardResult.getResponse().getContentAsString()).get("id").asLong();
+    }
+
+    private int countProjects(int shardId, Long projectId) {
+        Integer count = shards.get(shardId).queryForObject("SELECT COUNT(*) FROM projects WHERE id = ?", Integer.class, projectId);
+        return count == null ? 0 : count;
+    }
+
+    private record TestUser(Long id, String token) {
+    }
+}
@@ -0,0 +1,129 @@
+package gon.til.IntegrationTest;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gon.til.domain.dto.project.ProjectCreateRequest;
+import gon.til.domain.dto.tag.TagCreateRequest;
+import gon.til.domain.dto.tagcolor.TagPaletteColorRequest;
+import gon.til.domain.dto.user.UserSignupRequest;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@DisplayName("TagPalette 통합 테스트")
+public class TagPaletteIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String token;
+    private Long projectId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        UserSignupRequest signupRequest = new UserSignupRequest("paletteUser", "palette@example.com", "password123");
+        mockMvc.perform(post("/api/v1/users/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(signupRequest)))
+                .andExpect(status().isCreated());
+
+        Map<String, String> loginRequest = new HashMap<>();
+        loginRequest.put("email", "palette@example.com");
+        loginRequest.put("password", "password123");
+
+        MvcResult loginResult = mockMvc.perform(post("/api/v1/users/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(status().isOk())
+                .andReturn();
+        token = "Bearer " + objectMapper.readTree(loginResult.getResponse().getContentAsString()).get("token").asText();
+
+        ProjectCreateRequest createRequest = new ProjectCreateRequest("Palette Test Project", "설명", "DS");
+        MvcResult createResult = mockMvc.perform(post("/api/v1/projects")
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createRequest)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        projectId = objectMapper.readTree(createResult.getResponse().getContentAsString()).get("id").asLong();
+    }
+
+    @Test
+    @DisplayName("팔레트 색상 추가 후 태그 색상으로 사용, 삭제")
+    void paletteLifecycleTest() throws Exception {
+        // 1. Add palette color
+        MvcResult colorResult = mockMvc.perform(post("/api/v1/tags/projects/" + projectId + "/palette")
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TagPaletteColorRequest("Mint", "#b5ead7"))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.hexCode", is("#B5EAD7")))
+                .andReturn();
+        Long colorId = objectMapper.readTree(colorResult.getResponse().getContentAsString()).get("id").asLong();
+
+        // 2. Create tag with palette color name (case-insensitive)
+        mockMvc.perform(post("/api/v1/tags/projects/" + projectId)
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TagCreateRequest("PaletteTag", "mint"))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.color", is("#B5EAD7")));
+
+        // 3. Get palette
+        mockMvc.perform(get("/api/v1/tags/projects/" + projectId + "/palette")
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].name", is("Mint")));
+
+        // 4. Delete palette color
+        mockMvc.perform(delete("/api/v1/tags/projects/" + projectId + "/palette/" + colorId)
+                        .header("Authorization", token))
+                .andExpect(status().isNoContent());
+    }
+
+    @Test
+    @DisplayName("기본 색상 별칭으로 태그 생성, 모호한 색상 이름은 거부")
+    void builtinAliasTest() throws Exception {
+        mockMvc.perform(post("/api/v1/tags/projects/" + projectId)
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TagCreateRequest("AliasTag", "navy"))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.color", is("#A0C4FF")));
+
+        mockMvc.perform(post("/api/v1/tags/projects/" + projectId)
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TagCreateRequest("AmbiguousTag", "PASTEL"))))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(post("/api/v1/tags/projects/" + projectId + "/palette")
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TagPaletteColorRequest("Red", "#FF0000"))))
+                .andExpect(status().isConflict());
+    }
+}
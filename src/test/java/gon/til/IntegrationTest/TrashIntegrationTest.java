@@ -0,0 +1,254 @@
+package gon.til.IntegrationTest;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gon.til.domain.dto.card.CardCreateRequest;
+import gon.til.domain.dto.kanbancolumn.KanbanColumnResponse;
+import gon.til.domain.dto.project.ProjectCreateRequest;
+import gon.til.domain.dto.user.UserSignupRequest;
+import gon.til.domain.service.TrashPurger;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 보관 기간 0 으로 두고 TrashPurger 를 직접 호출해서, 지운 항목이 바로 정리되는지 확인합니다.
+@SpringBootTest(properties = "til.trash.retention=0s")
+@AutoConfigureMockMvc
+@Transactional
+@DisplayName("휴지통 통합 테스트")
+public class TrashIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TrashPurger trashPurger;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private String token;
+    private Long projectId;
+    private Long boardId;
+    private Long columnId;
+    private Long cardId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        UserSignupRequest signupRequest = new UserSignupRequest("trashUser", "trash@example.com", "password123");
+        mockMvc.perform(post("/api/v1/users/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(signupRequest)))
+                .andExpect(status().isCreated());
+
+        Map<String, String> loginRequest = new HashMap<>();
+        loginRequest.put("email", "trash@example.com");
+        loginRequest.put("password", "password123");
+        MvcResult loginResult = mockMvc.perform(post("/api/v1/users/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(status().isOk())
+                .andReturn();
+        token = "Bearer " + objectMapper.readTree(loginResult.getResponse().getContentAsString()).get("token").asText();
+
+        MvcResult projectResult = mockMvc.perform(post("/api/v1/projects")
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ProjectCreateRequest("휴지통 프로젝트", "설명", "BE"))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        JsonNode project = objectMapper.readTree(projectResult.getResponse().getContentAsString());
+        projectId = project.get("id").asLong();
+        boardId = project.get("mainBoardId").asLong();
+        columnId = getColumns().get(0).getId();
+
+        MvcResult cardResult = mockMvc.perform(post("/api/v1/cards/columns/" + columnId)
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CardCreateRequest(columnId, "카드", "내용"))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        cardId = objectMapper.readTree(cardResult.getResponse().getContentAsString()).get("id").asLong();
+    }
+
+    @Test
+    @DisplayName("지운 카드는 휴지통에 보이고, 복원하면 원래 컬럼으로 돌아옴")
+    void deleteAndRestoreCard() throws Exception {
+        mockMvc.perform(delete("/api/v1/cards/" + cardId)
+                        .header("Authorization", token))
+                .andExpect(status().isNoContent());
+        flushAndClear();
+
+        mockMvc.perform(get("/api/v1/cards/" + cardId)
+                        .header("Authorization", token))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/v1/trash/projects/" + projectId)
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.columns", hasSize(0)))
+                .andExpect(jsonPath("$.cards", hasSize(1)))
+                .andExpect(jsonPath("$.cards[0].id", is(cardId.intValue())));
+        assertThat(count("SELECT card_count FROM columns WHERE id = ?", columnId)).isZero();
+
+        mockMvc.perform(post("/api/v1/trash/cards/" + cardId + "/restore")
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.columnId", is(columnId.intValue())));
+
+        mockMvc.perform(get("/api/v1/cards/" + cardId)
+                        .header("Authorization", token))
+                .andExpect(status().isOk());
+        assertThat(count("SELECT card_count FROM columns WHERE id = ?", columnId)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("컬럼을 지우면 카드도 함께 휴지통으로 가고, 컬럼을 복원하면 같이 돌아옴")
+    void deleteAndRestoreColumn() throws Exception {
+        mockMvc.perform(delete("/api/v1/kanban-columns/" + columnId)
+                        .header("Authorization", token))
+                .andExpect(status().isNoContent());
+
+        assertThat(getColumns()).hasSize(3);
+        mockMvc.perform(get("/api/v1/cards/" + cardId)
+                        .header("Authorization", token))
+                .andExpect(status().isNotFound());
+        // 컬럼과 함께 지운 카드는 컬럼을 복원해야 하므로 카드 목록에는 나오지 않음
+        mockMvc.perform(get("/api/v1/trash/projects/" + projectId)
+                        .header("Authorization", token))
+                .andExpect(jsonPath("$.columns", hasSize(1)))
+                .andExpect(jsonPath("$.cards", hasSize(0)));
+        mockMvc.perform(post("/api/v1/trash/cards/" + cardId + "/restore")
+                        .header("Authorization", token))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(post("/api/v1/trash/columns/" + columnId + "/restore")
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.position", is(4)))
+                .andExpect(jsonPath("$.cardCount", is(1)));
+
+        mockMvc.perform(get("/api/v1/cards/" + cardId)
+                        .header("Authorization", token))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("프로젝트를 복원하면 함께 지운 컬럼과 카드가 돌아오고, 그 전에 지운 카드는 휴지통에 남음")
+    void deleteAndRestoreProject() throws Exception {
+        Long otherCardId = createCard("먼저 지운 카드");
+        mockMvc.perform(delete("/api/v1/cards/" + otherCardId)
+                        .header("Authorization", token))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(delete("/api/v1/projects/" + projectId)
+                        .header("Authorization", token))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(get("/api/v1/trash/projects")
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id", is(projectId.intValue())));
+
+        mockMvc.perform(post("/api/v1/trash/projects/" + projectId + "/restore")
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title", is("휴지통 프로젝트")));
+
+        assertThat(getColumns()).hasSize(4);
+        mockMvc.perform(get("/api/v1/cards/" + cardId)
+                        .header("Authorization", token))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/trash/projects/" + projectId)
+                        .header("Authorization", token))
+                .andExpect(jsonPath("$.cards", hasSize(1)))
+                .andExpect(jsonPath("$.cards[0].id", is(otherCardId.intValue())));
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지나면 TrashPurger 가 실제 행을 지움")
+    void purge_RemovesExpiredRows() throws Exception {
+        Long otherCardId = createCard("지울 카드");
+        mockMvc.perform(delete("/api/v1/cards/" + otherCardId)
+                        .header("Authorization", token))
+                .andExpect(status().isNoContent());
+        Long lastColumnId = getColumns().get(3).getId();
+        mockMvc.perform(delete("/api/v1/kanban-columns/" + lastColumnId)
+                        .header("Authorization", token))
+                .andExpect(status().isNoContent());
+        flushAndClear();
+
+        trashPurger.purge();
+
+        assertThat(count("SELECT COUNT(*) FROM cards WHERE id = ?", otherCardId)).isZero();
+        assertThat(count("SELECT COUNT(*) FROM columns WHERE id = ?", lastColumnId)).isZero();
+        assertThat(count("SELECT COUNT(*) FROM cards WHERE id = ?", cardId)).isEqualTo(1);
+
+        mockMvc.perform(delete("/api/v1/projects/" + projectId)
+                        .header("Authorization", token))
+                .andExpect(status().isNoContent());
+        flushAndClear();
+
+        trashPurger.purge();
+
+        assertThat(count("SELECT COUNT(*) FROM projects WHERE id = ?", projectId)).isZero();
+        assertThat(count("SELECT COUNT(*) FROM columns WHERE board_id = ?", boardId)).isZero();
+        assertThat(count("SELECT COUNT(*) FROM cards WHERE id = ?", cardId)).isZero();
+    }
+
+    // 요청마다 트랜잭션이 끝나는 실제 환경처럼, 엔티티 변경을 DB 에 반영하고 캐시된 엔티티를 비웁니다.
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private Long createCard(String title) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/v1/cards/columns/" + columnId)
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CardCreateRequest(columnId, title, null))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asLong();
+    }
+
+    private List<KanbanColumnResponse> getColumns() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/kanban-columns/boards/" + boardId)
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readValue(result.getResponse().getContentAsString(), new TypeReference<List<KanbanColumnResponse>>() {});
+    }
+
+    private int count(String sql, Long id) {
+        Integer count = jdbcTemplate.queryForObject(sql, Integer.class, id);
+        return count == null ? 0 : count;
+    }
+}
@@ -0,0 +1,56 @@
+package gon.til.NativeTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import gon.til.domain.common.TagColor;
+import gon.til.domain.dto.transfer.ProjectImportResponse;
+import gon.til.global.config.NativeRuntimeHints;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+@DisplayName("NativeRuntimeHints 테스트")
+class NativeRuntimeHintsTest {
+
+    private RuntimeHints hints;
+
+    @BeforeEach
+    void setUp() {
+        hints = new RuntimeHints();
+        new NativeRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    @DisplayName("JJWT 구현 클래스는 리플렉션으로 생성할 수 있도록 등록")
+    void jjwtImplementations() {
+        assertThat(RuntimeHintsPredicates.reflection()
+            .onType(TypeReference.of("io.jsonwebtoken.impl.DefaultJwtBuilder"))
+            .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection()
+            .onType(TypeReference.of("io.jsonwebtoken.impl.security.KeysBridge"))
+            .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource()
+            .forResource("META-INF/services/io.jsonwebtoken.io.Serializer")).accepts(hints);
+    }
+
+    @Test
+    @DisplayName("마이그레이션 SQL 과 JDBC 드라이버 등록")
+    void migrationsAndDrivers() {
+        assertThat(RuntimeHintsPredicates.resource().forResource("db/migration/V1__init_schema.sql")).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection()
+            .onType(TypeReference.of("org.h2.Driver"))
+            .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)).accepts(hints);
+    }
+
+    @Test
+    @DisplayName("Lombok 으로 만든 DTO 와 enum 은 Jackson 바인딩용으로 등록")
+    void bindingTypes() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(ProjectImportResponse.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(ProjectImportResponse.class, "getCardCount")).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(TagColor.class)).accepts(hints);
+    }
+}
@@ -0,0 +1,51 @@
+package gon.til.NativeTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import gon.til.BenchmarkTest.StartupProbe;
+import gon.til.BenchmarkTest.StartupProbe.BootResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 네이티브 바이너리 스모크 테스트 + JVM 비교 리포트
+ * - ./gradlew nativeSmokeTest 로 실행합니다. (nativeCompile, bootJar 후 실행)
+ * - 두 실행 파일을 H2 로 띄워 스모크 요청을 보내고(StartupProbe), 결과를 build/reports/native/startup-rss.md 에 남깁니다.
+ */
+@Tag("native")
+@DisplayName("네이티브 이미지 스모크 테스트")
+class NativeSmokeTest {
+
+    @Test
+    @DisplayName("네이티브 바이너리와 JVM jar 를 H2 로 띄워 기동 시간/RSS 비교")
+    void bootNativeAndJvm() throws Exception {
+        Path reportDir = Path.of(System.getProperty("til.report.dir", "build/reports/native"));
+
+        BootResult nativeResult = StartupProbe.boot("native", List.of(nativeBinary().toString()), reportDir);
+        BootResult jvmResult = StartupProbe.boot("jvm",
+            List.of(StartupProbe.javaExecutable(), "-jar", System.getProperty("til.boot.jar")), reportDir);
+
+        String report = "| build | startup (ms) | RSS (MB) |\n"
+            + "|---|---:|---:|\n"
+            + nativeResult.toRow("native")
+            + jvmResult.toRow("jvm");
+        Files.writeString(reportDir.resolve("startup-rss.md"), report);
+        System.out.print(report);
+
+        assertThat(nativeResult.startupMillis()).isLessThan(jvmResult.startupMillis());
+    }
+
+    private Path nativeBinary() {
+        Path binary = Path.of(System.getProperty("til.native.binary", "build/native/nativeCompile/til"));
+        Path windowsBinary = Path.of(binary + ".exe");
+        if (!Files.exists(binary) && Files.exists(windowsBinary)) {
+            return windowsBinary;
+        }
+        assertThat(binary).as("run ./gradlew nativeCompile first").exists();
+        return binary;
+    }
+}
@@ -0,0 +1,237 @@
+package gon.til.ServiceTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import gon.til.domain.common.CardEventType;
+import gon.til.domain.dto.analytics.BoardAnalyticsResponse;
+import gon.til.domain.entity.Board;
+import gon.til.domain.entity.BoardDailyFlow;
+import gon.til.domain.entity.CardEvent;
+import gon.til.domain.entity.KanbanColumn;
+import gon.til.domain.entity.Project;
+import gon.til.domain.entity.User;
+import gon.til.domain.event.BoardFlowUpdatedEvent;
+import gon.til.domain.repository.BoardDailyFlowRepository;
+import gon.til.domain.repository.BoardRepository;
+import gon.til.domain.repository.CardEventRepository;
+import gon.til.domain.repository.KanbanColumnRepository;
+import gon.til.domain.service.BoardAnalyticsService;
+import gon.til.domain.service.ProjectAccessCache;
+import gon.til.global.exception.GlobalErrorCode;
+import gon.til.global.exception.GlobalException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BoardAnalyticsService 테스트")
+class BoardAnalyticsServiceTest {
+
+    @InjectMocks
+    private BoardAnalyticsService boardAnalyticsService;
+
+    @Mock
+    private BoardRepository boardRepository;
+    @Mock
+    private KanbanColumnRepository kanbanColumnRepository;
+    @Mock
+    private BoardDailyFlowRepository boardDailyFlowRepository;
+    @Mock
+    private CardEventRepository cardEventRepository;
+    @Mock
+    private ProjectAccessCache projectAccessCache;
+
+    private Board board;
+    private KanbanColumn todo;
+    private KanbanColumn done;
+    private final LocalDate from = LocalDate.of(2024, 1, 1);
+    private final LocalDate to = LocalDate.of(2024, 1, 3);
+
+    @BeforeEach
+    void setUp() {
+        // 접근 검사는 실제 규칙대로 (소유자는 통과, 공유받은 사용자는 allows 스텁으로)
+        lenient().doCallRealMethod().when(projectAccessCache).check(any(), any(), any(), any());
+        User user = User.builder().id(1L).displayName("testuser").build();
+        Project project = Project.builder().id(1L).user(user).build();
+        board = Board.builder().id(1L).project(project).build();
+        todo = KanbanColumn.builder().id(10L).board(board).position(1).build();
+        done = KanbanColumn.builder().id(20L).board(board).position(2).build();
+    }
+
+    private BoardDailyFlow flow(Long columnId, LocalDate date, int entered, int exited) {
+        return BoardDailyFlow.builder()
+            .boardId(board.getId())
+            .columnId(columnId)
+            .flowDate(date)
+            .entered(entered)
+            .exited(exited)
+            .build();
+    }
+
+    private void givenFlows() {
+        given(boardRepository.findById(1L)).willReturn(Optional.of(board));
+        given(kanbanColumnRepository.findByBoardIdOrderByPosition(1L)).willReturn(List.of(todo, done));
+        given(boardDailyFlowRepository.sumNetFlowBefore(1L, from))
+            .willReturn(Collections.singletonList(new Object[]{10L, 2L}));
+        given(boardDailyFlowRepository.findByBoardIdAndFlowDateBetweenOrderByFlowDate(1L, from, to))
+            .willReturn(List.of(
+                flow(10L, from, 1, 0),
+                flow(10L, to, 0, 1),
+                flow(20L, to, 1, 0)
+            ));
+    }
+
+    @Nested
+    @DisplayName("누적 흐름도")
+    class CumulativeFlow {
+
+        @Test
+        @DisplayName("성공 - 기간 이전 누적값에서 일별 증분을 더해 계산")
+        void cumulativeFlow_Success() {
+            // given
+            givenFlows();
+            given(cardEventRepository.findArrivals(eq(1L), eq(CardEventType.MOVED), eq(20L), anyInt(), anyInt()))
+                .willReturn(List.of());
+
+            // when
+            BoardAnalyticsResponse response = boardAnalyticsService.getAnalytics(1L, 20L, from, to, 1L);
+
+            // then
+            assertThat(response.getCumulativeFlow()).hasSize(3);
+            assertThat(response.getCumulativeFlow().get(0).getCardsByColumn()).containsEntry(10L, 3L).containsEntry(20L, 0L);
+            assertThat(response.getCumulativeFlow().get(1).getCardsByColumn()).containsEntry(10L, 3L).containsEntry(20L, 0L);
+            assertThat(response.getCumulativeFlow().get(2).getCardsByColumn()).containsEntry(10L, 2L).containsEntry(20L, 1L);
+            assertThat(response.getAverageWip().get(10L)).isEqualTo(8.0 / 3);
+            assertThat(response.getLeadTime().getSampleSize()).isZero();
+        }
+
+        @Test
+        @DisplayName("캐시 - 같은 조건은 다시 계산하지 않고, 흐름 갱신 이벤트 후에는 다시 계산")
+        void cumulativeFlow_CachedUntilFlowUpdated() {
+            // given
+            givenFlows();
+            given(cardEventRepository.findArrivals(anyLong(), any(), anyLong(), anyInt(), anyInt()))
+                .willReturn(List.of());
+
+            // when
+            boardAnalyticsService.getAnalytics(1L, 20L, from, to, 1L);
+            boardAnalyticsService.getAnalytics(1L, 20L, from, to, 1L);
+            boardAnalyticsService.onBoardFlowUpdated(new BoardFlowUpdatedEvent(Set.of(1L)));
+            boardAnalyticsService.getAnalytics(1L, 20L, from, to, 1L);
+
+            // then
+            verify(boardDailyFlowRepository, times(2)).findByBoardIdAndFlowDateBetweenOrderByFlowDate(1L, from, to);
+        }
+
+        @Test
+        @DisplayName("캐시 - 조회를 시작한 뒤 흐름 갱신 이벤트가 오면 그 결과는 캐시하지 않음")
+        void cumulativeFlow_NotCachedWhenEvictedDuringCompute() {
+            // given
+            // 계산 도중(이전 누적값을 읽는 시점)에 흐름 갱신 이벤트가 도착
+            given(boardRepository.findById(1L)).willReturn(Optional.of(board));
+            given(kanbanColumnRepository.findByBoardIdOrderByPosition(1L)).willReturn(List.of(todo, done));
+            willAnswer(invocation -> {
+                boardAnalyticsService.onBoardFlowUpdated(new BoardFlowUpdatedEvent(Set.of(1L)));
+                return Collections.singletonList(new Object[]{10L, 2L});
+            }).given(boardDailyFlowRepository).sumNetFlowBefore(1L, from);
+            given(boardDailyFlowRepository.findByBoardIdAndFlowDateBetweenOrderByFlowDate(1L, from, to))
+                .willReturn(List.of(flow(10L, from, 1, 0)));
+            given(cardEventRepository.findArrivals(anyLong(), any(), anyLong(), anyInt(), anyInt()))
+                .willReturn(List.of());
+
+            // when
+            boardAnalyticsService.getAnalytics(1L, 20L, from, to, 1L);
+            boardAnalyticsService.getAnalytics(1L, 20L, from, to, 1L);
+
+            // then
+            verify(boardDailyFlowRepository, times(2)).findByBoardIdAndFlowDateBetweenOrderByFlowDate(1L, from, to);
+        }
+    }
+
+    @Nested
+    @DisplayName("리드타임 / 사이클타임")
+    class Durations {
+
+        @Test
+        @DisplayName("성공 - 완료된 카드의 생성/첫 이동 시각으로 백분위수 계산")
+        void durations_Success() {
+            // given
+            givenFlows();
+            LocalDateTime completedAt = LocalDateTime.of(2024, 1, 3, 12, 0);
+            CardEvent arrival = CardEvent.builder()
+                .cardId(100L)
+                .boardId(1L)
+                .type(CardEventType.MOVED)
+                .toColumnId(20L)
+                .occurredAt(completedAt)
+                .occurredDay((int) completedAt.toLocalDate().toEpochDay())
+                .build();
+            given(cardEventRepository.findArrivals(eq(1L), eq(CardEventType.MOVED), eq(20L), anyInt(), anyInt()))
+                .willReturn(List.of(arrival));
+            given(cardEventRepository.findFirstOccurrences(anyCollection(), anyCollection()))
+                .willReturn(List.of(
+                    new Object[]{100L, CardEventType.CREATED, completedAt.minusHours(3)},
+                    new Object[]{100L, CardEventType.MOVED, completedAt.minusHours(1)}
+                ));
+
+            // when
+            BoardAnalyticsResponse response = boardAnalyticsService.getAnalytics(1L, 20L, from, to, 1L);
+
+            // then
+            assertThat(response.getLeadTime().getSampleSize()).isEqualTo(1);
+            assertThat(response.getLeadTime().getP50Minutes()).isEqualTo(180L);
+            assertThat(response.getCycleTime().getP95Minutes()).isEqualTo(60L);
+        }
+    }
+
+    @Nested
+    @DisplayName("검증")
+    class Validation {
+
+        @Test
+        @DisplayName("실패 - 다른 사용자의 보드")
+        void analytics_AccessDenied() {
+            // given
+            given(boardRepository.findById(1L)).willReturn(Optional.of(board));
+
+            // when & then
+            GlobalException exception = assertThrows(GlobalException.class,
+                () -> boardAnalyticsService.getAnalytics(1L, 20L, from, to, 2L));
+            assertThat(exception.getGlobalErrorCode()).isEqualTo(GlobalErrorCode.ACCESS_DENIED_BOARD);
+        }
+
+        @Test
+        @DisplayName("실패 - 시작일이 종료일보다 늦음")
+        void analytics_InvalidRange() {
+            // given
+            given(boardRepository.findById(1L)).willReturn(Optional.of(board));
+
+            // when & then
+            GlobalException exception = assertThrows(GlobalException.class,
+                () -> boardAnalyticsService.getAnalytics(1L, 20L, to, from, 1L));
+            assertThat(exception.getGlobalErrorCode()).isEqualTo(GlobalErrorCode.INVALID_DATE_RANGE);
+        }
+    }
+}
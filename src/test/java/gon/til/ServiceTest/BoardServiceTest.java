@@ -10,6 +10,7 @@ import gon.til.domain.repository.BoardRepository;
 import gon.til.domain.repository.ProjectRepository;
 import gon.til.domain.service.BoardService;
 import gon.til.domain.service.KanbanColumnService;
+import gon.til.domain.service.ProjectAccessCache;
 import gon.til.global.exception.GlobalErrorCode;
 import gon.til.global.exception.GlobalException;
 import java.util.Optional;
@@ -27,6 +28,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,6 +41,8 @@ class BoardServiceTest {
     private ProjectRepository projectRepository;
     @Mock
     private KanbanColumnService kanbanColumnService;
+    @Mock
+    private ProjectAccessCache projectAccessCache;
 
     @InjectMocks
     private BoardService boardService;
@@ -49,6 +53,8 @@ class BoardServiceTest {
 
     @BeforeEach
     void setUp() {
+        // 접근 검사는 실제 규칙대로 (소유자는 통과, 공유받은 사용자는 allows 스텁으로)
+        lenient().doCallRealMethod().when(projectAccessCache).check(any(), any(), any(), any());
         user = User.builder().id(1L).build();
         project = Project.builder().id(1L).user(user).build();
         board = Board.builder().id(1L).project(project).title("원본 제목").build();
@@ -0,0 +1,182 @@
+package gon.til.ServiceTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import gon.til.domain.dto.template.BoardTemplateCreateRequest;
+import gon.til.domain.dto.template.BoardTemplateCreateRequest.CardItem;
+import gon.til.domain.dto.template.BoardTemplateCreateRequest.ColumnItem;
+import gon.til.domain.dto.template.BoardTemplateCreateRequest.TagItem;
+import gon.til.domain.dto.template.BoardTemplateResponse;
+import gon.til.domain.entity.BoardTemplate;
+import gon.til.domain.entity.BoardTemplateCard;
+import gon.til.domain.entity.User;
+import gon.til.domain.repository.BoardTemplateRepository;
+import gon.til.domain.repository.ProjectRepository;
+import gon.til.domain.repository.UserRepository;
+import gon.til.domain.service.BoardFlowAggregator;
+import gon.til.domain.service.BoardTemplateService;
+import gon.til.domain.service.MarkdownRenderer;
+import gon.til.domain.service.ProjectAccessCache;
+import gon.til.global.exception.GlobalErrorCode;
+import gon.til.global.exception.GlobalException;
+import java.util.List;
+import java.util.Optional;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BoardTemplateService 테스트")
+class BoardTemplateServiceTest {
+
+    @InjectMocks
+    private BoardTemplateService boardTemplateService;
+
+    @Mock
+    private BoardTemplateRepository boardTemplateRepository;
+    @Mock
+    private ProjectRepository projectRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private MarkdownRenderer markdownRenderer;
+    @Mock
+    private DataSource dataSource;
+    @Mock
+    private ProjectAccessCache projectAccessCache;
+    @Mock
+    private BoardFlowAggregator boardFlowAggregator;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        // 접근 검사는 실제 규칙대로 (소유자는 통과, 공유받은 사용자는 allows 스텁으로)
+        lenient().doCallRealMethod().when(projectAccessCache).check(any(), any(), any(), any());
+        user = User.builder().id(1L).displayName("testuser").build();
+    }
+
+    @Nested
+    @DisplayName("템플릿 생성")
+    class CreateTemplate {
+        @Test
+        @DisplayName("성공 - 컬럼은 적힌 순서대로, 카드는 컬럼마다 1부터 position 을 매김")
+        void createTemplate_success() {
+            // given
+            BoardTemplateCreateRequest request = new BoardTemplateCreateRequest(
+                "템플릿", null,
+                List.of(new ColumnItem("할 일", null), new ColumnItem("완료", 3)),
+                List.of(new TagItem("Java", "RED")),
+                List.of(new CardItem(2, "A", "내용"), new CardItem(1, "B", null), new CardItem(2, "C", null))
+            );
+            given(userRepository.findById(user.getId())).willReturn(Optional.of(user));
+            given(markdownRenderer.excerpt(any())).willAnswer(i -> i.getArgument(0));
+            given(boardTemplateRepository.save(any(BoardTemplate.class))).willAnswer(i -> i.getArgument(0));
+            ArgumentCaptor<BoardTemplate> captor = ArgumentCaptor.forClass(BoardTemplate.class);
+
+            // when
+            BoardTemplateResponse response = boardTemplateService.createTemplate(user.getId(), request);
+
+            // then
+            verify(boardTemplateRepository).save(captor.capture());
+            BoardTemplate saved = captor.getValue();
+            assertThat(saved.getColumns()).extracting("position").containsExactly(1, 2);
+            assertThat(saved.getColumns().get(1).getWipLimit()).isEqualTo(3);
+            assertThat(saved.getTags().get(0).getColor()).isEqualTo("#FFADAD");
+            assertThat(saved.getCards()).extracting(BoardTemplateCard::getPosition).containsExactly(1, 1, 2);
+            assertThat(saved.getCards().get(0).getExcerpt()).isEqualTo("내용");
+            assertThat(response.getColumns()).containsExactly("할 일", "완료");
+            assertThat(response.getCardCount()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("실패 - 같은 이름의 템플릿")
+        void createTemplate_fail_duplicateTitle() {
+            // given
+            BoardTemplateCreateRequest request = new BoardTemplateCreateRequest(
+                "템플릿", null, List.of(new ColumnItem("할 일", null)), List.of(), List.of());
+            given(userRepository.findById(user.getId())).willReturn(Optional.of(user));
+            given(boardTemplateRepository.existsByUserIdAndTitle(user.getId(), "템플릿")).willReturn(true);
+
+            // when & then
+            GlobalException exception = assertThrows(GlobalException.class, () ->
+                boardTemplateService.createTemplate(user.getId(), request));
+            assertThat(exception.getGlobalErrorCode()).isEqualTo(GlobalErrorCode.DUPLICATE_TEMPLATE_TITLE);
+            verify(boardTemplateRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("실패 - 컬럼 제목 중복")
+        void createTemplate_fail_duplicateColumn() {
+            // given
+            BoardTemplateCreateRequest request = new BoardTemplateCreateRequest(
+                "템플릿", null, List.of(new ColumnItem("할 일", null), new ColumnItem("할 일", null)), List.of(), List.of());
+            given(userRepository.findById(user.getId())).willReturn(Optional.of(user));
+
+            // when & then
+            GlobalException exception = assertThrows(GlobalException.class, () ->
+                boardTemplateService.createTemplate(user.getId(), request));
+            assertThat(exception.getGlobalErrorCode()).isEqualTo(GlobalErrorCode.DUPLICATE_COLUMN_TITLE);
+        }
+
+        @Test
+        @DisplayName("실패 - 카드가 없는 컬럼 위치를 가리킴")
+        void createTemplate_fail_cardColumnOutOfRange() {
+            // given
+            BoardTemplateCreateRequest request = new BoardTemplateCreateRequest(
+                "템플릿", null, List.of(new ColumnItem("할 일", null)), List.of(), List.of(new CardItem(2, "A", null)));
+            given(userRepository.findById(user.getId())).willReturn(Optional.of(user));
+
+            // when & then
+            GlobalException exception = assertThrows(GlobalException.class, () ->
+                boardTemplateService.createTemplate(user.getId(), request));
+            assertThat(exception.getGlobalErrorCode()).isEqualTo(GlobalErrorCode.INVALID_TEMPLATE);
+        }
+
+        @Test
+        @DisplayName("실패 - 컬럼의 WIP 제한보다 많은 카드")
+        void createTemplate_fail_cardsOverWipLimit() {
+            // given
+            BoardTemplateCreateRequest request = new BoardTemplateCreateRequest(
+                "템플릿", null, List.of(new ColumnItem("할 일", 1)), List.of(),
+                List.of(new CardItem(1, "A", null), new CardItem(1, "B", null)));
+            given(userRepository.findById(user.getId())).willReturn(Optional.of(user));
+
+            // when & then
+            GlobalException exception = assertThrows(GlobalException.class, () ->
+                boardTemplateService.createTemplate(user.getId(), request));
+            assertThat(exception.getGlobalErrorCode()).isEqualTo(GlobalErrorCode.INVALID_TEMPLATE);
+            verify(boardTemplateRepository, never()).save(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("조회")
+    class GetTemplate {
+        @Test
+        @DisplayName("실패 - 다른 사용자의 템플릿")
+        void getTemplate_fail_accessDenied() {
+            // given
+            BoardTemplate template = BoardTemplate.builder().id(10L).title("템플릿").user(user).build();
+            given(boardTemplateRepository.findById(10L)).willReturn(Optional.of(template));
+
+            // when & then
+            GlobalException exception = assertThrows(GlobalException.class, () ->
+                boardTemplateService.getTemplate(10L, 99L));
+            assertThat(exception.getGlobalErrorCode()).isEqualTo(GlobalErrorCode.ACCESS_DENIED_TEMPLATE);
+        }
+    }
+}
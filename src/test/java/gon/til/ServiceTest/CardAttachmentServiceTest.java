@@ -0,0 +1,208 @@
+package gon.til.ServiceTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import gon.til.domain.dto.attachment.AttachmentFile;
+import gon.til.domain.dto.attachment.AttachmentResponse;
+import gon.til.domain.entity.Board;
+import gon.til.domain.entity.Card;
+import gon.til.domain.entity.CardAttachment;
+import gon.til.domain.entity.KanbanColumn;
+import gon.til.domain.entity.Project;
+import gon.til.domain.entity.User;
+import gon.til.domain.repository.CardAttachmentRepository;
+import gon.til.domain.repository.CardRepository;
+import gon.til.domain.service.CardAttachmentService;
+import gon.til.domain.service.ProjectAccessCache;
+import gon.til.global.exception.GlobalErrorCode;
+import gon.til.global.exception.GlobalException;
+import gon.til.global.storage.BlobStore;
+import gon.til.global.storage.BlobStore.StoredBlob;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CardAttachmentService 테스트")
+class CardAttachmentServiceTest {
+
+    private static final String HASH = "a".repeat(64);
+
+    @InjectMocks
+    private CardAttachmentService cardAttachmentService;
+
+    @Mock
+    private CardRepository cardRepository;
+    @Mock
+    private CardAttachmentRepository cardAttachmentRepository;
+    @Mock
+    private BlobStore blobStore;
+    @Mock
+    private ProjectAccessCache projectAccessCache;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private User user;
+    private Card card;
+
+    @BeforeEach
+    void setUp() {
+        // 접근 검사는 실제 규칙대로 (소유자는 통과, 공유받은 사용자는 allows 스텁으로)
+        lenient().doCallRealMethod().when(projectAccessCache).check(any(), any(), any(), any());
+        user = User.builder().id(1L).displayName("testuser").build();
+        Project project = Project.builder().id(1L).user(user).build();
+        Board board = Board.builder().id(1L).project(project).build();
+        KanbanColumn column = KanbanColumn.builder().id(1L).board(board).position(1).build();
+        card = Card.builder().id(1L).title("카드").kanbanColumn(column).user(user).position(1).build();
+    }
+
+    @Nested
+    @DisplayName("업로드")
+    class Upload {
+        @Test
+        @DisplayName("성공 - 파일을 저장한 뒤 해시와 크기로 첨부 파일을 저장")
+        void upload_success() {
+            // given
+            InputStream body = new ByteArrayInputStream(new byte[]{1, 2, 3});
+            given(cardRepository.findById(card.getId())).willReturn(Optional.of(card));
+            given(blobStore.store(body)).willReturn(new StoredBlob(HASH, 3));
+            given(cardAttachmentRepository.save(any(CardAttachment.class))).willAnswer(i -> i.getArgument(0));
+
+            // when
+            AttachmentResponse response = cardAttachmentService.upload(card.getId(), user.getId(), "dir/a.png", "image/png", body);
+
+            // then
+            assertThat(response.getFileName()).isEqualTo("a.png");
+            assertThat(response.getContentType()).isEqualTo("image/png");
+            assertThat(response.getHash()).isEqualTo(HASH);
+            assertThat(response.getSize()).isEqualTo(3L);
+        }
+
+        @Test
+        @DisplayName("성공 - 형식이 없으면 application/octet-stream")
+        void upload_success_defaultContentType() {
+            // given
+            InputStream body = new ByteArrayInputStream(new byte[0]);
+            given(cardRepository.findById(card.getId())).willReturn(Optional.of(card));
+            given(blobStore.store(body)).willReturn(new StoredBlob(HASH, 0));
+            given(cardAttachmentRepository.save(any(CardAttachment.class))).willAnswer(i -> i.getArgument(0));
+
+            // when
+            AttachmentResponse response = cardAttachmentService.upload(card.getId(), user.getId(), "a.bin", null, body);
+
+            // then
+            assertThat(response.getContentType()).isEqualTo("application/octet-stream");
+        }
+
+        @Test
+        @DisplayName("실패 - 권한이 없으면 본문을 읽지 않음")
+        void upload_fail_accessDenied() {
+            // given
+            given(cardRepository.findById(card.getId())).willReturn(Optional.of(card));
+
+            // when & then
+            GlobalException exception = assertThrows(GlobalException.class, () ->
+                cardAttachmentService.upload(card.getId(), 99L, "a.png", "image/png", new ByteArrayInputStream(new byte[1])));
+            assertThat(exception.getGlobalErrorCode()).isEqualTo(GlobalErrorCode.ACCESS_DENIED_CARD);
+            verify(blobStore, never()).store(any());
+        }
+
+        @Test
+        @DisplayName("실패 - 파일 이름이 비어 있음")
+        void upload_fail_invalidFileName() {
+            // when & then
+            GlobalException exception = assertThrows(GlobalException.class, () ->
+                cardAttachmentService.upload(card.getId(), user.getId(), "dir/", "image/png", new ByteArrayInputStream(new byte[1])));
+            assertThat(exception.getGlobalErrorCode()).isEqualTo(GlobalErrorCode.INVALID_ATTACHMENT);
+        }
+
+        @Test
+        @DisplayName("실패 - 잘못된 형식")
+        void upload_fail_invalidContentType() {
+            // when & then
+            GlobalException exception = assertThrows(GlobalException.class, () ->
+                cardAttachmentService.upload(card.getId(), user.getId(), "a.png", "not a type", new ByteArrayInputStream(new byte[1])));
+            assertThat(exception.getGlobalErrorCode()).isEqualTo(GlobalErrorCode.INVALID_ATTACHMENT);
+        }
+    }
+
+    @Nested
+    @DisplayName("다운로드")
+    class Download {
+        @Test
+        @DisplayName("성공 - 저장소의 파일 경로를 반환")
+        void getFile_success() {
+            // given
+            CardAttachment attachment = attachment();
+            given(cardAttachmentRepository.findById(attachment.getId())).willReturn(Optional.of(attachment));
+            given(blobStore.locate(HASH)).willReturn(Path.of("/blobs/aa/aa", HASH));
+
+            // when
+            AttachmentFile file = cardAttachmentService.getFile(attachment.getId(), user.getId());
+
+            // then
+            assertThat(file.path()).isEqualTo(Path.of("/blobs/aa/aa", HASH));
+            assertThat(file.size()).isEqualTo(3L);
+        }
+
+        @Test
+        @DisplayName("실패 - 권한 없음")
+        void getFile_fail_accessDenied() {
+            // given
+            CardAttachment attachment = attachment();
+            given(cardAttachmentRepository.findById(attachment.getId())).willReturn(Optional.of(attachment));
+
+            // when & then
+            GlobalException exception = assertThrows(GlobalException.class, () ->
+                cardAttachmentService.getFile(attachment.getId(), 99L));
+            assertThat(exception.getGlobalErrorCode()).isEqualTo(GlobalErrorCode.ACCESS_DENIED_ATTACHMENT);
+            verify(blobStore, never()).locate(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("삭제")
+    class Delete {
+        @Test
+        @DisplayName("성공 - 행만 지우고 파일은 정리 작업에 맡김")
+        void deleteAttachment_success() {
+            // given
+            CardAttachment attachment = attachment();
+            given(cardAttachmentRepository.findById(attachment.getId())).willReturn(Optional.of(attachment));
+
+            // when
+            cardAttachmentService.deleteAttachment(attachment.getId(), user.getId());
+
+            // then
+            verify(cardAttachmentRepository).delete(attachment);
+            verify(blobStore, never()).delete(any());
+        }
+    }
+
+    private CardAttachment attachment() {
+        return CardAttachment.builder()
+            .id(10L)
+            .card(card)
+            .fileName("a.png")
+            .contentType("image/png")
+            .size(3L)
+            .blobHash(HASH)
+            .build();
+    }
+}
@@ -0,0 +1,92 @@
+package gon.til.ServiceTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import gon.til.domain.event.BoardFlowUpdatedEvent;
+import gon.til.domain.event.CardActivityEvent;
+import gon.til.domain.service.BoardFlowAggregator;
+import gon.til.domain.service.CardEventRecorder;
+import java.util.Collection;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CardEventRecorder 테스트")
+class CardEventRecorderTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private BoardFlowAggregator boardFlowAggregator;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CardEventRecorder cardEventRecorder;
+
+    @BeforeEach
+    void setUp() {
+        cardEventRecorder = new CardEventRecorder(jdbcTemplate, boardFlowAggregator, eventPublisher, transactionManager);
+    }
+
+    @Nested
+    @DisplayName("일괄 저장")
+    class Flush {
+        @Test
+        @DisplayName("성공 - 저장에 실패한 배치는 버리지 않고 다음 flush 에서 새 이벤트보다 먼저 다시 저장")
+        @SuppressWarnings("unchecked")
+        void flush_retriesFailedBatchFirst() {
+            // given
+            CardActivityEvent first = CardActivityEvent.deleted(1L, 10L, 100L, 7L);
+            CardActivityEvent second = CardActivityEvent.restored(2L, 10L, 100L, 7L);
+            given(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .willThrow(new DataAccessResourceFailureException("DB 연결 끊김"))
+                .willReturn(new int[0][]);
+
+            // when - 첫 flush 는 실패
+            cardEventRecorder.onCardActivity(first);
+            cardEventRecorder.flush();
+
+            // then
+            verify(boardFlowAggregator, never()).apply(any());
+            verify(eventPublisher, never()).publishEvent(any(BoardFlowUpdatedEvent.class));
+
+            // when - 다음 flush 에서 실패한 배치부터 저장
+            cardEventRecorder.onCardActivity(second);
+            cardEventRecorder.flush();
+
+            // then
+            ArgumentCaptor<Collection<CardActivityEvent>> captor = ArgumentCaptor.forClass(Collection.class);
+            verify(jdbcTemplate, times(3)).batchUpdate(anyString(), captor.capture(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+            assertThat(captor.getAllValues()).containsExactly(List.of(first), List.of(first), List.of(second));
+            verify(boardFlowAggregator).apply(List.of(first));
+            verify(boardFlowAggregator).apply(List.of(second));
+            verify(eventPublisher, times(2)).publishEvent(any(BoardFlowUpdatedEvent.class));
+
+            // 저장된 배치는 다시 저장하지 않음
+            cardEventRecorder.flush();
+            verify(jdbcTemplate, times(3)).batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        }
+    }
+}
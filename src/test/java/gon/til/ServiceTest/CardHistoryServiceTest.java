@@ -0,0 +1,211 @@
+package gon.til.ServiceTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+
+import gon.til.domain.common.CardEventType;
+import gon.til.domain.dto.cardevent.CardCycleTimeResponse;
+import gon.til.domain.dto.cardevent.WeeklyThroughputResponse;
+import gon.til.domain.entity.Board;
+import gon.til.domain.entity.Card;
+import gon.til.domain.entity.CardEvent;
+import gon.til.domain.entity.KanbanColumn;
+import gon.til.domain.entity.Project;
+import gon.til.domain.entity.User;
+import gon.til.domain.repository.BoardRepository;
+import gon.til.domain.repository.CardEventRepository;
+import gon.til.domain.repository.CardRepository;
+import gon.til.domain.service.CardHistoryService;
+import gon.til.domain.service.ProjectAccessCache;
+import gon.til.global.exception.GlobalErrorCode;
+import gon.til.global.exception.GlobalException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CardHistoryService 테스트")
+class CardHistoryServiceTest {
+
+    @InjectMocks
+    private CardHistoryService cardHistoryService;
+
+    @Mock
+    private CardEventRepository cardEventRepository;
+    @Mock
+    private CardRepository cardRepository;
+    @Mock
+    private BoardRepository boardRepository;
+    @Mock
+    private ProjectAccessCache projectAccessCache;
+
+    private User user;
+    private Board board;
+    private Card card;
+
+    @BeforeEach
+    void setUp() {
+        // 접근 검사는 실제 규칙대로 (소유자는 통과, 공유받은 사용자는 allows 스텁으로)
+        lenient().doCallRealMethod().when(projectAccessCache).check(any(), any(), any(), any());
+        user = User.builder().id(1L).displayName("testuser").build();
+        Project project = Project.builder().id(1L).user(user).build();
+        board = Board.builder().id(1L).project(project).build();
+        KanbanColumn column = KanbanColumn.builder().id(1L).board(board).position(1).build();
+        card = Card.builder().id(1L).title("Test Card").kanbanColumn(column).build();
+    }
+
+    private CardEvent event(CardEventType type, Long toColumnId, LocalDateTime occurredAt) {
+        return CardEvent.builder()
+            .cardId(card.getId())
+            .boardId(board.getId())
+            .type(type)
+            .toColumnId(toColumnId)
+            .occurredAt(occurredAt)
+            .occurredDay((int) occurredAt.toLocalDate().toEpochDay())
+            .build();
+    }
+
+    @Nested
+    @DisplayName("사이클타임 조회")
+    class CycleTime {
+
+        @Test
+        @DisplayName("성공 - 생성, 시작, 완료 시각으로 계산")
+        void getCycleTime_success() {
+            // given
+            LocalDateTime created = LocalDateTime.of(2025, 1, 1, 9, 0);
+            LocalDateTime started = created.plusHours(2);
+            LocalDateTime completed = created.plusHours(5);
+            given(cardRepository.findById(card.getId())).willReturn(Optional.of(card));
+            given(cardEventRepository.findFirstByCardIdAndTypeOrderByOccurredAtAsc(card.getId(), CardEventType.CREATED))
+                .willReturn(Optional.of(event(CardEventType.CREATED, 1L, created)));
+            given(cardEventRepository.findFirstByCardIdAndTypeOrderByOccurredAtAsc(card.getId(), CardEventType.MOVED))
+                .willReturn(Optional.of(event(CardEventType.MOVED, 2L, started)));
+            given(cardEventRepository.findFirstByCardIdAndTypeAndToColumnIdOrderByOccurredAtDesc(card.getId(), CardEventType.MOVED, 3L))
+                .willReturn(Optional.of(event(CardEventType.MOVED, 3L, completed)));
+
+            // when
+            CardCycleTimeResponse response = cardHistoryService.getCycleTime(card.getId(), 3L, user.getId());
+
+            // then
+            assertThat(response.getLeadTimeMinutes()).isEqualTo(300L);
+            assertThat(response.getCycleTimeMinutes()).isEqualTo(180L);
+        }
+
+        @Test
+        @DisplayName("성공 - 아직 완료되지 않은 카드")
+        void getCycleTime_notCompleted() {
+            // given
+            given(cardRepository.findById(card.getId())).willReturn(Optional.of(card));
+            given(cardEventRepository.findFirstByCardIdAndTypeOrderByOccurredAtAsc(card.getId(), CardEventType.CREATED))
+                .willReturn(Optional.of(event(CardEventType.CREATED, 1L, LocalDateTime.now())));
+            given(cardEventRepository.findFirstByCardIdAndTypeOrderByOccurredAtAsc(card.getId(), CardEventType.MOVED))
+                .willReturn(Optional.empty());
+            given(cardEventRepository.findFirstByCardIdAndTypeAndToColumnIdOrderByOccurredAtDesc(card.getId(), CardEventType.MOVED, 3L))
+                .willReturn(Optional.empty());
+
+            // when
+            CardCycleTimeResponse response = cardHistoryService.getCycleTime(card.getId(), 3L, user.getId());
+
+            // then
+            assertThat(response.getCompletedAt()).isNull();
+            assertThat(response.getLeadTimeMinutes()).isNull();
+        }
+
+        @Test
+        @DisplayName("실패 - 권한 없음")
+        void getCycleTime_fail_accessDenied() {
+            // given
+            given(cardRepository.findById(card.getId())).willReturn(Optional.of(card));
+
+            // when & then
+            GlobalException exception = assertThrows(GlobalException.class, () ->
+                cardHistoryService.getCycleTime(card.getId(), 3L, 99L));
+            assertThat(exception.getGlobalErrorCode()).isEqualTo(GlobalErrorCode.ACCESS_DENIED_CARD);
+        }
+    }
+
+    @Nested
+    @DisplayName("주간 처리량 조회")
+    class WeeklyThroughput {
+
+        @Test
+        @DisplayName("성공 - 도착한 카드를 주 단위로 합산")
+        void getWeeklyThroughput_success() {
+            // given
+            LocalDate from = LocalDate.of(2025, 1, 6);  // 월요일
+            LocalDate to = LocalDate.of(2025, 1, 19);   // 2주 뒤 일요일
+            given(boardRepository.findById(board.getId())).willReturn(Optional.of(board));
+            given(cardEventRepository.findArrivalDays(board.getId(), CardEventType.MOVED, 3L,
+                (int) from.toEpochDay(), (int) to.toEpochDay()))
+                .willReturn(List.of(
+                    new Object[]{(int) from.toEpochDay(), 1L},
+                    new Object[]{(int) from.toEpochDay(), 2L},
+                    new Object[]{(int) from.plusDays(3).toEpochDay(), 3L},
+                    new Object[]{(int) from.plusDays(8).toEpochDay(), 4L},
+                    new Object[]{(int) from.plusDays(8).toEpochDay(), 5L},
+                    new Object[]{(int) from.plusDays(9).toEpochDay(), 6L},
+                    new Object[]{(int) from.plusDays(10).toEpochDay(), 7L}
+                ));
+
+            // when
+            List<WeeklyThroughputResponse> result =
+                cardHistoryService.getWeeklyThroughput(board.getId(), 3L, from, to, user.getId());
+
+            // then
+            assertThat(result).hasSize(2);
+            assertThat(result.get(0).getWeekStart()).isEqualTo(from);
+            assertThat(result.get(0).getCompletedCards()).isEqualTo(3L);
+            assertThat(result.get(1).getCompletedCards()).isEqualTo(4L);
+        }
+
+        @Test
+        @DisplayName("성공 - 한 주에 두 번 완료 컬럼에 들어온 카드는 한 번만 셈")
+        void getWeeklyThroughput_sameCardTwiceInWeek() {
+            // given
+            LocalDate from = LocalDate.of(2025, 1, 6);  // 월요일
+            LocalDate to = LocalDate.of(2025, 1, 12);   // 같은 주 일요일
+            given(boardRepository.findById(board.getId())).willReturn(Optional.of(board));
+            given(cardEventRepository.findArrivalDays(board.getId(), CardEventType.MOVED, 3L,
+                (int) from.toEpochDay(), (int) to.toEpochDay()))
+                .willReturn(List.of(
+                    new Object[]{(int) from.toEpochDay(), 1L},              // 월요일 완료
+                    new Object[]{(int) from.plusDays(2).toEpochDay(), 1L}   // 되돌렸다가 수요일에 다시 완료
+                ));
+
+            // when
+            List<WeeklyThroughputResponse> result =
+                cardHistoryService.getWeeklyThroughput(board.getId(), 3L, from, to, user.getId());
+
+            // then
+            assertThat(result).hasSize(1);
+            assertThat(result.get(0).getCompletedCards()).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("실패 - 잘못된 기간")
+        void getWeeklyThroughput_fail_invalidRange() {
+            // given
+            given(boardRepository.findById(board.getId())).willReturn(Optional.of(board));
+
+            // when & then
+            GlobalException exception = assertThrows(GlobalException.class, () ->
+                cardHistoryService.getWeeklyThroughput(board.getId(), 3L,
+                    LocalDate.of(2025, 2, 1), LocalDate.of(2025, 1, 1), user.getId()));
+            assertThat(exception.getGlobalErrorCode()).isEqualTo(GlobalErrorCode.INVALID_DATE_RANGE);
+        }
+    }
+}
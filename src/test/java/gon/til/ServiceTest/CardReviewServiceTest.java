@@ -0,0 +1,276 @@
+package gon.til.ServiceTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import gon.til.domain.common.CardEventType;
+import gon.til.domain.dto.review.CardReviewResponse;
+import gon.til.domain.dto.review.ReviewStreakResponse;
+import gon.til.domain.dto.review.ReviewSubmitRequest;
+import gon.til.domain.entity.Board;
+import gon.til.domain.entity.Card;
+import gon.til.domain.entity.CardReview;
+import gon.til.domain.entity.KanbanColumn;
+import gon.til.domain.entity.Project;
+import gon.til.domain.entity.User;
+import gon.til.domain.event.CardActivityEvent;
+import gon.til.domain.repository.CardEventRepository;
+import gon.til.domain.repository.CardRepository;
+import gon.til.domain.repository.CardReviewRepository;
+import gon.til.domain.repository.KanbanColumnRepository;
+import gon.til.domain.repository.UserRepository;
+import gon.til.domain.service.CardReviewService;
+import gon.til.domain.service.ReviewDueQueue;
+import gon.til.global.exception.GlobalErrorCode;
+import gon.til.global.exception.GlobalException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CardReviewService 테스트")
+class CardReviewServiceTest {
+
+    @InjectMocks
+    private CardReviewService cardReviewService;
+
+    @Mock
+    private CardReviewRepository cardReviewRepository;
+    @Mock
+    private CardRepository cardRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private KanbanColumnRepository kanbanColumnRepository;
+    @Mock
+    private CardEventRepository cardEventRepository;
+    @Mock
+    private ReviewDueQueue reviewDueQueue;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private User user;
+    private KanbanColumn todoColumn;
+    private KanbanColumn reviewColumn;
+    private Card card;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder().id(1L).displayName("testuser").build();
+        Project project = Project.builder().id(1L).user(user).build();
+        Board board = Board.builder().id(1L).project(project).build();
+        todoColumn = KanbanColumn.builder().id(1L).board(board).title("할 일").position(1).build();
+        reviewColumn = KanbanColumn.builder().id(4L).board(board)
+            .title(KanbanColumn.DEFAULT_REVIEW_TITLE).position(4).reviewEnabled(true).build();
+        card = Card.builder().id(1L).title("Test Card").kanbanColumn(reviewColumn).user(user).build();
+    }
+
+    @Nested
+    @DisplayName("복습 일정 자동 등록")
+    class Enroll {
+
+        @Test
+        @DisplayName("성공 - 복습 필요 컬럼으로 이동하면 하루 뒤 복습으로 등록")
+        void enroll_OnMoveToReviewColumn() {
+            // given
+            CardActivityEvent event = CardActivityEvent.moved(card, todoColumn.getId(), user.getId());
+            given(kanbanColumnRepository.findById(reviewColumn.getId())).willReturn(Optional.of(reviewColumn));
+            given(cardReviewRepository.existsByCardId(card.getId())).willReturn(false);
+            given(cardRepository.findById(card.getId())).willReturn(Optional.of(card));
+            given(cardReviewRepository.save(any(CardReview.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+            // when
+            cardReviewService.onCardActivity(event);
+
+            // then
+            verify(cardReviewRepository).save(any(CardReview.class));
+            verify(reviewDueQueue).offer(any(), eq(user.getId()), eq(card.getId()),
+                eq(event.getOccurredAt().plusDays(1)));
+        }
+
+        @Test
+        @DisplayName("성공 - 다른 멤버가 옮겨도 카드 작성자의 일정으로 등록")
+        void enroll_UnderCardOwner() {
+            // given
+            CardActivityEvent event = CardActivityEvent.moved(card, todoColumn.getId(), 2L);
+            given(kanbanColumnRepository.findById(reviewColumn.getId())).willReturn(Optional.of(reviewColumn));
+            given(cardReviewRepository.existsByCardId(card.getId())).willReturn(false);
+            given(cardRepository.findById(card.getId())).willReturn(Optional.of(card));
+            given(cardReviewRepository.save(any(CardReview.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+            // when
+            cardReviewService.onCardActivity(event);
+
+            // then
+            verify(cardReviewRepository).save(argThat(review -> review.getUser() == user));
+            verify(reviewDueQueue).offer(any(), eq(user.getId()), eq(card.getId()), any());
+        }
+
+        @Test
+        @DisplayName("무시 - 제목이 \"복습 필요\" 여도 복습 컬럼으로 지정되지 않은 컬럼")
+        void enroll_IgnoreColumnNotMarked() {
+            // given
+            KanbanColumn renamed = KanbanColumn.builder().id(5L).board(reviewColumn.getBoard())
+                .title(KanbanColumn.DEFAULT_REVIEW_TITLE).position(5).build();
+            Card renamedCard = Card.builder().id(3L).title("Renamed").kanbanColumn(renamed).user(user).build();
+            given(kanbanColumnRepository.findById(renamed.getId())).willReturn(Optional.of(renamed));
+
+            // when
+            cardReviewService.onCardActivity(CardActivityEvent.moved(renamedCard, todoColumn.getId(), user.getId()));
+
+            // then
+            verify(cardReviewRepository, never()).save(any(CardReview.class));
+        }
+
+        @Test
+        @DisplayName("무시 - 다른 컬럼으로 이동")
+        void enroll_IgnoreOtherColumn() {
+            // given
+            Card todoCard = Card.builder().id(2L).title("Todo").kanbanColumn(todoColumn).build();
+            given(kanbanColumnRepository.findById(todoColumn.getId())).willReturn(Optional.of(todoColumn));
+
+            // when
+            cardReviewService.onCardActivity(CardActivityEvent.moved(todoCard, reviewColumn.getId(), user.getId()));
+
+            // then
+            verify(cardReviewRepository, never()).save(any(CardReview.class));
+        }
+
+        @Test
+        @DisplayName("무시 - 이미 복습 일정이 있는 카드")
+        void enroll_IgnoreAlreadyEnrolled() {
+            // given
+            given(kanbanColumnRepository.findById(reviewColumn.getId())).willReturn(Optional.of(reviewColumn));
+            given(cardReviewRepository.existsByCardId(card.getId())).willReturn(true);
+
+            // when
+            cardReviewService.onCardActivity(CardActivityEvent.moved(card, todoColumn.getId(), user.getId()));
+
+            // then
+            verify(cardReviewRepository, never()).save(any(CardReview.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("복습 결과 제출")
+    class Submit {
+
+        @Test
+        @DisplayName("성공 - 연속으로 기억하면 간격이 1일, 6일, 그 이후 난이도 계수만큼 늘어남")
+        void submit_IntervalGrows() {
+            // given
+            CardReview cardReview = CardReview.enroll(card, user, LocalDateTime.now());
+            given(cardReviewRepository.findByCardId(card.getId())).willReturn(Optional.of(cardReview));
+
+            // when
+            cardReviewService.submitReview(card.getId(), user.getId(), new ReviewSubmitRequest(5));
+            cardReviewService.submitReview(card.getId(), user.getId(), new ReviewSubmitRequest(5));
+            CardReviewResponse response = cardReviewService.submitReview(card.getId(), user.getId(), new ReviewSubmitRequest(5));
+
+            // then
+            assertThat(response.getRepetitions()).isEqualTo(3);
+            assertThat(response.getEaseFactor()).isEqualTo(2.8, offset(1e-9));
+            assertThat(response.getIntervalDays()).isEqualTo(16);
+            verify(eventPublisher, times(3)).publishEvent(any(CardActivityEvent.class));
+        }
+
+        @Test
+        @DisplayName("성공 - 기억에 실패하면 처음부터 다시")
+        void submit_ResetOnFailure() {
+            // given
+            CardReview cardReview = CardReview.enroll(card, user, LocalDateTime.now());
+            given(cardReviewRepository.findByCardId(card.getId())).willReturn(Optional.of(cardReview));
+            cardReviewService.submitReview(card.getId(), user.getId(), new ReviewSubmitRequest(4));
+            cardReviewService.submitReview(card.getId(), user.getId(), new ReviewSubmitRequest(4));
+
+            // when
+            CardReviewResponse response = cardReviewService.submitReview(card.getId(), user.getId(), new ReviewSubmitRequest(1));
+
+            // then
+            assertThat(response.getRepetitions()).isZero();
+            assertThat(response.getIntervalDays()).isEqualTo(1);
+            assertThat(response.getEaseFactor()).isGreaterThanOrEqualTo(1.3);
+        }
+
+        @Test
+        @DisplayName("실패 - 다른 사용자의 복습 일정")
+        void submit_AccessDenied() {
+            // given
+            CardReview cardReview = CardReview.enroll(card, user, LocalDateTime.now());
+            given(cardReviewRepository.findByCardId(card.getId())).willReturn(Optional.of(cardReview));
+
+            // when & then
+            GlobalException exception = assertThrows(GlobalException.class, () ->
+                cardReviewService.submitReview(card.getId(), 99L, new ReviewSubmitRequest(5)));
+            assertThat(exception.getGlobalErrorCode()).isEqualTo(GlobalErrorCode.ACCESS_DENIED_REVIEW);
+        }
+
+        @Test
+        @DisplayName("실패 - 복습 일정이 없는 카드")
+        void submit_NotFound() {
+            // given
+            given(cardReviewRepository.findByCardId(card.getId())).willReturn(Optional.empty());
+
+            // when & then
+            GlobalException exception = assertThrows(GlobalException.class, () ->
+                cardReviewService.submitReview(card.getId(), user.getId(), new ReviewSubmitRequest(5)));
+            assertThat(exception.getGlobalErrorCode()).isEqualTo(GlobalErrorCode.NOT_FOUND_REVIEW);
+        }
+    }
+
+    @Nested
+    @DisplayName("연속 학습일")
+    class Streak {
+
+        @Test
+        @DisplayName("성공 - 오늘부터 끊기지 않은 날만 셈")
+        void streak_CountsConsecutiveDays() {
+            // given
+            int today = (int) LocalDate.now().toEpochDay();
+            given(cardEventRepository.findActiveDays(eq(user.getId()), eq(CardEventType.REVIEWED), anyInt()))
+                .willReturn(List.of(today, today - 1, today - 2, today - 5));
+
+            // when
+            ReviewStreakResponse response = cardReviewService.getStreak(user.getId());
+
+            // then
+            assertThat(response.getCurrentStreak()).isEqualTo(3);
+            assertThat(response.isReviewedToday()).isTrue();
+        }
+
+        @Test
+        @DisplayName("성공 - 오늘 아직 복습하지 않았으면 어제까지의 스트릭 유지")
+        void streak_KeepsYesterday() {
+            // given
+            int today = (int) LocalDate.now().toEpochDay();
+            given(cardEventRepository.findActiveDays(eq(user.getId()), eq(CardEventType.REVIEWED), anyInt()))
+                .willReturn(List.of(today - 1, today - 2));
+
+            // when
+            ReviewStreakResponse response = cardReviewService.getStreak(user.getId());
+
+            // then
+            assertThat(response.getCurrentStreak()).isEqualTo(2);
+            assertThat(response.isReviewedToday()).isFalse();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package gon.til.ServiceTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+
+import gon.til.domain.common.ProjectRole;
+import gon.til.domain.dto.card.CardFilterRequest;
+import gon.til.domain.entity.Project;
+import gon.til.domain.entity.User;
+import gon.til.domain.repository.ProjectRepository;
+import gon.til.domain.service.CardSearchService;
+import gon.til.domain.service.ProjectAccessCache;
+import gon.til.global.exception.GlobalErrorCode;
+import gon.til.global.exception.GlobalException;
+import java.time.LocalDate;
+import java.util.Optional;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * 카드 필터 서비스 테스트
+ * - 쿼리 결과는 CardFilterIntegrationTest 에서 확인하고, 여기서는 쿼리 전에 막히는 경우만 봅니다.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CardSearchService 테스트")
+class CardSearchServiceTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private ProjectAccessCache projectAccessCache;
+
+    @Mock
+    private DataSource dataSource;
+
+    private CardSearchService cardSearchService;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        // 접근 검사는 실제 규칙대로 (소유자는 통과, 공유받은 사용자는 allows 스텁으로)
+        lenient().doCallRealMethod().when(projectAccessCache).check(any(), any(), any(), any());
+        cardSearchService = new CardSearchService(projectRepository, projectAccessCache, dataSource);
+        User owner = User.builder().id(1L).displayName("owner").email("owner@test.com").build();
+        project = Project.builder().id(10L).title("필터 프로젝트").user(owner).build();
+    }
+
+    @Test
+    @DisplayName("실패 - 멤버가 아닌 사용자")
+    void filterCards_fail_accessDenied() {
+        // given
+        given(projectRepository.findById(10L)).willReturn(Optional.of(project));
+        given(projectAccessCache.allows(10L, 2L, ProjectRole.VIEWER)).willReturn(false);
+
+        // when & then
+        GlobalException exception = assertThrows(GlobalException.class, () ->
+            cardSearchService.filterCards(10L, 2L, new CardFilterRequest()));
+        assertThat(exception.getGlobalErrorCode()).isEqualTo(GlobalErrorCode.ACCESS_DENIED_PROJECT);
+    }
+
+    @Test
+    @DisplayName("실패 - 시작일이 종료일보다 늦은 날짜 범위")
+    void filterCards_fail_invalidDateRange() {
+        // given
+        given(projectRepository.findById(10L)).willReturn(Optional.of(project));
+        CardFilterRequest request = new CardFilterRequest();
+        request.setCreatedFrom(LocalDate.of(2026, 3, 5));
+        request.setCreatedTo(LocalDate.of(2026, 3, 1));
+
+        // when & then
+        GlobalException exception = assertThrows(GlobalException.class, () ->
+            cardSearchService.filterCards(10L, 1L, request));
+        assertThat(exception.getGlobalErrorCode()).isEqualTo(GlobalErrorCode.INVALID_DATE_RANGE);
+    }
+}
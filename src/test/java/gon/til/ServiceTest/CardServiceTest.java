@@ -6,11 +6,17 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import gon.til.domain.dto.card.CardCreateRequest;
+import gon.til.domain.dto.card.CardDueDateRequest;
 import gon.til.domain.dto.card.CardResponse;
 import gon.til.domain.dto.card.CardShiftRequest;
+import gon.til.domain.dto.card.CardSummaryResponse;
+import gon.til.domain.dto.card.CardSummaryRow;
+import gon.til.domain.dto.card.CardTagRow;
 import gon.til.domain.dto.card.CardUpdateRequest;
 import gon.til.domain.entity.Board;
 import gon.til.domain.entity.Card;
@@ -18,14 +24,21 @@ import gon.til.domain.entity.KanbanColumn;
 import gon.til.domain.entity.Project;
 import gon.til.domain.entity.Tag;
 import gon.til.domain.entity.User;
+import gon.til.domain.event.CardActivityEvent;
 import gon.til.domain.repository.CardRepository;
 import gon.til.domain.repository.KanbanColumnRepository;
+import gon.til.domain.repository.ProjectRepository;
 import gon.til.domain.repository.TagRepository;
 import gon.til.domain.repository.UserRepository;
+import gon.til.domain.service.CardReminderQueue;
 import gon.til.domain.service.CardService;
 import gon.til.domain.service.CardTagService;
+import gon.til.domain.service.MarkdownRenderer;
+import gon.til.domain.service.ProjectAccessCache;
 import gon.til.global.exception.GlobalErrorCode;
 import gon.til.global.exception.GlobalException;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -35,6 +48,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("CardService 테스트")
@@ -52,6 +66,16 @@ class CardServiceTest {
     private UserRepository userRepository;
     @Mock
     private TagRepository tagRepository;
+    @Mock
+    private ProjectRepository projectRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private MarkdownRenderer markdownRenderer;
+    @Mock
+    private CardReminderQueue cardReminderQueue;
+    @Mock
+    private ProjectAccessCache projectAccessCache;
 
     private User user;
     private Project project;
@@ -62,6 +86,8 @@ class CardServiceTest {
 
     @BeforeEach
     void setUp() {
+        // 접근 검사는 실제 규칙대로 (소유자는 통과, 공유받은 사용자는 allows 스텁으로)
+        lenient().doCallRealMethod().when(projectAccessCache).check(any(), any(), any(), any());
         user = User.builder().id(1L).displayName("testuser").build();
         project = Project.builder().id(1L).user(user).build();
         board = Board.builder().id(1L).project(project).build();
@@ -87,6 +113,7 @@ class CardServiceTest {
             CardCreateRequest request = new CardCreateRequest(column.getId(), "새 카드", "내용");
             given(kanbanColumnRepository.findById(column.getId())).willReturn(Optional.of(column));
             given(userRepository.findById(user.getId())).willReturn(Optional.of(user));
+            given(kanbanColumnRepository.incrementCardCount(column.getId())).willReturn(1);
             given(cardRepository.save(any(Card.class))).willAnswer(i -> {
                 Card argument = i.getArgument(0);
                 return Card.builder()
@@ -121,6 +148,22 @@ class CardServiceTest {
                 cardService.createCard(column.getId(), otherUserId, request));
             assertThat(exception.getGlobalErrorCode()).isEqualTo(GlobalErrorCode.ACCESS_DENIED_COLUMN);
         }
+
+        @Test
+        @DisplayName("실패 - WIP 제한 초과")
+        void createCard_fail_wipLimitExceeded() {
+            // given
+            CardCreateRequest request = new CardCreateRequest(column.getId(), "새 카드", "내용");
+            given(kanbanColumnRepository.findById(column.getId())).willReturn(Optional.of(column));
+            given(userRepository.findById(user.getId())).willReturn(Optional.of(user));
+            given(kanbanColumnRepository.incrementCardCount(column.getId())).willReturn(0);
+
+            // when & then
+            GlobalException exception = assertThrows(GlobalException.class, () ->
+                cardService.createCard(column.getId(), user.getId(), request));
+            assertThat(exception.getGlobalErrorCode()).isEqualTo(GlobalErrorCode.WIP_LIMIT_EXCEEDED);
+            verify(cardRepository, never()).save(any(Card.class));
+        }
     }
 
     @Nested
@@ -154,6 +197,47 @@ class CardServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("카드 요약 조회")
+    class FindCardSummaries {
+        @Test
+        @DisplayName("성공 - 본문 없이 제목, 요약, 위치, 컬럼, 태그만 반환")
+        void findAllCardSummaries_success() {
+            // given
+            given(projectRepository.findById(project.getId())).willReturn(Optional.of(project));
+            given(cardRepository.findSummaryRowsByProjectId(project.getId())).willReturn(List.of(
+                new CardSummaryRow(card.getId(), card.getTitle(), "Test Content", card.getPosition(), column.getId(), null),
+                new CardSummaryRow(2L, "태그 없는 카드", "", 2, column.getId(), null)));
+            given(cardRepository.findTagRowsByProjectId(project.getId())).willReturn(List.of(
+                new CardTagRow(card.getId(), tag.getId(), tag.getName(), tag.getColor(), project.getId())));
+
+            // when
+            List<CardSummaryResponse> summaries = cardService.findAllCardSummaries(project.getId(), user.getId());
+
+            // then
+            assertThat(summaries).hasSize(2);
+            assertThat(summaries.get(0).getTitle()).isEqualTo(card.getTitle());
+            assertThat(summaries.get(0).getExcerpt()).isEqualTo("Test Content");
+            assertThat(summaries.get(0).getColumnId()).isEqualTo(column.getId());
+            assertThat(summaries.get(0).getTags()).extracting("name").containsExactly(tag.getName());
+            assertThat(summaries.get(1).getTags()).isEmpty();
+            verify(cardRepository, never()).findRowsByProjectId(any());
+        }
+
+        @Test
+        @DisplayName("실패 - 권한 없음")
+        void findAllCardSummaries_fail_accessDenied() {
+            // given
+            given(projectRepository.findById(project.getId())).willReturn(Optional.of(project));
+
+            // when & then
+            GlobalException exception = assertThrows(GlobalException.class, () ->
+                cardService.findAllCardSummaries(project.getId(), 99L));
+            assertThat(exception.getGlobalErrorCode()).isEqualTo(GlobalErrorCode.ACCESS_DENIED_PROJECT);
+            verify(cardRepository, never()).findSummaryRowsByProjectId(any());
+        }
+    }
+
     @Nested
     @DisplayName("카드 수정")
     class UpdateCard {
@@ -161,8 +245,10 @@ class CardServiceTest {
         @DisplayName("성공")
         void updateCard_success() {
             // given
-            CardUpdateRequest request = new CardUpdateRequest("수정된 제목", "수정된 내용");
+            CardUpdateRequest request = new CardUpdateRequest("수정된 제목", "**수정된** 내용");
             given(cardRepository.findById(card.getId())).willReturn(Optional.of(card));
+            given(markdownRenderer.excerpt(request.getContent())).willReturn("수정된 내용");
+            given(markdownRenderer.renderHtml(request.getContent())).willReturn("<p><strong>수정된</strong> 내용</p>\n");
 
             // when
             CardResponse updatedCard = cardService.updateCard(card.getId(), user.getId(), request);
@@ -170,6 +256,73 @@ class CardServiceTest {
             // then
             assertEquals(request.getTitle(), updatedCard.getTitle());
             assertEquals(request.getContent(), updatedCard.getContent());
+            assertEquals("<p><strong>수정된</strong> 내용</p>\n", updatedCard.getContentHtml());
+            assertEquals("수정된 내용", card.getExcerpt());
+        }
+
+        @Test
+        @DisplayName("성공 - 본문이 그대로면 요약을 다시 만들지 않음")
+        void updateCard_success_contentUnchanged() {
+            // given
+            CardUpdateRequest request = new CardUpdateRequest("수정된 제목", card.getContent());
+            given(cardRepository.findById(card.getId())).willReturn(Optional.of(card));
+
+            // when
+            cardService.updateCard(card.getId(), user.getId(), request);
+
+            // then
+            verify(markdownRenderer, never()).excerpt(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("마감일/알림 설정")
+    class UpdateDueDate {
+        @Test
+        @DisplayName("성공 - 알림을 큐에 넣음")
+        void updateDueDate_success() {
+            // given
+            LocalDateTime dueAt = LocalDateTime.now().plusDays(1);
+            LocalDateTime remindAt = dueAt.minusHours(1);
+            given(cardRepository.findById(card.getId())).willReturn(Optional.of(card));
+
+            // when
+            CardResponse response = cardService.updateDueDate(card.getId(), user.getId(), new CardDueDateRequest(dueAt, remindAt));
+
+            // then
+            assertThat(response.getDueAt()).isEqualTo(dueAt);
+            assertThat(response.getRemindAt()).isEqualTo(remindAt);
+            verify(cardReminderQueue).offer(card.getId(), user.getId(), remindAt);
+        }
+
+        @Test
+        @DisplayName("성공 - 마감일을 지우면 알림도 지워지고 큐에서 빠짐")
+        void updateDueDate_success_clear() {
+            // given
+            card.updateDueDate(LocalDateTime.now().plusDays(1), LocalDateTime.now());
+            given(cardRepository.findById(card.getId())).willReturn(Optional.of(card));
+
+            // when
+            cardService.updateDueDate(card.getId(), user.getId(), new CardDueDateRequest(null, LocalDateTime.now()));
+
+            // then
+            assertThat(card.getRemindAt()).isNull();
+            verify(cardReminderQueue).cancel(card.getId());
+            verify(cardReminderQueue, never()).offer(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("실패 - 알림 시각이 마감일보다 늦음")
+        void updateDueDate_fail_remindAfterDue() {
+            // given
+            LocalDateTime dueAt = LocalDateTime.now().plusDays(1);
+            given(cardRepository.findById(card.getId())).willReturn(Optional.of(card));
+
+            // when & then
+            GlobalException exception = assertThrows(GlobalException.class, () ->
+                cardService.updateDueDate(card.getId(), user.getId(), new CardDueDateRequest(dueAt, dueAt.plusMinutes(1))));
+            assertThat(exception.getGlobalErrorCode()).isEqualTo(GlobalErrorCode.INVALID_CARD_REMINDER);
+            assertThat(card.getDueAt()).isNull();
         }
     }
 
@@ -184,6 +337,7 @@ class CardServiceTest {
             Integer newPosition = 1;
             given(cardRepository.findById(card.getId())).willReturn(Optional.of(card));
             given(kanbanColumnRepository.findById(newColumn.getId())).willReturn(Optional.of(newColumn));
+            given(kanbanColumnRepository.incrementCardCount(newColumn.getId())).willReturn(1);
 
             // when
             CardResponse shiftedCard = cardService.shiftCard(card.getId(), user.getId(), new CardShiftRequest(newColumn.getId(), newPosition));
@@ -191,11 +345,101 @@ class CardServiceTest {
             // then
             verify(cardRepository).decrementPositionsAfter(column.getId(), card.getPosition());
             verify(cardRepository).incrementPositionsFrom(newColumn.getId(), newPosition);
+            verify(eventPublisher).publishEvent(any(CardActivityEvent.class));
+            verify(kanbanColumnRepository).decrementCardCount(column.getId());
                         assertThat(shiftedCard.getColumnId()).isEqualTo(newColumn.getId());
             assertThat(shiftedCard.getPosition()).isEqualTo(newPosition);
         }
+
+        @Test
+        @DisplayName("실패 - 새 컬럼의 WIP 제한 초과")
+        void shiftCard_fail_wipLimitExceeded() {
+            // given
+            KanbanColumn newColumn = KanbanColumn.builder().id(2L).board(board).wipLimit(1).build();
+            given(cardRepository.findById(card.getId())).willReturn(Optional.of(card));
+            given(kanbanColumnRepository.findById(newColumn.getId())).willReturn(Optional.of(newColumn));
+            given(kanbanColumnRepository.incrementCardCount(newColumn.getId())).willReturn(0);
+
+            // when & then
+            GlobalException exception = assertThrows(GlobalException.class, () ->
+                cardService.shiftCard(card.getId(), user.getId(), new CardShiftRequest(newColumn.getId(), 1)));
+            assertThat(exception.getGlobalErrorCode()).isEqualTo(GlobalErrorCode.WIP_LIMIT_EXCEEDED);
+            verify(kanbanColumnRepository, never()).decrementCardCount(any());
+            assertThat(card.getKanbanColumn()).isEqualTo(column);
+        }
+
+        @Test
+        @DisplayName("실패 - 다른 보드의 컬럼으로는 옮길 수 없음")
+        void shiftCard_fail_otherBoard() {
+            // given
+            Board otherBoard = Board.builder().id(2L).project(Project.builder().id(2L).build()).build();
+            KanbanColumn otherColumn = KanbanColumn.builder().id(3L).board(otherBoard).build();
+            given(cardRepository.findById(card.getId())).willReturn(Optional.of(card));
+            given(kanbanColumnRepository.findById(otherColumn.getId())).willReturn(Optional.of(otherColumn));
+
+            // when & then
+            GlobalException exception = assertThrows(GlobalException.class, () ->
+                cardService.shiftCard(card.getId(), user.getId(), new CardShiftRequest(otherColumn.getId(), 1)));
+            assertThat(exception.getGlobalErrorCode()).isEqualTo(GlobalErrorCode.INVALID_CARD_SHIFT);
+            verify(kanbanColumnRepository, never()).incrementCardCount(any());
+            verify(kanbanColumnRepository, never()).decrementCardCount(any());
+            assertThat(card.getKanbanColumn()).isEqualTo(column);
+        }
     }
 
-    
-}
+    @Nested
+    @DisplayName("카드 복원")
+    class RestoreCard {
+        @Test
+        @DisplayName("성공 - 원래 컬럼의 맨 끝으로 돌아오고 카드 수가 늘어남")
+        void restoreCard_success() {
+            // given
+            card.softDelete(LocalDateTime.now());
+            given(cardRepository.findDeletedById(card.getId())).willReturn(Optional.of(card));
+            given(kanbanColumnRepository.findById(column.getId())).willReturn(Optional.of(column));
+            given(kanbanColumnRepository.incrementCardCount(column.getId())).willReturn(1);
+            given(cardRepository.findMaxPosition(column.getId())).willReturn(4);
+
+            // when
+            CardResponse response = cardService.restoreCard(card.getId(), user.getId());
+
+            // then
+            assertThat(card.getDeletedAt()).isNull();
+            assertThat(card.getPosition()).isEqualTo(5);
+            assertThat(response.getColumnId()).isEqualTo(column.getId());
+            verify(eventPublisher).publishEvent(any(CardActivityEvent.class));
+        }
+
+        @Test
+        @DisplayName("실패 - 컬럼도 휴지통에 있음")
+        void restoreCard_fail_columnDeleted() {
+            // given
+            card.softDelete(LocalDateTime.now());
+            given(cardRepository.findDeletedById(card.getId())).willReturn(Optional.of(card));
+            given(kanbanColumnRepository.findById(column.getId())).willReturn(Optional.empty());
+
+            // when & then
+            GlobalException exception = assertThrows(GlobalException.class, () ->
+                cardService.restoreCard(card.getId(), user.getId()));
+            assertThat(exception.getGlobalErrorCode()).isEqualTo(GlobalErrorCode.NOT_FOUND_COLUMN);
+            verify(kanbanColumnRepository, never()).incrementCardCount(any());
+            assertThat(card.getDeletedAt()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("실패 - WIP 제한 초과")
+        void restoreCard_fail_wipLimitExceeded() {
+            // given
+            card.softDelete(LocalDateTime.now());
+            given(cardRepository.findDeletedById(card.getId())).willReturn(Optional.of(card));
+            given(kanbanColumnRepository.findById(column.getId())).willReturn(Optional.of(column));
+            given(kanbanColumnRepository.incrementCardCount(column.getId())).willReturn(0);
 
+            // when & then
+            GlobalException exception = assertThrows(GlobalException.class, () ->
+                cardService.restoreCard(card.getId(), user.getId()));
+            assertThat(exception.getGlobalErrorCode()).isEqualTo(GlobalErrorCode.WIP_LIMIT_EXCEEDED);
+            assertThat(card.getDeletedAt()).isNotNull();
+        }
+    }
+}
@@ -5,6 +5,8 @@ import gon.til.domain.entity.*;
 import gon.til.domain.repository.CardRepository;
 import gon.til.domain.repository.TagRepository;
 import gon.til.domain.service.CardTagService;
+import gon.til.domain.service.MarkdownRenderer;
+import gon.til.domain.service.ProjectAccessCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -13,11 +15,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -32,6 +37,12 @@ class CardTagServiceTest {
     private CardRepository cardRepository;
     @Mock
     private TagRepository tagRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private MarkdownRenderer markdownRenderer;
+    @Mock
+    private ProjectAccessCache projectAccessCache;
 
     private User user;
     private Project project;
@@ -42,6 +53,8 @@ class CardTagServiceTest {
 
     @BeforeEach
     void setUp() {
+        // 접근 검사는 실제 규칙대로 (소유자는 통과, 공유받은 사용자는 allows 스텁으로)
+        lenient().doCallRealMethod().when(projectAccessCache).check(any(), any(), any(), any());
         user = User.builder().id(1L).displayName("testuser").build();
         project = Project.builder().id(1L).user(user).build();
         board = Board.builder().id(1L).project(project).build();
@@ -1,16 +1,23 @@
 package gon.til.ServiceTest;
 
+import gon.til.domain.common.CardEventType;
 import gon.til.domain.dto.kanbancolumn.KanbanColumnResponse;
+import gon.til.domain.dto.kanbancolumn.KanbanColumnWipLimitRequest;
 import gon.til.domain.dto.kanbancolumn.KanbanColumnCreateRequest;
 import gon.til.domain.entity.Board;
 import gon.til.domain.entity.KanbanColumn;
 import gon.til.domain.entity.Project;
 import gon.til.domain.entity.User;
+import gon.til.domain.event.CardActivityEvent;
 import gon.til.domain.repository.BoardRepository;
+import gon.til.domain.repository.CardRepository;
 import gon.til.domain.repository.KanbanColumnRepository;
+import gon.til.domain.repository.ProjectRepository;
 import gon.til.domain.service.KanbanColumnService;
+import gon.til.domain.service.ProjectAccessCache;
 import gon.til.global.exception.GlobalErrorCode;
 import gon.til.global.exception.GlobalException;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -22,6 +29,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -40,6 +48,18 @@ class KanbanColumnServiceTest {
     @Mock
     private BoardRepository boardRepository;
 
+    @Mock
+    private CardRepository cardRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private ProjectAccessCache projectAccessCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private KanbanColumnService kanbanColumnService;
 
@@ -50,6 +70,8 @@ class KanbanColumnServiceTest {
 
     @BeforeEach
     void setUp() {
+        // 접근 검사는 실제 규칙대로 (소유자는 통과, 공유받은 사용자는 allows 스텁으로)
+        lenient().doCallRealMethod().when(projectAccessCache).check(any(), any(), any(), any());
         user = User.builder().id(1L).build();
         project = Project.builder().id(1L).user(user).build();
         board = Board.builder().id(1L).project(project).build();
@@ -96,7 +118,7 @@ class KanbanColumnServiceTest {
         KanbanColumn columnToDelete = columns.get(1);
 
         given(kanbanColumnRepository.findById(columnToDeleteId)).willReturn(Optional.of(columnToDelete));
-        doNothing().when(kanbanColumnRepository).delete(columnToDelete);
+        given(cardRepository.findIdsByColumnId(columnToDeleteId)).willReturn(List.of(10L, 11L));
 
         // 삭제 후 남을 컬럼들 (reorderPositions가 호출될 때 반환될 리스트)
         List<KanbanColumn> remainingColumns = new ArrayList<>();
@@ -109,17 +131,73 @@ class KanbanColumnServiceTest {
         kanbanColumnService.deleteColumn(columnToDeleteId, user.getId());
 
         // then
-        // 1. delete 메서드가 호출되었는지 검증
-        verify(kanbanColumnRepository).delete(columnToDelete);
-        
-        // 2. reorderPositions 내부의 findByBoardIdOrderByPosition가 호출되었는지 검증
+        // 1. 컬럼은 휴지통으로 옮겨지고, 남은 카드도 같은 시각으로 지워졌는지 검증
+        assertThat(columnToDelete.getDeletedAt()).isNotNull();
+        verify(cardRepository).softDeleteByColumnId(columnToDeleteId, columnToDelete.getDeletedAt());
+        verify(kanbanColumnRepository, never()).delete(any());
+
+        // 2. 컬럼과 함께 지운 카드마다 DELETED 이벤트 발행
+        ArgumentCaptor<CardActivityEvent> captor = ArgumentCaptor.forClass(CardActivityEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(captor.capture());
+        assertThat(captor.getAllValues()).extracting(CardActivityEvent::getCardId).containsExactly(10L, 11L);
+        assertThat(captor.getAllValues()).allSatisfy(event -> {
+            assertThat(event.getType()).isEqualTo(CardEventType.DELETED);
+            assertThat(event.getFromColumnId()).isEqualTo(columnToDeleteId);
+            assertThat(event.getBoardId()).isEqualTo(board.getId());
+        });
+
+        // 3. reorderPositions 내부의 findByBoardIdOrderByPosition가 호출되었는지 검증
         verify(kanbanColumnRepository, times(1)).findByBoardIdOrderByPosition(board.getId());
 
-        // 3. 남은 컬럼들의 position이 1과 2로 재정렬되었는지 검증
+        // 4. 남은 컬럼들의 position이 1과 2로 재정렬되었는지 검증
         assertThat(remainingColumns.get(0).getPosition()).isEqualTo(1);
         assertThat(remainingColumns.get(1).getPosition()).isEqualTo(2);
     }
 
+    @Test
+    @DisplayName("컬럼 복원 성공 - 마지막 위치로 돌아오고, 함께 지운 카드도 복원")
+    void restoreColumn_success() {
+        // given
+        KanbanColumn deleted = KanbanColumn.builder().id(4L).title("Review").position(2).board(board).build();
+        LocalDateTime deletedAt = LocalDateTime.of(2024, 1, 1, 9, 0);
+        deleted.softDelete(deletedAt);
+        given(kanbanColumnRepository.findDeletedById(4L)).willReturn(Optional.of(deleted));
+        given(projectRepository.existsById(project.getId())).willReturn(true);
+        given(kanbanColumnRepository.existsByBoardIdAndTitle(board.getId(), "Review")).willReturn(false);
+        given(kanbanColumnRepository.findByBoardIdOrderByPosition(board.getId())).willReturn(columns);
+        given(cardRepository.findDeletedIdsByColumnId(4L, deletedAt)).willReturn(List.of(20L));
+
+        // when
+        KanbanColumnResponse response = kanbanColumnService.restoreColumn(4L, user.getId());
+
+        // then
+        assertThat(deleted.getDeletedAt()).isNull();
+        assertThat(response.getPosition()).isEqualTo(columns.size() + 1);
+        verify(cardRepository).restoreByColumnId(4L, deletedAt);
+        ArgumentCaptor<CardActivityEvent> captor = ArgumentCaptor.forClass(CardActivityEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().getCardId()).isEqualTo(20L);
+        assertThat(captor.getValue().getType()).isEqualTo(CardEventType.RESTORED);
+        assertThat(captor.getValue().getToColumnId()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("컬럼 복원 실패 - 같은 이름의 컬럼이 이미 있음")
+    void restoreColumn_fail_duplicateTitle() {
+        // given
+        KanbanColumn deleted = KanbanColumn.builder().id(4L).title("Done").position(3).board(board).build();
+        deleted.softDelete(LocalDateTime.now());
+        given(kanbanColumnRepository.findDeletedById(4L)).willReturn(Optional.of(deleted));
+        given(projectRepository.existsById(project.getId())).willReturn(true);
+        given(kanbanColumnRepository.existsByBoardIdAndTitle(board.getId(), "Done")).willReturn(true);
+
+        // when & then
+        GlobalException exception = assertThrows(GlobalException.class, () ->
+            kanbanColumnService.restoreColumn(4L, user.getId()));
+        assertThat(exception.getErrorCode()).isEqualTo(GlobalErrorCode.DUPLICATE_COLUMN.getCode());
+        verify(cardRepository, never()).restoreByColumnId(anyLong(), any());
+    }
+
     @Test
     @DisplayName("컬럼 순서 변경 성공")
     void updateColumnPositions_success() {
@@ -176,4 +254,19 @@ class KanbanColumnServiceTest {
         
         assertThat(exception.getErrorCode()).isEqualTo(GlobalErrorCode.ACCESS_DENIED_COLUMN.getCode());
     }
+
+    @Test
+    @DisplayName("WIP 제한 변경 성공")
+    void updateWipLimit_success() {
+        // given
+        KanbanColumn column = columns.get(1);
+        given(kanbanColumnRepository.findById(column.getId())).willReturn(Optional.of(column));
+
+        // when
+        KanbanColumnResponse response = kanbanColumnService.updateWipLimit(column.getId(), user.getId(), new KanbanColumnWipLimitRequest(3));
+
+        // then
+        assertThat(response.getWipLimit()).isEqualTo(3);
+        assertThat(column.getWipLimit()).isEqualTo(3);
+    }
 }
@@ -0,0 +1,123 @@
+package gon.til.ServiceTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import gon.til.domain.service.MarkdownRenderer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("MarkdownRenderer 테스트")
+class MarkdownRendererTest {
+
+    private MarkdownRenderer markdownRenderer;
+
+    @BeforeEach
+    void setUp() {
+        markdownRenderer = new MarkdownRenderer(2);
+    }
+
+    @Nested
+    @DisplayName("HTML 렌더링")
+    class RenderHtml {
+        @Test
+        @DisplayName("성공 - 제목, 강조, 표, 취소선, 자동 링크")
+        void renderHtml_success() {
+            // given
+            String markdown = "# 오늘 배운 것\n\n**JPA** ~~N+1~~\n\n| a | b |\n|---|---|\n| 1 | 2 |\n\nhttps://spring.io";
+
+            // when
+            String html = markdownRenderer.renderHtml(markdown);
+
+            // then
+            assertThat(html).contains("<h1>오늘 배운 것</h1>");
+            assertThat(html).contains("<strong>JPA</strong>");
+            assertThat(html).contains("<del>N+1</del>");
+            assertThat(html).contains("<table>");
+            assertThat(html).contains("<a href=\"https://spring.io\">https://spring.io</a>");
+        }
+
+        @Test
+        @DisplayName("성공 - 본문의 HTML 태그와 javascript: 링크는 실행되지 않게 바꿈")
+        void renderHtml_sanitized() {
+            // given
+            String markdown = "<script>alert(1)</script>\n\n[클릭](javascript:alert(1)) <img src=x onerror=alert(1)>";
+
+            // when
+            String html = markdownRenderer.renderHtml(markdown);
+
+            // then
+            assertThat(html).doesNotContain("<script>");
+            assertThat(html).doesNotContain("<img");
+            assertThat(html).doesNotContain("javascript:");
+            assertThat(html).contains("&lt;script&gt;");
+        }
+
+        @Test
+        @DisplayName("성공 - 같은 본문은 캐시된 결과를 그대로 반환")
+        void renderHtml_cached() {
+            // when
+            String first = markdownRenderer.renderHtml("같은 *본문*");
+            String second = markdownRenderer.renderHtml("같은 *본문*");
+
+            // then
+            assertThat(second).isSameAs(first);
+        }
+
+        @Test
+        @DisplayName("성공 - 캐시 크기를 넘으면 가장 오래 안 쓴 본문부터 다시 렌더링")
+        void renderHtml_evictsLeastRecentlyUsed() {
+            // given (캐시 크기 2)
+            String a = markdownRenderer.renderHtml("A");
+            String b = markdownRenderer.renderHtml("B");
+            markdownRenderer.renderHtml("A");   // A 를 다시 써서 B 가 가장 오래 안 쓴 항목이 됨
+
+            // when
+            markdownRenderer.renderHtml("C");
+
+            // then
+            assertThat(markdownRenderer.renderHtml("A")).isSameAs(a);
+            assertThat(markdownRenderer.renderHtml("B")).isEqualTo(b).isNotSameAs(b);
+        }
+
+        @Test
+        @DisplayName("성공 - 본문이 없으면 null")
+        void renderHtml_null() {
+            assertThat(markdownRenderer.renderHtml(null)).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("요약 생성")
+    class Excerpt {
+        @Test
+        @DisplayName("성공 - Markdown 기호를 빼고 공백을 한 칸으로 정리")
+        void excerpt_plainText() {
+            // when
+            String excerpt = markdownRenderer.excerpt(
+                "## 제목\n\n- **첫째**\n- `둘째`\n\n[링크](https://spring.io) ![그림](a.png) <b>굵게</b>");
+
+            // then
+            assertThat(excerpt).isEqualTo("제목 첫째 둘째 링크 굵게");
+        }
+
+        @Test
+        @DisplayName("성공 - 최대 길이를 넘으면 잘라서 말줄임표를 붙임")
+        void excerpt_truncated() {
+            // when
+            String excerpt = markdownRenderer.excerpt("가".repeat(MarkdownRenderer.EXCERPT_LENGTH + 50));
+
+            // then
+            assertThat(excerpt).hasSize(MarkdownRenderer.EXCERPT_LENGTH);
+            assertThat(excerpt).endsWith("…");
+        }
+
+        @Test
+        @DisplayName("성공 - 본문이 없으면 빈 문자열")
+        void excerpt_empty() {
+            assertThat(markdownRenderer.excerpt(null)).isEmpty();
+            assertThat(markdownRenderer.excerpt("   ")).isEmpty();
+        }
+    }
+}
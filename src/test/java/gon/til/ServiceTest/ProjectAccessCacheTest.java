@@ -0,0 +1,211 @@
+package gon.til.ServiceTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import gon.til.domain.common.ProjectRole;
+import gon.til.domain.entity.Project;
+import gon.til.domain.entity.User;
+import gon.til.domain.event.ProjectAccessChangedEvent;
+import gon.til.domain.service.ProjectAccessCache;
+import gon.til.global.exception.GlobalErrorCode;
+import gon.til.global.exception.GlobalException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * 역할은 H2 의 project_members 한 테이블에서 읽습니다.
+ * 조회 직후(커넥션을 돌려줄 때) 끼어들 동작을 afterLoad 에 걸어 두면, 읽기와 캐시에 넣기 사이에 일어난 일처럼 실행됩니다.
+ */
+@DisplayName("ProjectAccessCache 테스트")
+class ProjectAccessCacheTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private DataSource dataSource;
+    private final AtomicReference<Runnable> afterLoad = new AtomicReference<>();
+
+    @BeforeEach
+    void setUp() {
+        DataSource h2 = new DriverManagerDataSource(
+            "jdbc:h2:mem:access-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(h2);
+        jdbcTemplate.execute("CREATE TABLE project_members (project_id BIGINT, user_id BIGINT, role VARCHAR(16))");
+        dataSource = new DelegatingDataSource(h2) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return withAfterLoad(super.getConnection());
+            }
+        };
+    }
+
+    @Nested
+    @DisplayName("역할 조회")
+    class RoleOf {
+        @Test
+        @DisplayName("성공 - cacheTtl 안에서는 DB 가 바뀌어도 캐시한 역할, 지나면 다시 읽음")
+        void roleOf_cachedUntilTtl() {
+            // given
+            addMember(1L, 2L, ProjectRole.EDITOR);
+            ProjectAccessCache cached = cache(Duration.ofMinutes(1), 100);
+            ProjectAccessCache expiring = cache(Duration.ZERO, 100);
+            cached.roleOf(1L, 2L);
+            expiring.roleOf(1L, 2L);
+
+            // when
+            changeRole(1L, 2L, ProjectRole.VIEWER);
+
+            // then
+            assertThat(cached.roleOf(1L, 2L)).contains(ProjectRole.EDITOR);
+            assertThat(expiring.roleOf(1L, 2L)).contains(ProjectRole.VIEWER);
+        }
+
+        @Test
+        @DisplayName("성공 - 역할 변경 이벤트를 받으면 그 항목만 다시 읽음")
+        void roleOf_reloadAfterAccessChanged() {
+            // given
+            addMember(1L, 2L, ProjectRole.EDITOR);
+            addMember(1L, 3L, ProjectRole.EDITOR);
+            ProjectAccessCache cache = cache(Duration.ofMinutes(1), 100);
+            cache.roleOf(1L, 2L);
+            cache.roleOf(1L, 3L);
+
+            // when
+            jdbcTemplate.update("DELETE FROM project_members");
+            cache.onAccessChanged(new ProjectAccessChangedEvent(1L, 2L));
+
+            // then
+            assertThat(cache.roleOf(1L, 2L)).isEmpty();
+            assertThat(cache.roleOf(1L, 3L)).contains(ProjectRole.EDITOR);
+        }
+
+        @Test
+        @DisplayName("성공 - 읽는 도중에 회수되면 읽은 역할은 이번에만 쓰고 캐시하지 않음")
+        void roleOf_notCachedWhenRevokedDuringLoad() {
+            // given
+            addMember(1L, 2L, ProjectRole.EDITOR);
+            ProjectAccessCache cache = cache(Duration.ofMinutes(1), 100);
+            afterLoad.set(() -> {
+                jdbcTemplate.update("DELETE FROM project_members WHERE project_id = 1 AND user_id = 2");
+                cache.onAccessChanged(new ProjectAccessChangedEvent(1L, 2L));
+            });
+
+            // when
+            Optional<ProjectRole> during = cache.roleOf(1L, 2L);
+
+            // then
+            assertThat(during).contains(ProjectRole.EDITOR);
+            assertThat(cache.roleOf(1L, 2L)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("성공 - cacheSize 를 넘으면 가장 먼저 읽은 항목부터 버림")
+        void roleOf_evictOldestOverCacheSize() {
+            // given
+            addMember(1L, 2L, ProjectRole.EDITOR);
+            addMember(1L, 3L, ProjectRole.EDITOR);
+            addMember(1L, 4L, ProjectRole.EDITOR);
+            ProjectAccessCache cache = cache(Duration.ofMinutes(1), 2);
+            cache.roleOf(1L, 2L);
+            cache.roleOf(1L, 3L);
+            cache.roleOf(1L, 4L);
+
+            // when
+            jdbcTemplate.update("UPDATE project_members SET role = 'VIEWER'");
+
+            // then - 4 를 넣으며 넘쳐서 90%(1개)만 남기고 버렸으므로 마지막에 읽은 4 만 캐시에 있음
+            assertThat(cache.roleOf(1L, 4L)).contains(ProjectRole.EDITOR);
+            assertThat(cache.roleOf(1L, 2L)).contains(ProjectRole.VIEWER);
+        }
+    }
+
+    @Nested
+    @DisplayName("접근 검사")
+    class Check {
+        @Test
+        @DisplayName("성공 - 소유자는 멤버 행 없이 통과, 역할이 충분한 멤버도 통과")
+        void check_ownerAndMember() {
+            // given
+            Project project = Project.builder().id(1L).user(User.builder().id(1L).build()).build();
+            addMember(1L, 2L, ProjectRole.EDITOR);
+            ProjectAccessCache cache = cache(Duration.ofMinutes(1), 100);
+
+            // when & then
+            assertThatCode(() -> cache.check(project, 1L, ProjectRole.OWNER, GlobalErrorCode.ACCESS_DENIED_PROJECT))
+                .doesNotThrowAnyException();
+            assertThatCode(() -> cache.check(project, 2L, ProjectRole.EDITOR, GlobalErrorCode.ACCESS_DENIED_CARD))
+                .doesNotThrowAnyException();
+        }
+
+        @Test
+        @DisplayName("실패 - 역할이 모자라거나 멤버가 아니면 넘긴 에러 코드로 거부")
+        void check_denied() {
+            // given
+            Project project = Project.builder().id(1L).user(User.builder().id(1L).build()).build();
+            addMember(1L, 2L, ProjectRole.VIEWER);
+            ProjectAccessCache cache = cache(Duration.ofMinutes(1), 100);
+
+            // when & then
+            assertThatThrownBy(() -> cache.check(project, 2L, ProjectRole.EDITOR, GlobalErrorCode.ACCESS_DENIED_CARD))
+                .isInstanceOf(GlobalException.class)
+                .extracting("globalErrorCode")
+                .isEqualTo(GlobalErrorCode.ACCESS_DENIED_CARD);
+            assertThatThrownBy(() -> cache.check(project, 3L, ProjectRole.VIEWER, GlobalErrorCode.ACCESS_DENIED_BOARD))
+                .isInstanceOf(GlobalException.class)
+                .extracting("globalErrorCode")
+                .isEqualTo(GlobalErrorCode.ACCESS_DENIED_BOARD);
+        }
+    }
+
+    private ProjectAccessCache cache(Duration ttl, int size) {
+        // 복제본 라우팅을 켜지 않은 것처럼 primaryDataSource 빈 없이 만듭니다.
+        return new ProjectAccessCache(dataSource,
+            new StaticListableBeanFactory().getBeanProvider(DataSource.class), ttl, size);
+    }
+
+    private void addMember(Long projectId, Long userId, ProjectRole role) {
+        jdbcTemplate.update("INSERT INTO project_members (project_id, user_id, role) VALUES (?, ?, ?)",
+            projectId, userId, role.name());
+    }
+
+    private void changeRole(Long projectId, Long userId, ProjectRole role) {
+        jdbcTemplate.update("UPDATE project_members SET role = ? WHERE project_id = ? AND user_id = ?",
+            role.name(), projectId, userId);
+    }
+
+    // afterLoad 가 걸려 있으면 그 커넥션을 닫을 때 (조회가 끝난 뒤) 한 번 실행합니다.
+    private Connection withAfterLoad(Connection connection) {
+        Runnable hook = afterLoad.getAndSet(null);
+        if (hook == null) {
+            return connection;
+        }
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+            (proxy, method, args) -> {
+                Object result;
+                try {
+                    result = method.invoke(connection, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+                if (method.getName().equals("close")) {
+                    hook.run();
+                }
+                return result;
+            });
+    }
+}
@@ -0,0 +1,69 @@
+package gon.til.ServiceTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import gon.til.domain.entity.Project;
+import gon.til.domain.entity.User;
+import gon.til.domain.repository.ProjectRepository;
+import gon.til.domain.service.ProjectArchiveService;
+import gon.til.domain.service.ProjectBulkOperations;
+import gon.til.global.exception.GlobalErrorCode;
+import gon.til.global.exception.GlobalException;
+import java.util.Optional;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProjectArchiveService 테스트")
+class ProjectArchiveServiceTest {
+
+    @InjectMocks
+    private ProjectArchiveService projectArchiveService;
+
+    @Mock
+    private ProjectRepository projectRepository;
+    @Mock
+    private ProjectBulkOperations projectBulkOperations;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private DataSource dataSource;
+
+    @Test
+    @DisplayName("보관 실패 - 없는 프로젝트")
+    void archiveProject_fail_notFound() {
+        // given
+        given(projectRepository.findById(10L)).willReturn(Optional.empty());
+
+        // when & then
+        GlobalException exception = assertThrows(GlobalException.class, () ->
+            projectArchiveService.archiveProject(10L, 1L));
+        assertThat(exception.getGlobalErrorCode()).isEqualTo(GlobalErrorCode.NOT_FOUND_PROJECT);
+        verify(projectBulkOperations, never()).archive(anyLong());
+    }
+
+    @Test
+    @DisplayName("보관 실패 - 다른 사용자의 프로젝트")
+    void archiveProject_fail_accessDenied() {
+        // given
+        Project project = Project.builder().id(10L).user(User.builder().id(1L).build()).build();
+        given(projectRepository.findById(10L)).willReturn(Optional.of(project));
+
+        // when & then
+        GlobalException exception = assertThrows(GlobalException.class, () ->
+            projectArchiveService.archiveProject(10L, 2L));
+        assertThat(exception.getGlobalErrorCode()).isEqualTo(GlobalErrorCode.ACCESS_DENIED_PROJECT);
+        verify(projectBulkOperations, never()).archive(anyLong());
+    }
+}
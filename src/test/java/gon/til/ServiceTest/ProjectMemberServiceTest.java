@@ -0,0 +1,206 @@
+package gon.til.ServiceTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import gon.til.domain.common.ProjectRole;
+import gon.til.domain.dto.member.ProjectMemberRequest;
+import gon.til.domain.dto.member.ProjectMemberResponse;
+import gon.til.domain.dto.member.ProjectMemberRoleRequest;
+import gon.til.domain.entity.Project;
+import gon.til.domain.entity.ProjectMember;
+import gon.til.domain.entity.User;
+import gon.til.domain.event.ProjectAccessChangedEvent;
+import gon.til.domain.repository.ProjectMemberRepository;
+import gon.til.domain.repository.ProjectRepository;
+import gon.til.domain.repository.UserRepository;
+import gon.til.domain.service.ProjectAccessCache;
+import gon.til.domain.service.ProjectMemberService;
+import gon.til.global.exception.GlobalErrorCode;
+import gon.til.global.exception.GlobalException;
+import gon.til.global.shard.ShardContext;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProjectMemberService 테스트")
+class ProjectMemberServiceTest {
+
+    @InjectMocks
+    private ProjectMemberService projectMemberService;
+
+    @Mock
+    private ProjectMemberRepository projectMemberRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ProjectAccessCache projectAccessCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private User owner;
+    private User friend;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        // 접근 검사는 실제 규칙대로 (소유자는 통과, 공유받은 사용자는 allows 스텁으로)
+        lenient().doCallRealMethod().when(projectAccessCache).check(any(), any(), any(), any());
+        owner = User.builder().id(1L).displayName("owner").email("owner@test.com").build();
+        friend = User.builder().id(2L).displayName("friend").email("friend@test.com").build();
+        project = Project.builder().id(10L).title("공유 프로젝트").user(owner).build();
+    }
+
+    @Nested
+    @DisplayName("멤버 추가")
+    class AddMember {
+
+        @Test
+        @DisplayName("성공 - 저장하고 캐시 무효화 이벤트 발행")
+        void addMember_success() {
+            // given
+            given(projectRepository.findById(10L)).willReturn(Optional.of(project));
+            given(userRepository.findByEmail("friend@test.com")).willReturn(Optional.of(friend));
+            given(projectMemberRepository.save(any(ProjectMember.class))).willAnswer(i -> i.getArgument(0));
+            ArgumentCaptor<ProjectAccessChangedEvent> captor = ArgumentCaptor.forClass(ProjectAccessChangedEvent.class);
+
+            // when
+            ProjectMemberResponse response = projectMemberService.addMember(10L, owner.getId(),
+                new ProjectMemberRequest("friend@test.com", ProjectRole.EDITOR));
+
+            // then
+            assertThat(response.getUserId()).isEqualTo(2L);
+            assertThat(response.getRole()).isEqualTo(ProjectRole.EDITOR);
+            verify(eventPublisher).publishEvent(captor.capture());
+            assertThat(captor.getValue().getProjectId()).isEqualTo(10L);
+            assertThat(captor.getValue().getUserId()).isEqualTo(2L);
+        }
+
+        @Test
+        @DisplayName("실패 - EDITOR 멤버는 멤버를 추가할 수 없음")
+        void addMember_fail_editor() {
+            // given
+            given(projectRepository.findById(10L)).willReturn(Optional.of(project));
+            given(projectAccessCache.allows(10L, 3L, ProjectRole.OWNER)).willReturn(false);
+
+            // when & then
+            GlobalException exception = assertThrows(GlobalException.class, () ->
+                projectMemberService.addMember(10L, 3L, new ProjectMemberRequest("friend@test.com", ProjectRole.VIEWER)));
+            assertThat(exception.getGlobalErrorCode()).isEqualTo(GlobalErrorCode.ACCESS_DENIED_PROJECT);
+            verify(projectMemberRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("실패 - 이미 멤버인 사용자")
+        void addMember_fail_duplicate() {
+            // given
+            given(projectRepository.findById(10L)).willReturn(Optional.of(project));
+            given(userRepository.findByEmail("friend@test.com")).willReturn(Optional.of(friend));
+            given(projectMemberRepository.existsByProjectIdAndUserId(10L, 2L)).willReturn(true);
+
+            // when & then
+            GlobalException exception = assertThrows(GlobalException.class, () ->
+                projectMemberService.addMember(10L, owner.getId(), new ProjectMemberRequest("friend@test.com", ProjectRole.VIEWER)));
+            assertThat(exception.getGlobalErrorCode()).isEqualTo(GlobalErrorCode.DUPLICATE_PROJECT_MEMBER);
+        }
+
+        @Test
+        @DisplayName("실패 - 프로젝트를 만든 사용자는 멤버로 추가할 수 없음")
+        void addMember_fail_owner() {
+            // given
+            given(projectRepository.findById(10L)).willReturn(Optional.of(project));
+            given(userRepository.findByEmail("owner@test.com")).willReturn(Optional.of(owner));
+
+            // when & then
+            GlobalException exception = assertThrows(GlobalException.class, () ->
+                projectMemberService.addMember(10L, owner.getId(), new ProjectMemberRequest("owner@test.com", ProjectRole.VIEWER)));
+            assertThat(exception.getGlobalErrorCode()).isEqualTo(GlobalErrorCode.INVALID_PROJECT_MEMBER);
+        }
+
+        @Test
+        @DisplayName("실패 - 샤딩을 켜면 멤버를 추가할 수 없음")
+        void addMember_fail_sharding() {
+            // given
+            given(projectRepository.findById(10L)).willReturn(Optional.of(project));
+
+            // when & then
+            GlobalException exception = assertThrows(GlobalException.class, () -> ShardContext.run(1, () ->
+                projectMemberService.addMember(10L, owner.getId(), new ProjectMemberRequest("friend@test.com", ProjectRole.VIEWER))));
+            assertThat(exception.getGlobalErrorCode()).isEqualTo(GlobalErrorCode.PROJECT_SHARING_UNAVAILABLE);
+            verify(userRepository, never()).findByEmail(any());
+            verify(projectMemberRepository, never()).save(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("역할 변경 / 삭제")
+    class ChangeAndRemove {
+
+        @Test
+        @DisplayName("성공 - 역할을 바꾸고 이벤트 발행")
+        void changeRole_success() {
+            // given
+            ProjectMember member = ProjectMember.builder().id(5L).project(project).user(friend).role(ProjectRole.VIEWER).build();
+            given(projectRepository.findById(10L)).willReturn(Optional.of(project));
+            given(projectMemberRepository.findByProjectIdAndUserId(10L, 2L)).willReturn(Optional.of(member));
+
+            // when
+            ProjectMemberResponse response = projectMemberService.changeRole(10L, 2L, owner.getId(),
+                new ProjectMemberRoleRequest(ProjectRole.EDITOR));
+
+            // then
+            assertThat(response.getRole()).isEqualTo(ProjectRole.EDITOR);
+            verify(eventPublisher).publishEvent(any(ProjectAccessChangedEvent.class));
+        }
+
+        @Test
+        @DisplayName("성공 - 멤버 본인은 권한 확인 없이 나갈 수 있음")
+        void removeMember_self() {
+            // given
+            ProjectMember member = ProjectMember.builder().id(5L).project(project).user(friend).role(ProjectRole.VIEWER).build();
+            given(projectRepository.findById(10L)).willReturn(Optional.of(project));
+            given(projectMemberRepository.findByProjectIdAndUserId(10L, 2L)).willReturn(Optional.of(member));
+
+            // when
+            projectMemberService.removeMember(10L, 2L, 2L);
+
+            // then
+            verify(projectMemberRepository).delete(member);
+            verify(projectAccessCache, never()).allows(any(), any(), any());
+            verify(eventPublisher).publishEvent(any(ProjectAccessChangedEvent.class));
+        }
+
+        @Test
+        @DisplayName("실패 - 멤버가 아닌 사용자")
+        void removeMember_fail_notFound() {
+            // given
+            given(projectRepository.findById(10L)).willReturn(Optional.of(project));
+            given(projectMemberRepository.findByProjectIdAndUserId(10L, 9L)).willReturn(Optional.empty());
+
+            // when & then
+            GlobalException exception = assertThrows(GlobalException.class, () ->
+                projectMemberService.removeMember(10L, 9L, owner.getId()));
+            assertThat(exception.getGlobalErrorCode()).isEqualTo(GlobalErrorCode.NOT_FOUND_PROJECT_MEMBER);
+        }
+    }
+}
@@ -1,28 +1,49 @@
 package gon.til.ServiceTest;
 
+import gon.til.domain.common.ProjectRole;
 import gon.til.domain.dto.project.ProjectCreateRequest;
+import gon.til.domain.dto.project.ProjectDuplicateRequest;
 import gon.til.domain.dto.project.ProjectResponse;
 import gon.til.domain.dto.project.ProjectUpdateRequest;
+import gon.til.domain.entity.Board;
+import gon.til.domain.entity.KanbanColumn;
 import gon.til.domain.entity.Project;
 import gon.til.domain.entity.User;
+import gon.til.domain.event.TagPaletteChangedEvent;
+import gon.til.domain.repository.CardRepository;
+import gon.til.domain.repository.KanbanColumnRepository;
 import gon.til.domain.repository.ProjectRepository;
 import gon.til.domain.repository.UserRepository;
+import gon.til.domain.service.BoardFlowAggregator;
+import gon.til.domain.service.ProjectAccessCache;
+import gon.til.domain.service.ProjectBulkOperations;
 import gon.til.domain.service.ProjectService;
 import gon.til.global.exception.GlobalErrorCode;
 import gon.til.global.exception.GlobalException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,6 +59,30 @@ class ProjectServiceTest {
     @Mock
     private ProjectRepository projectRepository;
 
+    @Mock
+    private ProjectBulkOperations projectBulkOperations;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private KanbanColumnRepository kanbanColumnRepository;
+
+    @Mock
+    private CardRepository cardRepository;
+
+    @Mock
+    private ProjectAccessCache projectAccessCache;
+
+    @Mock
+    private BoardFlowAggregator boardFlowAggregator;
+
+    @BeforeEach
+    void setUp() {
+        // 접근 검사는 실제 규칙대로 (소유자는 통과, 공유받은 사용자는 allows 스텁으로)
+        lenient().doCallRealMethod().when(projectAccessCache).check(any(), any(), any(), any());
+    }
+
     @Nested
     @DisplayName("프로젝트 생성")
     class CreateProject {
@@ -71,6 +116,30 @@ class ProjectServiceTest {
             assertThat(createdProject.getTitle()).isEqualTo(request.getTitle());
         }
 
+        @Test
+        @DisplayName("성공 - 기본 보드에 기본 컬럼을 1번 위치부터 생성")
+        void createProject_DefaultColumns() {
+            // Given
+            Long userId = 1L;
+            User testUser = User.builder().id(userId).build();
+            ProjectCreateRequest request = new ProjectCreateRequest("새 프로젝트", "설명", "BE");
+
+            when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
+            when(userRepository.getReferenceById(userId)).thenReturn(testUser);
+            when(projectRepository.existsByTitleAndUser(request.getTitle(), testUser)).thenReturn(false);
+            when(projectRepository.save(any(Project.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // When
+            projectService.createProject(userId, request);
+
+            // Then
+            ArgumentCaptor<Project> captor = ArgumentCaptor.forClass(Project.class);
+            verify(projectRepository).save(captor.capture());
+            List<KanbanColumn> columns = captor.getValue().getBoard().getColumns();
+            assertThat(columns).extracting(KanbanColumn::getTitle).containsExactly("할 일", "진행 중", "완료", "복습 필요");
+            assertThat(columns).extracting(KanbanColumn::getPosition).containsExactly(1, 2, 3, 4);
+        }
+
         @Test
         @DisplayName("실패 - 중복된 제목")
         void createProject_DuplicateTitle_ThrowsException() {
@@ -133,5 +202,201 @@ class ProjectServiceTest {
                 .extracting("globalErrorCode")
                 .isEqualTo(GlobalErrorCode.ACCESS_DENIED_PROJECT);
         }
+
+        @Test
+        @DisplayName("실패 - OWNER 멤버가 수정해도 만든 사용자의 다른 프로젝트와 제목이 겹치면 중복")
+        void updateProject_OwnerMember_DuplicateTitleOfCreator() {
+            // Given
+            Project project = Project.builder().id(1L).title("원본").user(User.builder().id(1L).build()).build();
+            when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+            when(projectAccessCache.allows(1L, 2L, ProjectRole.OWNER)).thenReturn(true);
+            when(projectRepository.existsByTitleAndUserIdAndIdNot("겹치는 제목", 1L, 1L)).thenReturn(true);
+
+            // When & Then
+            assertThatThrownBy(() -> projectService.updateProject(1L, 2L, new ProjectUpdateRequest("겹치는 제목", "", "")))
+                .isInstanceOf(GlobalException.class)
+                .extracting("globalErrorCode")
+                .isEqualTo(GlobalErrorCode.DUPLICATE_PROJECT_TITLE);
+            assertThat(project.getTitle()).isEqualTo("원본");
+        }
+
+        @Test
+        @DisplayName("실패 - 편집자 멤버는 프로젝트를 수정할 수 없음 (OWNER 필요)")
+        void updateProject_EditorMember_ThrowsException() {
+            // Given
+            Project project = Project.builder().id(1L).user(User.builder().id(1L).build()).build();
+            when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+            when(projectAccessCache.allows(1L, 2L, ProjectRole.OWNER)).thenReturn(false);
+
+            // When & Then
+            assertThatThrownBy(() -> projectService.updateProject(1L, 2L, new ProjectUpdateRequest("수정 시도", "", "")))
+                .isInstanceOf(GlobalException.class)
+                .extracting("globalErrorCode")
+                .isEqualTo(GlobalErrorCode.ACCESS_DENIED_PROJECT);
+        }
+
+        @Test
+        @DisplayName("성공 - 공유받은 VIEWER 멤버는 조회할 수 있음")
+        void getProject_ViewerMember_Success() {
+            // Given
+            Project project = Project.builder().id(1L).title("공유 프로젝트").user(User.builder().id(1L).build()).build();
+            when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+            when(projectAccessCache.allows(1L, 2L, ProjectRole.VIEWER)).thenReturn(true);
+
+            // When
+            ProjectResponse response = projectService.getProjectById(2L, 1L);
+
+            // Then
+            assertThat(response.getTitle()).isEqualTo("공유 프로젝트");
+        }
+    }
+
+    @Nested
+    @DisplayName("프로젝트 삭제")
+    class DeleteProject {
+        @Test
+        @DisplayName("성공 - 프로젝트, 컬럼, 카드에 같은 삭제 시각을 적고 카드를 지우기 전에 누적 흐름에서 빼고 팔레트 캐시 무효화")
+        void deleteProject_Success() {
+            // Given
+            Long userId = 1L;
+            Project project = Project.builder().id(10L).user(User.builder().id(userId).build())
+                    .board(Board.builder().id(20L).build()).build();
+            when(projectRepository.findById(10L)).thenReturn(Optional.of(project));
+
+            // When
+            projectService.deleteProject(10L, userId);
+
+            // Then
+            LocalDateTime deletedAt = project.getDeletedAt();
+            assertThat(deletedAt).isNotNull();
+            verify(kanbanColumnRepository).softDeleteByBoardId(20L, deletedAt);
+            InOrder order = inOrder(boardFlowAggregator, cardRepository);
+            order.verify(boardFlowAggregator).exitProjectCards(10L);
+            order.verify(cardRepository).softDeleteByProjectId(10L, deletedAt);
+            verify(projectBulkOperations, never()).delete(anyLong());
+            ArgumentCaptor<TagPaletteChangedEvent> captor = ArgumentCaptor.forClass(TagPaletteChangedEvent.class);
+            verify(eventPublisher).publishEvent(captor.capture());
+            assertThat(captor.getValue().getProjectId()).isEqualTo(10L);
+        }
+
+        @Test
+        @DisplayName("실패 - 다른 사용자")
+        void deleteProject_AccessDenied_ThrowsException() {
+            // Given
+            Project project = Project.builder().id(10L).user(User.builder().id(1L).build()).build();
+            when(projectRepository.findById(10L)).thenReturn(Optional.of(project));
+
+            // When & Then
+            assertThatThrownBy(() -> projectService.deleteProject(10L, 2L))
+                .isInstanceOf(GlobalException.class)
+                .extracting("globalErrorCode")
+                .isEqualTo(GlobalErrorCode.ACCESS_DENIED_PROJECT);
+            verify(cardRepository, never()).softDeleteByProjectId(anyLong(), any());
+            verify(boardFlowAggregator, never()).exitProjectCards(anyLong());
+        }
+    }
+
+    @Nested
+    @DisplayName("프로젝트 복원")
+    class RestoreProject {
+        @Test
+        @DisplayName("성공 - 함께 지운 컬럼과 카드도 복원하고 누적 흐름에 다시 더함")
+        void restoreProject_Success() {
+            // Given
+            Long userId = 1L;
+            LocalDateTime deletedAt = LocalDateTime.of(2024, 1, 1, 9, 0);
+            Project project = Project.builder().id(10L).title("휴지통").user(User.builder().id(userId).build())
+                    .board(Board.builder().id(20L).build()).build();
+            project.softDelete(deletedAt);
+            when(projectRepository.findDeletedById(10L)).thenReturn(Optional.of(project));
+            when(projectRepository.existsByTitleAndUserId("휴지통", userId)).thenReturn(false);
+
+            // When
+            ProjectResponse response = projectService.restoreProject(10L, userId);
+
+            // Then
+            assertThat(project.getDeletedAt()).isNull();
+            assertThat(response.getId()).isEqualTo(10L);
+            verify(kanbanColumnRepository).restoreByBoardId(20L, deletedAt);
+            InOrder order = inOrder(cardRepository, boardFlowAggregator);
+            order.verify(cardRepository).restoreByProjectId(10L, deletedAt);
+            order.verify(boardFlowAggregator).enterProjectCards(10L);
+        }
+
+        @Test
+        @DisplayName("실패 - 그 사이 같은 이름의 프로젝트가 생김")
+        void restoreProject_DuplicateTitle_ThrowsException() {
+            // Given
+            Long userId = 1L;
+            Project project = Project.builder().id(10L).title("휴지통").user(User.builder().id(userId).build()).build();
+            project.softDelete(LocalDateTime.now());
+            when(projectRepository.findDeletedById(10L)).thenReturn(Optional.of(project));
+            when(projectRepository.existsByTitleAndUserId("휴지통", userId)).thenReturn(true);
+
+            // When & Then
+            assertThatThrownBy(() -> projectService.restoreProject(10L, userId))
+                .isInstanceOf(GlobalException.class)
+                .extracting("globalErrorCode")
+                .isEqualTo(GlobalErrorCode.DUPLICATE_PROJECT_TITLE);
+            assertThat(project.getDeletedAt()).isNotNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("프로젝트 복제")
+    class DuplicateProject {
+        @Test
+        @DisplayName("성공 - 빈 보드로 새 프로젝트를 만들고 내용을 일괄 복사")
+        void duplicateProject_Success() {
+            // Given
+            Long userId = 1L;
+            User testUser = User.builder().id(userId).build();
+            Project source = Project.builder().id(10L).user(testUser).title("원본").description("설명").category("BE")
+                    .board(Board.builder().id(20L).build()).build();
+
+            when(projectRepository.findById(10L)).thenReturn(Optional.of(source));
+            when(projectRepository.existsByTitleAndUserId("사본", userId)).thenReturn(false);
+            when(userRepository.getReferenceById(userId)).thenReturn(testUser);
+            when(projectRepository.save(any(Project.class))).thenAnswer(invocation -> {
+                Project project = invocation.getArgument(0);
+                return Project.builder()
+                        .id(11L)
+                        .title(project.getTitle())
+                        .description(project.getDescription())
+                        .category(project.getCategory())
+                        .user(project.getUser())
+                        .board(Board.builder().id(21L).build())
+                        .build();
+            });
+
+            // When
+            ProjectResponse response = projectService.duplicateProject(10L, userId, new ProjectDuplicateRequest("사본"));
+
+            // Then
+            assertThat(response.getTitle()).isEqualTo("사본");
+            assertThat(response.getCategory()).isEqualTo("BE");
+            assertThat(response.getMainBoardId()).isEqualTo(21L);
+            InOrder order = inOrder(projectBulkOperations, boardFlowAggregator);
+            order.verify(projectBulkOperations).copyContents(10L, 20L, 11L, 21L, userId);
+            order.verify(boardFlowAggregator).enterProjectCards(11L);
+        }
+
+        @Test
+        @DisplayName("실패 - 같은 이름의 프로젝트")
+        void duplicateProject_DuplicateTitle_ThrowsException() {
+            // Given
+            Long userId = 1L;
+            Project source = Project.builder().id(10L).user(User.builder().id(userId).build())
+                    .board(Board.builder().id(20L).build()).build();
+            when(projectRepository.findById(10L)).thenReturn(Optional.of(source));
+            when(projectRepository.existsByTitleAndUserId("원본", userId)).thenReturn(true);
+
+            // When & Then
+            assertThatThrownBy(() -> projectService.duplicateProject(10L, userId, new ProjectDuplicateRequest("원본")))
+                .isInstanceOf(GlobalException.class)
+                .extracting("globalErrorCode")
+                .isEqualTo(GlobalErrorCode.DUPLICATE_PROJECT_TITLE);
+            verify(projectRepository, never()).save(any());
+        }
     }
 }
@@ -0,0 +1,174 @@
+package gon.til.ServiceTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import gon.til.domain.common.TagColor;
+import gon.til.domain.dto.tagcolor.TagPaletteColorRequest;
+import gon.til.domain.dto.tagcolor.TagPaletteColorResponse;
+import gon.til.domain.entity.Project;
+import gon.til.domain.entity.TagPaletteColor;
+import gon.til.domain.entity.User;
+import gon.til.domain.event.TagPaletteChangedEvent;
+import gon.til.domain.repository.ProjectRepository;
+import gon.til.domain.repository.TagPaletteColorRepository;
+import gon.til.domain.service.ProjectAccessCache;
+import gon.til.domain.service.TagPaletteService;
+import gon.til.global.exception.GlobalErrorCode;
+import gon.til.global.exception.GlobalException;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TagPaletteService 테스트")
+class TagPaletteServiceTest {
+
+    @InjectMocks
+    private TagPaletteService tagPaletteService;
+
+    @Mock
+    private TagPaletteColorRepository tagPaletteColorRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ProjectAccessCache projectAccessCache;
+
+    private User user;
+    private Project project;
+    private TagPaletteColor mint;
+
+    @BeforeEach
+    void setUp() {
+        // 접근 검사는 실제 규칙대로 (소유자는 통과, 공유받은 사용자는 allows 스텁으로)
+        lenient().doCallRealMethod().when(projectAccessCache).check(any(), any(), any(), any());
+        user = User.builder().id(1L).displayName("testuser").build();
+        project = Project.builder().id(1L).user(user).title("Test Project").build();
+        mint = TagPaletteColor.builder().id(1L).project(project).name("Mint").hexCode("#B5EAD7").build();
+    }
+
+    @Nested
+    @DisplayName("색상 조회")
+    class ResolveHexCode {
+
+        @Test
+        @DisplayName("기본 색상은 이름, 별칭, 헥사 코드를 대소문자 구분 없이 찾는다")
+        void resolveHexCode_builtin() {
+            assertThat(tagPaletteService.resolveHexCode(1L, "PASTEL_RED")).isEqualTo("#FFADAD");
+            assertThat(tagPaletteService.resolveHexCode(1L, "pastel_red")).isEqualTo("#FFADAD");
+            assertThat(tagPaletteService.resolveHexCode(1L, "Red")).isEqualTo("#FFADAD");
+            assertThat(tagPaletteService.resolveHexCode(1L, "#ffadad")).isEqualTo("#FFADAD");
+            verify(tagPaletteColorRepository, never()).findByProjectIdOrderByIdAsc(anyLong());
+        }
+
+        @Test
+        @DisplayName("이름 일부만 일치하는 색상은 찾지 않는다")
+        void resolveHexCode_fail_partialName() {
+            given(tagPaletteColorRepository.findByProjectIdOrderByIdAsc(1L)).willReturn(List.of());
+
+            GlobalException exception = assertThrows(GlobalException.class,
+                () -> tagPaletteService.resolveHexCode(1L, "PASTEL"));
+            assertThat(exception.getGlobalErrorCode()).isEqualTo(GlobalErrorCode.INVALID_COLOR_NAME);
+        }
+
+        @Test
+        @DisplayName("프로젝트 팔레트는 한 번만 읽어서 캐시한다")
+        void resolveHexCode_projectPalette() {
+            given(tagPaletteColorRepository.findByProjectIdOrderByIdAsc(1L)).willReturn(List.of(mint));
+
+            assertThat(tagPaletteService.resolveHexCode(1L, "mint")).isEqualTo("#B5EAD7");
+            assertThat(tagPaletteService.resolveHexCode(1L, "#b5ead7")).isEqualTo("#B5EAD7");
+            verify(tagPaletteColorRepository, times(1)).findByProjectIdOrderByIdAsc(1L);
+        }
+
+        @Test
+        @DisplayName("팔레트가 바뀌면 캐시를 다시 읽는다")
+        void resolveHexCode_reloadAfterChange() {
+            given(tagPaletteColorRepository.findByProjectIdOrderByIdAsc(1L)).willReturn(List.of(mint));
+            tagPaletteService.resolveHexCode(1L, "Mint");
+
+            tagPaletteService.onPaletteChanged(new TagPaletteChangedEvent(1L));
+            tagPaletteService.resolveHexCode(1L, "Mint");
+
+            verify(tagPaletteColorRepository, times(2)).findByProjectIdOrderByIdAsc(1L);
+        }
+    }
+
+    @Nested
+    @DisplayName("팔레트 색상 추가")
+    class AddColor {
+
+        @Test
+        @DisplayName("성공")
+        void addColor_success() {
+            // given
+            TagPaletteColorRequest request = new TagPaletteColorRequest("Mint", "#b5ead7");
+            given(projectRepository.findById(1L)).willReturn(Optional.of(project));
+            given(tagPaletteColorRepository.existsByProjectIdAndNameIgnoreCase(1L, "Mint")).willReturn(false);
+            given(tagPaletteColorRepository.save(any(TagPaletteColor.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+            // when
+            TagPaletteColorResponse response = tagPaletteService.addColor(1L, user.getId(), request);
+
+            // then
+            assertThat(response.getName()).isEqualTo("Mint");
+            assertThat(response.getHexCode()).isEqualTo("#B5EAD7");
+            verify(eventPublisher).publishEvent(any(TagPaletteChangedEvent.class));
+        }
+
+        @Test
+        @DisplayName("실패 - 기본 색상과 같은 이름")
+        void addColor_fail_builtinName() {
+            // given
+            TagPaletteColorRequest request = new TagPaletteColorRequest("green", "#00FF00");
+            given(projectRepository.findById(1L)).willReturn(Optional.of(project));
+
+            // when & then
+            GlobalException exception = assertThrows(GlobalException.class,
+                () -> tagPaletteService.addColor(1L, user.getId(), request));
+            assertThat(exception.getGlobalErrorCode()).isEqualTo(GlobalErrorCode.DUPLICATE_TAG_PALETTE_COLOR);
+            verify(tagPaletteColorRepository, never()).save(any(TagPaletteColor.class));
+        }
+
+        @Test
+        @DisplayName("실패 - 다른 사용자의 프로젝트")
+        void addColor_fail_accessDenied() {
+            // given
+            TagPaletteColorRequest request = new TagPaletteColorRequest("Mint", "#B5EAD7");
+            given(projectRepository.findById(1L)).willReturn(Optional.of(project));
+
+            // when & then
+            GlobalException exception = assertThrows(GlobalException.class,
+                () -> tagPaletteService.addColor(1L, 2L, request));
+            assertThat(exception.getGlobalErrorCode()).isEqualTo(GlobalErrorCode.ACCESS_DENIED_PROJECT);
+        }
+    }
+
+    @Test
+    @DisplayName("헥사 코드 형식 확인")
+    void isHexCode() {
+        assertThat(TagColor.isHexCode("#A0c4fF")).isTrue();
+        assertThat(TagColor.isHexCode("A0C4FF")).isFalse();
+        assertThat(TagColor.isHexCode("#A0C4FG")).isFalse();
+    }
+}
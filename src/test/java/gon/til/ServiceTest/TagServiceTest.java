@@ -9,6 +9,8 @@ import gon.til.domain.entity.Tag;
 import gon.til.domain.entity.User;
 import gon.til.domain.repository.ProjectRepository;
 import gon.til.domain.repository.TagRepository;
+import gon.til.domain.service.ProjectAccessCache;
+import gon.til.domain.service.TagPaletteService;
 import gon.til.domain.service.TagService;
 import gon.til.global.exception.GlobalErrorCode;
 import gon.til.global.exception.GlobalException;
@@ -29,6 +31,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -44,12 +48,20 @@ class TagServiceTest {
     @Mock
     private ProjectRepository projectRepository;
 
+    @Mock
+    private TagPaletteService tagPaletteService;
+
+    @Mock
+    private ProjectAccessCache projectAccessCache;
+
     private User user;
     private Project project;
     private Tag tag;
 
     @BeforeEach
     void setUp() {
+        // 접근 검사는 실제 규칙대로 (소유자는 통과, 공유받은 사용자는 allows 스텁으로)
+        lenient().doCallRealMethod().when(projectAccessCache).check(any(), any(), any(), any());
         user = User.builder().id(1L).displayName("testuser").build();
         project = Project.builder().id(1L).user(user).title("Test Project").build();
         tag = Tag.builder().id(1L).project(project).name("Test Tag").color(TagColor.PASTEL_RED.getHexCode()).build();
@@ -66,6 +78,7 @@ class TagServiceTest {
             TagCreateRequest request = new TagCreateRequest("New Tag", "GREEN");
             given(projectRepository.findById(project.getId())).willReturn(Optional.of(project));
             given(tagRepository.existsByProjectIdAndName(project.getId(), request.getName())).willReturn(false);
+            given(tagPaletteService.resolveHexCode(project.getId(), "GREEN")).willReturn(TagColor.PASTEL_GREEN.getHexCode());
             given(tagRepository.save(any(Tag.class))).willAnswer(invocation -> {
                 Tag savedTag = invocation.getArgument(0);
                 return Tag.builder()
@@ -100,6 +113,23 @@ class TagServiceTest {
                 () -> tagService.createTag(project.getId(), user.getId(), request));
             assertThat(exception.getGlobalErrorCode()).isEqualTo(GlobalErrorCode.DUPLICATE_TAG_NAME);
         }
+
+        @Test
+        @DisplayName("실패 - 선택할 수 없는 색상")
+        void createTag_fail_invalidColor() {
+            // given
+            TagCreateRequest request = new TagCreateRequest("New Tag", "NEON");
+            given(projectRepository.findById(project.getId())).willReturn(Optional.of(project));
+            given(tagRepository.existsByProjectIdAndName(project.getId(), request.getName())).willReturn(false);
+            given(tagPaletteService.resolveHexCode(project.getId(), "NEON"))
+                .willThrow(new GlobalException(GlobalErrorCode.INVALID_COLOR_NAME));
+
+            // when & then
+            GlobalException exception = assertThrows(GlobalException.class,
+                () -> tagService.createTag(project.getId(), user.getId(), request));
+            assertThat(exception.getGlobalErrorCode()).isEqualTo(GlobalErrorCode.INVALID_COLOR_NAME);
+            verify(tagRepository, never()).save(any(Tag.class));
+        }
     }
 
     @Nested
@@ -113,6 +143,7 @@ class TagServiceTest {
             TagUpdateRequest request = new TagUpdateRequest("Updated Tag", "BLUE");
             given(tagRepository.findById(tag.getId())).willReturn(Optional.of(tag));
             given(tagRepository.existsByProjectIdAndNameAndIdNot(anyLong(), anyString(), anyLong())).willReturn(false);
+            given(tagPaletteService.resolveHexCode(project.getId(), "BLUE")).willReturn(TagColor.PASTEL_BLUE.getHexCode());
 
             // when
             TagResponse updatedTag = tagService.updateTag(tag.getId(), user.getId(), request);
@@ -0,0 +1,150 @@
+package gon.til.ServiceTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import gon.til.domain.dto.attachment.AttachmentFile;
+import gon.til.domain.service.ThumbnailService;
+import gon.til.global.exception.GlobalErrorCode;
+import gon.til.global.exception.GlobalException;
+import gon.til.global.storage.BlobStore;
+import gon.til.global.storage.BlobStore.StoredBlob;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+@DisplayName("ThumbnailService 테스트")
+class ThumbnailServiceTest {
+
+    @TempDir
+    Path blobDir;
+
+    private BlobStore blobStore;
+    private SimpleMeterRegistry meterRegistry;
+    private ThumbnailService thumbnailService;
+
+    @BeforeEach
+    void setUp() {
+        blobStore = new BlobStore(blobDir, DataSize.ofMegabytes(10));
+        meterRegistry = new SimpleMeterRegistry();
+        thumbnailService = new ThumbnailService(blobStore, meterRegistry, List.of(64, 256), 1, 4, 10_000_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        thumbnailService.shutdown();
+    }
+
+    @Test
+    @DisplayName("성공 - 비율을 유지해 크기 안에 들어가는 JPEG 를 만들고, 다음 요청은 캐시에서 반환")
+    void thumbnail_success_cached() throws Exception {
+        // given
+        AttachmentFile file = store("image/png", png(300, 600));
+
+        // when
+        Path first = thumbnailService.thumbnail(file, 64).get(5, TimeUnit.SECONDS);
+        CompletableFuture<Path> second = thumbnailService.thumbnail(file, 64);
+
+        // then
+        BufferedImage thumbnail = ImageIO.read(first.toFile());
+        assertThat(thumbnail.getWidth()).isEqualTo(32);
+        assertThat(thumbnail.getHeight()).isEqualTo(64);
+        assertThat(second.isDone()).isTrue();
+        assertThat(second.get()).isEqualTo(first);
+        assertThat(meterRegistry.get("til.thumbnails.requests").tag("result", "hit").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("til.thumbnails.render").timer().count()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("성공 - 작은 이미지는 확대하지 않음")
+    void thumbnail_success_noUpscale() throws Exception {
+        // given
+        AttachmentFile file = store("image/png", png(40, 20));
+
+        // when
+        Path path = thumbnailService.thumbnail(file, 256).get(5, TimeUnit.SECONDS);
+
+        // then
+        BufferedImage thumbnail = ImageIO.read(path.toFile());
+        assertThat(thumbnail.getWidth()).isEqualTo(40);
+        assertThat(thumbnail.getHeight()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("실패 - 지원하지 않는 크기")
+    void thumbnail_fail_unsupportedSize() throws Exception {
+        // given
+        AttachmentFile file = store("image/png", png(10, 10));
+
+        // when & then
+        GlobalException exception = assertThrows(GlobalException.class, () -> thumbnailService.thumbnail(file, 100));
+        assertThat(exception.getGlobalErrorCode()).isEqualTo(GlobalErrorCode.UNSUPPORTED_THUMBNAIL_SIZE);
+    }
+
+    @Test
+    @DisplayName("실패 - 이미지가 아닌 형식")
+    void thumbnail_fail_notImage() throws Exception {
+        // given
+        AttachmentFile file = store("text/plain", new byte[]{1, 2, 3});
+
+        // when & then
+        GlobalException exception = assertThrows(GlobalException.class, () -> thumbnailService.thumbnail(file, 64));
+        assertThat(exception.getGlobalErrorCode()).isEqualTo(GlobalErrorCode.NOT_AN_IMAGE);
+    }
+
+    @Test
+    @DisplayName("실패 - 이미지 형식이지만 읽을 수 없는 내용이면 future 가 NOT_AN_IMAGE 로 끝남")
+    void thumbnail_fail_corruptImage() throws Exception {
+        // given
+        AttachmentFile file = store("image/png", new byte[]{1, 2, 3, 4});
+
+        // when
+        CompletableFuture<Path> future = thumbnailService.thumbnail(file, 64);
+
+        // then
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertThat(exception.getCause()).isInstanceOf(GlobalException.class);
+        assertThat(((GlobalException) exception.getCause()).getGlobalErrorCode()).isEqualTo(GlobalErrorCode.NOT_AN_IMAGE);
+        assertThat(Files.exists(blobStore.thumbnailPath(file.hash(), 64))).isFalse();
+    }
+
+    @Test
+    @DisplayName("원본을 지우면 썸네일도 함께 지워짐")
+    void delete_removesThumbnails() throws Exception {
+        // given
+        AttachmentFile file = store("image/png", png(100, 100));
+        Path path = thumbnailService.thumbnail(file, 64).get(5, TimeUnit.SECONDS);
+
+        // when
+        blobStore.delete(file.hash());
+
+        // then
+        assertThat(Files.exists(path)).isFalse();
+    }
+
+    private AttachmentFile store(String contentType, byte[] content) {
+        StoredBlob blob = blobStore.store(new ByteArrayInputStream(content));
+        return new AttachmentFile("file", contentType, blob.size(), blob.hash(), blobStore.locate(blob.hash()));
+    }
+
+    private static byte[] png(int width, int height) throws Exception {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}
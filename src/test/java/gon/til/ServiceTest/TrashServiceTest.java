@@ -0,0 +1,63 @@
+package gon.til.ServiceTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+
+import gon.til.domain.entity.Project;
+import gon.til.domain.entity.User;
+import gon.til.domain.repository.ProjectRepository;
+import gon.til.domain.service.TrashService;
+import gon.til.global.exception.GlobalErrorCode;
+import gon.til.global.exception.GlobalException;
+import java.time.Duration;
+import java.util.Optional;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TrashService 테스트")
+class TrashServiceTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+    @Mock
+    private DataSource dataSource;
+
+    private TrashService trashService;
+
+    @BeforeEach
+    void setUp() {
+        trashService = new TrashService(projectRepository, dataSource, Duration.ofDays(30));
+    }
+
+    @Test
+    @DisplayName("프로젝트 휴지통 조회 실패 - 없는 프로젝트 (프로젝트째 지웠으면 프로젝트 목록에서 복원)")
+    void getProjectTrash_fail_notFound() {
+        // given
+        given(projectRepository.findById(10L)).willReturn(Optional.empty());
+
+        // when & then
+        GlobalException exception = assertThrows(GlobalException.class, () ->
+            trashService.getProjectTrash(10L, 1L));
+        assertThat(exception.getGlobalErrorCode()).isEqualTo(GlobalErrorCode.NOT_FOUND_PROJECT);
+    }
+
+    @Test
+    @DisplayName("프로젝트 휴지통 조회 실패 - 다른 사용자의 프로젝트")
+    void getProjectTrash_fail_accessDenied() {
+        // given
+        Project project = Project.builder().id(10L).user(User.builder().id(1L).build()).build();
+        given(projectRepository.findById(10L)).willReturn(Optional.of(project));
+
+        // when & then
+        GlobalException exception = assertThrows(GlobalException.class, () ->
+            trashService.getProjectTrash(10L, 2L));
+        assertThat(exception.getGlobalErrorCode()).isEqualTo(GlobalErrorCode.ACCESS_DENIED_PROJECT);
+    }
+}
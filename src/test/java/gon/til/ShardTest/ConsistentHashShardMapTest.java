@@ -0,0 +1,61 @@
+package gon.til.ShardTest;
+
+import gon.til.global.shard.ConsistentHashShardMap;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ConsistentHashShardMap 테스트")
+class ConsistentHashShardMapTest {
+
+    private static final int USERS = 100_000;
+
+    @Test
+    @DisplayName("사용자가 샤드마다 고르게 배치됨")
+    void distributesEvenly() {
+        ConsistentHashShardMap shardMap = new ConsistentHashShardMap(List.of(0, 1, 2, 3), 128);
+
+        Map<Integer, Integer> counts = new HashMap<>();
+        for (long userId = 1; userId <= USERS; userId++) {
+            counts.merge(shardMap.shardFor(userId), 1, Integer::sum);
+        }
+
+        assertThat(counts).hasSize(4);
+        counts.values().forEach(count -> assertThat(count).isBetween(USERS / 4 * 80 / 100, USERS / 4 * 120 / 100));
+    }
+
+    @Test
+    @DisplayName("샤드를 추가하면 약 1/n 만, 그리고 새 샤드로만 옮겨짐")
+    void addingShardMovesOnlyToNewShard() {
+        ConsistentHashShardMap before = new ConsistentHashShardMap(List.of(0, 1, 2), 128);
+        ConsistentHashShardMap after = new ConsistentHashShardMap(List.of(0, 1, 2, 3), 128);
+
+        int moved = 0;
+        for (long userId = 1; userId <= USERS; userId++) {
+            int from = before.shardFor(userId);
+            int to = after.shardFor(userId);
+            if (from != to) {
+                assertThat(to).isEqualTo(3);
+                moved++;
+            }
+        }
+
+        assertThat(moved).isBetween(USERS / 4 * 80 / 100, USERS / 4 * 120 / 100);
+    }
+
+    @Test
+    @DisplayName("같은 구성이면 항상 같은 샤드")
+    void isDeterministic() {
+        ConsistentHashShardMap first = new ConsistentHashShardMap(List.of(0, 1, 2), 64);
+        ConsistentHashShardMap second = new ConsistentHashShardMap(List.of(2, 1, 0), 64);
+
+        for (long userId = 1; userId <= 1_000; userId++) {
+            assertThat(first.shardFor(userId)).isEqualTo(second.shardFor(userId));
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package gon.til.TimerTest;
+
+import gon.til.global.timer.HierarchicalTimerWheel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("HierarchicalTimerWheel 테스트")
+class HierarchicalTimerWheelTest {
+
+    private static final long START = 1_700_000_000_000L;
+
+    @Test
+    @DisplayName("예약 시각이 된 tick 에 꺼냄 (윗단에서 내려온 예약 포함)")
+    void advance_firesAtDeadline() {
+        // tick 1초, 10칸, 2단 -> 0단 10초, 1단 100초
+        HierarchicalTimerWheel<String, String> wheel = new HierarchicalTimerWheel<>(1000, 10, 2, START);
+        wheel.schedule("a", START + 3_000, "a");
+        wheel.schedule("b", START + 42_000, "b");
+
+        assertThat(wheel.advance(START + 2_999)).isEmpty();
+        assertThat(wheel.advance(START + 3_000)).containsExactly("a");
+        assertThat(wheel.advance(START + 41_999)).isEmpty();
+        assertThat(wheel.advance(START + 42_000)).containsExactly("b");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("휠 전체보다 먼 예약도 시각이 되어야 꺼냄")
+    void advance_beyondSpan() {
+        HierarchicalTimerWheel<String, String> wheel = new HierarchicalTimerWheel<>(1000, 10, 2, START);
+        wheel.schedule("far", START + 250_000, "far");
+
+        for (long now = START; now < START + 250_000; now += 1_000) {
+            assertThat(wheel.advance(now)).isEmpty();
+        }
+        assertThat(wheel.advance(START + 250_000)).containsExactly("far");
+    }
+
+    @Test
+    @DisplayName("다시 예약하면 이전 시각은 지워지고, 취소한 예약은 꺼내지 않음")
+    void reschedule_and_cancel() {
+        HierarchicalTimerWheel<Long, Long> wheel = new HierarchicalTimerWheel<>(1000, 60, 3, START);
+        wheel.schedule(1L, START + 5_000, 1L);
+        wheel.schedule(1L, START + 90_000, 1L);
+        wheel.schedule(2L, START + 5_000, 2L);
+        assertThat(wheel.cancel(2L)).isTrue();
+        assertThat(wheel.cancel(3L)).isFalse();
+
+        assertThat(wheel.advance(START + 60_000)).isEmpty();
+        assertThat(wheel.advance(START + 90_000)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("이미 지난 시각이나 오래 멈춘 뒤의 advance 도 빠짐없이 꺼냄")
+    void overdue_and_longPause() {
+        HierarchicalTimerWheel<Long, Long> wheel = new HierarchicalTimerWheel<>(1000, 60, 3, START);
+        wheel.schedule(1L, START - 60_000, 1L);
+        wheel.schedule(2L, START + 10_000, 2L);
+        wheel.schedule(3L, START + 1_000_000_000L, 3L);
+
+        assertThat(wheel.advance(START)).containsExactly(1L);
+        // 3단 휠(60시간)보다 오래 멈춤
+        assertThat(wheel.advance(START + 400_000_000L)).containsExactly(2L);
+        assertThat(wheel.advance(START + 1_000_000_000L)).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("무작위 예약/취소/진행을 단순 구현과 비교")
+    void matchesNaiveImplementation() {
+        Random random = new Random(7);
+        HierarchicalTimerWheel<Integer, Integer> wheel = new HierarchicalTimerWheel<>(100, 8, 3, START);
+        Map<Integer, Long> expected = new HashMap<>();
+        long now = START;
+
+        for (int step = 0; step < 20_000; step++) {
+            int op = random.nextInt(10);
+            if (op < 5) {
+                int key = random.nextInt(100);
+                long deadline = now + random.nextInt(80_000) - 5_000;
+                wheel.schedule(key, deadline, key);
+                expected.put(key, deadline);
+            } else if (op < 6) {
+                int key = random.nextInt(100);
+                assertThat(wheel.cancel(key)).isEqualTo(expected.remove(key) != null);
+            } else {
+                now += random.nextInt(1_000);
+                List<Integer> fired = new ArrayList<>();
+                long nowTick = Math.floorDiv(now, 100L);
+                expected.entrySet().removeIf(entry -> {
+                    boolean due = Math.floorDiv(entry.getValue() + 99, 100L) <= nowTick;
+                    if (due) {
+                        fired.add(entry.getKey());
+                    }
+                    return due;
+                });
+                assertThat(wheel.advance(now)).containsExactlyInAnyOrderElementsOf(fired);
+            }
+            assertThat(wheel.size()).isEqualTo(expected.size());
+        }
+    }
+}